@@ -0,0 +1,35 @@
+package com.thunisoft.t3.concurrent.benchmark;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Description:<b>基准测试使用的最小Spring Boot应用</b>
+ * 与业务方引入组件的方式一致，通过spring.factories自动装配线程池，保证测得的是真实装配后的开销
+ *
+ * @author LKL
+ * @since 2026-10-18 10:12
+ **/
+@SpringBootConfiguration
+@EnableAutoConfiguration
+public class BenchmarkApplication {
+
+    /**
+     * Description:<b>启动非web容器</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 10:12
+     * @param properties 额外配置，格式同application.properties，如concurrent.threadpool.queue-capacity=0
+     * @return 应用上下文，基准结束时需关闭
+     */
+    public static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE).logStartupInfo(false)
+                .properties("spring.main.banner-mode=off",
+                        "logging.level.root=WARN")
+                .properties(properties).run();
+    }
+}
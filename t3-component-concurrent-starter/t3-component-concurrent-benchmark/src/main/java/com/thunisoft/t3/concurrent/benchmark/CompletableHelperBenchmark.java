@@ -0,0 +1,111 @@
+package com.thunisoft.t3.concurrent.benchmark;
+
+import com.thunisoft.t3.concurrent.completable.CompletableHelper;
+import com.thunisoft.t3.concurrent.completable.MapAllOptions;
+import net.tascalate.concurrent.Promise;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Description:<b>CompletableHelper扇出开销基准</b>
+ * 测量promise、getAll、waitAll、mapAll在不同扇出宽度下的吞吐量与延迟分布（SampleTime模式给出p99等分位数）
+ *
+ * @author LKL
+ * @since 2026-10-18 10:35
+ **/
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompletableHelperBenchmark {
+
+    /** 扇出宽度，即一次调用提交的任务数 **/
+    @Param({ "2", "8", "32", "128", "512", "1024" })
+    private int width;
+
+    /** 每个任务消耗的cpu token数，0表示空任务，只测量组件本身的开销 **/
+    @Param({ "0" })
+    private int tokens;
+
+    private ConfigurableApplicationContext context;
+
+    private Supplier<Integer>[] suppliers;
+
+    private List<Integer> items;
+
+    private final MapAllOptions mapAllOptions = MapAllOptions.defaults();
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        context = BenchmarkApplication.start();
+        suppliers = new Supplier[width];
+        items = new ArrayList<>(width);
+        for (int i = 0; i < width; i++) {
+            items.add(i);
+            int value = i;
+            suppliers[i] = () -> {
+                Blackhole.consumeCPU(tokens);
+                return value;
+            };
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void promise(RequestContextState request, Blackhole bh) {
+        List<Promise<Integer>> promises = new ArrayList<>(width);
+        for (Supplier<Integer> supplier : suppliers) {
+            promises.add(CompletableHelper.promise(supplier));
+        }
+        for (Promise<Integer> promise : promises) {
+            bh.consume(promise.join());
+        }
+    }
+
+    @Benchmark
+    public List<Integer> getAll(RequestContextState request) {
+        return CompletableHelper.getAll(suppliers);
+    }
+
+    @Benchmark
+    public List<?> waitAll(RequestContextState request) {
+        List<Promise<?>> promises = new ArrayList<>(width);
+        for (Supplier<Integer> supplier : suppliers) {
+            promises.add(CompletableHelper.promise(supplier));
+        }
+        return CompletableHelper.waitAll(promises);
+    }
+
+    @Benchmark
+    public List<Integer> mapAll(RequestContextState request) {
+        return CompletableHelper.mapAll(items, item -> {
+            Blackhole.consumeCPU(tokens);
+            return item;
+        }, mapAllOptions);
+    }
+}
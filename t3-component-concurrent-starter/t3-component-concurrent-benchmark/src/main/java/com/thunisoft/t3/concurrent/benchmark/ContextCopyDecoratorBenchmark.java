@@ -0,0 +1,81 @@
+package com.thunisoft.t3.concurrent.benchmark;
+
+import com.thunisoft.t3.concurrent.decorator.ContextCopyDecorator;
+import com.thunisoft.t3.concurrent.decorator.InstrumentedTaskDecorator;
+import com.thunisoft.t3.concurrent.metrics.MicrometerThreadPoolMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Description:<b>请求上下文复制装饰器单任务开销基准</b>
+ * baseline为未装饰任务直接执行，与其他各项的差值即每个任务额外付出的装饰成本；
+ * noContext为非请求线程提交、没有任何上下文时的成本，withMdc为同时传递请求上下文和MDC的成本；
+ * instrumented开头的为开启线程池指标后的成本
+ *
+ * @author LKL
+ * @since 2026-10-18 10:48
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ContextCopyDecoratorBenchmark {
+
+    private final ContextCopyDecorator decorator = new ContextCopyDecorator();
+
+    private final InstrumentedTaskDecorator instrumented = new InstrumentedTaskDecorator(
+            decorator, new MicrometerThreadPoolMetrics(
+            new SimpleMeterRegistry(), "benchmark"));
+
+    private long counter;
+
+    private final Runnable task = () -> counter++;
+
+    @Benchmark
+    public long baseline() {
+        task.run();
+        return counter;
+    }
+
+    @Benchmark
+    public Runnable decorate(RequestContextState request) {
+        return decorator.decorate(task);
+    }
+
+    @Benchmark
+    public long decorateAndRun(RequestContextState request) {
+        decorator.decorate(task).run();
+        return counter;
+    }
+
+    @Benchmark
+    public long decorateAndRunNoContext() {
+        decorator.decorate(task).run();
+        return counter;
+    }
+
+    @Benchmark
+    public long decorateAndRunWithMdc(RequestContextState request,
+            MdcState mdc) {
+        decorator.decorate(task).run();
+        return counter;
+    }
+
+    @Benchmark
+    public long instrumentedDecorateAndRun(RequestContextState request) {
+        instrumented.decorate(task).run();
+        return counter;
+    }
+}
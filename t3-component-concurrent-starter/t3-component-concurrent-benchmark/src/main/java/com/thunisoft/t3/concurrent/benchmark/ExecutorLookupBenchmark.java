@@ -0,0 +1,66 @@
+package com.thunisoft.t3.concurrent.benchmark;
+
+import com.thunisoft.t3.concurrent.completable.CompletableHelper;
+import com.thunisoft.t3.concurrent.constant.ThreadPoolConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Description:<b>按名称查找线程池开销基准</b>
+ * 每次promise都会经过getExecutor，分别测量默认线程池、自定义线程池和不存在名称（回退默认线程池）三种情况
+ *
+ * @author LKL
+ * @since 2026-10-18 11:02
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExecutorLookupBenchmark {
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkApplication.start(
+                "concurrent.custom-thread-pools.pdfThreadPool.core-pool-size=2",
+                "concurrent.custom-thread-pools.logThreadPool.core-pool-size=2");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Executor defaultPool() {
+        return CompletableHelper
+                .getExecutor(ThreadPoolConstants.C_KEY_THREAD_POOL_DEFAULT);
+    }
+
+    @Benchmark
+    public Executor customPool() {
+        return CompletableHelper.getExecutor("pdfThreadPool");
+    }
+
+    @Benchmark
+    public Executor missingPool() {
+        return CompletableHelper.getExecutor("absentThreadPool");
+    }
+}
@@ -0,0 +1,31 @@
+package com.thunisoft.t3.concurrent.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.MDC;
+
+/**
+ * Description:<b>模拟带日志MDC的请求线程</b>
+ * 常见的traceId、spanId、用户字段，MDC非空时ContextCopyDecorator每次提交都需复制一份
+ *
+ * @author LKL
+ * @since 2026-10-18 23:55
+ **/
+@State(Scope.Thread)
+public class MdcState {
+
+    @Setup(Level.Trial)
+    public void bind() {
+        MDC.put("traceId", "5f2c1e9a7b3d4c61");
+        MDC.put("spanId", "7b3d4c615f2c1e9a");
+        MDC.put("userId", "10001");
+    }
+
+    @TearDown(Level.Trial)
+    public void unbind() {
+        MDC.clear();
+    }
+}
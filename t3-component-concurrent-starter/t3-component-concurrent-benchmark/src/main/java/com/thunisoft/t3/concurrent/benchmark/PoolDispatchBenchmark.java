@@ -0,0 +1,91 @@
+package com.thunisoft.t3.concurrent.benchmark;
+
+import com.thunisoft.t3.concurrent.configuration.initializer.impl.ThreadPoolTaskExecutorInitializer;
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import net.tascalate.concurrent.CompletableTask;
+import net.tascalate.concurrent.Promise;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Description:<b>线程池派发开销基准</b>
+ * 对比ThreadPoolTaskExecutorInitializer在queueCapacity=0（SynchronousQueue+CallerRunsPolicy）与有界队列下的吞吐量与尾延迟
+ *
+ * @author LKL
+ * @since 2026-10-18 11:15
+ **/
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PoolDispatchBenchmark {
+
+    /** 队列长度，0即SynchronousQueue **/
+    @Param({ "0", "64", "1024" })
+    private int queueCapacity;
+
+    /** 一次提交的任务数 **/
+    @Param({ "16", "256", "1024" })
+    private int width;
+
+    /** 每个任务消耗的cpu token数 **/
+    @Param({ "100" })
+    private int tokens;
+
+    private ThreadPoolTaskExecutor executor;
+
+    private Supplier<Integer> supplier;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ThreadPoolConfig config = new ThreadPoolConfig();
+        config.setThreadNamePrefix("bench-dispatch-");
+        config.setCorePoolSize(Runtime.getRuntime().availableProcessors());
+        config.setMaxPoolSize(Runtime.getRuntime().availableProcessors() * 4);
+        config.setQueueCapacity(queueCapacity);
+        executor = (ThreadPoolTaskExecutor) new ThreadPoolTaskExecutorInitializer()
+                .initializeThreadPool(config,
+                        new ThreadPoolExecutor.CallerRunsPolicy());
+        supplier = () -> {
+            Blackhole.consumeCPU(tokens);
+            return tokens;
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public void dispatch(RequestContextState request, Blackhole bh) {
+        List<Promise<Integer>> promises = new ArrayList<>(width);
+        for (int i = 0; i < width; i++) {
+            promises.add(CompletableTask.supplyAsync(supplier, executor));
+        }
+        for (Promise<Integer> promise : promises) {
+            bh.consume(promise.join());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.thunisoft.t3.concurrent.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Description:<b>模拟web请求线程</b>
+ * ContextCopyDecorator在提交任务时捕获请求上下文等，基准线程需与Tomcat线程一样持有RequestAttributes
+ *
+ * @author LKL
+ * @since 2026-10-18 10:20
+ **/
+@State(Scope.Thread)
+public class RequestContextState {
+
+    /** 当前线程的请求上下文 **/
+    private ServletRequestAttributes attributes;
+
+    @Setup(Level.Trial)
+    public void bind() {
+        attributes = new ServletRequestAttributes(
+                new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(attributes);
+    }
+
+    @TearDown(Level.Trial)
+    public void unbind() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+}
@@ -0,0 +1,90 @@
+package com.thunisoft.t3.concurrent.benchmark;
+
+import com.thunisoft.t3.concurrent.timer.HashedWheelTimer;
+import com.thunisoft.t3.concurrent.timer.Timeout;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Description:<b>超时调度开销基准</b>
+ * 模拟大量在途Promise各带一个超时、且多数在到期前完成的场景：已有outstanding个未到期的超时，
+ * 每次操作添加一个超时并立即取消，对比ScheduledThreadPoolExecutor与时间轮定时器
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TimeoutScheduleBenchmark {
+
+    private static final Runnable NOOP = () -> {
+    };
+
+    /** 定时器类型 **/
+    @Param({ "scheduled-executor", "hashed-wheel" })
+    private String timer;
+
+    /** 未到期的超时数 **/
+    @Param({ "10000" })
+    private int outstanding;
+
+    private ScheduledThreadPoolExecutor scheduler;
+
+    private HashedWheelTimer wheel;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        if ("hashed-wheel".equals(timer)) {
+            wheel = new HashedWheelTimer("bench-wheel", 10,
+                    TimeUnit.MILLISECONDS, 512);
+            for (int i = 0; i < outstanding; i++) {
+                wheel.newTimeout(NOOP, 1, TimeUnit.HOURS);
+            }
+        } else {
+            scheduler = new ScheduledThreadPoolExecutor(1);
+            scheduler.setRemoveOnCancelPolicy(true);
+            for (int i = 0; i < outstanding; i++) {
+                scheduler.schedule(NOOP, 1, TimeUnit.HOURS);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (wheel != null) {
+            wheel.destroy();
+        } else {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public boolean scheduleAndCancel() {
+        if (wheel != null) {
+            Timeout timeout = wheel.newTimeout(NOOP, 1, TimeUnit.SECONDS);
+            return timeout.cancel();
+        }
+        ScheduledFuture<?> future = scheduler.schedule(NOOP, 1,
+                TimeUnit.SECONDS);
+        return future.cancel(false);
+    }
+}
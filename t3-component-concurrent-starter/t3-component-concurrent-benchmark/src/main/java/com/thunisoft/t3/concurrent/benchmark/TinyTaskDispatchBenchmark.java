@@ -0,0 +1,117 @@
+package com.thunisoft.t3.concurrent.benchmark;
+
+import com.thunisoft.t3.concurrent.configuration.initializer.ThreadPoolInitializerFactory;
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import com.thunisoft.t3.concurrent.constant.ThreadPoolType;
+import com.thunisoft.t3.concurrent.constant.WaitStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Description:<b>短小任务派发开销基准</b>
+ * 对比thread-pool类型（queueCapacity=0即SynchronousQueue、有界队列）与ring-buffer类型各等待策略下，
+ * 每个任务只有几十纳秒计算时的派发吞吐量，结果为每秒完成的任务数
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TinyTaskDispatchBenchmark {
+
+    /** 一次提交的任务数 **/
+    private static final int BATCH = 1024;
+
+    /** 线程池：类型-队列长度或等待策略 **/
+    @Param({ "thread-pool-0", "thread-pool-1024", "ring-buffer-park",
+            "ring-buffer-yield", "ring-buffer-spin" })
+    private String pool;
+
+    /** 每个任务消耗的cpu token数 **/
+    @Param({ "10" })
+    private int tokens;
+
+    private Executor executor;
+
+    private final AtomicInteger remaining = new AtomicInteger();
+
+    private volatile Thread waiter;
+
+    private Runnable task;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        int threads = Runtime.getRuntime().availableProcessors();
+        ThreadPoolConfig config = new ThreadPoolConfig();
+        config.setThreadNamePrefix("bench-tiny-");
+        config.setCorePoolSize(threads);
+        config.setMetricsEnabled(false);
+        config.setContextPropagation(false);
+        if (pool.startsWith("ring-buffer")) {
+            config.setType(ThreadPoolType.RING_BUFFER);
+            config.setQueueCapacity(BATCH * 2);
+            config.setWaitStrategy(WaitStrategy.valueOf(
+                    pool.substring("ring-buffer-".length()).toUpperCase()));
+        } else {
+            config.setMaxPoolSize(threads * 4);
+            config.setQueueCapacity(Integer.parseInt(
+                    pool.substring("thread-pool-".length())));
+        }
+        executor = ThreadPoolInitializerFactory.getInitializer(config)
+                .initializeThreadPool(config,
+                        new ThreadPoolExecutor.CallerRunsPolicy());
+        task = () -> {
+            Blackhole.consumeCPU(tokens);
+            if (remaining.decrementAndGet() == 0) {
+                LockSupport.unpark(waiter);
+            }
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (executor instanceof ThreadPoolTaskExecutor) {
+            ((ThreadPoolTaskExecutor) executor).shutdown();
+        } else if (executor instanceof DisposableBean) {
+            ((DisposableBean) executor).destroy();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void dispatch() {
+        waiter = Thread.currentThread();
+        remaining.set(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            executor.execute(task);
+        }
+        while (remaining.get() > 0) {
+            LockSupport.parkNanos(this, 100_000);
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package com.thunisoft.t3.concurrent.cache;
+
+import com.thunisoft.t3.concurrent.completable.CompletableHelper;
+import com.thunisoft.t3.concurrent.completable.TaskScope;
+import com.thunisoft.t3.concurrent.configuration.model.PromiseCacheConfig;
+import lombok.extern.slf4j.Slf4j;
+import net.tascalate.concurrent.CompletablePromise;
+import net.tascalate.concurrent.Promise;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Description:<b>Promise缓存</b>
+ * 按key缓存加载中或已完成的Promise，相同key并发访问只加载一次，加载在配置的线程池中执行；
+ * 支持写入后过期、访问后过期、按条目数或权重淘汰、过期前异步刷新及失败结果的短时缓存
+ *
+ * @author LKL
+ * @since 2026-10-18 23:45
+ **/
+@Slf4j
+public class PromiseCache<K, V> {
+
+    private final String name;
+
+    private final PromiseCacheConfig config;
+
+    private final Weigher<? super K, ? super V> weigher;
+
+    private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    /** 已完成条目的总权重，仅配置了maximum-weight时统计 **/
+    private final AtomicLong totalWeight = new AtomicLong();
+
+    /** 同一时刻只有一个线程执行淘汰，其余线程直接返回 **/
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final long expireAfterWriteNanos;
+
+    private final long expireAfterAccessNanos;
+
+    private final long refreshAheadNanos;
+
+    private final long negativeTtlNanos;
+
+    public PromiseCache(String name, PromiseCacheConfig config,
+            Weigher<? super K, ? super V> weigher) {
+        this.name = name;
+        this.config = config;
+        this.weigher = weigher;
+        this.expireAfterWriteNanos = TimeUnit.MILLISECONDS
+                .toNanos(config.getExpireAfterWriteMillis());
+        this.expireAfterAccessNanos = TimeUnit.MILLISECONDS
+                .toNanos(config.getExpireAfterAccessMillis());
+        this.refreshAheadNanos = TimeUnit.MILLISECONDS
+                .toNanos(config.getRefreshAheadMillis());
+        this.negativeTtlNanos = TimeUnit.MILLISECONDS
+                .toNanos(config.getNegativeTtlMillis());
+    }
+
+    /**
+     * Description:<b>获取缓存的Promise，不存在或已过期时加载</b>
+     * 返回的Promise相互独立，取消只影响调用方自身，不会取消共享的加载任务
+     *
+     * @author LKL
+     * @since 2026-10-18 23:45
+     * @param key 缓存key
+     * @param loader 加载函数，在配置的线程池中执行
+     * @return Promise对象
+     */
+    public Promise<V> get(K key, Function<? super K, ? extends V> loader) {
+        while (true) {
+            long now = System.nanoTime();
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (!isExpired(entry, now)) {
+                    entry.accessNanos = now;
+                    refreshAheadIfNeeded(key, entry, loader, now);
+                    return entry.view();
+                }
+                remove(key, entry);
+                continue;
+            }
+            Entry<V> created = new Entry<>(now);
+            if (entries.putIfAbsent(key, created) == null) {
+                load(key, created, loader);
+                evictIfNeeded();
+                return created.view();
+            }
+        }
+    }
+
+    /**
+     * Description:<b>获取已缓存且未过期的Promise</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:45
+     * @param key 缓存key
+     * @return Promise对象，不存在时为null
+     */
+    public Promise<V> getIfPresent(K key) {
+        long now = System.nanoTime();
+        Entry<V> entry = entries.get(key);
+        if (entry == null || isExpired(entry, now)) {
+            return null;
+        }
+        entry.accessNanos = now;
+        return entry.view();
+    }
+
+    /**
+     * Description:<b>移除指定key</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:45
+     * @param key 缓存key
+     */
+    public void invalidate(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            remove(key, entry);
+        }
+    }
+
+    /**
+     * Description:<b>清空缓存</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:45
+     */
+    public void invalidateAll() {
+        entries.forEach(this::remove);
+    }
+
+    /**
+     * Description:<b>当前条目数，含加载中及尚未清理的过期条目</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:45
+     * @return 条目数
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the config
+     */
+    public PromiseCacheConfig getConfig() {
+        return config;
+    }
+
+    private void load(K key, Entry<V> entry,
+            Function<? super K, ? extends V> loader) {
+        Promise<V> promise;
+        try {
+            // 缓存的加载由多个调用方共享，不归属当前调用方的作用域
+            promise = TaskScope.detached(() -> CompletableHelper
+                    .promise(() -> loader.apply(key),
+                            config.getThreadPoolName()));
+        } catch (RuntimeException e) {
+            // 提交被拒绝时不缓存，由调用方处理
+            remove(key, entry);
+            entry.result.completeExceptionally(e);
+            return;
+        }
+        promise.whenComplete((value, e) -> {
+            if (e == null) {
+                // 写入时间从加载完成算起，加载耗时不占用过期时间
+                entry.writeNanos = System.nanoTime();
+                entry.result.complete(value);
+                weigh(key, entry, value);
+            } else {
+                entry.failedNanos = System.nanoTime();
+                entry.result.completeExceptionally(e);
+                if (negativeTtlNanos <= 0) {
+                    remove(key, entry);
+                }
+            }
+        });
+    }
+
+    private void refreshAheadIfNeeded(K key, Entry<V> entry,
+            Function<? super K, ? extends V> loader, long now) {
+        if (refreshAheadNanos <= 0 || expireAfterWriteNanos <= 0
+                || now - entry.writeNanos < expireAfterWriteNanos
+                - refreshAheadNanos || !entry.isLoaded()
+                || !entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        Entry<V> fresh = new Entry<>(now);
+        fresh.accessNanos = entry.accessNanos;
+        load(key, fresh, loader);
+        fresh.result.whenComplete((value, e) -> {
+            if (e == null && entries.replace(key, entry, fresh)) {
+                release(entry);
+            } else {
+                // 刷新失败保留旧值，下次访问时重试
+                release(fresh);
+                entry.refreshing.set(false);
+                if (e != null) {
+                    log.warn("缓存{}刷新{}失败：{}", name, key, e.toString());
+                }
+            }
+        });
+    }
+
+    private boolean isExpired(Entry<V> entry, long now) {
+        if (!entry.result.isDone()) {
+            // 加载中的条目不过期，避免加载耗时超过过期时间时重复加载
+            return false;
+        }
+        if (entry.failedNanos != 0) {
+            return now - entry.failedNanos >= negativeTtlNanos;
+        }
+        return expireAfterWriteNanos > 0
+                && now - entry.writeNanos >= expireAfterWriteNanos
+                || expireAfterAccessNanos > 0
+                && now - entry.accessNanos >= expireAfterAccessNanos;
+    }
+
+    private void weigh(K key, Entry<V> entry, V value) {
+        if (config.getMaximumWeight() <= 0) {
+            return;
+        }
+        long weight = weigher == null ? 1 : weigher.weigh(key, value);
+        // 条目已被移除时不再计入
+        if (entry.weight.compareAndSet(0, weight)) {
+            totalWeight.addAndGet(weight);
+            evictIfNeeded();
+        }
+    }
+
+    private void remove(K key, Entry<V> entry) {
+        if (entries.remove(key, entry)) {
+            release(entry);
+        }
+    }
+
+    private void release(Entry<V> entry) {
+        long weight = entry.weight.getAndSet(-1);
+        if (weight > 0) {
+            totalWeight.addAndGet(-weight);
+        }
+    }
+
+    private boolean overflow() {
+        return config.getMaximumSize() > 0
+                && entries.size() > config.getMaximumSize()
+                || config.getMaximumWeight() > 0
+                && totalWeight.get() > config.getMaximumWeight();
+    }
+
+    /**
+     * Description:<b>超出容量时淘汰</b>
+     * 先清理过期条目，仍超出时按最后访问时间淘汰至容量的90%，一次淘汰一批以分摊排序的开销
+     *
+     * @author LKL
+     * @since 2026-10-18 23:45
+     */
+    private void evictIfNeeded() {
+        if (!overflow() || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            long now = System.nanoTime();
+            List<Candidate<K, V>> candidates = new ArrayList<>(
+                    entries.size());
+            for (Map.Entry<K, Entry<V>> mapping : entries.entrySet()) {
+                if (isExpired(mapping.getValue(), now)) {
+                    remove(mapping.getKey(), mapping.getValue());
+                } else {
+                    candidates.add(new Candidate<>(mapping.getKey(),
+                            mapping.getValue(), now));
+                }
+            }
+            if (!overflow()) {
+                return;
+            }
+            candidates.sort((a, b) -> Long.compare(b.idleNanos, a.idleNanos));
+            long maximumSize = config.getMaximumSize();
+            long maximumWeight = config.getMaximumWeight();
+            long sizeTarget = maximumSize - maximumSize / 10;
+            long weightTarget = maximumWeight - maximumWeight / 10;
+            for (Candidate<K, V> candidate : candidates) {
+                if ((maximumSize <= 0 || entries.size() <= sizeTarget) && (
+                        maximumWeight <= 0 || totalWeight.get()
+                                <= weightTarget)) {
+                    break;
+                }
+                remove(candidate.key, candidate.entry);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 淘汰候选，排序期间访问时间仍会被并发修改，先取快照保证比较结果前后一致
+     */
+    private static final class Candidate<K, V> {
+
+        private final K key;
+
+        private final Entry<V> entry;
+
+        /** 距上次访问的时长，越大越先淘汰 **/
+        private final long idleNanos;
+
+        private Candidate(K key, Entry<V> entry, long now) {
+            this.key = key;
+            this.entry = entry;
+            this.idleNanos = now - entry.accessNanos;
+        }
+    }
+
+    private static final class Entry<V> {
+
+        /** 加载完成的时间，加载中为创建时间 **/
+        private volatile long writeNanos;
+
+        private volatile long accessNanos;
+
+        /** 加载失败的时间，0表示未失败 **/
+        private volatile long failedNanos;
+
+        /** 计入总权重的值，移除后置为-1 **/
+        private final AtomicLong weight = new AtomicLong();
+
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+
+        private Entry(long now) {
+            this.writeNanos = now;
+            this.accessNanos = now;
+        }
+
+        private boolean isLoaded() {
+            return result.isDone() && !result.isCompletedExceptionally();
+        }
+
+        private Promise<V> view() {
+            // 调用方取消返回的Promise不影响共享的加载结果
+            return new CompletablePromise<>(result.thenApply(value -> value));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.thunisoft.t3.concurrent.cache;
+
+import com.thunisoft.t3.concurrent.configuration.ThreadPoolConfiguration;
+import com.thunisoft.t3.concurrent.configuration.model.PromiseCacheConfig;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Description:<b>Promise缓存管理</b>
+ * 按名称获取缓存，配置取concurrent.caches下同名节点，未配置时使用默认值
+ *
+ * @author LKL
+ * @since 2026-10-18 23:45
+ **/
+@Component
+public class PromiseCacheManager {
+
+    private final ThreadPoolConfiguration threadPoolConfiguration;
+
+    private final Map<String, PromiseCache<?, ?>> caches = new ConcurrentHashMap<>(
+            8);
+
+    public PromiseCacheManager(
+            ThreadPoolConfiguration threadPoolConfiguration) {
+        this.threadPoolConfiguration = threadPoolConfiguration;
+    }
+
+    /**
+     * Description:<b>获取缓存，不存在时按配置创建</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:45
+     * @param name 缓存名称
+     * @return 缓存
+     */
+    public <K, V> PromiseCache<K, V> getCache(String name) {
+        return getCache(name, null);
+    }
+
+    /**
+     * Description:<b>获取缓存，不存在时按配置创建</b>
+     * 权重计算仅在创建缓存时生效，应在首次获取时传入
+     *
+     * @author LKL
+     * @since 2026-10-18 23:45
+     * @param name 缓存名称
+     * @param weigher 权重计算，配置了maximum-weight时使用，为null时每个条目权重为1
+     * @return 缓存
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> PromiseCache<K, V> getCache(String name,
+            Weigher<? super K, ? super V> weigher) {
+        return (PromiseCache<K, V>) caches.computeIfAbsent(name,
+                key -> new PromiseCache<>(key, config(key), weigher));
+    }
+
+    /**
+     * Description:<b>已创建的缓存名称</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:45
+     * @return 缓存名称
+     */
+    public Set<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    private PromiseCacheConfig config(String name) {
+        PromiseCacheConfig config = threadPoolConfiguration.getCaches()
+                .get(name);
+        return config == null ? new PromiseCacheConfig() : config;
+    }
+}
@@ -0,0 +1,23 @@
+package com.thunisoft.t3.concurrent.cache;
+
+/**
+ * Description:<b>缓存条目权重计算</b>
+ * 配置了maximum-weight时使用，加载完成后计算一次
+ *
+ * @author LKL
+ * @since 2026-10-18 23:45
+ **/
+@FunctionalInterface
+public interface Weigher<K, V> {
+
+    /**
+     * Description:<b>计算条目权重</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:45
+     * @param key 缓存key
+     * @param value 加载的值
+     * @return 权重，不应为负数
+     */
+    long weigh(K key, V value);
+}
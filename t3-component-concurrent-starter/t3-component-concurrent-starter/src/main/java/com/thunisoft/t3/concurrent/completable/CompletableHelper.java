@@ -7,8 +7,17 @@
 package com.thunisoft.t3.concurrent.completable;
 
 import com.thunisoft.t3.concurrent.constant.ThreadPoolConstants;
+import com.thunisoft.t3.concurrent.deadline.Deadline;
+import com.thunisoft.t3.concurrent.deadline.DeadlineHolder;
+import com.thunisoft.t3.concurrent.executor.KeyedTaskExecutor;
 import com.thunisoft.t3.concurrent.holder.customthreadpool.ExecutorsHolder;
+import com.thunisoft.t3.concurrent.lane.ServiceClass;
+import com.thunisoft.t3.concurrent.lane.ServiceClassHolder;
+import com.thunisoft.t3.concurrent.limit.LimitedExecutor;
+import com.thunisoft.t3.concurrent.timer.HashedWheelTimer;
+import com.thunisoft.t3.concurrent.timer.Timeout;
 import lombok.extern.slf4j.Slf4j;
+import net.tascalate.concurrent.CompletablePromise;
 import net.tascalate.concurrent.CompletableTask;
 import net.tascalate.concurrent.Promise;
 import net.tascalate.concurrent.Promises;
@@ -16,10 +25,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * CompletableHelper
@@ -38,38 +53,58 @@ public class CompletableHelper {
      */
     private static Executor defaultExecutor;
 
-    /** 全部线程池映射关系 **/
-    private static Map<String, Executor> allExecutorMappings = new HashMap<>(8);
+    /** 线程池封装，持有全部线程池映射关系，运行时调整后整体替换 **/
+    private static ExecutorsHolder executorsHolder;
 
     /**
      * Description:<b>根据线程池名称获取指定线程池</b>
+     * 名称不存在时返回默认线程池，init-mode为lazy的线程池在首次获取时创建
      *
      * @author LKL
      * @since 2020-08-14 18:18
      * @param executorName 线程池名称
      * @return 指定线程池
      */
-    private static Executor getExecutor(String executorName) {
-        return Optional.ofNullable(allExecutorMappings.get(executorName))
-                .orElse(defaultExecutor);
+    public static Executor getExecutor(String executorName) {
+        ExecutorsHolder holder = executorsHolder;
+        Executor executor = holder == null ?
+                null :
+                holder.getExecutor(executorName);
+        return executor == null ? defaultExecutor : executor;
+    }
+
+    /**
+     * Description:<b>根据线程池名称查找已配置的线程池</b>
+     * 与getExecutor不同，名称不存在时不退化为默认线程池
+     *
+     * @author LKL
+     * @since 2026-10-18 21:00
+     * @param executorName 线程池名称
+     * @return 指定线程池，名称不存在或组件尚未初始化时返回null
+     */
+    public static Executor findExecutor(String executorName) {
+        ExecutorsHolder holder = executorsHolder;
+        return holder == null ? null : holder.getExecutor(executorName);
     }
 
     /**
      * 初始化线程池
      * @param defaultExecutor 默认线程池
+     * @param timer 超时、延迟、重试等待及对冲共用的定时器
      */
     @Autowired
     private void init(
             @Qualifier("t3-default-completable-executor") Executor defaultExecutor,
-            ExecutorsHolder customThreadPoolConfiguration) {
+            ExecutorsHolder customThreadPoolConfiguration,
+            @Qualifier("t3-completable-timer") HashedWheelTimer timer) {
         CompletableHelper.defaultExecutor = defaultExecutor;
+        Timers.setTimer(timer);
         /**
          * Since 1.0.1-SNAPSHOT，默认线程池和所有自定义线程池均通过这个映射关系获取
          * 由于1.0.1-SNAPSHOT之前的defaultExecutor提供了静态的setter方法，不确定是否有调用方手动set，暂时保留
          * 建议统一使用getExecutor()方法获取
          */
-        CompletableHelper.allExecutorMappings = customThreadPoolConfiguration
-                .getAllExecutorsMappings();
+        CompletableHelper.executorsHolder = customThreadPoolConfiguration;
     }
 
     /**
@@ -94,8 +129,141 @@ public class CompletableHelper {
      */
     public static <U> Promise<U> promise(Supplier<U> supplier,
             String threadPoolName) {
-        return CompletableTask
-                .supplyAsync(supplier, getExecutor(threadPoolName));
+        Executor executor = getExecutor(threadPoolName);
+        NestedJoin.ForkedTask task = new NestedJoin.ForkedTask(executor);
+        return TaskScope.own(task.fork(withDeadline(
+                CompletableTask.supplyAsync(supplier, task), executor)));
+    }
+
+    /**
+     * Description:<b>获取带超时的Promise对象</b>
+     * 超时后任务以中断方式取消，Promise以TimeoutException结束；
+     * 任务中再提交的异步任务继承剩余时间，当前线程已有更早的截止时间时以更早的为准
+     *
+     * @author LKL
+     * @since 2026-10-18 22:30
+     * @param supplier 供给者
+     * @param timeout 超时时间
+     * @return Promise对象
+     */
+    public static <U> Promise<U> promise(Supplier<U> supplier,
+            Duration timeout) {
+        return promise(supplier, ThreadPoolConstants.C_KEY_THREAD_POOL_DEFAULT,
+                timeout);
+    }
+
+    /**
+     * Description:<b>获取带超时的Promise对象</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 22:30
+     * @param supplier 供给者
+     * @param threadPoolName 线程池名称
+     * @param timeout 超时时间
+     * @return Promise对象
+     */
+    public static <U> Promise<U> promise(Supplier<U> supplier,
+            String threadPoolName, Duration timeout) {
+        return DeadlineHolder
+                .callWithin(timeout, () -> promise(supplier, threadPoolName));
+    }
+
+    /**
+     * Description:<b>按服务等级获取Promise对象</b>
+     * 默认线程池开启lanes时，任务进入对应服务等级的道排队，interactive优先于batch出队；
+     * 任务中再提交的异步任务继承该服务等级
+     *
+     * @author LKL
+     * @since 2026-10-18 23:58
+     * @param supplier 供给者
+     * @param serviceClass 服务等级
+     * @return Promise对象
+     */
+    public static <U> Promise<U> promise(Supplier<U> supplier,
+            ServiceClass serviceClass) {
+        return promise(supplier, ThreadPoolConstants.C_KEY_THREAD_POOL_DEFAULT,
+                serviceClass);
+    }
+
+    /**
+     * Description:<b>按服务等级获取Promise对象</b>
+     * 线程池未开启lanes时服务等级只向嵌套任务传递，不影响排队顺序
+     *
+     * @author LKL
+     * @since 2026-10-18 23:58
+     * @param supplier 供给者
+     * @param threadPoolName 线程池名称
+     * @param serviceClass 服务等级
+     * @return Promise对象
+     */
+    public static <U> Promise<U> promise(Supplier<U> supplier,
+            String threadPoolName, ServiceClass serviceClass) {
+        return ServiceClassHolder.callAs(serviceClass,
+                () -> promise(supplier, threadPoolName));
+    }
+
+    /**
+     * Description:<b>按key串行执行</b>
+     * 同一key的任务按调用顺序逐个执行，不同key的任务并行执行；线程池需配置为keyed类型；
+     * Promise后续不指定线程池的xxxAsync阶段在该线程池中并行执行，不再按key串行
+     * 如：CompletableHelper.promise(() -> caseService.transfer(caseId), "caseThreadPool", caseId)
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param supplier 供给者
+     * @param threadPoolName keyed类型的线程池名称
+     * @param key 任务的key，需正确实现hashCode，如案件ID
+     * @return Promise对象
+     * @throws IllegalArgumentException 线程池不是keyed类型时
+     */
+    public static <U> Promise<U> promise(Supplier<U> supplier,
+            String threadPoolName, Object key) {
+        Executor executor = getExecutor(threadPoolName);
+        if (executor instanceof LimitedExecutor) {
+            executor = ((LimitedExecutor) executor).getDelegate();
+        }
+        if (!(executor instanceof KeyedTaskExecutor)) {
+            throw new IllegalArgumentException(
+                    "线程池[" + threadPoolName + "]不是keyed类型，无法按key串行执行");
+        }
+        KeyedTaskExecutor keyed = (KeyedTaskExecutor) executor;
+        return TaskScope.own(withDeadline(
+                CompletableTask.supplyAsync(supplier, keyed.forKey(key))
+                        .defaultAsyncOn(keyed), keyed));
+    }
+
+    /**
+     * Description:<b>合并相同key的并发调用</b>
+     * 同一时刻相同key的调用共享一个执行中的任务，只占用一个线程、只调用一次下游，完成后不缓存结果；
+     * 各调用方的Promise相互独立，全部调用方都取消后才取消共享的任务；
+     * 共享任务的截止时间以第一个调用方为准
+     *
+     * @author LKL
+     * @since 2026-10-18 23:20
+     * @param key 调用的key，需正确实现equals、hashCode，如"user:" + id
+     * @param supplier 供给者
+     * @return Promise对象
+     */
+    public static <U> Promise<U> promise(Object key, Supplier<U> supplier) {
+        return promise(key, supplier,
+                ThreadPoolConstants.C_KEY_THREAD_POOL_DEFAULT);
+    }
+
+    /**
+     * Description:<b>合并相同key的并发调用</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:20
+     * @param key 调用的key，需正确实现equals、hashCode
+     * @param supplier 供给者
+     * @param threadPoolName 线程池名称
+     * @return Promise对象
+     */
+    public static <U> Promise<U> promise(Object key, Supplier<U> supplier,
+            String threadPoolName) {
+        // 共享的任务不归属任一调用方的作用域，调用方离开作用域时只取消自身的Promise
+        return TaskScope.own(SingleFlight.join(key, () -> TaskScope
+                .detached(() -> promise(supplier, threadPoolName))));
     }
 
     /**
@@ -118,7 +286,28 @@ public class CompletableHelper {
      */
     public static Promise<Void> promise(Runnable runnable,
             String threadPoolName) {
-        return CompletableTask.runAsync(runnable, getExecutor(threadPoolName));
+        Executor executor = getExecutor(threadPoolName);
+        NestedJoin.ForkedTask task = new NestedJoin.ForkedTask(executor);
+        return TaskScope.own(task.fork(withDeadline(
+                CompletableTask.runAsync(runnable, task), executor)));
+    }
+
+    /**
+     * Description:<b>按当前线程的截止时间设置超时</b>
+     * 未设置截止时间时原样返回，不产生额外开销
+     *
+     * @author LKL
+     * @since 2026-10-18 22:30
+     * @param promise 刚提交的Promise
+     * @param executor 任务所在的线程池，超时Promise的xxxAsync阶段仍默认在其中执行
+     * @return 截止时间到达时取消任务的Promise
+     */
+    private static <U> Promise<U> withDeadline(Promise<U> promise,
+            Executor executor) {
+        Deadline deadline = DeadlineHolder.getDeadline();
+        return deadline == null ?
+                promise :
+                Timers.orTimeout(promise, deadline.remaining(), executor);
     }
 
     /**
@@ -132,6 +321,23 @@ public class CompletableHelper {
         return getAll(true, suppliers);
     }
 
+    /**
+     * Description:<b>在超时时间内获取所有结果</b>
+     * 任一任务超时或出错时取消其余任务，抛出的CompletionException中包含TimeoutException等原因
+     *
+     * @author LKL
+     * @since 2026-10-18 22:30
+     * @param timeout 超时时间
+     * @param suppliers 同返回类型多个supplier
+     * @return 所有结果，顺序和传入suppliers顺序一致
+     */
+    @SafeVarargs
+    public static <U> List<U> getAll(Duration timeout,
+            Supplier<U>... suppliers) {
+        return DeadlineHolder
+                .callWithin(timeout, () -> getAll(true, suppliers));
+    }
+
     /**
      * 直接获取所有结果以list返回，顺序和传入suppliers顺序一致
      * @param cancelRunning 是否在出错时取消未完成线程
@@ -159,10 +365,24 @@ public class CompletableHelper {
     private static <U> List<U> getAll(boolean cancelRunning,
             String threadPoolName, Supplier<U>... suppliers) {
         List<Promise<U>> promiseList = Arrays.stream(suppliers)
-                .map(sup -> CompletableTask
-                        .supplyAsync(sup, getExecutor(threadPoolName)))
+                .map(sup -> promise(sup, threadPoolName))
                 .collect(Collectors.toList());
-        return Promises.all(cancelRunning, promiseList).join();
+        return NestedJoin.join(Promises.all(cancelRunning, promiseList),
+                promiseList);
+    }
+
+    /**
+     * Description:<b>等待Promise完成并获取结果</b>
+     * 与Promise.join相同，在线程池任务中等待该任务通过CompletableHelper提交的子任务时，
+     * 子任务尚未开始则由当前线程直接执行，否则在队列有任务排队时临时补偿线程，避免线程池线程互相等待
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param promise 需等待的Promise
+     * @return 执行结果
+     */
+    public static <T> T join(Promise<T> promise) {
+        return NestedJoin.join(promise, Collections.singletonList(promise));
     }
 
     /**
@@ -185,7 +405,8 @@ public class CompletableHelper {
             boolean cancelRunning) {
         try {
             // Promises.all内部实现支持出错时取消未完成线程，可以减少资源消耗
-            return Promises.all(cancelRunning, promises).join();
+            return NestedJoin.join(Promises.all(cancelRunning, promises),
+                    promises);
         } catch (Exception e) {
             /*
              * 线程池等待异常是MultiTargetException，堆栈只能显示到waitAll那一行代码，对排错意义不大
@@ -198,6 +419,340 @@ public class CompletableHelper {
         }
     }
 
+    /**
+     * Description:<b>在超时时间内等待多个promise都完成</b>
+     * 超时后以中断方式取消未完成的promise并返回null，与waitAll出错时的处理一致
+     *
+     * @author LKL
+     * @since 2026-10-18 22:30
+     * @param promises 需等待的promises
+     * @param timeout 超时时间
+     * @return 所有结果，超时或出错时为null
+     */
+    public static List<?> waitAll(List<Promise<?>> promises,
+            Duration timeout) {
+        try {
+            // 帮助执行的子任务不受timeout限制，因此只阻塞等待
+            return NestedJoin.join(
+                    Timers.orTimeout(Promises.all(true, promises), timeout,
+                            null), Collections.emptyList());
+        } catch (Exception e) {
+            // 与waitAll一致，任何异常都取消未完成的promise并返回null
+            promises.forEach(promise -> promise.cancel(true));
+            log.error("promises waitall error! " + e.getMessage()
+                    + "，请在各处Promise.exceptionally中处理异常和打印详情！");
+            return null;
+        }
+    }
+
+    /**
+     * Description:<b>等待多个promise都结束并返回各自的结果</b>
+     * 与waitAll任一出错即整体失败不同，按输入顺序返回每个元素的状态、结果或失败原因，
+     * 适用于允许部分失败的聚合场景
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param promises 需等待的promises
+     * @return 与输入同序的结果
+     */
+    public static <T> List<Settled<T>> settleAll(
+            Collection<? extends Promise<? extends T>> promises) {
+        return settleAll(promises, SettleOptions.defaults());
+    }
+
+    /**
+     * Description:<b>按指定参数等待多个promise都结束并返回各自的结果</b>
+     * 超时时未结束的元素记为TIMED_OUT，失败数达到failFastAfter时未结束的元素记为CANCELLED，
+     * 均只记录状态不创建异常；如：
+     * CompletableHelper.settleAll(promises, SettleOptions.defaults().timeout(Duration.ofMillis(800)).failFastAfter(3))
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param promises 需等待的promises
+     * @param options 部分结果汇总参数
+     * @return 与输入同序的结果
+     */
+    public static <T> List<Settled<T>> settleAll(
+            Collection<? extends Promise<? extends T>> promises,
+            SettleOptions options) {
+        // 与waitAll一致，有超时时帮助执行的子任务不受timeout限制，因此只阻塞等待
+        return NestedJoin.join(settleAllAsync(promises, options),
+                options.getTimeout() == null ?
+                        promises :
+                        Collections.emptyList());
+    }
+
+    /**
+     * Description:<b>异步等待多个promise都结束</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param promises 需等待的promises
+     * @param options 部分结果汇总参数
+     * @return 全部元素都有结果后完成的Promise，不会因元素失败而失败，取消时按options取消未结束的元素
+     */
+    public static <T> Promise<List<Settled<T>>> settleAllAsync(
+            Collection<? extends Promise<? extends T>> promises,
+            SettleOptions options) {
+        return new SettleAllTask<T>(promises, options).start();
+    }
+
+    /**
+     * Description:<b>按完成顺序迭代promises</b>
+     * 与waitAll等最慢的一个完成不同，先完成的先返回，可边返回边合并；
+     * next()阻塞至下一个完成，返回的Promise已完成，join()直接得到结果或抛出其异常
+     *
+     * @author LKL
+     * @since 2026-10-18 22:00
+     * @param promises 需等待的promises
+     * @return 按完成顺序的迭代器
+     */
+    public static <T> Iterator<Promise<T>> completionOrder(
+            Collection<? extends Promise<T>> promises) {
+        return CompletionOrder.iterator(promises);
+    }
+
+    /**
+     * Description:<b>按完成顺序获取promises的流</b>
+     * 如：CompletableHelper.completionStream(promises).map(Promise::join).limit(3)
+     *
+     * @author LKL
+     * @since 2026-10-18 22:00
+     * @param promises 需等待的promises
+     * @return 按完成顺序的流，元素均已完成
+     */
+    public static <T> Stream<Promise<T>> completionStream(
+            Collection<? extends Promise<T>> promises) {
+        return StreamSupport.stream(Spliterators
+                .spliterator(completionOrder(promises), promises.size(),
+                        Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Description:<b>每个promise完成时回调</b>
+     * 回调在完成任务的线程上执行，各次回调之间互斥，可直接合并到非线程安全的结果中；
+     * 回调抛出异常时返回的Promise以该异常结束
+     *
+     * @author LKL
+     * @since 2026-10-18 22:00
+     * @param promises 需等待的promises
+     * @param callback 回调，参数为结果和异常，二者有一个为null
+     * @return 全部回调执行完后完成的Promise
+     */
+    public static <T> Promise<Void> whenEachComplete(
+            Collection<? extends Promise<T>> promises,
+            BiConsumer<? super T, ? super Throwable> callback) {
+        return CompletionOrder.whenEach(promises, callback);
+    }
+
+    /**
+     * Description:<b>异步获取最先成功的n个结果</b>
+     * 凑齐后取消其余promise；出错的promise不计入，剩余的不足以凑齐n个时以最后一个异常结束
+     *
+     * @author LKL
+     * @since 2026-10-18 22:00
+     * @param promises 需等待的promises
+     * @param n 需要的结果数
+     * @return 得到按完成顺序排列的n个结果的Promise
+     */
+    public static <T> Promise<List<T>> anyN(
+            Collection<? extends Promise<T>> promises, int n) {
+        return CompletionOrder.anyN(promises, n);
+    }
+
+    /**
+     * Description:<b>获取最先成功的n个结果</b>
+     * 阻塞至凑齐n个结果，其余promise被取消，适用于只需前几个答案的聚合场景
+     *
+     * @author LKL
+     * @since 2026-10-18 22:00
+     * @param promises 需等待的promises
+     * @param n 需要的结果数
+     * @return 按完成顺序排列的n个结果
+     */
+    public static <T> List<T> firstN(Collection<? extends Promise<T>> promises,
+            int n) {
+        return NestedJoin.join(anyN(promises, n), Collections.emptyList());
+    }
+
+    /**
+     * Description:<b>批量映射，以默认参数执行</b>
+     * 最多16个任务同时在默认线程池中，结果顺序和传入items顺序一致
+     *
+     * @author LKL
+     * @since 2026-10-18 21:30
+     * @param items 待处理元素
+     * @param mapper 单个元素的处理逻辑
+     * @return 处理结果
+     */
+    public static <T, R> List<R> mapAll(Collection<T> items,
+            Function<? super T, ? extends R> mapper) {
+        return mapAll(items, mapper, MapAllOptions.defaults());
+    }
+
+    /**
+     * Description:<b>批量映射</b>
+     * 与getAll每个元素一次提交全部任务不同，同一时刻最多maxInFlight个任务在线程池中，
+     * 任务数较多时内存占用平稳且不会占满线程池；chunkSize大于1时每个任务处理一批元素
+     *
+     * @author LKL
+     * @since 2026-10-18 21:30
+     * @param items 待处理元素
+     * @param mapper 单个元素的处理逻辑
+     * @param options 批量映射参数
+     * @return 处理结果，顺序和传入items顺序一致
+     */
+    public static <T, R> List<R> mapAll(Collection<T> items,
+            Function<? super T, ? extends R> mapper, MapAllOptions options) {
+        return NestedJoin.join(
+                CompletableHelper.<T, R>mapAllAsync(items, mapper, options),
+                Collections.emptyList());
+    }
+
+    /**
+     * Description:<b>异步批量映射</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 21:30
+     * @param items 待处理元素
+     * @param mapper 单个元素的处理逻辑
+     * @param options 批量映射参数
+     * @return 全部完成后得到处理结果的Promise，任一元素出错时以该异常结束
+     */
+    public static <T, R> Promise<List<R>> mapAllAsync(Collection<T> items,
+            Function<? super T, ? extends R> mapper, MapAllOptions options) {
+        return new MapAllTask<T, R>(items, mapper,
+                getExecutor(options.getThreadPoolName()), options).start();
+    }
+
+    /**
+     * Description:<b>在默认线程池中执行任务图</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param graph 任务图
+     * @return 全部任务结束后得到结果的Promise
+     */
+    public static Promise<TaskGraphResult> runGraph(TaskGraph graph) {
+        return runGraph(graph, ThreadPoolConstants.C_KEY_THREAD_POOL_DEFAULT);
+    }
+
+    /**
+     * Description:<b>执行任务图</b>
+     * 每个任务在依赖全部成功后立即提交，无需手工串联thenCombineAsync；任务失败时其下游不再执行，
+     * 与其无关的任务继续执行，结果中可获取各任务的状态、耗时及关键路径，如：
+     * TaskGraphResult result = CompletableHelper.runGraph(graph, "remoteThreadPool").join();
+     * Page page = result.get("page");
+     * log.debug("{}", result.getReport());
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param graph 任务图
+     * @param threadPoolName 线程池名称
+     * @return 全部任务结束后得到结果的Promise，部分任务失败时同样正常完成，取消时取消执行中的任务
+     */
+    public static Promise<TaskGraphResult> runGraph(TaskGraph graph,
+            String threadPoolName) {
+        return new TaskGraphRun(graph, threadPoolName).start();
+    }
+
+    /**
+     * Description:<b>按固定延迟对冲调用</b>
+     * 超过hedgeDelay仍未完成时再调用一次，取先成功的结果并取消另一次；
+     * 同一线程池的对冲次数不超过调用次数的10%，supplier需可重复调用，如只读查询
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param supplier 供给者
+     * @param threadPoolName 线程池名称，同时作为对冲配额的key
+     * @param hedgeDelay 对冲延迟
+     * @return Promise对象
+     */
+    public static <U> Promise<U> hedge(Supplier<U> supplier,
+            String threadPoolName, Duration hedgeDelay) {
+        return hedge(supplier, threadPoolName,
+                HedgePolicy.fixed(threadPoolName, hedgeDelay));
+    }
+
+    /**
+     * Description:<b>对冲调用</b>
+     * 按分位数对冲时以同一key最近成功调用的耗时分位数为对冲延迟，如：
+     * CompletableHelper.hedge(() -> remote.queryCase(id), "remoteThreadPool", HedgePolicy.percentile("queryCase", 0.95))
+     * 每次调用都经过线程池及上下文传递，对冲的调用继承调用线程的上下文及截止时间
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param supplier 供给者，需可重复调用
+     * @param threadPoolName 线程池名称
+     * @param policy 对冲参数
+     * @return Promise对象，取消时同时取消全部调用
+     */
+    public static <U> Promise<U> hedge(Supplier<U> supplier,
+            String threadPoolName, HedgePolicy policy) {
+        return new HedgeTask<>(supplier, threadPoolName, policy).start();
+    }
+
+    /**
+     * Description:<b>延迟指定时间后完成的Promise</b>
+     * 由共用定时器计时，等待期间不占用线程，如：
+     * CompletableHelper.delay(Duration.ofSeconds(1)).thenApplyAsync(v -> poll(id))
+     * 后续xxxAsync阶段默认在默认线程池中执行，不传递调用线程的上下文，需要时改用promise提交
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param delay 延迟时间
+     * @return Promise对象，取消时同时取消定时
+     */
+    public static Promise<Void> delay(Duration delay) {
+        CompletableFuture<Void> delayed = new CompletableFuture<>();
+        Timeout timeout = Timers
+                .schedule(() -> delayed.complete(null), delay.toNanos());
+        delayed.whenComplete((value, error) -> timeout.cancel());
+        return new CompletablePromise<>(delayed)
+                .defaultAsyncOn(defaultExecutor);
+    }
+
+    /**
+     * Description:<b>带重试的调用</b>
+     * 失败且可重试时按指数退避等待后重新提交到线程池，等待由共用定时器完成，不占用线程池线程，
+     * 不应在supplier中Thread.sleep重试；每次调用都经过线程池及上下文传递，如：
+     * CompletableHelper.retry(() -> remote.push(msg), RetryPolicy.defaults().maxAttempts(5).retryOn(IOException.class))
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param supplier 供给者，需可重复调用
+     * @param policy 重试参数
+     * @return Promise对象，以最后一次失败的异常结束，取消时同时取消进行中的调用及等待
+     */
+    public static <U> Promise<U> retry(Supplier<U> supplier,
+            RetryPolicy policy) {
+        return new RetryTask<>(supplier, policy).start();
+    }
+
+    /**
+     * Description:<b>打开结构化并发作用域</b>
+     * 任一任务失败时取消其余任务，需配合try-with-resources使用，见TaskScope
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @return 已打开的作用域
+     */
+    public static TaskScope scope() {
+        return scope(TaskScope.Policy.SHUTDOWN_ON_FAILURE);
+    }
+
+    /**
+     * Description:<b>按指定关闭策略打开结构化并发作用域</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param policy 关闭策略
+     * @return 已打开的作用域
+     */
+    public static TaskScope scope(TaskScope.Policy policy) {
+        return new TaskScope(policy);
+    }
+
     /**
      * 获取异步编程使用的默认线程池<br>
      * 内部线程池是自动注入的名为defaultExecutor的bean
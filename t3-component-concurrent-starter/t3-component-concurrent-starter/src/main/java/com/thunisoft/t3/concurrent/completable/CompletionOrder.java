@@ -0,0 +1,158 @@
+package com.thunisoft.t3.concurrent.completable;
+
+import net.tascalate.concurrent.Promise;
+import net.tascalate.concurrent.Promises;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Description:<b>按完成顺序获取Promise结果</b>
+ * 类似CompletionService，先完成的先返回，而不是等最慢的一个完成后一次性返回
+ *
+ * @author LKL
+ * @since 2026-10-18 21:50
+ **/
+final class CompletionOrder {
+
+    private CompletionOrder() {
+    }
+
+    /**
+     * Description:<b>按完成顺序迭代</b>
+     * next()阻塞至下一个Promise完成，返回的Promise已完成，join()不再阻塞，出错时抛出其异常
+     *
+     * @author LKL
+     * @since 2026-10-18 21:50
+     * @param promises 需等待的promises
+     * @return 按完成顺序的迭代器
+     */
+    static <T> Iterator<Promise<T>> iterator(
+            Collection<? extends Promise<T>> promises) {
+        BlockingQueue<Promise<T>> completed = new LinkedBlockingQueue<>();
+        for (Promise<T> promise : promises) {
+            promise.whenComplete((v, e) -> completed.offer(promise));
+        }
+        int total = promises.size();
+        return new Iterator<Promise<T>>() {
+
+            private int returned;
+
+            @Override
+            public boolean hasNext() {
+                return returned < total;
+            }
+
+            @Override
+            public Promise<T> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    Promise<T> promise = completed.take();
+                    returned++;
+                    return promise;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CompletionException(e);
+                }
+            }
+        };
+    }
+
+    /**
+     * Description:<b>每个Promise完成时回调</b>
+     * 回调在完成任务的线程上执行，各次回调之间互斥，可直接合并到非线程安全的结果中
+     *
+     * @author LKL
+     * @since 2026-10-18 21:50
+     * @param promises 需等待的promises
+     * @param callback 回调，参数为结果和异常，二者有一个为null
+     * @return 全部回调执行完后完成的Promise
+     */
+    static <T> Promise<Void> whenEach(Collection<? extends Promise<T>> promises,
+            BiConsumer<? super T, ? super Throwable> callback) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(promises.size());
+        Object lock = new Object();
+        if (promises.isEmpty()) {
+            done.complete(null);
+        }
+        for (Promise<T> promise : promises) {
+            promise.whenComplete((v, e) -> {
+                try {
+                    synchronized (lock) {
+                        callback.accept(v, e);
+                    }
+                } catch (Throwable t) {
+                    done.completeExceptionally(t);
+                } finally {
+                    if (remaining.decrementAndGet() == 0) {
+                        done.complete(null);
+                    }
+                }
+            });
+        }
+        return Promises.from(done);
+    }
+
+    /**
+     * Description:<b>取最先成功的n个结果</b>
+     * 凑齐n个成功结果后取消其余Promise；出错的Promise不计入，剩余Promise不足以凑齐n个时以最后一个异常结束
+     *
+     * @author LKL
+     * @since 2026-10-18 21:50
+     * @param promises 需等待的promises
+     * @param n 需要的结果数
+     * @return 按完成顺序排列的n个结果
+     */
+    static <T> Promise<List<T>> anyN(Collection<? extends Promise<T>> promises,
+            int n) {
+        if (n < 0 || n > promises.size()) {
+            throw new IllegalArgumentException(
+                    "n应在0到" + promises.size() + "之间：" + n);
+        }
+        CompletableFuture<List<T>> result = new CompletableFuture<>();
+        List<T> values = new ArrayList<>(n);
+        AtomicInteger failures = new AtomicInteger();
+        int tolerated = promises.size() - n;
+        if (n == 0) {
+            result.complete(values);
+        }
+        for (Promise<T> promise : promises) {
+            promise.whenComplete((v, e) -> {
+                if (result.isDone()) {
+                    return;
+                }
+                if (e != null) {
+                    if (failures.incrementAndGet() > tolerated) {
+                        result.completeExceptionally(e);
+                    }
+                    return;
+                }
+                synchronized (values) {
+                    if (values.size() < n) {
+                        values.add(v);
+                        if (values.size() == n) {
+                            result.complete(new ArrayList<>(values));
+                        }
+                    }
+                }
+            });
+        }
+        return Promises.from(result).whenComplete((v, e) -> {
+            for (Promise<T> promise : promises) {
+                promise.cancel(true);
+            }
+        });
+    }
+}
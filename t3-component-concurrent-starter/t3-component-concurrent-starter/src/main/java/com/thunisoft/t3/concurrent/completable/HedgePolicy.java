@@ -0,0 +1,198 @@
+package com.thunisoft.t3.concurrent.completable;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Description:<b>对冲请求参数</b>
+ * 用于CompletableHelper.hedge，第一次调用超过对冲延迟仍未完成时再发起一次，取先成功的结果，如：
+ * HedgePolicy.percentile("queryCase", 0.95).fallbackDelay(Duration.ofMillis(50)).maxHedgeRatio(0.05)
+ * 同一key的耗时统计及对冲配额共享，key一般取下游接口名
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+public class HedgePolicy {
+
+    /** 默认对冲比例上限 **/
+    public static final double DEFAULT_MAX_HEDGE_RATIO = 0.1;
+
+    /** 配额上限，按次数计，允许短时间内连续对冲的次数 **/
+    private static final long MAX_BURST = 10;
+
+    /** 配额以千分之一次为单位计数 **/
+    private static final long UNIT = 1000;
+
+    private static final Map<String, Stats> STATS = new ConcurrentHashMap<>();
+
+    /**
+     * 耗时统计及对冲配额的key
+     */
+    private final String key;
+
+    /**
+     * 固定对冲延迟，按分位数对冲时为null
+     */
+    private final Duration delay;
+
+    /**
+     * 分位，按固定延迟对冲时为0
+     */
+    private final double percentile;
+
+    /**
+     * 样本不足时的对冲延迟，默认100毫秒
+     */
+    private Duration fallbackDelay = Duration.ofMillis(100);
+
+    /**
+     * 对冲次数占调用次数的比例上限，默认0.1
+     */
+    private double maxHedgeRatio = DEFAULT_MAX_HEDGE_RATIO;
+
+    private HedgePolicy(String key, Duration delay, double percentile) {
+        if (key == null) {
+            throw new IllegalArgumentException("key不能为null");
+        }
+        this.key = key;
+        this.delay = delay;
+        this.percentile = percentile;
+    }
+
+    /**
+     * @param key 耗时统计及对冲配额的key
+     * @param delay 固定对冲延迟
+     * @return 按固定延迟对冲的参数
+     */
+    public static HedgePolicy fixed(String key, Duration delay) {
+        if (delay == null || delay.isNegative()) {
+            throw new IllegalArgumentException("对冲延迟不能为负：" + delay);
+        }
+        return new HedgePolicy(key, delay, 0);
+    }
+
+    /**
+     * @param key 耗时统计及对冲配额的key
+     * @param percentile 分位，取值(0,1)，如0.95即超过p95耗时仍未完成时对冲
+     * @return 按耗时分位数对冲的参数
+     */
+    public static HedgePolicy percentile(String key, double percentile) {
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("分位应在(0,1)之间：" + percentile);
+        }
+        return new HedgePolicy(key, null, percentile);
+    }
+
+    /**
+     * @param fallbackDelay 样本不足时的对冲延迟
+     * @return 当前参数对象
+     */
+    public HedgePolicy fallbackDelay(Duration fallbackDelay) {
+        if (fallbackDelay == null || fallbackDelay.isNegative()) {
+            throw new IllegalArgumentException(
+                    "对冲延迟不能为负：" + fallbackDelay);
+        }
+        this.fallbackDelay = fallbackDelay;
+        return this;
+    }
+
+    /**
+     * @param maxHedgeRatio 对冲次数占调用次数的比例上限，为0时不对冲
+     * @return 当前参数对象
+     */
+    public HedgePolicy maxHedgeRatio(double maxHedgeRatio) {
+        if (maxHedgeRatio < 0 || maxHedgeRatio > 1) {
+            throw new IllegalArgumentException(
+                    "maxHedgeRatio应在[0,1]之间：" + maxHedgeRatio);
+        }
+        this.maxHedgeRatio = maxHedgeRatio;
+        return this;
+    }
+
+    /**
+     * @return the key
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @return the delay
+     */
+    public Duration getDelay() {
+        return delay;
+    }
+
+    /**
+     * @return the percentile
+     */
+    public double getPercentile() {
+        return percentile;
+    }
+
+    /**
+     * @return the fallbackDelay
+     */
+    public Duration getFallbackDelay() {
+        return fallbackDelay;
+    }
+
+    /**
+     * @return the maxHedgeRatio
+     */
+    public double getMaxHedgeRatio() {
+        return maxHedgeRatio;
+    }
+
+    Stats stats() {
+        return STATS.computeIfAbsent(key, k -> new Stats());
+    }
+
+    /**
+     * @return 本次调用的对冲延迟纳秒
+     */
+    long delayNanos(Stats stats) {
+        if (delay != null) {
+            return delay.toNanos();
+        }
+        long nanos = stats.latency.percentile(percentile);
+        return nanos < 0 ? fallbackDelay.toNanos() : nanos;
+    }
+
+    /**
+     * 同一key共享的耗时统计及对冲配额：每次调用增加maxHedgeRatio次配额，每次对冲消耗一次
+     */
+    static final class Stats {
+
+        final LatencyTracker latency = new LatencyTracker();
+
+        /** 初始允许连续对冲MAX_BURST次 **/
+        private final AtomicLong credits = new AtomicLong(MAX_BURST * UNIT);
+
+        void onCall(double maxHedgeRatio) {
+            long add = (long) (maxHedgeRatio * UNIT);
+            if (add > 0 && credits.get() < MAX_BURST * UNIT) {
+                credits.accumulateAndGet(add,
+                        (current, delta) -> Math.min(MAX_BURST * UNIT,
+                                current + delta));
+            }
+        }
+
+        boolean tryHedge(double maxHedgeRatio) {
+            if (maxHedgeRatio <= 0) {
+                return false;
+            }
+            for (;;) {
+                long current = credits.get();
+                if (current < UNIT) {
+                    return false;
+                }
+                if (credits.compareAndSet(current, current - UNIT)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
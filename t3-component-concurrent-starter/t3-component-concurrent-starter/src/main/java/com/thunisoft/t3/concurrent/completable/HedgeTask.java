@@ -0,0 +1,169 @@
+package com.thunisoft.t3.concurrent.completable;
+
+import com.thunisoft.t3.concurrent.context.ContextSnapshot;
+import com.thunisoft.t3.concurrent.timer.Timeout;
+import lombok.extern.slf4j.Slf4j;
+import net.tascalate.concurrent.CompletablePromise;
+import net.tascalate.concurrent.Promise;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Description:<b>一次对冲调用</b>
+ * 先提交第一次调用，到达对冲延迟仍未完成且配额允许时由定时器再提交一次，取先成功的结果并取消另一次；
+ * 对冲发起前第一次调用失败时整体失败，不作为重试；两次都已发起时，全部失败才整体失败
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+@Slf4j
+final class HedgeTask<U> {
+
+    private final Supplier<U> supplier;
+
+    private final String threadPoolName;
+
+    private final HedgePolicy policy;
+
+    private final HedgePolicy.Stats stats;
+
+    private final CompletableFuture<U> result = new CompletableFuture<>();
+
+    /** 以下字段在this上同步访问 **/
+    private Promise<U> primary;
+
+    private Promise<U> backup;
+
+    private Timeout timer;
+
+    private int launched;
+
+    private int failed;
+
+    private Throwable lastError;
+
+    HedgeTask(Supplier<U> supplier, String threadPoolName,
+            HedgePolicy policy) {
+        this.supplier = supplier;
+        this.threadPoolName = threadPoolName;
+        this.policy = policy;
+        this.stats = policy.stats();
+    }
+
+    Promise<U> start() {
+        stats.onCall(policy.getMaxHedgeRatio());
+        long delayNanos = policy.delayNanos(stats);
+        // 在调用线程上捕获上下文，对冲的调用由定时器线程提交时还原
+        ContextSnapshot snapshot = ContextSnapshot.capture();
+        synchronized (this) {
+            launched = 1;
+        }
+        Promise<U> attempt = launch();
+        synchronized (this) {
+            primary = attempt;
+            if (!result.isDone() && policy.getMaxHedgeRatio() > 0) {
+                timer = Timers
+                        .schedule(() -> hedge(snapshot), delayNanos);
+            }
+        }
+        // 调用方取消时取消全部调用
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                cancelAll();
+            }
+        });
+        return new CompletablePromise<>(result);
+    }
+
+    /**
+     * 提交一次调用，不持有锁，线程池由调用线程执行任务时不阻塞其他回调
+     */
+    private Promise<U> launch() {
+        long startNanos = System.nanoTime();
+        Promise<U> attempt = CompletableHelper.promise(supplier,
+                threadPoolName);
+        attempt.whenComplete((value, error) -> {
+            if (error == null) {
+                stats.latency.record(System.nanoTime() - startNanos);
+                if (result.complete(value)) {
+                    cancelAll();
+                }
+            } else {
+                onFailure(error);
+            }
+        });
+        return attempt;
+    }
+
+    private void hedge(ContextSnapshot snapshot) {
+        synchronized (this) {
+            if (result.isDone() || failed >= launched
+                    || !stats.tryHedge(policy.getMaxHedgeRatio())) {
+                return;
+            }
+            launched++;
+        }
+        Promise<U> attempt;
+        try {
+            if (snapshot == null) {
+                attempt = launch();
+            } else {
+                AtomicReference<Promise<U>> holder = new AtomicReference<>();
+                snapshot.run(() -> holder.set(launch()));
+                attempt = holder.get();
+            }
+        } catch (RuntimeException e) {
+            // 线程池拒绝对冲的调用时只等待第一次调用，第一次调用已失败时整体失败
+            log.warn("对冲调用提交失败，线程池[{}]", threadPoolName, e);
+            Throwable error;
+            synchronized (this) {
+                launched--;
+                error = failed >= launched ? lastError : null;
+            }
+            if (error != null) {
+                result.completeExceptionally(error);
+            }
+            return;
+        }
+        synchronized (this) {
+            backup = attempt;
+        }
+        if (result.isDone() && !attempt.isDone()) {
+            attempt.cancel(true);
+        }
+    }
+
+    private void onFailure(Throwable error) {
+        synchronized (this) {
+            failed++;
+            lastError = error;
+            if (failed < launched) {
+                return;
+            }
+            if (timer != null) {
+                timer.cancel();
+            }
+        }
+        result.completeExceptionally(error);
+    }
+
+    private void cancelAll() {
+        Promise<U> first;
+        Promise<U> second;
+        synchronized (this) {
+            if (timer != null) {
+                timer.cancel();
+            }
+            first = primary;
+            second = backup;
+        }
+        if (first != null && !first.isDone()) {
+            first.cancel(true);
+        }
+        if (second != null && !second.isDone()) {
+            second.cancel(true);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.thunisoft.t3.concurrent.completable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Description:<b>耗时分位数统计</b>
+ * 按微秒分桶的对数直方图，每2的幂分4个桶，误差不超过25%；记录只是一次原子自增，
+ * 统计最近两个窗口，窗口每30秒轮换一次，下游耗时变化后分位数随之更新
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+final class LatencyTracker {
+
+    /** 覆盖到约2^36微秒 **/
+    private static final int BUCKETS = 144;
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    /** 样本数少于该值时不计算分位数 **/
+    private static final int MIN_SAMPLES = 20;
+
+    private volatile AtomicLongArray current = new AtomicLongArray(BUCKETS);
+
+    private volatile AtomicLongArray previous = new AtomicLongArray(BUCKETS);
+
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+
+    /**
+     * Description:<b>记录一次耗时</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param nanos 耗时纳秒
+     */
+    void record(long nanos) {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= WINDOW_NANOS && windowStart
+                .compareAndSet(start, now)) {
+            // 轮换期间写入旧窗口的少量样本计入previous，不影响统计
+            previous = current;
+            current = new AtomicLongArray(BUCKETS);
+        }
+        current.incrementAndGet(index(TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+
+    /**
+     * Description:<b>计算分位数</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param percentile 分位，取值(0,1)，如0.95
+     * @return 耗时纳秒，样本不足时返回-1
+     */
+    long percentile(double percentile) {
+        AtomicLongArray now = current;
+        AtomicLongArray last = previous;
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = now.get(i) + last.get(i);
+            total += counts[i];
+        }
+        if (total < MIN_SAMPLES) {
+            return -1;
+        }
+        long target = (long) Math.ceil(percentile * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return TimeUnit.MICROSECONDS.toNanos(upperBound(i));
+            }
+        }
+        return TimeUnit.MICROSECONDS.toNanos(upperBound(BUCKETS - 1));
+    }
+
+    static int index(long micros) {
+        if (micros < 4) {
+            return (int) Math.max(0, micros);
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(micros);
+        int sub = (int) (micros >>> (msb - 2)) & 3;
+        return Math.min((msb - 1) * 4 + sub, BUCKETS - 1);
+    }
+
+    static long upperBound(int index) {
+        if (index < 4) {
+            return index;
+        }
+        int msb = index / 4 + 1;
+        int sub = index % 4;
+        return ((4L + sub + 1) << (msb - 2)) - 1;
+    }
+}
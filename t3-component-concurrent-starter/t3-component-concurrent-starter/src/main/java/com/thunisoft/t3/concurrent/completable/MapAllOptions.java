@@ -0,0 +1,115 @@
+package com.thunisoft.t3.concurrent.completable;
+
+import com.thunisoft.t3.concurrent.constant.ThreadPoolConstants;
+
+/**
+ * Description:<b>批量映射参数</b>
+ * 用于CompletableHelper.mapAll，如：
+ * MapAllOptions.defaults().maxInFlight(32).chunkSize(50).threadPoolName("remoteThreadPool")
+ *
+ * @author LKL
+ * @since 2026-10-18 21:20
+ **/
+public class MapAllOptions {
+
+    /** 默认最大在途任务数 **/
+    public static final int DEFAULT_MAX_IN_FLIGHT = 16;
+
+    /**
+     * 同时在线程池中的最大任务数，默认16
+     */
+    private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+
+    /**
+     * 每个任务处理的元素数，默认1即每个元素一个任务
+     */
+    private int chunkSize = 1;
+
+    /**
+     * 线程池名称，默认defaultThreadPool
+     */
+    private String threadPoolName = ThreadPoolConstants.C_KEY_THREAD_POOL_DEFAULT;
+
+    /**
+     * 是否在出错时取消未完成的任务，默认true
+     */
+    private boolean cancelRunning = true;
+
+    /**
+     * @return 默认参数
+     */
+    public static MapAllOptions defaults() {
+        return new MapAllOptions();
+    }
+
+    /**
+     * @param maxInFlight 同时在线程池中的最大任务数
+     * @return 当前参数对象
+     */
+    public MapAllOptions maxInFlight(int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException(
+                    "maxInFlight应大于0：" + maxInFlight);
+        }
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    /**
+     * @param chunkSize 每个任务处理的元素数
+     * @return 当前参数对象
+     */
+    public MapAllOptions chunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize应大于0：" + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * @param threadPoolName 线程池名称
+     * @return 当前参数对象
+     */
+    public MapAllOptions threadPoolName(String threadPoolName) {
+        this.threadPoolName = threadPoolName;
+        return this;
+    }
+
+    /**
+     * @param cancelRunning 是否在出错时取消未完成的任务
+     * @return 当前参数对象
+     */
+    public MapAllOptions cancelRunning(boolean cancelRunning) {
+        this.cancelRunning = cancelRunning;
+        return this;
+    }
+
+    /**
+     * @return the maxInFlight
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * @return the chunkSize
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * @return the threadPoolName
+     */
+    public String getThreadPoolName() {
+        return threadPoolName;
+    }
+
+    /**
+     * @return the cancelRunning
+     */
+    public boolean isCancelRunning() {
+        return cancelRunning;
+    }
+}
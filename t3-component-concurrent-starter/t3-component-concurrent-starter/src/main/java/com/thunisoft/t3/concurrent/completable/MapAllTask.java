@@ -0,0 +1,129 @@
+package com.thunisoft.t3.concurrent.completable;
+
+import net.tascalate.concurrent.CompletableTask;
+import net.tascalate.concurrent.Promise;
+import net.tascalate.concurrent.Promises;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Description:<b>有界并发的批量映射</b>
+ * 元素按chunkSize切分为批次，同一时刻最多maxInFlight个批次在线程池中，任一批次完成后再提交下一批次；
+ * 结果写入与输入同序的数组，全部完成后以列表返回，出错时整体失败且不再提交后续批次
+ *
+ * @author LKL
+ * @since 2026-10-18 21:25
+ **/
+final class MapAllTask<T, R> {
+
+    /** 分片按下标读取，非随机访问的集合先复制，避免LinkedList逐个get退化为O(n²) **/
+    private final List<T> items;
+
+    private final Function<? super T, ? extends R> mapper;
+
+    private final Executor executor;
+
+    private final MapAllOptions options;
+
+    private final Object[] results;
+
+    private final int chunkCount;
+
+    private final AtomicInteger nextChunk = new AtomicInteger();
+
+    private final AtomicInteger remainingChunks;
+
+    /** 待提交的空位数，由抢到的线程循环提交，避免任务在提交线程同步完成时层层递归 **/
+    private final AtomicInteger pendingSubmits = new AtomicInteger();
+
+    private final Set<Promise<Void>> running = ConcurrentHashMap.newKeySet();
+
+    private final CompletableFuture<List<R>> result = new CompletableFuture<>();
+
+    MapAllTask(Collection<T> items, Function<? super T, ? extends R> mapper,
+            Executor executor, MapAllOptions options) {
+        this.items = items instanceof List && items instanceof RandomAccess ?
+                (List<T>) items :
+                new ArrayList<>(items);
+        this.mapper = mapper;
+        this.executor = executor;
+        this.options = options;
+        this.results = new Object[this.items.size()];
+        this.chunkCount = (results.length + options.getChunkSize() - 1)
+                / options.getChunkSize();
+        this.remainingChunks = new AtomicInteger(chunkCount);
+    }
+
+    Promise<List<R>> start() {
+        if (chunkCount == 0) {
+            result.complete(new ArrayList<>());
+        }
+        int window = Math.min(options.getMaxInFlight(), chunkCount);
+        for (int i = 0; i < window; i++) {
+            submitNext();
+        }
+        return Promises.from(result);
+    }
+
+    private void submitNext() {
+        if (pendingSubmits.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            submitChunk();
+        } while (pendingSubmits.decrementAndGet() != 0);
+    }
+
+    private void submitChunk() {
+        int chunk = nextChunk.getAndIncrement();
+        if (chunk >= chunkCount || result.isDone()) {
+            return;
+        }
+        int from = chunk * options.getChunkSize();
+        int to = Math.min(from + options.getChunkSize(), results.length);
+        Promise<Void> promise;
+        try {
+            promise = CompletableTask.runAsync(() -> {
+                for (int i = from; i < to; i++) {
+                    results[i] = mapper.apply(items.get(i));
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            fail(e);
+            return;
+        }
+        running.add(promise);
+        promise.whenComplete((v, e) -> {
+            running.remove(promise);
+            if (e != null) {
+                fail(e);
+            } else if (remainingChunks.decrementAndGet() == 0) {
+                result.complete(toList());
+            } else {
+                submitNext();
+            }
+        });
+    }
+
+    private void fail(Throwable e) {
+        if (result.completeExceptionally(e) && options.isCancelRunning()) {
+            running.forEach(promise -> promise.cancel(true));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<R> toList() {
+        return new ArrayList<>((List<R>) Arrays.asList(results));
+    }
+}
@@ -0,0 +1,227 @@
+package com.thunisoft.t3.concurrent.completable;
+
+import com.thunisoft.t3.concurrent.decorator.WrappedTask;
+import com.thunisoft.t3.concurrent.executor.ManagedBlockers;
+import com.thunisoft.t3.concurrent.executor.ResizableThreadPoolTaskExecutor;
+import com.thunisoft.t3.concurrent.limit.LimitedExecutor;
+import net.tascalate.concurrent.Promise;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Description:<b>线程池任务中等待同一线程池子任务的处理</b>
+ * 线程池任务中通过CompletableHelper提交子任务后再等待其结果时，尚未开始执行的子任务由等待线程直接执行（帮助执行），
+ * 仍需阻塞时thread-pool类型的线程池在队列中有任务排队时临时补偿一个线程，fork-join类型由ForkJoinPool补偿，
+ * 避免全部线程都在等待排在自身之后的子任务而互相等待；非线程池任务中等待时直接阻塞，不产生额外开销
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+final class NestedJoin {
+
+    /** 当前线程正在执行的CompletableHelper任务，记录该任务提交的子任务 **/
+    private static final ThreadLocal<Frame> FRAME = new ThreadLocal<>();
+
+    private NestedJoin() {
+    }
+
+    /**
+     * Description:<b>等待Promise完成</b>
+     * 线程池任务中先帮助执行awaited中由当前任务提交且尚未开始的子任务，再阻塞等待
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param target 需等待的Promise，如Promises.all的结果
+     * @param awaited target所等待的子任务，帮助执行时按顺序处理
+     * @return target的结果
+     */
+    static <T> T join(Promise<T> target,
+            Collection<? extends Promise<?>> awaited) {
+        Frame frame = FRAME.get();
+        if (frame == null || target.isDone()) {
+            return target.join();
+        }
+        for (Promise<?> promise : awaited) {
+            if (target.isDone()) {
+                break;
+            }
+            frame.help(promise);
+        }
+        return block(frame, target);
+    }
+
+    /**
+     * 阻塞等待，线程池中有任务排队时补偿线程
+     */
+    private static <T> T block(Frame frame, Promise<T> target) {
+        if (target.isDone()) {
+            return target.join();
+        }
+        if (Thread.currentThread() instanceof ForkJoinWorkerThread) {
+            return ManagedBlockers.block(target::join);
+        }
+        if (!(frame.pool instanceof ResizableThreadPoolTaskExecutor)) {
+            return target.join();
+        }
+        ResizableThreadPoolTaskExecutor pool = (ResizableThreadPoolTaskExecutor) frame.pool;
+        if (!pool.compensate()) {
+            return target.join();
+        }
+        try {
+            return target.join();
+        } finally {
+            pool.releaseCompensation();
+        }
+    }
+
+    /**
+     * Description:<b>提交到线程池的CompletableHelper任务</b>
+     * 作为Executor传给CompletableTask，第一次提交的是任务本身，之后不指定线程池的xxxAsync阶段直接转交线程池；
+     * 线程池执行与等待线程帮助执行通过CAS争抢，任务只执行一次；被帮助执行后线程池中的执行为空操作，不计入耗时及并发限制的采样
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     */
+    static final class ForkedTask implements Executor, WrappedTask {
+
+        private static final int NEW = 0;
+
+        private static final int POOLED = 1;
+
+        private static final int INLINED = 2;
+
+        private final Executor executor;
+
+        /** 执行任务的线程池，不含并发限制等外层包装 **/
+        private final Executor pool;
+
+        /** 由谁执行，NEW、POOLED或INLINED **/
+        private final AtomicInteger state = new AtomicInteger(NEW);
+
+        private Runnable task;
+
+        ForkedTask(Executor executor) {
+            this.executor = executor;
+            this.pool = executor instanceof LimitedExecutor ?
+                    ((LimitedExecutor) executor).getDelegate() :
+                    executor;
+        }
+
+        /**
+         * Description:<b>登记为当前任务的子任务</b>
+         * 当前线程不在执行CompletableHelper任务时不登记
+         *
+         * @author LKL
+         * @since 2026-10-18 23:59
+         * @param promise 返回给调用方的Promise
+         * @return promise本身
+         */
+        <U> Promise<U> fork(Promise<U> promise) {
+            Frame frame = FRAME.get();
+            if (frame != null) {
+                frame.fork(promise, this);
+            }
+            return promise;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            if (task == null) {
+                task = command;
+                executor.execute(this);
+            } else {
+                executor.execute(command);
+            }
+        }
+
+        @Override
+        public void run() {
+            if (state.compareAndSet(NEW, POOLED)) {
+                runInFrame();
+            }
+        }
+
+        /**
+         * @param owner 等待线程正在执行的任务
+         * @return 是否由当前线程执行，线程池已开始执行时返回false
+         */
+        private boolean runInline(Frame owner) {
+            if (task == null || !state.compareAndSet(NEW, INLINED)) {
+                return false;
+            }
+            boolean interrupted = Thread.currentThread().isInterrupted();
+            runInFrame();
+            if (!interrupted && isCancelled(task) && !isCancelled(owner.task)) {
+                // 子任务被取消时中断的是当前线程，只清除该中断标记；外层任务也被取消时保留，不吞掉外层的取消
+                Thread.interrupted();
+            }
+            return true;
+        }
+
+        private void runInFrame() {
+            Frame previous = FRAME.get();
+            FRAME.set(new Frame(pool, task));
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    FRAME.remove();
+                } else {
+                    FRAME.set(previous);
+                }
+            }
+        }
+
+        @Override
+        public Runnable getDelegate() {
+            return task;
+        }
+
+        @Override
+        public boolean isRunElsewhere() {
+            return state.get() == INLINED;
+        }
+
+        private static boolean isCancelled(Runnable task) {
+            return task instanceof Future && ((Future<?>) task).isCancelled();
+        }
+    }
+
+    /**
+     * 正在执行的任务及其提交的子任务，只由执行任务的线程访问
+     */
+    private static final class Frame {
+
+        private final Executor pool;
+
+        /** 正在执行的任务，通常是CompletableTask **/
+        private final Runnable task;
+
+        private Map<Promise<?>, ForkedTask> forked;
+
+        private Frame(Executor pool, Runnable task) {
+            this.pool = pool;
+            this.task = task;
+        }
+
+        private void fork(Promise<?> promise, ForkedTask task) {
+            if (forked == null) {
+                forked = new IdentityHashMap<>();
+            }
+            forked.put(promise, task);
+        }
+
+        private void help(Promise<?> promise) {
+            ForkedTask task = forked == null ? null : forked.remove(promise);
+            if (task != null && !promise.isDone()) {
+                task.runInline(this);
+            }
+        }
+    }
+}
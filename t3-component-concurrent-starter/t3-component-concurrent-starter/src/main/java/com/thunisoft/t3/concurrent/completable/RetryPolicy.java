@@ -0,0 +1,238 @@
+package com.thunisoft.t3.concurrent.completable;
+
+import com.thunisoft.t3.concurrent.constant.ThreadPoolConstants;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * Description:<b>重试参数</b>
+ * 用于CompletableHelper.retry，如：
+ * RetryPolicy.defaults().maxAttempts(5).backoff(Duration.ofMillis(200), Duration.ofSeconds(5)).retryOn(IOException.class).timeout(Duration.ofSeconds(10))
+ * 第n次重试前等待initialBackoff×multiplier^(n-1)，不超过maxBackoff，再按jitter随机缩短，避免大量调用同时重试
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+public class RetryPolicy {
+
+    /** 默认最多调用次数 **/
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+    /**
+     * 最多调用次数，含第一次调用，默认3
+     */
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+
+    /**
+     * 第一次重试前的等待时间，默认100毫秒
+     */
+    private Duration initialBackoff = Duration.ofMillis(100);
+
+    /**
+     * 最长等待时间，默认10秒
+     */
+    private Duration maxBackoff = Duration.ofSeconds(10);
+
+    /**
+     * 等待时间的增长倍数，默认2
+     */
+    private double multiplier = 2;
+
+    /**
+     * 等待时间随机缩短的最大比例，取值[0,1]，默认0.2
+     */
+    private double jitter = 0.2;
+
+    /**
+     * 可重试的异常，默认除取消外的全部Exception
+     */
+    private Predicate<? super Throwable> retryOn = e -> e instanceof Exception
+            && !(e instanceof CancellationException);
+
+    /**
+     * 线程池名称，默认defaultThreadPool
+     */
+    private String threadPoolName = ThreadPoolConstants.C_KEY_THREAD_POOL_DEFAULT;
+
+    /**
+     * 全部调用及等待的总时长，默认不限制，当前线程已有更早的截止时间时以更早的为准
+     */
+    private Duration timeout;
+
+    /**
+     * @return 默认参数
+     */
+    public static RetryPolicy defaults() {
+        return new RetryPolicy();
+    }
+
+    /**
+     * @param maxAttempts 最多调用次数，含第一次调用
+     * @return 当前参数对象
+     */
+    public RetryPolicy maxAttempts(int maxAttempts) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException(
+                    "maxAttempts应大于0：" + maxAttempts);
+        }
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    /**
+     * @param initialBackoff 第一次重试前的等待时间
+     * @param maxBackoff 最长等待时间
+     * @return 当前参数对象
+     */
+    public RetryPolicy backoff(Duration initialBackoff, Duration maxBackoff) {
+        if (initialBackoff == null || initialBackoff.isNegative()
+                || maxBackoff == null
+                || maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new IllegalArgumentException(
+                    "等待时间应满足0<=initialBackoff<=maxBackoff：" + initialBackoff
+                            + "，" + maxBackoff);
+        }
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        return this;
+    }
+
+    /**
+     * @param multiplier 等待时间的增长倍数，为1时固定间隔
+     * @return 当前参数对象
+     */
+    public RetryPolicy multiplier(double multiplier) {
+        if (multiplier < 1) {
+            throw new IllegalArgumentException(
+                    "multiplier不能小于1：" + multiplier);
+        }
+        this.multiplier = multiplier;
+        return this;
+    }
+
+    /**
+     * @param jitter 等待时间随机缩短的最大比例，为0时不随机
+     * @return 当前参数对象
+     */
+    public RetryPolicy jitter(double jitter) {
+        if (jitter < 0 || jitter > 1) {
+            throw new IllegalArgumentException("jitter应在[0,1]之间：" + jitter);
+        }
+        this.jitter = jitter;
+        return this;
+    }
+
+    /**
+     * @param retryOn 判断异常是否可重试
+     * @return 当前参数对象
+     */
+    public RetryPolicy retryOn(Predicate<? super Throwable> retryOn) {
+        this.retryOn = retryOn;
+        return this;
+    }
+
+    /**
+     * @param types 可重试的异常类型，含子类
+     * @return 当前参数对象
+     */
+    @SafeVarargs
+    public final RetryPolicy retryOn(Class<? extends Throwable>... types) {
+        this.retryOn = e -> {
+            for (Class<? extends Throwable> type : types) {
+                if (type.isInstance(e)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+        return this;
+    }
+
+    /**
+     * @param threadPoolName 线程池名称
+     * @return 当前参数对象
+     */
+    public RetryPolicy threadPoolName(String threadPoolName) {
+        this.threadPoolName = threadPoolName;
+        return this;
+    }
+
+    /**
+     * @param timeout 全部调用及等待的总时长
+     * @return 当前参数对象
+     */
+    public RetryPolicy timeout(Duration timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * @return the maxAttempts
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * @return the initialBackoff
+     */
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    /**
+     * @return the maxBackoff
+     */
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    /**
+     * @return the multiplier
+     */
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    /**
+     * @return the jitter
+     */
+    public double getJitter() {
+        return jitter;
+    }
+
+    /**
+     * @return the threadPoolName
+     */
+    public String getThreadPoolName() {
+        return threadPoolName;
+    }
+
+    /**
+     * @return the timeout
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    boolean isRetryable(Throwable error) {
+        return retryOn.test(error);
+    }
+
+    /**
+     * @param retry 第几次重试，从1开始
+     * @return 重试前的等待纳秒
+     */
+    long backoffNanos(int retry) {
+        double nanos = initialBackoff.toNanos()
+                * Math.pow(multiplier, retry - 1);
+        nanos = Math.min(nanos, maxBackoff.toNanos());
+        if (jitter > 0) {
+            nanos *= 1 - jitter * ThreadLocalRandom.current().nextDouble();
+        }
+        return (long) nanos;
+    }
+}
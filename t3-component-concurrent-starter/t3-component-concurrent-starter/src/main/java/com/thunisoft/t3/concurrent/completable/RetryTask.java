@@ -0,0 +1,139 @@
+package com.thunisoft.t3.concurrent.completable;
+
+import com.thunisoft.t3.concurrent.context.ContextSnapshot;
+import com.thunisoft.t3.concurrent.deadline.Deadline;
+import com.thunisoft.t3.concurrent.deadline.DeadlineHolder;
+import com.thunisoft.t3.concurrent.timer.Timeout;
+import net.tascalate.concurrent.CompletablePromise;
+import net.tascalate.concurrent.Promise;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Description:<b>一次带重试的调用</b>
+ * 调用失败且可重试时，由定时器在等待时间后重新提交到线程池，等待期间不占用线程；
+ * 每次提交前还原调用线程的上下文，并在其中重新捕获供下一次使用；剩余截止时间不足以等待时不再重试
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+final class RetryTask<U> {
+
+    private final Supplier<U> supplier;
+
+    private final RetryPolicy policy;
+
+    private final CompletableFuture<U> result = new CompletableFuture<>();
+
+    private Deadline deadline;
+
+    /** 下一次提交时还原的上下文，快照只能使用一次 **/
+    private volatile ContextSnapshot snapshot;
+
+    /** 调用依次发生，不会并发修改 **/
+    private volatile int attempts;
+
+    private volatile Promise<U> current;
+
+    private volatile Timeout timer;
+
+    RetryTask(Supplier<U> supplier, RetryPolicy policy) {
+        this.supplier = supplier;
+        this.policy = policy;
+    }
+
+    Promise<U> start() {
+        // 调用方取消时取消进行中的调用及等待
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                Timeout pending = timer;
+                if (pending != null) {
+                    pending.cancel();
+                }
+                Promise<U> attempt = current;
+                if (attempt != null) {
+                    attempt.cancel(true);
+                }
+            }
+        });
+        if (policy.getTimeout() == null) {
+            begin();
+        } else {
+            DeadlineHolder.callWithin(policy.getTimeout(), () -> {
+                begin();
+                return null;
+            });
+        }
+        return new CompletablePromise<>(result);
+    }
+
+    private void begin() {
+        deadline = DeadlineHolder.getDeadline();
+        snapshot = ContextSnapshot.capture();
+        launch();
+    }
+
+    private void launch() {
+        attempts++;
+        Promise<U> attempt;
+        try {
+            attempt = CompletableHelper.promise(supplier,
+                    policy.getThreadPoolName());
+        } catch (RuntimeException e) {
+            // 线程池拒绝时同样按重试策略处理
+            onFailure(e);
+            return;
+        }
+        current = attempt;
+        if (result.isDone()) {
+            attempt.cancel(true);
+            return;
+        }
+        attempt.whenComplete((value, error) -> {
+            if (error == null) {
+                result.complete(value);
+            } else {
+                onFailure(error);
+            }
+        });
+    }
+
+    private void onFailure(Throwable error) {
+        if (result.isDone()) {
+            return;
+        }
+        Throwable cause = error instanceof CompletionException
+                && error.getCause() != null ? error.getCause() : error;
+        if (attempts >= policy.getMaxAttempts()
+                || !policy.isRetryable(cause)) {
+            result.completeExceptionally(cause);
+            return;
+        }
+        long delayNanos = policy.backoffNanos(attempts);
+        if (deadline != null && deadline.remainingNanos() <= delayNanos) {
+            result.completeExceptionally(cause);
+            return;
+        }
+        timer = Timers.schedule(this::retry, delayNanos);
+        if (result.isDone()) {
+            timer.cancel();
+        }
+    }
+
+    private void retry() {
+        if (result.isDone()) {
+            return;
+        }
+        ContextSnapshot context = snapshot;
+        if (context == null) {
+            launch();
+        } else {
+            context.run(() -> {
+                snapshot = ContextSnapshot.capture();
+                launch();
+            });
+        }
+    }
+}
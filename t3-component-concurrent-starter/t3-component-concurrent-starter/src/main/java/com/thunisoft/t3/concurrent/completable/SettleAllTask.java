@@ -0,0 +1,144 @@
+package com.thunisoft.t3.concurrent.completable;
+
+import com.thunisoft.t3.concurrent.timer.Timeout;
+import net.tascalate.concurrent.Promise;
+import net.tascalate.concurrent.Promises;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Description:<b>部分结果汇总</b>
+ * 每个元素结束时按下标写入其结果，全部写入后以输入顺序的列表完成；超时、失败数达到failFastAfter或被取消时，
+ * 未结束的元素直接记为对应状态并取消其任务。整个过程只记录状态，不包装、不合并异常，
+ * 部分元素失败不会使结果整体失败
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+final class SettleAllTask<T> {
+
+    private final List<Promise<? extends T>> promises;
+
+    private final SettleOptions options;
+
+    private final AtomicReferenceArray<Settled<T>> slots;
+
+    private final AtomicInteger remaining;
+
+    private final AtomicInteger failures = new AtomicInteger();
+
+    private final CompletableFuture<List<Settled<T>>> result = new CompletableFuture<>();
+
+    private volatile Timeout timeout;
+
+    SettleAllTask(Collection<? extends Promise<? extends T>> promises,
+            SettleOptions options) {
+        this.promises = new ArrayList<>(promises);
+        this.options = options;
+        this.slots = new AtomicReferenceArray<>(this.promises.size());
+        this.remaining = new AtomicInteger(this.promises.size());
+    }
+
+    Promise<List<Settled<T>>> start() {
+        if (promises.isEmpty()) {
+            result.complete(new ArrayList<>());
+            return Promises.from(result);
+        }
+        if (options.getTimeout() != null) {
+            timeout = Timers.schedule(() -> abort(Settled.Status.TIMED_OUT),
+                    options.getTimeout().toNanos());
+        }
+        result.whenComplete((value, error) -> {
+            Timeout handle = timeout;
+            if (handle != null) {
+                handle.cancel();
+            }
+            if (error != null) {
+                // 返回的Promise被取消
+                abort(Settled.Status.CANCELLED);
+            }
+        });
+        for (int i = 0; i < promises.size() && !result.isDone(); i++) {
+            int index = i;
+            promises.get(i).whenComplete((value, error) -> {
+                Settled<T> settled = error == null ?
+                        Settled.succeeded(value) :
+                        toSettled(error);
+                if (settle(index, settled) && countsAsFailure(settled)
+                        && failures.incrementAndGet() == options
+                        .getFailFastAfter()) {
+                    abort(Settled.Status.CANCELLED);
+                }
+            });
+        }
+        return Promises.from(result);
+    }
+
+    /**
+     * @return 是否写入，该元素已有结果时返回false
+     */
+    private boolean settle(int index, Settled<T> settled) {
+        if (!slots.compareAndSet(index, null, settled)) {
+            return false;
+        }
+        if (remaining.decrementAndGet() == 0) {
+            result.complete(toList());
+        }
+        return true;
+    }
+
+    private boolean countsAsFailure(Settled<T> settled) {
+        return options.getFailFastAfter() > 0
+                && (settled.getStatus() == Settled.Status.FAILED
+                || settled.getStatus() == Settled.Status.TIMED_OUT);
+    }
+
+    /**
+     * 未结束的元素记为status，先写入结果再取消任务，取消产生的完成回调不再覆盖
+     */
+    private void abort(Settled.Status status) {
+        List<Promise<? extends T>> unfinished = new ArrayList<>();
+        for (int i = 0; i < promises.size(); i++) {
+            if (slots.get(i) == null) {
+                settle(i, Settled.of(status));
+                unfinished.add(promises.get(i));
+            }
+        }
+        if (options.isCancelRunning()) {
+            unfinished.forEach(promise -> promise.cancel(true));
+        }
+    }
+
+    private static <T> Settled<T> toSettled(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException
+                || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof CancellationException) {
+            return Settled.of(Settled.Status.CANCELLED);
+        }
+        if (cause instanceof TimeoutException) {
+            return Settled.timedOut(cause);
+        }
+        return Settled.failed(cause);
+    }
+
+    private List<Settled<T>> toList() {
+        List<Settled<T>> list = new ArrayList<>(slots.length());
+        for (int i = 0; i < slots.length(); i++) {
+            list.add(slots.get(i));
+        }
+        return list;
+    }
+}
@@ -0,0 +1,91 @@
+package com.thunisoft.t3.concurrent.completable;
+
+import java.time.Duration;
+
+/**
+ * Description:<b>部分结果汇总参数</b>
+ * 用于CompletableHelper.settleAll，如：
+ * SettleOptions.defaults().timeout(Duration.ofMillis(800)).failFastAfter(3)
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+public class SettleOptions {
+
+    /**
+     * 等待的最长时间，默认不限制；到达时未完成的元素记为TIMED_OUT
+     */
+    private Duration timeout;
+
+    /**
+     * 失败（含超时）达到该数量时不再等待，未完成的元素记为CANCELLED，默认0即不提前结束
+     */
+    private int failFastAfter;
+
+    /**
+     * 超时或提前结束时是否以中断方式取消未完成的任务，默认true
+     */
+    private boolean cancelRunning = true;
+
+    /**
+     * @return 默认参数
+     */
+    public static SettleOptions defaults() {
+        return new SettleOptions();
+    }
+
+    /**
+     * @param timeout 等待的最长时间
+     * @return 当前参数对象
+     */
+    public SettleOptions timeout(Duration timeout) {
+        if (timeout != null && timeout.isNegative()) {
+            throw new IllegalArgumentException("timeout不能为负数：" + timeout);
+        }
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * @param failFastAfter 失败达到该数量时不再等待，0为不提前结束
+     * @return 当前参数对象
+     */
+    public SettleOptions failFastAfter(int failFastAfter) {
+        if (failFastAfter < 0) {
+            throw new IllegalArgumentException(
+                    "failFastAfter不能为负数：" + failFastAfter);
+        }
+        this.failFastAfter = failFastAfter;
+        return this;
+    }
+
+    /**
+     * @param cancelRunning 超时或提前结束时是否取消未完成的任务
+     * @return 当前参数对象
+     */
+    public SettleOptions cancelRunning(boolean cancelRunning) {
+        this.cancelRunning = cancelRunning;
+        return this;
+    }
+
+    /**
+     * @return the timeout
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * @return the failFastAfter
+     */
+    public int getFailFastAfter() {
+        return failFastAfter;
+    }
+
+    /**
+     * @return the cancelRunning
+     */
+    public boolean isCancelRunning() {
+        return cancelRunning;
+    }
+}
@@ -0,0 +1,113 @@
+package com.thunisoft.t3.concurrent.completable;
+
+/**
+ * Description:<b>单个元素的结束结果</b>
+ * CompletableHelper.settleAll的返回元素，成功时有值，失败时有原因；
+ * 超时、取消及提前结束只记录状态，不创建异常对象
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+public final class Settled<T> {
+
+    /**
+     * Description:<b>元素的结束状态</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     */
+    public enum Status {
+
+        /** 成功 **/
+        SUCCEEDED,
+
+        /** 失败，原因见getFailure **/
+        FAILED,
+
+        /** 已取消，含失败数达到failFastAfter后未完成的元素 **/
+        CANCELLED,
+
+        /** 超过等待时间未完成，或任务自身以TimeoutException结束 **/
+        TIMED_OUT
+    }
+
+    private static final Settled<?> CANCELLED = new Settled<>(
+            Status.CANCELLED, null, null);
+
+    private static final Settled<?> TIMED_OUT = new Settled<>(
+            Status.TIMED_OUT, null, null);
+
+    private final Status status;
+
+    private final T value;
+
+    private final Throwable failure;
+
+    private Settled(Status status, T value, Throwable failure) {
+        this.status = status;
+        this.value = value;
+        this.failure = failure;
+    }
+
+    static <T> Settled<T> succeeded(T value) {
+        return new Settled<>(Status.SUCCEEDED, value, null);
+    }
+
+    static <T> Settled<T> failed(Throwable failure) {
+        return new Settled<>(Status.FAILED, null, failure);
+    }
+
+    static <T> Settled<T> timedOut(Throwable failure) {
+        return failure == null ?
+                of(Status.TIMED_OUT) :
+                new Settled<>(Status.TIMED_OUT, null, failure);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Settled<T> of(Status status) {
+        return (Settled<T>) (status == Status.TIMED_OUT ? TIMED_OUT : CANCELLED);
+    }
+
+    /**
+     * @return 结束状态
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * @return 是否成功
+     */
+    public boolean isSuccess() {
+        return status == Status.SUCCEEDED;
+    }
+
+    /**
+     * @return 成功时的结果，其余状态为null
+     */
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * @param other 未成功时的替代值
+     * @return 成功时的结果，其余状态返回other
+     */
+    public T getOrElse(T other) {
+        return status == Status.SUCCEEDED ? value : other;
+    }
+
+    /**
+     * @return 失败原因，已去掉CompletionException包装；取消及等待超时为null
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return status == Status.SUCCEEDED ?
+                status + "(" + value + ")" :
+                failure == null ? status.toString() : status + "(" + failure + ")";
+    }
+}
@@ -0,0 +1,164 @@
+package com.thunisoft.t3.concurrent.completable;
+
+import net.tascalate.concurrent.CompletablePromise;
+import net.tascalate.concurrent.Promise;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Description:<b>相同key的并发异步调用合并为一次</b>
+ * 同一时刻以相同key发起的调用共享一个执行中的任务，完成后即移除，不缓存结果；
+ * 每个调用方得到独立的Promise，取消只影响自身，全部调用方都取消后才以中断方式取消共享的任务
+ *
+ * @author LKL
+ * @since 2026-10-18 23:20
+ **/
+final class SingleFlight {
+
+    /** 执行中的调用，ConcurrentHashMap按桶加锁，命中时get不加锁 **/
+    private static final ConcurrentMap<Object, Flight<?>> FLIGHTS = new ConcurrentHashMap<>();
+
+    private SingleFlight() {
+    }
+
+    /**
+     * Description:<b>加入或发起key对应的调用</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:20
+     * @param key 调用的key，需正确实现equals、hashCode
+     * @param launcher 无执行中的调用时用于提交任务
+     * @return 当前调用方独立的Promise
+     */
+    @SuppressWarnings("unchecked")
+    static <U> Promise<U> join(Object key, Supplier<Promise<U>> launcher) {
+        while (true) {
+            Flight<U> flight = (Flight<U>) FLIGHTS.get(key);
+            if (flight == null) {
+                Flight<U> created = new Flight<>(key);
+                flight = (Flight<U>) FLIGHTS.putIfAbsent(key, created);
+                if (flight == null) {
+                    // 先占位再提交任务，保证同一key只提交一次
+                    Promise<U> promise = created.attach();
+                    created.launch(launcher);
+                    return promise;
+                }
+            }
+            Promise<U> promise = flight.attach();
+            if (promise != null) {
+                return promise;
+            }
+            // 全部调用方都已取消，该调用作废，移除后重新发起
+            FLIGHTS.remove(key, flight);
+        }
+    }
+
+    /**
+     * Description:<b>执行中的调用数</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:20
+     * @return 执行中的调用数
+     */
+    static int size() {
+        return FLIGHTS.size();
+    }
+
+    private static final class Flight<U> {
+
+        private final Object key;
+
+        /** 未取消的调用方数，降为0后置为-1，不可再加入 **/
+        private final AtomicInteger refs = new AtomicInteger();
+
+        /** 共享任务的结果，各调用方均由此完成 **/
+        private final CompletableFuture<U> result = new CompletableFuture<>();
+
+        private volatile Promise<U> task;
+
+        private Flight(Object key) {
+            this.key = key;
+        }
+
+        private Promise<U> attach() {
+            int current;
+            do {
+                current = refs.get();
+                if (current < 0) {
+                    return null;
+                }
+            } while (!refs.compareAndSet(current, current + 1));
+            Member member = new Member();
+            result.whenComplete((v, e) -> {
+                if (e == null) {
+                    member.complete(v);
+                } else {
+                    member.completeExceptionally(e);
+                }
+            });
+            return new CompletablePromise<>(member);
+        }
+
+        private void launch(Supplier<Promise<U>> launcher) {
+            Promise<U> promise;
+            try {
+                promise = launcher.get();
+            } catch (RuntimeException e) {
+                // 提交被拒绝等情况，同样通知已加入的调用方
+                FLIGHTS.remove(key, this);
+                result.completeExceptionally(e);
+                throw e;
+            }
+            task = promise;
+            promise.whenComplete((v, e) -> {
+                FLIGHTS.remove(key, this);
+                if (e == null) {
+                    result.complete(v);
+                } else {
+                    result.completeExceptionally(e);
+                }
+            });
+            if (refs.get() < 0) {
+                // 提交前调用方已全部取消
+                promise.cancel(true);
+            }
+        }
+
+        private void release() {
+            int current;
+            do {
+                current = refs.get();
+                if (current <= 0) {
+                    return;
+                }
+            } while (!refs.compareAndSet(current,
+                    current == 1 ? -1 : current - 1));
+            if (current == 1) {
+                FLIGHTS.remove(key, this);
+                Promise<U> promise = task;
+                if (promise != null) {
+                    promise.cancel(true);
+                }
+            }
+        }
+
+        /**
+         * 调用方持有的Future，cancel时只释放自身的引用
+         */
+        private final class Member extends CompletableFuture<U> {
+
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                boolean cancelled = super.cancel(mayInterruptIfRunning);
+                if (cancelled) {
+                    release();
+                }
+                return cancelled;
+            }
+        }
+    }
+}
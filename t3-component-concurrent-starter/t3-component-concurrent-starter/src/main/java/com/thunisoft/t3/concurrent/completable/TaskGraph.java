@@ -0,0 +1,118 @@
+package com.thunisoft.t3.concurrent.completable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Description:<b>任务依赖图</b>
+ * 声明具名任务及其依赖，由CompletableHelper.runGraph在线程池中执行，每个任务在依赖全部完成后立即提交，如：
+ * new TaskGraph()
+ *     .task("user", () -> userApi.get(id))
+ *     .task("orders", () -> orderApi.list(id))
+ *     .task("page", r -> assemble(r.get("user"), r.get("orders")), "user", "orders")
+ * 依赖的任务需先声明，因此不会成环；定义可复用，每次执行相互独立
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+public class TaskGraph {
+
+    /** 按声明顺序，下标即任务序号 **/
+    private final List<Node> nodes = new ArrayList<>();
+
+    private final Map<String, Node> byName = new HashMap<>();
+
+    /**
+     * @param name 任务名称
+     * @param supplier 没有依赖的任务
+     * @return 当前任务图
+     */
+    public <R> TaskGraph task(String name, Supplier<R> supplier) {
+        return task(name, results -> supplier.get());
+    }
+
+    /**
+     * @param name 任务名称
+     * @param function 任务逻辑，入参可获取依赖任务的结果
+     * @param dependsOn 依赖的任务名称，需已声明
+     * @return 当前任务图
+     */
+    public <R> TaskGraph task(String name,
+            Function<TaskResults, R> function, String... dependsOn) {
+        if (name == null || byName.containsKey(name)) {
+            throw new IllegalArgumentException("任务名称为空或重复：" + name);
+        }
+        int[] dependencies = new int[dependsOn.length];
+        for (int i = 0; i < dependsOn.length; i++) {
+            Node dependency = byName.get(dependsOn[i]);
+            if (dependency == null) {
+                throw new IllegalArgumentException(
+                        "任务[" + name + "]依赖的任务[" + dependsOn[i] + "]未声明");
+            }
+            dependencies[i] = dependency.index;
+        }
+        Node node = new Node(name, nodes.size(), function, dependencies);
+        for (int dependency : dependencies) {
+            nodes.get(dependency).dependents.add(node.index);
+        }
+        nodes.add(node);
+        byName.put(name, node);
+        return this;
+    }
+
+    /**
+     * @return 任务数
+     */
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * @return 按声明顺序的任务名称
+     */
+    public List<String> getTaskNames() {
+        List<String> names = new ArrayList<>(nodes.size());
+        for (Node node : nodes) {
+            names.add(node.name);
+        }
+        return Collections.unmodifiableList(names);
+    }
+
+    Node[] nodes() {
+        return nodes.toArray(new Node[0]);
+    }
+
+    int indexOf(String name) {
+        Node node = byName.get(name);
+        if (node == null) {
+            throw new IllegalArgumentException("任务[" + name + "]不存在");
+        }
+        return node.index;
+    }
+
+    static final class Node {
+
+        final String name;
+
+        final int index;
+
+        final Function<TaskResults, ?> function;
+
+        final int[] dependencies;
+
+        final List<Integer> dependents = new ArrayList<>();
+
+        Node(String name, int index, Function<TaskResults, ?> function,
+                int[] dependencies) {
+            this.name = name;
+            this.index = index;
+            this.function = function;
+            this.dependencies = dependencies;
+        }
+    }
+}
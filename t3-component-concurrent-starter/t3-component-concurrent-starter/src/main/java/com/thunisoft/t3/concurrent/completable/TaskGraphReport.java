@@ -0,0 +1,165 @@
+package com.thunisoft.t3.concurrent.completable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Description:<b>任务图的一次执行报告</b>
+ * 记录每个任务的提交、开始、结束时间（相对执行开始）及关键路径，关键路径从最晚结束的任务起，
+ * 逐个取其最晚结束的依赖，即决定整体耗时的依赖链，优化其余任务不会缩短整体耗时
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+public class TaskGraphReport {
+
+    private final List<NodeTiming> nodes;
+
+    private final List<String> criticalPath;
+
+    private final long totalNanos;
+
+    TaskGraphReport(List<NodeTiming> nodes, List<String> criticalPath,
+            long totalNanos) {
+        this.nodes = Collections.unmodifiableList(nodes);
+        this.criticalPath = Collections.unmodifiableList(criticalPath);
+        this.totalNanos = totalNanos;
+    }
+
+    /**
+     * @return 按声明顺序的各任务耗时
+     */
+    public List<NodeTiming> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * @return 关键路径上的任务名称，从最先开始的任务到最晚结束的任务
+     */
+    public List<String> getCriticalPath() {
+        return criticalPath;
+    }
+
+    /**
+     * @return 整体耗时纳秒
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("total ").append(millis(totalNanos))
+                .append("ms, critical path ")
+                .append(String.join(" -> ", criticalPath));
+        for (NodeTiming node : nodes) {
+            builder.append('\n').append(node);
+        }
+        return builder.toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.1f", nanos / (double) TimeUnit.MILLISECONDS
+                .toNanos(1));
+    }
+
+    /**
+     * 任务状态
+     */
+    public enum Status {
+        /** 成功 **/
+        SUCCEEDED,
+        /** 失败 **/
+        FAILED,
+        /** 依赖的任务失败或执行被取消，未执行 **/
+        SKIPPED,
+        /** 执行中被取消 **/
+        CANCELLED
+    }
+
+    /**
+     * 单个任务的耗时，未执行的任务时间均为-1
+     */
+    public static class NodeTiming {
+
+        private final String name;
+
+        private final Status status;
+
+        private final long submitNanos;
+
+        private final long startNanos;
+
+        private final long endNanos;
+
+        NodeTiming(String name, Status status, long submitNanos,
+                long startNanos, long endNanos) {
+            this.name = name;
+            this.status = status;
+            this.submitNanos = submitNanos;
+            this.startNanos = startNanos;
+            this.endNanos = endNanos;
+        }
+
+        /**
+         * @return the name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the status
+         */
+        public Status getStatus() {
+            return status;
+        }
+
+        /**
+         * @return 提交到线程池的时间，相对执行开始的纳秒
+         */
+        public long getSubmitNanos() {
+            return submitNanos;
+        }
+
+        /**
+         * @return 开始执行的时间，相对执行开始的纳秒，排队中被取消时为-1
+         */
+        public long getStartNanos() {
+            return startNanos;
+        }
+
+        /**
+         * @return 结束时间，相对执行开始的纳秒
+         */
+        public long getEndNanos() {
+            return endNanos;
+        }
+
+        /**
+         * @return 在线程池中排队的纳秒
+         */
+        public long getQueueNanos() {
+            return startNanos < 0 ? -1 : startNanos - submitNanos;
+        }
+
+        /**
+         * @return 执行的纳秒
+         */
+        public long getRunNanos() {
+            return startNanos < 0 ? -1 : endNanos - startNanos;
+        }
+
+        @Override
+        public String toString() {
+            if (startNanos < 0) {
+                return name + " " + status;
+            }
+            return name + " " + status + " start " + millis(startNanos)
+                    + "ms queue " + millis(getQueueNanos()) + "ms run "
+                    + millis(getRunNanos()) + "ms";
+        }
+    }
+}
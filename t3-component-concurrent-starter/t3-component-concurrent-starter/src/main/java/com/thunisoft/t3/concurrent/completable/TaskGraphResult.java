@@ -0,0 +1,86 @@
+package com.thunisoft.t3.concurrent.completable;
+
+import java.util.concurrent.CompletionException;
+
+/**
+ * Description:<b>任务图的执行结果</b>
+ * 全部任务结束后得到，部分任务失败时其余任务的结果仍可获取，可据此降级
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+public class TaskGraphResult implements TaskResults {
+
+    private final TaskGraph graph;
+
+    private final Object[] values;
+
+    private final Throwable[] errors;
+
+    private final TaskGraphReport.Status[] statuses;
+
+    private final TaskGraphReport report;
+
+    TaskGraphResult(TaskGraph graph, Object[] values, Throwable[] errors,
+            TaskGraphReport.Status[] statuses, TaskGraphReport report) {
+        this.graph = graph;
+        this.values = values;
+        this.errors = errors;
+        this.statuses = statuses;
+        this.report = report;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(String name) {
+        int index = index(name);
+        if (statuses[index] != TaskGraphReport.Status.SUCCEEDED) {
+            throw new CompletionException(
+                    "任务[" + name + "]" + statuses[index], errors[index]);
+        }
+        return (T) values[index];
+    }
+
+    /**
+     * @param name 任务名称
+     * @return 任务状态
+     */
+    public TaskGraphReport.Status getStatus(String name) {
+        return statuses[index(name)];
+    }
+
+    /**
+     * @param name 任务名称
+     * @return 任务失败的异常，未执行的任务为导致其未执行的异常，成功时为null
+     */
+    public Throwable getError(String name) {
+        return errors[index(name)];
+    }
+
+    /**
+     * @return 是否全部任务都成功
+     */
+    public boolean isSuccess() {
+        for (TaskGraphReport.Status status : statuses) {
+            if (status != TaskGraphReport.Status.SUCCEEDED) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int index(String name) {
+        int index = graph.indexOf(name);
+        if (index >= values.length) {
+            throw new IllegalArgumentException("任务[" + name + "]在本次执行后才声明");
+        }
+        return index;
+    }
+
+    /**
+     * @return 执行报告
+     */
+    public TaskGraphReport getReport() {
+        return report;
+    }
+}
@@ -0,0 +1,238 @@
+package com.thunisoft.t3.concurrent.completable;
+
+import net.tascalate.concurrent.CompletablePromise;
+import net.tascalate.concurrent.Promise;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Description:<b>任务图的一次执行</b>
+ * 每个任务记录未完成的依赖数，最后一个依赖成功时由完成该依赖的线程提交，此时仍在该依赖的上下文中；
+ * 任一依赖失败时该任务及其下游直接标记为未执行，与其无关的任务继续执行，全部结束后以结果整体完成
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+final class TaskGraphRun {
+
+    private static final int PENDING = 0;
+
+    private static final int RUNNING = 1;
+
+    private static final int SETTLED = 2;
+
+    private final TaskGraph graph;
+
+    private final TaskGraph.Node[] nodes;
+
+    private final String threadPoolName;
+
+    private final Object[] values;
+
+    private final Throwable[] errors;
+
+    private final TaskGraphReport.Status[] statuses;
+
+    private final long[] submitNanos;
+
+    private final long[] startNanos;
+
+    private final long[] endNanos;
+
+    private final AtomicInteger[] pendingDependencies;
+
+    private final AtomicIntegerArray states;
+
+    private final Promise<?>[] running;
+
+    private final AtomicInteger remaining;
+
+    private final CompletableFuture<TaskGraphResult> result = new CompletableFuture<>();
+
+    /** 传给任务函数的依赖结果 **/
+    private final TaskResults view = new TaskResults() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(String name) {
+            return (T) valueOf(name);
+        }
+    };
+
+    private long origin;
+
+    TaskGraphRun(TaskGraph graph, String threadPoolName) {
+        this.graph = graph;
+        this.nodes = graph.nodes();
+        this.threadPoolName = threadPoolName;
+        int size = nodes.length;
+        this.values = new Object[size];
+        this.errors = new Throwable[size];
+        this.statuses = new TaskGraphReport.Status[size];
+        this.submitNanos = new long[size];
+        this.startNanos = new long[size];
+        this.endNanos = new long[size];
+        this.pendingDependencies = new AtomicInteger[size];
+        this.states = new AtomicIntegerArray(size);
+        this.running = new Promise<?>[size];
+        this.remaining = new AtomicInteger(size);
+        for (int i = 0; i < size; i++) {
+            pendingDependencies[i] = new AtomicInteger(
+                    nodes[i].dependencies.length);
+            submitNanos[i] = -1;
+            startNanos[i] = -1;
+            endNanos[i] = -1;
+        }
+    }
+
+    Promise<TaskGraphResult> start() {
+        origin = System.nanoTime();
+        // 调用方取消时取消执行中的任务，未提交的任务不再提交
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                for (Promise<?> promise : running) {
+                    if (promise != null && !promise.isDone()) {
+                        promise.cancel(true);
+                    }
+                }
+            }
+        });
+        if (nodes.length == 0) {
+            result.complete(buildResult());
+        }
+        for (TaskGraph.Node node : nodes) {
+            if (node.dependencies.length == 0) {
+                submit(node.index);
+            }
+        }
+        return new CompletablePromise<>(result);
+    }
+
+    private void submit(int index) {
+        if (result.isDone()) {
+            skip(index, new CancellationException("任务图执行已取消"));
+            return;
+        }
+        if (!states.compareAndSet(index, PENDING, RUNNING)) {
+            return;
+        }
+        TaskGraph.Node node = nodes[index];
+        submitNanos[index] = System.nanoTime() - origin;
+        Promise<?> promise;
+        try {
+            promise = CompletableHelper.promise(() -> {
+                startNanos[index] = System.nanoTime() - origin;
+                return node.function.apply(view);
+            }, threadPoolName);
+        } catch (RuntimeException e) {
+            onComplete(index, null, e);
+            return;
+        }
+        running[index] = promise;
+        promise.whenComplete((value, error) -> onComplete(index, value, error));
+    }
+
+    private void onComplete(int index, Object value, Throwable error) {
+        endNanos[index] = System.nanoTime() - origin;
+        if (error == null) {
+            values[index] = value;
+            statuses[index] = TaskGraphReport.Status.SUCCEEDED;
+        } else {
+            Throwable cause = error instanceof CompletionException
+                    && error.getCause() != null ? error.getCause() : error;
+            errors[index] = cause;
+            statuses[index] = cause instanceof CancellationException ?
+                    TaskGraphReport.Status.CANCELLED :
+                    TaskGraphReport.Status.FAILED;
+        }
+        states.set(index, SETTLED);
+        for (int dependent : nodes[index].dependents) {
+            if (dependent >= nodes.length) {
+                // 执行开始后才声明的任务
+                continue;
+            }
+            if (error != null) {
+                skip(dependent, errors[index]);
+            } else if (pendingDependencies[dependent].decrementAndGet() == 0) {
+                submit(dependent);
+            }
+        }
+        settle();
+    }
+
+    private void skip(int index, Throwable cause) {
+        if (!states.compareAndSet(index, PENDING, SETTLED)) {
+            return;
+        }
+        errors[index] = cause;
+        statuses[index] = TaskGraphReport.Status.SKIPPED;
+        for (int dependent : nodes[index].dependents) {
+            if (dependent < nodes.length) {
+                skip(dependent, cause);
+            }
+        }
+        settle();
+    }
+
+    private void settle() {
+        if (remaining.decrementAndGet() == 0) {
+            result.complete(buildResult());
+        }
+    }
+
+    private Object valueOf(String name) {
+        int index = graph.indexOf(name);
+        if (index >= nodes.length || states.get(index) != SETTLED) {
+            throw new IllegalArgumentException("任务[" + name + "]未完成，应声明为依赖");
+        }
+        if (statuses[index] != TaskGraphReport.Status.SUCCEEDED) {
+            throw new CompletionException(
+                    "任务[" + name + "]" + statuses[index], errors[index]);
+        }
+        return values[index];
+    }
+
+    private TaskGraphResult buildResult() {
+        List<TaskGraphReport.NodeTiming> timings = new ArrayList<>(
+                nodes.length);
+        for (int i = 0; i < nodes.length; i++) {
+            timings.add(new TaskGraphReport.NodeTiming(nodes[i].name,
+                    statuses[i], submitNanos[i], startNanos[i], endNanos[i]));
+        }
+        TaskGraphReport report = new TaskGraphReport(timings, criticalPath(),
+                System.nanoTime() - origin);
+        return new TaskGraphResult(graph, values, errors, statuses, report);
+    }
+
+    /**
+     * 从最晚结束的任务起，逐个取最晚结束的依赖
+     */
+    private List<String> criticalPath() {
+        int last = -1;
+        for (int i = 0; i < nodes.length; i++) {
+            if (endNanos[i] >= 0 && (last < 0 || endNanos[i] > endNanos[last])) {
+                last = i;
+            }
+        }
+        List<String> path = new ArrayList<>();
+        while (last >= 0) {
+            path.add(nodes[last].name);
+            int next = -1;
+            for (int dependency : nodes[last].dependencies) {
+                if (endNanos[dependency] >= 0 && (next < 0
+                        || endNanos[dependency] > endNanos[next])) {
+                    next = dependency;
+                }
+            }
+            last = next;
+        }
+        Collections.reverse(path);
+        return path;
+    }
+}
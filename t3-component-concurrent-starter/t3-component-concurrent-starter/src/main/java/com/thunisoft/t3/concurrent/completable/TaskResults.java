@@ -0,0 +1,23 @@
+package com.thunisoft.t3.concurrent.completable;
+
+/**
+ * Description:<b>任务图中已完成任务的结果</b>
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+public interface TaskResults {
+
+    /**
+     * Description:<b>获取任务结果</b>
+     * 任务函数中只应获取声明为依赖的任务，其余任务可能尚未完成
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param name 任务名称
+     * @return 任务结果
+     * @throws java.util.concurrent.CompletionException 任务失败或未执行时
+     * @throws IllegalArgumentException 任务不存在时
+     */
+    <T> T get(String name);
+}
@@ -0,0 +1,365 @@
+package com.thunisoft.t3.concurrent.completable;
+
+import com.thunisoft.t3.concurrent.constant.ThreadPoolConstants;
+import net.tascalate.concurrent.Promise;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Description:<b>结构化并发作用域</b>
+ * 打开期间当前线程及作用域内任务中通过CompletableHelper提交的Promise均归作用域所有，
+ * 离开作用域时以中断方式取消仍未完成的任务，调用方提前返回时不再占用线程池及下游；如：
+ * <pre>
+ * try (TaskScope scope = CompletableHelper.scope()) {
+ *     Promise&lt;User&gt; user = scope.fork(() -&gt; userApi.get(id));
+ *     Promise&lt;List&lt;Order&gt;&gt; orders = scope.fork(() -&gt; orderApi.list(id));
+ *     scope.join().throwIfFailed();
+ *     return new Profile(user.join(), orders.join());
+ * }
+ * </pre>
+ * 作用域需在打开的线程上关闭；作用域内再打开的作用域为其子作用域，外层关闭时一并关闭；
+ * 任务中提交的Promise依赖上下文传递归属作用域，context-propagation为false的线程池中提交的Promise不归属作用域
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+public class TaskScope implements AutoCloseable {
+
+    /**
+     * Description:<b>作用域的关闭策略</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     */
+    public enum Policy {
+
+        /** 任一任务失败时取消其余任务，适用于全部结果都需要的场景，默认值 **/
+        SHUTDOWN_ON_FAILURE,
+
+        /** 任一任务成功时取消其余任务，适用于多个来源取最快结果的场景 **/
+        SHUTDOWN_ON_SUCCESS
+    }
+
+    private static final ThreadLocal<TaskScope> CURRENT = new ThreadLocal<>();
+
+    private final Policy policy;
+
+    private final TaskScope parent;
+
+    /** 打开作用域的线程，关闭时还原其原作用域 **/
+    private final Thread owner;
+
+    /** 未完成的任务，完成时移除 **/
+    private final Set<Promise<?>> children = Collections
+            .newSetFromMap(new IdentityHashMap<>());
+
+    /** 未关闭的子作用域 **/
+    private final List<TaskScope> scopes = new ArrayList<>(2);
+
+    private boolean shutdown;
+
+    private boolean closed;
+
+    /** SHUTDOWN_ON_SUCCESS时第一个成功的结果 **/
+    private Object result;
+
+    private boolean succeeded;
+
+    /** 第一个失败的原因，取消不计为失败 **/
+    private Throwable failure;
+
+    TaskScope(Policy policy) {
+        this.policy = policy;
+        this.parent = CURRENT.get();
+        this.owner = Thread.currentThread();
+        if (parent != null) {
+            parent.addScope(this);
+        }
+        CURRENT.set(this);
+    }
+
+    /**
+     * @return 当前线程所在的作用域，未打开作用域时为null
+     */
+    public static TaskScope current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @param scope 当前线程所在的作用域，为null时清除；由上下文传递器在执行线程上还原
+     */
+    public static void setCurrent(TaskScope scope) {
+        if (scope == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(scope);
+        }
+    }
+
+    /**
+     * Description:<b>在作用域外执行</b>
+     * 执行期间提交的Promise不归属任何作用域，用于多个调用方共享、不应随某一调用方离开作用域而取消的Promise
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param supplier 执行逻辑
+     * @return 执行结果
+     */
+    public static <T> T detached(Supplier<T> supplier) {
+        TaskScope previous = CURRENT.get();
+        if (previous == null) {
+            return supplier.get();
+        }
+        CURRENT.remove();
+        try {
+            return supplier.get();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Description:<b>在默认线程池中提交任务</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param supplier 供给者
+     * @return 归属当前作用域的Promise
+     */
+    public <U> Promise<U> fork(Supplier<U> supplier) {
+        return fork(supplier, ThreadPoolConstants.C_KEY_THREAD_POOL_DEFAULT);
+    }
+
+    /**
+     * Description:<b>在指定线程池中提交任务</b>
+     * 作用域已关闭或已触发关闭策略时返回已取消的Promise
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param supplier 供给者
+     * @param threadPoolName 线程池名称
+     * @return 归属当前作用域的Promise
+     */
+    public <U> Promise<U> fork(Supplier<U> supplier, String threadPoolName) {
+        TaskScope previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return CompletableHelper.promise(supplier, threadPoolName);
+        } finally {
+            setCurrent(previous);
+        }
+    }
+
+    /**
+     * Description:<b>登记为当前线程所在作用域的任务</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param promise 刚提交的Promise
+     * @return promise本身
+     */
+    static <U> Promise<U> own(Promise<U> promise) {
+        TaskScope scope = CURRENT.get();
+        if (scope != null) {
+            scope.add(promise);
+        }
+        return promise;
+    }
+
+    private void add(Promise<?> promise) {
+        boolean rejected;
+        synchronized (this) {
+            rejected = shutdown;
+            if (!rejected) {
+                children.add(promise);
+            }
+        }
+        if (rejected) {
+            promise.cancel(true);
+            return;
+        }
+        promise.whenComplete((value, error) -> onComplete(promise, value,
+                error));
+    }
+
+    private void onComplete(Promise<?> promise, Object value,
+            Throwable error) {
+        boolean stop = false;
+        synchronized (this) {
+            children.remove(promise);
+            Throwable cause = unwrap(error);
+            if (!shutdown) {
+                if (cause == null) {
+                    if (policy == Policy.SHUTDOWN_ON_SUCCESS) {
+                        result = value;
+                        succeeded = true;
+                        stop = true;
+                    }
+                } else if (!(cause instanceof CancellationException)) {
+                    if (failure == null) {
+                        failure = cause;
+                    }
+                    stop = policy == Policy.SHUTDOWN_ON_FAILURE;
+                }
+            }
+            notifyAll();
+        }
+        if (stop) {
+            shutdown();
+        }
+    }
+
+    private synchronized void addScope(TaskScope scope) {
+        scopes.add(scope);
+    }
+
+    private synchronized void removeScope(TaskScope scope) {
+        scopes.remove(scope);
+    }
+
+    /**
+     * Description:<b>等待全部任务完成或作用域关闭</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @return 当前作用域
+     * @throws CompletionException 等待时被中断，此时作用域已关闭
+     */
+    public TaskScope join() {
+        synchronized (this) {
+            try {
+                while (!shutdown && !children.isEmpty()) {
+                    wait();
+                }
+                return this;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        shutdown();
+        throw new CompletionException(new InterruptedException(
+                "等待作用域内任务时被中断"));
+    }
+
+    /**
+     * Description:<b>有任务失败时抛出其异常</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @throws CompletionException 包含第一个失败任务的异常
+     */
+    public synchronized void throwIfFailed() {
+        if (failure != null) {
+            throw new CompletionException(failure);
+        }
+    }
+
+    /**
+     * Description:<b>获取第一个成功的结果</b>
+     * 用于SHUTDOWN_ON_SUCCESS策略，join之后调用
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @return 第一个成功的结果
+     * @throws CompletionException 没有任务成功时，包含第一个失败任务的异常
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T> T result() {
+        if (succeeded) {
+            return (T) result;
+        }
+        throw new CompletionException(failure == null ?
+                new IllegalStateException("作用域内没有成功完成的任务") :
+                failure);
+    }
+
+    /**
+     * Description:<b>关闭作用域</b>
+     * 以中断方式取消仍未完成的任务及子作用域的任务，之后提交的任务直接取消；可在任意线程调用
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     */
+    public void shutdown() {
+        synchronized (this) {
+            if (shutdown) {
+                return;
+            }
+        }
+        cancelRemaining();
+    }
+
+    /**
+     * 标记为已关闭并取消当前仍未完成的任务及子作用域的任务；
+     * 不因已关闭而跳过，其他线程正在关闭时调用方返回前同样取消了全部剩余任务
+     */
+    private void cancelRemaining() {
+        List<Promise<?>> running;
+        List<TaskScope> nested;
+        synchronized (this) {
+            shutdown = true;
+            running = new ArrayList<>(children);
+            nested = new ArrayList<>(scopes);
+            notifyAll();
+        }
+        nested.forEach(TaskScope::cancelRemaining);
+        running.forEach(promise -> promise.cancel(true));
+    }
+
+    /**
+     * @return 是否已关闭，含触发关闭策略
+     */
+    public synchronized boolean isShutdown() {
+        return shutdown;
+    }
+
+    /**
+     * @return 关闭策略
+     */
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Description:<b>离开作用域</b>
+     * 取消仍未完成的任务，当前线程还原为打开前所在的作用域
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @throws IllegalStateException 不在打开作用域的线程上关闭时
+     */
+    @Override
+    public void close() {
+        if (Thread.currentThread() != owner) {
+            throw new IllegalStateException("作用域需在打开的线程上关闭");
+        }
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        // 关闭策略触发的shutdown可能仍在其他线程取消任务，这里自行取消剩余任务，离开作用域时不遗留运行中的任务
+        cancelRemaining();
+        setCurrent(parent);
+        if (parent != null) {
+            parent.removeScope(this);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
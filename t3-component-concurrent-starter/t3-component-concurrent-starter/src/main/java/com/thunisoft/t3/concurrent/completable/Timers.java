@@ -0,0 +1,117 @@
+package com.thunisoft.t3.concurrent.completable;
+
+import com.thunisoft.t3.concurrent.timer.HashedWheelTimer;
+import com.thunisoft.t3.concurrent.timer.Timeout;
+import net.tascalate.concurrent.CompletablePromise;
+import net.tascalate.concurrent.Promise;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Description:<b>CompletableHelper的定时调度</b>
+ * 超时、延迟、重试等待及对冲统一使用容器中的时间轮定时器；未注入或已随容器关闭时使用内置的默认定时器
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+final class Timers {
+
+    private static volatile HashedWheelTimer timer;
+
+    private static volatile HashedWheelTimer fallback;
+
+    private Timers() {
+    }
+
+    static void setTimer(HashedWheelTimer timer) {
+        Timers.timer = timer;
+    }
+
+    static HashedWheelTimer getTimer() {
+        HashedWheelTimer current = timer;
+        if (current != null && !current.isStopped()) {
+            return current;
+        }
+        HashedWheelTimer local = fallback;
+        if (local == null) {
+            synchronized (Timers.class) {
+                local = fallback;
+                if (local == null) {
+                    local = new HashedWheelTimer("t3-completable-timer", 10,
+                            TimeUnit.MILLISECONDS, 512);
+                    fallback = local;
+                }
+            }
+        }
+        return local;
+    }
+
+    /**
+     * Description:<b>延迟执行</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param task 到期时在定时器线程上执行的逻辑，应只做提交或完成Promise
+     * @param delayNanos 延迟纳秒
+     * @return 可取消的句柄
+     */
+    static Timeout schedule(Runnable task, long delayNanos) {
+        return getTimer().newTimeout(task, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Description:<b>为Promise设置超时</b>
+     * 与Promise.orTimeout(timeout, true)一致：超时后以TimeoutException结束并中断原任务
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param promise 原Promise
+     * @param timeout 超时时间
+     * @param executor 返回的Promise后续xxxAsync阶段默认使用的线程池，为null时不指定
+     * @return 带超时的Promise，取消时同时取消原Promise
+     */
+    static <U> Promise<U> orTimeout(Promise<U> promise, Duration timeout,
+            Executor executor) {
+        CompletableFuture<U> result = new CompletableFuture<>();
+        Timeout handle = schedule(() -> result.completeExceptionally(
+                new TimedOutException(timeout)),
+                timeout.toNanos());
+        promise.whenComplete((value, error) -> {
+            if (error == null) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(error);
+            }
+        });
+        result.whenComplete((value, error) -> {
+            handle.cancel();
+            if (!promise.isDone()) {
+                promise.cancel(true);
+            }
+        });
+        CompletablePromise<U> timed = new CompletablePromise<>(result);
+        return executor == null ? timed : timed.defaultAsyncOn(executor);
+    }
+
+    /**
+     * 超时异常在定时器线程上创建，其堆栈只有定时器线程的调用链，对排错无意义，
+     * 超时较多时不再逐个填充堆栈
+     */
+    private static final class TimedOutException extends TimeoutException {
+
+        private static final long serialVersionUID = 1L;
+
+        private TimedOutException(Duration timeout) {
+            super("超过" + timeout.toMillis() + "ms未完成");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
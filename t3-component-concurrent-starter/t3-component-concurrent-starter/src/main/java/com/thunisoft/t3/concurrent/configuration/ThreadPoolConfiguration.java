@@ -1,7 +1,15 @@
 package com.thunisoft.t3.concurrent.configuration;
 
-import com.thunisoft.t3.concurrent.configuration.initializer.impl.ThreadPoolTaskExecutorInitializer;
+import com.thunisoft.t3.concurrent.configuration.initializer.ThreadPoolInitializer;
+import com.thunisoft.t3.concurrent.configuration.initializer.ThreadPoolInitializerFactory;
+import com.thunisoft.t3.concurrent.configuration.model.PromiseCacheConfig;
 import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import com.thunisoft.t3.concurrent.configuration.model.TimerConfig;
+import com.thunisoft.t3.concurrent.constant.InitMode;
+import com.thunisoft.t3.concurrent.constant.ThreadPoolConstants;
+import com.thunisoft.t3.concurrent.rejection.RejectedPolicyFactory;
+import com.thunisoft.t3.concurrent.timer.HashedWheelTimer;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
@@ -11,8 +19,7 @@ import org.springframework.stereotype.Component;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.Executor;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import java.util.concurrent.TimeUnit;
 
 /**
  * ThreadPoolConfiguration
@@ -22,6 +29,7 @@ import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
  * @date 2019-07-02
  *
  */
+@Slf4j
 @Configuration
 @ConfigurationProperties(prefix = "concurrent")
 @ComponentScan("com.thunisoft.t3.concurrent")
@@ -39,6 +47,18 @@ public class ThreadPoolConfiguration {
      */
     private Map<String, ThreadPoolConfig> customThreadPools = new HashMap<>(8);
 
+    /**
+     * Since 1.0.1-SNAPSHOT
+     * Promise缓存配置对象映射，Key为缓存名称
+     */
+    private Map<String, PromiseCacheConfig> caches = new HashMap<>(8);
+
+    /**
+     * Since 1.0.1-SNAPSHOT
+     * 共用定时器配置对象
+     */
+    private TimerConfig timer = new TimerConfig();
+
     /**
      * Description:<b>初始化默认线程池</b>
      *
@@ -48,10 +68,35 @@ public class ThreadPoolConfiguration {
      */
     @Bean("t3-default-completable-executor")
     public Executor defaultExecutor() {
-        // 队列满的策略设置为直接执行
-        ThreadPoolTaskExecutorInitializer initializer = new ThreadPoolTaskExecutorInitializer();
-        CallerRunsPolicy policy = new ThreadPoolExecutor.CallerRunsPolicy();
-        return initializer.initializeThreadPool(getThreadpool(), policy);
+        // 队列满的策略按rejected-policy配置，默认直接执行
+        ThreadPoolInitializer initializer = ThreadPoolInitializerFactory
+                .getInitializer(getThreadpool());
+        Executor executor = initializer.initializeThreadPool(
+                ThreadPoolConstants.C_KEY_THREAD_POOL_DEFAULT, getThreadpool(),
+                RejectedPolicyFactory
+                        .create(ThreadPoolConstants.C_KEY_THREAD_POOL_DEFAULT,
+                                getThreadpool()));
+        if (getThreadpool().getInitMode() == InitMode.LAZY) {
+            log.warn("默认线程池不支持init-mode为lazy，已按eager在启动时创建");
+        } else if (getThreadpool().getInitMode() == InitMode.WARM) {
+            initializer.prestart(executor);
+        }
+        return executor;
+    }
+
+    /**
+     * Description:<b>初始化共用定时器</b>
+     * CompletableHelper的超时、延迟、重试等待及对冲均由该定时器计时
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @return 时间轮定时器
+     */
+    @Bean("t3-completable-timer")
+    public HashedWheelTimer completableTimer() {
+        return new HashedWheelTimer("t3-completable-timer",
+                getTimer().getTickMillis(), TimeUnit.MILLISECONDS,
+                getTimer().getTicksPerWheel());
     }
 
     public ThreadPoolConfig getThreadpool() {
@@ -70,4 +115,20 @@ public class ThreadPoolConfiguration {
             Map<String, ThreadPoolConfig> customThreadPools) {
         this.customThreadPools = customThreadPools;
     }
+
+    public Map<String, PromiseCacheConfig> getCaches() {
+        return caches;
+    }
+
+    public void setCaches(Map<String, PromiseCacheConfig> caches) {
+        this.caches = caches;
+    }
+
+    public TimerConfig getTimer() {
+        return timer;
+    }
+
+    public void setTimer(TimerConfig timer) {
+        this.timer = timer;
+    }
 }
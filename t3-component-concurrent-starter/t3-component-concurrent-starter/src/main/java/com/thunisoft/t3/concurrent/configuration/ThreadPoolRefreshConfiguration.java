@@ -0,0 +1,44 @@
+package com.thunisoft.t3.concurrent.configuration;
+
+import com.thunisoft.t3.concurrent.holder.customthreadpool.ExecutorsHolder;
+import com.thunisoft.t3.concurrent.management.ThreadPoolEndpoint;
+import com.thunisoft.t3.concurrent.management.ThreadPoolRefreshListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Description:<b>线程池运行时调整配置</b>
+ * 引入spring-cloud-context时监听配置刷新事件，引入spring-boot-actuator时暴露threadpools端点
+ *
+ * @author LKL
+ * @since 2026-10-18 17:20
+ **/
+@Configuration
+public class ThreadPoolRefreshConfiguration {
+
+    @Configuration
+    @ConditionalOnClass(name = "org.springframework.cloud.context.environment.EnvironmentChangeEvent")
+    static class EnvironmentRefreshConfiguration {
+
+        @Bean
+        public ThreadPoolRefreshListener threadPoolRefreshListener(
+                Environment environment, ExecutorsHolder executorsHolder) {
+            return new ThreadPoolRefreshListener(environment, executorsHolder);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+    static class EndpointConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public ThreadPoolEndpoint threadPoolEndpoint(
+                ExecutorsHolder executorsHolder) {
+            return new ThreadPoolEndpoint(executorsHolder);
+        }
+    }
+}
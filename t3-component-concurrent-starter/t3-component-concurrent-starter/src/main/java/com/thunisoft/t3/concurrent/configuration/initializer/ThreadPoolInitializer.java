@@ -26,4 +26,46 @@ public interface ThreadPoolInitializer {
             RejectedExecutionHandler reject) {
         return null;
     }
+
+    /**
+     * Description:<b>线程池初始化逻辑</b>
+     * 组件按名称调用本方法，默认忽略名称转调不带名称的方法，只实现了不带名称方法的自定义初始化器仍可使用
+     *
+     * @author LKL
+     * @since 2026-10-18 18:45
+     * @param threadPoolName 线程池名称，用作指标标签，为null时不记录指标
+     * @param threadPoolConfig 线程池配置对象
+     * @param reject 自定义Handler
+     * @return 初始化好的线程池
+     */
+    default Executor initializeThreadPool(String threadPoolName,
+            ThreadPoolConfig threadPoolConfig,
+            RejectedExecutionHandler reject) {
+        return initializeThreadPool(threadPoolConfig, reject);
+    }
+
+    /**
+     * Description:<b>按新配置调整运行中的线程池</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 16:30
+     * @param executor 本初始化器创建的线程池
+     * @param threadPoolConfig 新的线程池配置对象
+     * @return 是否调整成功，不支持运行时调整的线程池返回false
+     */
+    default boolean reconfigure(Executor executor,
+            ThreadPoolConfig threadPoolConfig) {
+        return false;
+    }
+
+    /**
+     * Description:<b>预热线程池</b>
+     * init-mode为warm时在线程池创建后调用，预先启动核心线程
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param executor 本初始化器创建的线程池
+     */
+    default void prestart(Executor executor) {
+    }
 }
@@ -0,0 +1,50 @@
+package com.thunisoft.t3.concurrent.configuration.initializer;
+
+import com.thunisoft.t3.concurrent.configuration.initializer.impl.ForkJoinPoolInitializer;
+import com.thunisoft.t3.concurrent.configuration.initializer.impl.KeyedTaskExecutorInitializer;
+import com.thunisoft.t3.concurrent.configuration.initializer.impl.RingBufferExecutorInitializer;
+import com.thunisoft.t3.concurrent.configuration.initializer.impl.ThreadPoolTaskExecutorInitializer;
+import com.thunisoft.t3.concurrent.configuration.initializer.impl.VirtualThreadExecutorInitializer;
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import com.thunisoft.t3.concurrent.constant.ThreadPoolType;
+
+/**
+ * Description:<b>线程池初始化器工厂</b>
+ * 根据线程池配置中的type选择对应的初始化器
+ *
+ * @author LKL
+ * @since 2026-10-18 14:42
+ **/
+public final class ThreadPoolInitializerFactory {
+
+    private ThreadPoolInitializerFactory() {
+    }
+
+    /**
+     * Description:<b>获取线程池初始化器</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 14:42
+     * @param threadPoolConfig 线程池配置对象
+     * @return 线程池初始化器，未配置type时为ThreadPoolTaskExecutorInitializer
+     */
+    public static ThreadPoolInitializer getInitializer(
+            ThreadPoolConfig threadPoolConfig) {
+        ThreadPoolType type = threadPoolConfig.getType() == null ?
+                ThreadPoolType.THREAD_POOL :
+                threadPoolConfig.getType();
+        switch (type) {
+        case VIRTUAL:
+            return new VirtualThreadExecutorInitializer();
+        case FORK_JOIN:
+            return new ForkJoinPoolInitializer();
+        case KEYED:
+            return new KeyedTaskExecutorInitializer();
+        case RING_BUFFER:
+            return new RingBufferExecutorInitializer();
+        case THREAD_POOL:
+        default:
+            return new ThreadPoolTaskExecutorInitializer();
+        }
+    }
+}
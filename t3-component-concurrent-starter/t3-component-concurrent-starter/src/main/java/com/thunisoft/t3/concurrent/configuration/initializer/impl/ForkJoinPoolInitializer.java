@@ -0,0 +1,74 @@
+package com.thunisoft.t3.concurrent.configuration.initializer.impl;
+
+import com.thunisoft.t3.concurrent.configuration.initializer.ThreadPoolInitializer;
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import com.thunisoft.t3.concurrent.decorator.ContextCopyDecorator;
+import com.thunisoft.t3.concurrent.decorator.InstrumentedTaskDecorator;
+import com.thunisoft.t3.concurrent.executor.ForkJoinTaskExecutor;
+import com.thunisoft.t3.concurrent.metrics.ThreadPoolMetrics;
+import com.thunisoft.t3.concurrent.metrics.ThreadPoolMetricsFactory;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+
+/**
+ * Description:<b>ForkJoinPool初始化器</b>
+ *
+ * @author LKL
+ * @since 2026-10-18 15:40
+ **/
+public class ForkJoinPoolInitializer implements ThreadPoolInitializer {
+
+    /**
+     * Description:<b>线程池初始化逻辑，不记录指标</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param threadPoolConfig 线程池配置对象
+     * @param reject 自定义Handler
+     * @return 初始化好的线程池
+     */
+    @Override
+    public Executor initializeThreadPool(ThreadPoolConfig threadPoolConfig,
+            RejectedExecutionHandler reject) {
+        return initializeThreadPool(null, threadPoolConfig, reject);
+    }
+
+    /**
+     * Description:<b>线程池初始化逻辑</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 15:40
+     * @param threadPoolName 线程池名称，用作指标标签，为null时不记录指标
+     * @param threadPoolConfig 线程池配置对象
+     * @param reject 自定义Handler，ForkJoinPool队列无界，仅关闭后拒绝任务，不使用该Handler
+     * @return 初始化好的线程池
+     */
+    @Override
+    public Executor initializeThreadPool(String threadPoolName,
+            ThreadPoolConfig threadPoolConfig,
+            RejectedExecutionHandler reject) {
+        int parallelism;
+        if (threadPoolConfig.getParallelism() != null
+                && threadPoolConfig.getParallelism() > 0) {
+            parallelism = threadPoolConfig.getParallelism();
+        } else if (threadPoolConfig.getCorePoolSize() != null
+                && threadPoolConfig.getCorePoolSize() > 0) {
+            parallelism = threadPoolConfig.getCorePoolSize();
+        } else {
+            parallelism = Runtime.getRuntime().availableProcessors();
+        }
+        String threadNamePrefix =
+                threadPoolConfig.getThreadNamePrefix() == null ?
+                        "t3-Thread-" :
+                        threadPoolConfig.getThreadNamePrefix();
+        ThreadPoolMetrics metrics = ThreadPoolMetricsFactory
+                .create(threadPoolName, threadPoolConfig);
+        ForkJoinTaskExecutor executor = new ForkJoinTaskExecutor(
+                threadNamePrefix, parallelism, threadPoolConfig.isAsyncMode(),
+                new InstrumentedTaskDecorator(
+                        ContextCopyDecorator.of(threadPoolConfig), metrics), 20);
+        metrics.bindTo(executor);
+        return executor;
+    }
+}
@@ -0,0 +1,134 @@
+package com.thunisoft.t3.concurrent.configuration.initializer.impl;
+
+import com.thunisoft.t3.concurrent.configuration.initializer.ThreadPoolInitializer;
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import com.thunisoft.t3.concurrent.decorator.ContextCopyDecorator;
+import com.thunisoft.t3.concurrent.decorator.InstrumentedTaskDecorator;
+import com.thunisoft.t3.concurrent.executor.KeyedTaskExecutor;
+import com.thunisoft.t3.concurrent.metrics.ThreadPoolMetrics;
+import com.thunisoft.t3.concurrent.metrics.ThreadPoolMetricsFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Description:<b>按key串行执行器初始化器</b>
+ * 工作线程数取corePoolSize，排队的排空任务数不超过条带数，因此工作线程池使用无界队列，maxPoolSize不生效
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+public class KeyedTaskExecutorInitializer implements ThreadPoolInitializer {
+
+    /**
+     * Description:<b>线程池初始化逻辑，不记录指标</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param threadPoolConfig 线程池配置对象
+     * @param reject 自定义Handler
+     * @return 初始化好的线程池
+     */
+    @Override
+    public Executor initializeThreadPool(ThreadPoolConfig threadPoolConfig,
+            RejectedExecutionHandler reject) {
+        return initializeThreadPool(null, threadPoolConfig, reject);
+    }
+
+    /**
+     * Description:<b>线程池初始化逻辑</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param threadPoolName 线程池名称，用作指标标签，为null时不记录指标
+     * @param threadPoolConfig 线程池配置对象
+     * @param reject 自定义Handler，由调用线程执行会打乱同一key的顺序，不使用该Handler；
+     *               queue-capacity大于0时为每个条带的排队上限，超出时抛出ThreadPoolRejectedException
+     * @return 初始化好的线程池
+     */
+    @Override
+    public Executor initializeThreadPool(String threadPoolName,
+            ThreadPoolConfig threadPoolConfig,
+            RejectedExecutionHandler reject) {
+        ThreadPoolMetrics metrics = ThreadPoolMetricsFactory
+                .create(threadPoolName, threadPoolConfig);
+        int threads = ThreadPoolTaskExecutorInitializer
+                .resolveCorePoolSize(threadPoolConfig);
+        ThreadPoolTaskExecutor workers = new ThreadPoolTaskExecutor();
+        workers.setCorePoolSize(threads);
+        workers.setMaxPoolSize(threads);
+        workers.setThreadNamePrefix(
+                threadPoolConfig.getThreadNamePrefix() == null ?
+                        "t3-Thread-" :
+                        threadPoolConfig.getThreadNamePrefix());
+        workers.setKeepAliveSeconds(threadPoolConfig.getKeepAliveSeconds());
+        workers.setRejectedExecutionHandler(
+                new ThreadPoolExecutor.AbortPolicy());
+        workers.setWaitForTasksToCompleteOnShutdown(true);
+        workers.setAwaitTerminationSeconds(20);
+        workers.initialize();
+        int stripes = threadPoolConfig.getStripes() == null
+                || threadPoolConfig.getStripes() <= 0 ?
+                threads * 4 :
+                threadPoolConfig.getStripes();
+        KeyedTaskExecutor executor = new KeyedTaskExecutor(threadPoolName,
+                workers, stripes, threadPoolConfig.getQueueCapacity(),
+                new InstrumentedTaskDecorator(
+                        ContextCopyDecorator.of(threadPoolConfig), metrics));
+        metrics.bindTo(executor);
+        return executor;
+    }
+
+    /**
+     * Description:<b>按新配置调整运行中的线程池</b>
+     * 工作线程数、存活时间即时生效，条带数及每个条带的排队上限需重启生效
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param executor 本初始化器创建的线程池
+     * @param threadPoolConfig 新的线程池配置对象
+     * @return 是否调整成功
+     */
+    @Override
+    public boolean reconfigure(Executor executor,
+            ThreadPoolConfig threadPoolConfig) {
+        if (!(executor instanceof KeyedTaskExecutor)) {
+            return false;
+        }
+        ThreadPoolTaskExecutor workers = ((KeyedTaskExecutor) executor)
+                .getWorkers();
+        int threads = ThreadPoolTaskExecutorInitializer
+                .resolveCorePoolSize(threadPoolConfig);
+        if (threads >= workers.getCorePoolSize()) {
+            workers.setMaxPoolSize(threads);
+            workers.setCorePoolSize(threads);
+        } else {
+            workers.setCorePoolSize(threads);
+            workers.setMaxPoolSize(threads);
+        }
+        workers.setKeepAliveSeconds(threadPoolConfig.getKeepAliveSeconds());
+        return true;
+    }
+
+    /**
+     * Description:<b>预热线程池</b>
+     * 预先启动全部工作线程，再提交一轮不带key的空任务走通任务装饰器及工作线程取任务的路径
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param executor 本初始化器创建的线程池
+     */
+    @Override
+    public void prestart(Executor executor) {
+        if (!(executor instanceof KeyedTaskExecutor)) {
+            return;
+        }
+        ThreadPoolExecutor pool = ((KeyedTaskExecutor) executor)
+                .getThreadPoolExecutor();
+        pool.prestartAllCoreThreads();
+        ThreadPoolTaskExecutorInitializer.touch(executor,
+                pool.getCorePoolSize());
+    }
+}
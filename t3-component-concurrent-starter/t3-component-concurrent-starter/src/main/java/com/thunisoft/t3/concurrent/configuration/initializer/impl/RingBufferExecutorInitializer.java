@@ -0,0 +1,107 @@
+package com.thunisoft.t3.concurrent.configuration.initializer.impl;
+
+import com.thunisoft.t3.concurrent.configuration.initializer.ThreadPoolInitializer;
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import com.thunisoft.t3.concurrent.constant.RejectedPolicyType;
+import com.thunisoft.t3.concurrent.constant.WaitStrategy;
+import com.thunisoft.t3.concurrent.decorator.ContextCopyDecorator;
+import com.thunisoft.t3.concurrent.decorator.InstrumentedTaskDecorator;
+import com.thunisoft.t3.concurrent.executor.RingBufferTaskExecutor;
+import com.thunisoft.t3.concurrent.metrics.ThreadPoolMetrics;
+import com.thunisoft.t3.concurrent.metrics.ThreadPoolMetricsFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+
+/**
+ * Description:<b>无锁环形队列执行器初始化器</b>
+ * 工作线程数取corePoolSize，队列容量取queueCapacity，未配置时为1024
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+@Slf4j
+public class RingBufferExecutorInitializer implements ThreadPoolInitializer {
+
+    /** 未配置queue-capacity时的队列容量 **/
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Description:<b>线程池初始化逻辑，不记录指标</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param threadPoolConfig 线程池配置对象
+     * @param reject 自定义Handler
+     * @return 初始化好的线程池
+     */
+    @Override
+    public Executor initializeThreadPool(ThreadPoolConfig threadPoolConfig,
+            RejectedExecutionHandler reject) {
+        return initializeThreadPool(null, threadPoolConfig, reject);
+    }
+
+    /**
+     * Description:<b>线程池初始化逻辑</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param threadPoolName 线程池名称，用作指标标签，为null时不记录指标
+     * @param threadPoolConfig 线程池配置对象
+     * @param reject 自定义Handler，环形队列不是ThreadPoolExecutor，不使用该Handler；
+     *               rejected-policy为abort时队列满抛出ThreadPoolRejectedException，其余取值均由提交线程执行
+     * @return 初始化好的线程池
+     */
+    @Override
+    public Executor initializeThreadPool(String threadPoolName,
+            ThreadPoolConfig threadPoolConfig,
+            RejectedExecutionHandler reject) {
+        RejectedPolicyType rejectedPolicy = threadPoolConfig.getRejectedPolicy();
+        if (rejectedPolicy != null && rejectedPolicy != RejectedPolicyType.ABORT
+                && rejectedPolicy != RejectedPolicyType.CALLER_RUNS) {
+            log.warn("线程池[{}]的ring-buffer类型不支持rejected-policy为{}，队列满时由提交线程执行",
+                    threadPoolName, rejectedPolicy);
+        }
+        ThreadPoolMetrics metrics = ThreadPoolMetricsFactory
+                .create(threadPoolName, threadPoolConfig);
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(
+                threadPoolConfig.getThreadNamePrefix() == null ?
+                        "t3-Thread-" :
+                        threadPoolConfig.getThreadNamePrefix());
+        RingBufferTaskExecutor executor = new RingBufferTaskExecutor(
+                threadPoolName, threadFactory,
+                ThreadPoolTaskExecutorInitializer
+                        .resolveCorePoolSize(threadPoolConfig),
+                threadPoolConfig.getQueueCapacity() > 0 ?
+                        threadPoolConfig.getQueueCapacity() :
+                        DEFAULT_CAPACITY,
+                threadPoolConfig.getWaitStrategy() == null ?
+                        WaitStrategy.PARK :
+                        threadPoolConfig.getWaitStrategy(),
+                threadPoolConfig.getDrainBatch(),
+                rejectedPolicy == RejectedPolicyType.ABORT,
+                new InstrumentedTaskDecorator(
+                        ContextCopyDecorator.of(threadPoolConfig), metrics),
+                metrics, 20);
+        metrics.bindTo(executor);
+        return executor;
+    }
+
+    /**
+     * Description:<b>预热线程池</b>
+     * 工作线程在创建时已全部启动，只提交一轮空任务走通任务装饰器及工作线程取任务的路径
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param executor 本初始化器创建的线程池
+     */
+    @Override
+    public void prestart(Executor executor) {
+        if (executor instanceof RingBufferTaskExecutor) {
+            ThreadPoolTaskExecutorInitializer.touch(executor,
+                    ((RingBufferTaskExecutor) executor).getPoolSize());
+        }
+    }
+}
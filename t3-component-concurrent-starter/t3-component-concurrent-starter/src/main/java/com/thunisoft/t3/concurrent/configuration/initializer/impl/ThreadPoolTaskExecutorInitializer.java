@@ -3,10 +3,23 @@ package com.thunisoft.t3.concurrent.configuration.initializer.impl;
 import com.thunisoft.t3.concurrent.configuration.initializer.ThreadPoolInitializer;
 import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
 import com.thunisoft.t3.concurrent.decorator.ContextCopyDecorator;
+import com.thunisoft.t3.concurrent.decorator.InstrumentedTaskDecorator;
+import com.thunisoft.t3.concurrent.executor.ResizableThreadPoolTaskExecutor;
+import com.thunisoft.t3.concurrent.metrics.InstrumentedRejectedExecutionHandler;
+import com.thunisoft.t3.concurrent.metrics.ThreadPoolMetrics;
+import com.thunisoft.t3.concurrent.metrics.ThreadPoolMetricsFactory;
+import com.thunisoft.t3.concurrent.tuning.BlockingRatioSampler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Description:<b>ThreadPoolTaskExecutor初始化器</b>
@@ -14,44 +27,181 @@ import java.util.concurrent.RejectedExecutionHandler;
  * @author LKL
  * @since 2020-08-14 17:57
  **/
+@Slf4j
 public class ThreadPoolTaskExecutorInitializer
         implements ThreadPoolInitializer {
 
+    /**
+     * Description:<b>线程池初始化逻辑，不记录指标</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param threadPoolConfig 线程池配置对象
+     * @param reject 自定义Handler
+     * @return 初始化好的线程池
+     */
+    @Override
+    public Executor initializeThreadPool(ThreadPoolConfig threadPoolConfig,
+            RejectedExecutionHandler reject) {
+        return initializeThreadPool(null, threadPoolConfig, reject);
+    }
+
     /**
      * Description:<b>线程池初始化逻辑</b>
      *
      * @author LKL
      * @since 2020-08-14 17:54
+     * @param threadPoolName 线程池名称，用作指标标签，为null时不记录指标
      * @param threadPoolConfig 线程池配置对象
      * @param reject 自定义Handler
      * @return 初始化好的线程池
      */
     @Override
-    public Executor initializeThreadPool(ThreadPoolConfig threadPoolConfig,
+    public Executor initializeThreadPool(String threadPoolName,
+            ThreadPoolConfig threadPoolConfig,
             RejectedExecutionHandler reject) {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        int corePoolSize = (threadPoolConfig.getCorePoolSize() == null
-                || threadPoolConfig.getCorePoolSize() < 0) ?
-                Math.min(16, Runtime.getRuntime().availableProcessors()) :
-                threadPoolConfig.getCorePoolSize();
-        int maxPoolSize = (threadPoolConfig.getMaxPoolSize() == null
-                || threadPoolConfig.getMaxPoolSize() < corePoolSize) ?
-                Math.min(128, corePoolSize * 8) :
-                threadPoolConfig.getMaxPoolSize();
+        ThreadPoolMetrics metrics = ThreadPoolMetricsFactory
+                .create(threadPoolName, threadPoolConfig);
+        ResizableThreadPoolTaskExecutor executor = new ResizableThreadPoolTaskExecutor();
+        int corePoolSize = resolveCorePoolSize(threadPoolConfig);
+        int maxPoolSize = resolveMaxPoolSize(threadPoolConfig, corePoolSize);
         String threadNamePrefix =
                 threadPoolConfig.getThreadNamePrefix() == null ?
                         "t3-Thread-" :
                         threadPoolConfig.getThreadNamePrefix();
-        executor.setTaskDecorator(new ContextCopyDecorator());
+        TaskDecorator decorator = ContextCopyDecorator.of(threadPoolConfig);
+        if (threadPoolConfig.getTuner().isEnabled() && BlockingRatioSampler
+                .isSupported()) {
+            BlockingRatioSampler sampler = new BlockingRatioSampler(decorator);
+            executor.setBlockingRatioSampler(sampler);
+            decorator = sampler;
+        }
+        executor.setTaskDecorator(
+                new InstrumentedTaskDecorator(decorator, metrics));
         executor.setCorePoolSize(corePoolSize);
         executor.setMaxPoolSize(maxPoolSize);
         executor.setQueueCapacity(threadPoolConfig.getQueueCapacity());
+        executor.setLanes(threadPoolConfig.getLanes(), metrics);
         executor.setThreadNamePrefix(threadNamePrefix);
-        executor.setRejectedExecutionHandler(reject);
+        executor.setRejectedExecutionHandler(metrics.isEnabled() ?
+                new InstrumentedRejectedExecutionHandler(reject, metrics) :
+                reject);
         executor.setKeepAliveSeconds(threadPoolConfig.getKeepAliveSeconds());
+        executor.setMaxCompensationThreads(
+                threadPoolConfig.getMaxCompensationThreads());
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(20);
         executor.initialize();
+        metrics.bindTo(executor);
         return executor;
     }
+
+    /**
+     * Description:<b>按新配置调整运行中的线程池</b>
+     * 线程数、存活时间、队列长度、分道权重、补偿线程数上限即时生效，线程名前缀及开启关闭分道需重启生效；
+     * 含需重启生效的调整时不做任何调整，避免部分参数已生效而调用方仍记录旧配置
+     *
+     * @author LKL
+     * @since 2026-10-18 16:30
+     * @param executor 本初始化器创建的线程池
+     * @param threadPoolConfig 新的线程池配置对象
+     * @return 是否调整成功，为false时线程池保持原配置
+     */
+    @Override
+    public boolean reconfigure(Executor executor,
+            ThreadPoolConfig threadPoolConfig) {
+        if (!(executor instanceof ResizableThreadPoolTaskExecutor)) {
+            return false;
+        }
+        ResizableThreadPoolTaskExecutor pool = (ResizableThreadPoolTaskExecutor) executor;
+        if (!pool.canResizeQueue(threadPoolConfig.getQueueCapacity()) || !pool
+                .canReconfigureLanes(threadPoolConfig.getLanes())) {
+            log.warn("线程池[{}]队列长度0与非0、开启与关闭lanes之间的切换需重启生效，本次未做任何调整",
+                    pool.getThreadNamePrefix());
+            return false;
+        }
+        int corePoolSize = resolveCorePoolSize(threadPoolConfig);
+        int maxPoolSize = resolveMaxPoolSize(threadPoolConfig, corePoolSize);
+        pool.resize(corePoolSize, maxPoolSize);
+        pool.setKeepAliveSeconds(threadPoolConfig.getKeepAliveSeconds());
+        pool.setMaxCompensationThreads(
+                threadPoolConfig.getMaxCompensationThreads());
+        pool.resizeQueue(threadPoolConfig.getQueueCapacity());
+        pool.reconfigureLanes(threadPoolConfig.getLanes());
+        return true;
+    }
+
+    /**
+     * Description:<b>预热线程池</b>
+     * 预先启动全部核心线程，再提交与核心线程数相同的空任务，走通任务装饰器、队列入队出队及工作线程取任务的路径
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param executor 本初始化器创建的线程池
+     */
+    @Override
+    public void prestart(Executor executor) {
+        if (!(executor instanceof ThreadPoolTaskExecutor)) {
+            return;
+        }
+        ThreadPoolExecutor pool = ((ThreadPoolTaskExecutor) executor)
+                .getThreadPoolExecutor();
+        pool.prestartAllCoreThreads();
+        touch(executor, pool.getCorePoolSize());
+    }
+
+    /**
+     * Description:<b>提交一轮空任务并等待执行完</b>
+     * 最多等待1秒，线程池已饱和时不影响启动
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param executor 线程池
+     * @param tasks 空任务数
+     */
+    static void touch(Executor executor, int tasks) {
+        CountDownLatch done = new CountDownLatch(tasks);
+        try {
+            for (int i = 0; i < tasks; i++) {
+                executor.execute(done::countDown);
+            }
+            done.await(1, TimeUnit.SECONDS);
+        } catch (RejectedExecutionException e) {
+            log.warn("线程池预热时拒绝任务：{}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Description:<b>计算核心线程数</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 16:30
+     * @param threadPoolConfig 线程池配置对象
+     * @return 核心线程数，未配置时取cpu核数但不超过16
+     */
+    public static int resolveCorePoolSize(ThreadPoolConfig threadPoolConfig) {
+        return (threadPoolConfig.getCorePoolSize() == null
+                || threadPoolConfig.getCorePoolSize() < 0) ?
+                Math.min(16, Runtime.getRuntime().availableProcessors()) :
+                threadPoolConfig.getCorePoolSize();
+    }
+
+    /**
+     * Description:<b>计算最大线程数</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 16:30
+     * @param threadPoolConfig 线程池配置对象
+     * @param corePoolSize 核心线程数
+     * @return 最大线程数，未配置或小于核心线程数时取核心线程数×8但不超过128
+     */
+    public static int resolveMaxPoolSize(ThreadPoolConfig threadPoolConfig,
+            int corePoolSize) {
+        return (threadPoolConfig.getMaxPoolSize() == null
+                || threadPoolConfig.getMaxPoolSize() < corePoolSize) ?
+                Math.min(128, corePoolSize * 8) :
+                threadPoolConfig.getMaxPoolSize();
+    }
 }
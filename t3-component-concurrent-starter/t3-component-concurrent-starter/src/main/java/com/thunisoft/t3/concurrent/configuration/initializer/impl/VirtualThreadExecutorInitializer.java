@@ -0,0 +1,76 @@
+package com.thunisoft.t3.concurrent.configuration.initializer.impl;
+
+import com.thunisoft.t3.concurrent.configuration.initializer.ThreadPoolInitializer;
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import com.thunisoft.t3.concurrent.decorator.ContextCopyDecorator;
+import com.thunisoft.t3.concurrent.decorator.InstrumentedTaskDecorator;
+import com.thunisoft.t3.concurrent.executor.VirtualThreadTaskExecutor;
+import com.thunisoft.t3.concurrent.executor.VirtualThreads;
+import com.thunisoft.t3.concurrent.metrics.ThreadPoolMetrics;
+import com.thunisoft.t3.concurrent.metrics.ThreadPoolMetricsFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+
+/**
+ * Description:<b>虚拟线程执行器初始化器</b>
+ * 运行时不支持虚拟线程时退化为ThreadPoolTaskExecutor，保证同一份配置可在低版本JDK上启动
+ *
+ * @author LKL
+ * @since 2026-10-18 14:35
+ **/
+@Slf4j
+public class VirtualThreadExecutorInitializer implements ThreadPoolInitializer {
+
+    /**
+     * Description:<b>线程池初始化逻辑，不记录指标</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param threadPoolConfig 线程池配置对象
+     * @param reject 自定义Handler
+     * @return 初始化好的线程池
+     */
+    @Override
+    public Executor initializeThreadPool(ThreadPoolConfig threadPoolConfig,
+            RejectedExecutionHandler reject) {
+        return initializeThreadPool(null, threadPoolConfig, reject);
+    }
+
+    /**
+     * Description:<b>线程池初始化逻辑</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 14:35
+     * @param threadPoolName 线程池名称，用作指标标签，为null时不记录指标
+     * @param threadPoolConfig 线程池配置对象
+     * @param reject 自定义Handler，虚拟线程执行器无队列不会触发，仅在退化为平台线程池时使用
+     * @return 初始化好的线程池
+     */
+    @Override
+    public Executor initializeThreadPool(String threadPoolName,
+            ThreadPoolConfig threadPoolConfig,
+            RejectedExecutionHandler reject) {
+        String threadNamePrefix =
+                threadPoolConfig.getThreadNamePrefix() == null ?
+                        "t3-Thread-" :
+                        threadPoolConfig.getThreadNamePrefix();
+        if (!VirtualThreads.isSupported()) {
+            log.warn("当前JVM（{}）不支持虚拟线程，线程池[{}]退化为平台线程池",
+                    System.getProperty("java.version"), threadPoolName);
+            return new ThreadPoolTaskExecutorInitializer()
+                    .initializeThreadPool(threadPoolName, threadPoolConfig,
+                            reject);
+        }
+        ThreadPoolMetrics metrics = ThreadPoolMetricsFactory
+                .create(threadPoolName, threadPoolConfig);
+        VirtualThreadTaskExecutor executor = new VirtualThreadTaskExecutor(
+                VirtualThreads.newThreadFactory(threadNamePrefix),
+                new InstrumentedTaskDecorator(
+                        ContextCopyDecorator.of(threadPoolConfig), metrics),
+                threadPoolConfig.getMaxConcurrency(), 20);
+        metrics.bindTo(executor);
+        return executor;
+    }
+}
@@ -0,0 +1,253 @@
+package com.thunisoft.t3.concurrent.configuration.model;
+
+import com.thunisoft.t3.concurrent.constant.LimitAlgorithm;
+import com.thunisoft.t3.concurrent.constant.OverloadAction;
+
+import java.util.Objects;
+
+/**
+ * Description:<b>自适应并发限制配置</b>
+ * 对应线程池配置中的limiter节点，开启后CompletableHelper按观测到的任务耗时动态调整该线程池的在途任务数上限
+ *
+ * @author LKL
+ * @since 2026-10-18 19:25
+ **/
+public class ConcurrencyLimiterConfig {
+
+    /**
+     * 是否开启，默认false
+     */
+    private boolean enabled = false;
+
+    /**
+     * 限制算法，默认gradient
+     */
+    private LimitAlgorithm algorithm = LimitAlgorithm.GRADIENT;
+
+    /**
+     * 初始并发上限，默认取线程池核心线程数
+     */
+    private Integer initialLimit;
+
+    /**
+     * 并发上限的下界，默认1
+     */
+    private int minLimit = 1;
+
+    /**
+     * 并发上限的上界，默认取线程池最大线程数，virtual类型取max-concurrency
+     */
+    private Integer maxLimit;
+
+    /**
+     * 耗时阈值，仅aimd算法生效，任务耗时超过该值时缩小上限，默认1000ms
+     */
+    private long latencyThresholdMillis = 1000;
+
+    /**
+     * 缩小比例，仅aimd算法生效，默认0.9
+     */
+    private double backoffRatio = 0.9;
+
+    /**
+     * 平滑系数，仅gradient算法生效，取值(0,1]，越大调整越快，默认0.2
+     */
+    private double smoothing = 0.2;
+
+    /**
+     * 达到上限时新任务的处理方式，默认caller-runs
+     */
+    private OverloadAction overloadAction = OverloadAction.CALLER_RUNS;
+
+    /**
+     * 等待空闲名额的超时时间，仅overload-action为queue-with-deadline时生效，默认100ms
+     */
+    private long queueTimeoutMillis = 100;
+
+    /**
+     * 复制当前配置
+     * @return 配置副本
+     */
+    public ConcurrencyLimiterConfig copy() {
+        ConcurrencyLimiterConfig copy = new ConcurrencyLimiterConfig();
+        copy.enabled = enabled;
+        copy.algorithm = algorithm;
+        copy.initialLimit = initialLimit;
+        copy.minLimit = minLimit;
+        copy.maxLimit = maxLimit;
+        copy.latencyThresholdMillis = latencyThresholdMillis;
+        copy.backoffRatio = backoffRatio;
+        copy.smoothing = smoothing;
+        copy.overloadAction = overloadAction;
+        copy.queueTimeoutMillis = queueTimeoutMillis;
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ConcurrencyLimiterConfig)) {
+            return false;
+        }
+        ConcurrencyLimiterConfig that = (ConcurrencyLimiterConfig) o;
+        return enabled == that.enabled && minLimit == that.minLimit
+                && latencyThresholdMillis == that.latencyThresholdMillis
+                && Double.compare(that.backoffRatio, backoffRatio) == 0
+                && Double.compare(that.smoothing, smoothing) == 0
+                && queueTimeoutMillis == that.queueTimeoutMillis
+                && algorithm == that.algorithm
+                && Objects.equals(initialLimit, that.initialLimit)
+                && Objects.equals(maxLimit, that.maxLimit)
+                && overloadAction == that.overloadAction;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, algorithm, initialLimit, minLimit,
+                maxLimit, latencyThresholdMillis, backoffRatio, smoothing,
+                overloadAction, queueTimeoutMillis);
+    }
+
+    /**
+     * @return the enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabled the enabled to set
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return the algorithm
+     */
+    public LimitAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * @param algorithm the algorithm to set
+     */
+    public void setAlgorithm(LimitAlgorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    /**
+     * @return the initialLimit
+     */
+    public Integer getInitialLimit() {
+        return initialLimit;
+    }
+
+    /**
+     * @param initialLimit the initialLimit to set
+     */
+    public void setInitialLimit(Integer initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    /**
+     * @return the minLimit
+     */
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    /**
+     * @param minLimit the minLimit to set
+     */
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    /**
+     * @return the maxLimit
+     */
+    public Integer getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * @param maxLimit the maxLimit to set
+     */
+    public void setMaxLimit(Integer maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * @return the latencyThresholdMillis
+     */
+    public long getLatencyThresholdMillis() {
+        return latencyThresholdMillis;
+    }
+
+    /**
+     * @param latencyThresholdMillis the latencyThresholdMillis to set
+     */
+    public void setLatencyThresholdMillis(long latencyThresholdMillis) {
+        this.latencyThresholdMillis = latencyThresholdMillis;
+    }
+
+    /**
+     * @return the backoffRatio
+     */
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    /**
+     * @param backoffRatio the backoffRatio to set
+     */
+    public void setBackoffRatio(double backoffRatio) {
+        this.backoffRatio = backoffRatio;
+    }
+
+    /**
+     * @return the smoothing
+     */
+    public double getSmoothing() {
+        return smoothing;
+    }
+
+    /**
+     * @param smoothing the smoothing to set
+     */
+    public void setSmoothing(double smoothing) {
+        this.smoothing = smoothing;
+    }
+
+    /**
+     * @return the overloadAction
+     */
+    public OverloadAction getOverloadAction() {
+        return overloadAction;
+    }
+
+    /**
+     * @param overloadAction the overloadAction to set
+     */
+    public void setOverloadAction(OverloadAction overloadAction) {
+        this.overloadAction = overloadAction;
+    }
+
+    /**
+     * @return the queueTimeoutMillis
+     */
+    public long getQueueTimeoutMillis() {
+        return queueTimeoutMillis;
+    }
+
+    /**
+     * @param queueTimeoutMillis the queueTimeoutMillis to set
+     */
+    public void setQueueTimeoutMillis(long queueTimeoutMillis) {
+        this.queueTimeoutMillis = queueTimeoutMillis;
+    }
+
+}
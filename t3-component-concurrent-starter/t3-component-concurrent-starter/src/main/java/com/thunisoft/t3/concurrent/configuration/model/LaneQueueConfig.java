@@ -0,0 +1,142 @@
+package com.thunisoft.t3.concurrent.configuration.model;
+
+import com.thunisoft.t3.concurrent.lane.ServiceClass;
+
+/**
+ * Description:<b>分道队列配置</b>
+ * 对应线程池配置中的lanes节点，开启后队列按服务等级分道，按权重轮流出队，
+ * 任一道的队首等待超过max-wait-millis时优先出队，避免低权重的任务饿死；仅queue-capacity大于0时生效
+ *
+ * @author LKL
+ * @since 2026-10-18 23:58
+ **/
+public class LaneQueueConfig {
+
+    /**
+     * 是否开启，默认false
+     */
+    private boolean enabled = false;
+
+    /**
+     * interactive道的权重，默认8
+     */
+    private int interactiveWeight = 8;
+
+    /**
+     * default道的权重，默认4
+     */
+    private int defaultWeight = 4;
+
+    /**
+     * batch道的权重，默认1
+     */
+    private int batchWeight = 1;
+
+    /**
+     * 队首任务的最长等待时间，超过后不论权重优先出队，默认1000ms，0为不做饥饿保护
+     */
+    private long maxWaitMillis = 1000;
+
+    /**
+     * Description:<b>获取服务等级对应道的权重</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:58
+     * @param serviceClass 服务等级
+     * @return 权重
+     */
+    public int weightOf(ServiceClass serviceClass) {
+        switch (serviceClass) {
+            case INTERACTIVE:
+                return interactiveWeight;
+            case BATCH:
+                return batchWeight;
+            default:
+                return defaultWeight;
+        }
+    }
+
+    /**
+     * 复制当前配置
+     * @return 配置副本
+     */
+    public LaneQueueConfig copy() {
+        LaneQueueConfig copy = new LaneQueueConfig();
+        copy.enabled = enabled;
+        copy.interactiveWeight = interactiveWeight;
+        copy.defaultWeight = defaultWeight;
+        copy.batchWeight = batchWeight;
+        copy.maxWaitMillis = maxWaitMillis;
+        return copy;
+    }
+
+    /**
+     * @return the enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabled the enabled to set
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return the interactiveWeight
+     */
+    public int getInteractiveWeight() {
+        return interactiveWeight;
+    }
+
+    /**
+     * @param interactiveWeight the interactiveWeight to set
+     */
+    public void setInteractiveWeight(int interactiveWeight) {
+        this.interactiveWeight = interactiveWeight;
+    }
+
+    /**
+     * @return the defaultWeight
+     */
+    public int getDefaultWeight() {
+        return defaultWeight;
+    }
+
+    /**
+     * @param defaultWeight the defaultWeight to set
+     */
+    public void setDefaultWeight(int defaultWeight) {
+        this.defaultWeight = defaultWeight;
+    }
+
+    /**
+     * @return the batchWeight
+     */
+    public int getBatchWeight() {
+        return batchWeight;
+    }
+
+    /**
+     * @param batchWeight the batchWeight to set
+     */
+    public void setBatchWeight(int batchWeight) {
+        this.batchWeight = batchWeight;
+    }
+
+    /**
+     * @return the maxWaitMillis
+     */
+    public long getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    /**
+     * @param maxWaitMillis the maxWaitMillis to set
+     */
+    public void setMaxWaitMillis(long maxWaitMillis) {
+        this.maxWaitMillis = maxWaitMillis;
+    }
+}
@@ -0,0 +1,209 @@
+package com.thunisoft.t3.concurrent.configuration.model;
+
+import java.util.Objects;
+
+/**
+ * Description:<b>线程数自动调整配置</b>
+ * 对应线程池配置中的tuner节点，开启后按采样到的任务阻塞比例，以cpu核数×目标利用率×(1+等待时间/cpu时间)
+ * 周期性重新计算核心线程数及最大线程数；仅type为thread-pool时生效
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+public class PoolTunerConfig {
+
+    /**
+     * 是否开启，默认false；开启与关闭之间的切换需重启生效
+     */
+    private boolean enabled = false;
+
+    /**
+     * 核心线程数的下界，默认1
+     */
+    private int minPoolSize = 1;
+
+    /**
+     * 核心线程数的上界，默认取线程池的最大线程数
+     */
+    private Integer maxPoolSize;
+
+    /**
+     * 调整周期，默认30s
+     */
+    private int intervalSeconds = 30;
+
+    /**
+     * 目标cpu利用率，取值(0,1]，默认0.8
+     */
+    private double targetUtilization = 0.8;
+
+    /**
+     * 新旧线程数的相对差小于该值时不调整，默认0.2
+     */
+    private double hysteresis = 0.2;
+
+    /**
+     * 一个周期内采样的任务数少于该值时不调整，默认50
+     */
+    private int minSamples = 50;
+
+    /**
+     * 系统平均负载与cpu核数之比超过该值时不再扩大，默认1.0
+     */
+    private double maxLoadPerCpu = 1.0;
+
+    /**
+     * 复制当前配置
+     * @return 配置副本
+     */
+    public PoolTunerConfig copy() {
+        PoolTunerConfig copy = new PoolTunerConfig();
+        copy.enabled = enabled;
+        copy.minPoolSize = minPoolSize;
+        copy.maxPoolSize = maxPoolSize;
+        copy.intervalSeconds = intervalSeconds;
+        copy.targetUtilization = targetUtilization;
+        copy.hysteresis = hysteresis;
+        copy.minSamples = minSamples;
+        copy.maxLoadPerCpu = maxLoadPerCpu;
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PoolTunerConfig)) {
+            return false;
+        }
+        PoolTunerConfig that = (PoolTunerConfig) o;
+        return enabled == that.enabled && minPoolSize == that.minPoolSize
+                && intervalSeconds == that.intervalSeconds
+                && Double.compare(that.targetUtilization,
+                targetUtilization) == 0
+                && Double.compare(that.hysteresis, hysteresis) == 0
+                && minSamples == that.minSamples
+                && Double.compare(that.maxLoadPerCpu, maxLoadPerCpu) == 0
+                && Objects.equals(maxPoolSize, that.maxPoolSize);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, minPoolSize, maxPoolSize, intervalSeconds,
+                targetUtilization, hysteresis, minSamples, maxLoadPerCpu);
+    }
+
+    /**
+     * @return the enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabled the enabled to set
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return the minPoolSize
+     */
+    public int getMinPoolSize() {
+        return minPoolSize;
+    }
+
+    /**
+     * @param minPoolSize the minPoolSize to set
+     */
+    public void setMinPoolSize(int minPoolSize) {
+        this.minPoolSize = minPoolSize;
+    }
+
+    /**
+     * @return the maxPoolSize
+     */
+    public Integer getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    /**
+     * @param maxPoolSize the maxPoolSize to set
+     */
+    public void setMaxPoolSize(Integer maxPoolSize) {
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    /**
+     * @return the intervalSeconds
+     */
+    public int getIntervalSeconds() {
+        return intervalSeconds;
+    }
+
+    /**
+     * @param intervalSeconds the intervalSeconds to set
+     */
+    public void setIntervalSeconds(int intervalSeconds) {
+        this.intervalSeconds = intervalSeconds;
+    }
+
+    /**
+     * @return the targetUtilization
+     */
+    public double getTargetUtilization() {
+        return targetUtilization;
+    }
+
+    /**
+     * @param targetUtilization the targetUtilization to set
+     */
+    public void setTargetUtilization(double targetUtilization) {
+        this.targetUtilization = targetUtilization;
+    }
+
+    /**
+     * @return the hysteresis
+     */
+    public double getHysteresis() {
+        return hysteresis;
+    }
+
+    /**
+     * @param hysteresis the hysteresis to set
+     */
+    public void setHysteresis(double hysteresis) {
+        this.hysteresis = hysteresis;
+    }
+
+    /**
+     * @return the minSamples
+     */
+    public int getMinSamples() {
+        return minSamples;
+    }
+
+    /**
+     * @param minSamples the minSamples to set
+     */
+    public void setMinSamples(int minSamples) {
+        this.minSamples = minSamples;
+    }
+
+    /**
+     * @return the maxLoadPerCpu
+     */
+    public double getMaxLoadPerCpu() {
+        return maxLoadPerCpu;
+    }
+
+    /**
+     * @param maxLoadPerCpu the maxLoadPerCpu to set
+     */
+    public void setMaxLoadPerCpu(double maxLoadPerCpu) {
+        this.maxLoadPerCpu = maxLoadPerCpu;
+    }
+
+}
@@ -0,0 +1,146 @@
+package com.thunisoft.t3.concurrent.configuration.model;
+
+import com.thunisoft.t3.concurrent.constant.ThreadPoolConstants;
+
+/**
+ * Description:<b>Promise缓存配置</b>
+ * 对应concurrent.caches下按缓存名称的配置，未配置的缓存名称使用默认值
+ *
+ * @author LKL
+ * @since 2026-10-18 23:45
+ **/
+public class PromiseCacheConfig {
+
+    /**
+     * 写入后过期时间，0表示不过期，默认0
+     */
+    private long expireAfterWriteMillis = 0;
+
+    /**
+     * 最后一次访问后过期时间，0表示不过期，默认0
+     */
+    private long expireAfterAccessMillis = 0;
+
+    /**
+     * 最大条目数，超出后淘汰最久未访问的条目，0表示不限制，默认0
+     */
+    private long maximumSize = 0;
+
+    /**
+     * 最大总权重，需通过Weigher计算各条目权重，0表示不限制，默认0
+     */
+    private long maximumWeight = 0;
+
+    /**
+     * 提前刷新时间，距写入后过期不足该时间时访问会在线程池中异步重新加载，期间仍返回旧值，0表示不提前刷新，默认0
+     */
+    private long refreshAheadMillis = 0;
+
+    /**
+     * 加载失败结果的缓存时间，期间相同key直接返回失败，避免下游故障时反复调用，0表示不缓存失败，默认1000ms
+     */
+    private long negativeTtlMillis = 1000;
+
+    /**
+     * 加载使用的线程池名称，默认defaultThreadPool
+     */
+    private String threadPoolName = ThreadPoolConstants.C_KEY_THREAD_POOL_DEFAULT;
+
+    /**
+     * @return the expireAfterWriteMillis
+     */
+    public long getExpireAfterWriteMillis() {
+        return expireAfterWriteMillis;
+    }
+
+    /**
+     * @param expireAfterWriteMillis the expireAfterWriteMillis to set
+     */
+    public void setExpireAfterWriteMillis(long expireAfterWriteMillis) {
+        this.expireAfterWriteMillis = expireAfterWriteMillis;
+    }
+
+    /**
+     * @return the expireAfterAccessMillis
+     */
+    public long getExpireAfterAccessMillis() {
+        return expireAfterAccessMillis;
+    }
+
+    /**
+     * @param expireAfterAccessMillis the expireAfterAccessMillis to set
+     */
+    public void setExpireAfterAccessMillis(long expireAfterAccessMillis) {
+        this.expireAfterAccessMillis = expireAfterAccessMillis;
+    }
+
+    /**
+     * @return the maximumSize
+     */
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @param maximumSize the maximumSize to set
+     */
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * @return the maximumWeight
+     */
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * @param maximumWeight the maximumWeight to set
+     */
+    public void setMaximumWeight(long maximumWeight) {
+        this.maximumWeight = maximumWeight;
+    }
+
+    /**
+     * @return the refreshAheadMillis
+     */
+    public long getRefreshAheadMillis() {
+        return refreshAheadMillis;
+    }
+
+    /**
+     * @param refreshAheadMillis the refreshAheadMillis to set
+     */
+    public void setRefreshAheadMillis(long refreshAheadMillis) {
+        this.refreshAheadMillis = refreshAheadMillis;
+    }
+
+    /**
+     * @return the negativeTtlMillis
+     */
+    public long getNegativeTtlMillis() {
+        return negativeTtlMillis;
+    }
+
+    /**
+     * @param negativeTtlMillis the negativeTtlMillis to set
+     */
+    public void setNegativeTtlMillis(long negativeTtlMillis) {
+        this.negativeTtlMillis = negativeTtlMillis;
+    }
+
+    /**
+     * @return the threadPoolName
+     */
+    public String getThreadPoolName() {
+        return threadPoolName;
+    }
+
+    /**
+     * @param threadPoolName the threadPoolName to set
+     */
+    public void setThreadPoolName(String threadPoolName) {
+        this.threadPoolName = threadPoolName;
+    }
+}
@@ -2,6 +2,11 @@ package com.thunisoft.t3.concurrent.configuration.model;
 
 import java.util.concurrent.RejectedExecutionHandler;
 
+import com.thunisoft.t3.concurrent.constant.InitMode;
+import com.thunisoft.t3.concurrent.constant.RejectedPolicyType;
+import com.thunisoft.t3.concurrent.constant.ThreadPoolType;
+import com.thunisoft.t3.concurrent.constant.WaitStrategy;
+import org.springframework.beans.BeanUtils;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 /**
@@ -38,6 +43,91 @@ public class ThreadPoolConfig {
      * 线程存活时间，默认30s
      */
     private int keepAliveSeconds = 30;
+
+    /**
+     * 线程池饱和时的拒绝策略，默认caller-runs
+     */
+    private RejectedPolicyType rejectedPolicy = RejectedPolicyType.CALLER_RUNS;
+
+    /**
+     * 等待队列空间的最长时间，仅rejected-policy为block时生效，默认1000ms
+     */
+    private long rejectedBlockMillis = 1000;
+
+    /**
+     * 饱和时转投的线程池名称，仅rejected-policy为overflow时生效
+     */
+    private String overflowThreadPool;
+
+    /**
+     * 线程池类型，默认thread-pool；virtual为虚拟线程，需Java 21及以上
+     */
+    private ThreadPoolType type = ThreadPoolType.THREAD_POOL;
+
+    /**
+     * 最大并发任务数，仅type为virtual时生效，默认不限制
+     */
+    private Integer maxConcurrency;
+
+    /**
+     * 并行度，仅type为fork-join时生效，默认取corePoolSize，未配置corePoolSize时取cpu核数
+     */
+    private Integer parallelism;
+
+    /**
+     * 是否使用FIFO异步模式，仅type为fork-join时生效，默认false；提交后不再join的事件型任务推荐为true
+     */
+    private boolean asyncMode = false;
+
+    /**
+     * 条带数，仅type为keyed时生效，key按哈希映射到条带，同一条带的任务串行执行，默认取corePoolSize×4，向上取2的幂
+     */
+    private Integer stripes;
+
+    /**
+     * 空闲工作线程的等待策略，仅type为ring-buffer时生效，默认park
+     */
+    private WaitStrategy waitStrategy = WaitStrategy.PARK;
+
+    /**
+     * 工作线程一次最多取出的任务数，仅type为ring-buffer时生效，默认16
+     */
+    private int drainBatch = 16;
+
+    /**
+     * 是否记录线程池指标，默认true，引入micrometer时生效
+     */
+    private boolean metricsEnabled = true;
+
+    /**
+     * 是否向线程池任务传递请求上下文、MDC等上下文，默认true；只执行内部任务、不读取上下文的线程池可关闭以省去捕获开销
+     */
+    private boolean contextPropagation = true;
+
+    /**
+     * 自适应并发限制，默认关闭
+     */
+    private ConcurrencyLimiterConfig limiter = new ConcurrencyLimiterConfig();
+
+    /**
+     * 按服务等级分道排队，默认关闭，仅type为thread-pool且queue-capacity大于0时生效
+     */
+    private LaneQueueConfig lanes = new LaneQueueConfig();
+
+    /**
+     * 线程池任务等待同一线程池的子任务且队列中有任务排队时，临时补偿的线程数上限，默认8，0为不补偿；仅type为thread-pool时生效
+     */
+    private int maxCompensationThreads = 8;
+
+    /**
+     * 线程池的创建时机，默认eager；lazy仅自定义线程池生效，warm启动时预先启动全部核心线程
+     */
+    private InitMode initMode = InitMode.EAGER;
+
+    /**
+     * 按任务阻塞比例自动调整线程数，默认关闭，仅type为thread-pool时生效
+     */
+    private PoolTunerConfig tuner = new PoolTunerConfig();
     
 
     public ThreadPoolTaskExecutor buildExecutor(RejectedExecutionHandler reject) {
@@ -57,6 +147,19 @@ public class ThreadPoolConfig {
         return executor;
     }
 
+    /**
+     * 复制当前配置，用于运行时调整时在原配置基础上修改部分参数
+     * @return 配置副本
+     */
+    public ThreadPoolConfig copy() {
+        ThreadPoolConfig copy = new ThreadPoolConfig();
+        BeanUtils.copyProperties(this, copy);
+        copy.setLimiter(limiter.copy());
+        copy.setLanes(lanes.copy());
+        copy.setTuner(tuner.copy());
+        return copy;
+    }
+
     /**
      * @return the corePoolSize
      */
@@ -127,4 +230,242 @@ public class ThreadPoolConfig {
         this.threadNamePrefix = threadNamePrefix;
     }
 
+    /**
+     * @return the type
+     */
+    public ThreadPoolType getType() {
+        return type;
+    }
+
+    /**
+     * @param type the type to set
+     */
+    public void setType(ThreadPoolType type) {
+        this.type = type;
+    }
+
+    /**
+     * @return the maxConcurrency
+     */
+    public Integer getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * @param maxConcurrency the maxConcurrency to set
+     */
+    public void setMaxConcurrency(Integer maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * @return the parallelism
+     */
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @param parallelism the parallelism to set
+     */
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @return the asyncMode
+     */
+    public boolean isAsyncMode() {
+        return asyncMode;
+    }
+
+    /**
+     * @param asyncMode the asyncMode to set
+     */
+    public void setAsyncMode(boolean asyncMode) {
+        this.asyncMode = asyncMode;
+    }
+
+    /**
+     * @return the stripes
+     */
+    public Integer getStripes() {
+        return stripes;
+    }
+
+    /**
+     * @param stripes the stripes to set
+     */
+    public void setStripes(Integer stripes) {
+        this.stripes = stripes;
+    }
+
+    /**
+     * @return the waitStrategy
+     */
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    /**
+     * @param waitStrategy the waitStrategy to set
+     */
+    public void setWaitStrategy(WaitStrategy waitStrategy) {
+        this.waitStrategy = waitStrategy;
+    }
+
+    /**
+     * @return the drainBatch
+     */
+    public int getDrainBatch() {
+        return drainBatch;
+    }
+
+    /**
+     * @param drainBatch the drainBatch to set
+     */
+    public void setDrainBatch(int drainBatch) {
+        this.drainBatch = drainBatch;
+    }
+
+    /**
+     * @return the metricsEnabled
+     */
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    /**
+     * @param metricsEnabled the metricsEnabled to set
+     */
+    public void setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+    }
+
+    /**
+     * @return the contextPropagation
+     */
+    public boolean isContextPropagation() {
+        return contextPropagation;
+    }
+
+    /**
+     * @param contextPropagation the contextPropagation to set
+     */
+    public void setContextPropagation(boolean contextPropagation) {
+        this.contextPropagation = contextPropagation;
+    }
+
+    /**
+     * @return the limiter
+     */
+    public ConcurrencyLimiterConfig getLimiter() {
+        return limiter;
+    }
+
+    /**
+     * @param limiter the limiter to set
+     */
+    public void setLimiter(ConcurrencyLimiterConfig limiter) {
+        this.limiter = limiter;
+    }
+
+    /**
+     * @return the lanes
+     */
+    public LaneQueueConfig getLanes() {
+        return lanes;
+    }
+
+    /**
+     * @param lanes the lanes to set
+     */
+    public void setLanes(LaneQueueConfig lanes) {
+        this.lanes = lanes;
+    }
+
+    /**
+     * @return the maxCompensationThreads
+     */
+    public int getMaxCompensationThreads() {
+        return maxCompensationThreads;
+    }
+
+    /**
+     * @param maxCompensationThreads the maxCompensationThreads to set
+     */
+    public void setMaxCompensationThreads(int maxCompensationThreads) {
+        this.maxCompensationThreads = maxCompensationThreads;
+    }
+
+    /**
+     * @return the initMode
+     */
+    public InitMode getInitMode() {
+        return initMode;
+    }
+
+    /**
+     * @param initMode the initMode to set
+     */
+    public void setInitMode(InitMode initMode) {
+        this.initMode = initMode;
+    }
+
+    /**
+     * @return the tuner
+     */
+    public PoolTunerConfig getTuner() {
+        return tuner;
+    }
+
+    /**
+     * @param tuner the tuner to set
+     */
+    public void setTuner(PoolTunerConfig tuner) {
+        this.tuner = tuner;
+    }
+
+    /**
+     * @return the rejectedPolicy
+     */
+    public RejectedPolicyType getRejectedPolicy() {
+        return rejectedPolicy;
+    }
+
+    /**
+     * @param rejectedPolicy the rejectedPolicy to set
+     */
+    public void setRejectedPolicy(RejectedPolicyType rejectedPolicy) {
+        this.rejectedPolicy = rejectedPolicy;
+    }
+
+    /**
+     * @return the rejectedBlockMillis
+     */
+    public long getRejectedBlockMillis() {
+        return rejectedBlockMillis;
+    }
+
+    /**
+     * @param rejectedBlockMillis the rejectedBlockMillis to set
+     */
+    public void setRejectedBlockMillis(long rejectedBlockMillis) {
+        this.rejectedBlockMillis = rejectedBlockMillis;
+    }
+
+    /**
+     * @return the overflowThreadPool
+     */
+    public String getOverflowThreadPool() {
+        return overflowThreadPool;
+    }
+
+    /**
+     * @param overflowThreadPool the overflowThreadPool to set
+     */
+    public void setOverflowThreadPool(String overflowThreadPool) {
+        this.overflowThreadPool = overflowThreadPool;
+    }
+
 }
@@ -0,0 +1,50 @@
+package com.thunisoft.t3.concurrent.configuration.model;
+
+/**
+ * Description:<b>共用定时器配置</b>
+ * 对应concurrent.timer节点，CompletableHelper的超时、延迟、重试等待及对冲均使用该定时器；
+ * 到期时间按tick-millis取整，精度要求高于该值的场景不应使用
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+public class TimerConfig {
+
+    /**
+     * 时间轮每格的时长，默认10ms
+     */
+    private long tickMillis = 10;
+
+    /**
+     * 时间轮格数，向上取2的幂，默认512
+     */
+    private int ticksPerWheel = 512;
+
+    /**
+     * @return the tickMillis
+     */
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    /**
+     * @param tickMillis the tickMillis to set
+     */
+    public void setTickMillis(long tickMillis) {
+        this.tickMillis = tickMillis;
+    }
+
+    /**
+     * @return the ticksPerWheel
+     */
+    public int getTicksPerWheel() {
+        return ticksPerWheel;
+    }
+
+    /**
+     * @param ticksPerWheel the ticksPerWheel to set
+     */
+    public void setTicksPerWheel(int ticksPerWheel) {
+        this.ticksPerWheel = ticksPerWheel;
+    }
+}
@@ -0,0 +1,20 @@
+package com.thunisoft.t3.concurrent.constant;
+
+/**
+ * Description:<b>线程池的创建时机</b>
+ * 配置项init-mode的取值
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+public enum InitMode {
+
+    /** 启动时创建，核心线程随任务提交逐个创建，默认值 **/
+    EAGER,
+
+    /** 首次通过CompletableHelper按名称获取或首次从容器获取bean时才创建，仅自定义线程池生效，适用于很少使用的线程池 **/
+    LAZY,
+
+    /** 启动时创建并预先启动全部核心线程，再提交一轮空任务走通队列及任务装饰器，避免首批请求承担线程创建开销 **/
+    WARM
+}
@@ -0,0 +1,17 @@
+package com.thunisoft.t3.concurrent.constant;
+
+/**
+ * Description:<b>自适应并发限制算法</b>
+ * 配置项limiter.algorithm的取值
+ *
+ * @author LKL
+ * @since 2026-10-18 19:20
+ **/
+public enum LimitAlgorithm {
+
+    /** 加性增乘性减：耗时超过阈值时按比例缩小，未超过时逐个放大，适用于下游有明确超时要求的场景 **/
+    AIMD,
+
+    /** 梯度：比较近期耗时与长期耗时，近期变慢即缩小，无需配置耗时阈值，默认值 **/
+    GRADIENT
+}
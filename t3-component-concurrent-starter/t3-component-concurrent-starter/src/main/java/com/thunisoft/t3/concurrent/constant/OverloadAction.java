@@ -0,0 +1,20 @@
+package com.thunisoft.t3.concurrent.constant;
+
+/**
+ * Description:<b>并发数达到限制时新任务的处理方式</b>
+ * 配置项limiter.overload-action的取值
+ *
+ * @author LKL
+ * @since 2026-10-18 19:20
+ **/
+public enum OverloadAction {
+
+    /** 由提交线程直接执行，默认值，与线程池饱和时的CallerRunsPolicy一致 **/
+    CALLER_RUNS,
+
+    /** 立即拒绝，提交时抛出ConcurrencyLimitExceededException **/
+    FAIL_FAST,
+
+    /** 提交线程等待空闲名额，超过queue-timeout-millis仍无名额时拒绝 **/
+    QUEUE_WITH_DEADLINE
+}
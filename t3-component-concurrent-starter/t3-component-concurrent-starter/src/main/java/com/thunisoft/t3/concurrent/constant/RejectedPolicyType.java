@@ -0,0 +1,26 @@
+package com.thunisoft.t3.concurrent.constant;
+
+/**
+ * Description:<b>线程池饱和时的拒绝策略</b>
+ * 配置项concurrent.threadpool.rejected-policy及custom-thread-pools.*.rejected-policy的取值
+ *
+ * @author LKL
+ * @since 2026-10-18 20:35
+ **/
+public enum RejectedPolicyType {
+
+    /** 由提交线程直接执行，默认值 **/
+    CALLER_RUNS,
+
+    /** 拒绝并抛出ThreadPoolRejectedException **/
+    ABORT,
+
+    /** 提交线程等待队列空间或空闲线程，超过rejected-block-millis仍无空间时抛出ThreadPoolRejectedException **/
+    BLOCK,
+
+    /** 取消队列中最早的任务后重新提交，被取消任务的Promise以CancellationException结束 **/
+    DISCARD_OLDEST,
+
+    /** 转投overflow-thread-pool指定的线程池 **/
+    OVERFLOW
+}
@@ -0,0 +1,26 @@
+package com.thunisoft.t3.concurrent.constant;
+
+/**
+ * Description:<b>线程池类型</b>
+ * 配置项concurrent.threadpool.type及custom-thread-pools.*.type的取值
+ *
+ * @author LKL
+ * @since 2026-10-18 14:05
+ **/
+public enum ThreadPoolType {
+
+    /** 基于ThreadPoolTaskExecutor的平台线程池，默认值 **/
+    THREAD_POOL,
+
+    /** 每个任务一个虚拟线程，需运行在Java 21及以上，低版本自动退化为THREAD_POOL **/
+    VIRTUAL,
+
+    /** 工作窃取的ForkJoinPool，适用于PDF渲染、报表汇总等计算密集型任务 **/
+    FORK_JOIN,
+
+    /** 按key串行执行，同一key的任务按提交顺序执行，不同key并行，适用于同一案件的操作需保持顺序的场景 **/
+    KEYED,
+
+    /** 固定线程数，基于有界无锁环形队列批量派发，适用于大量耗时极短的内存计算任务 **/
+    RING_BUFFER
+}
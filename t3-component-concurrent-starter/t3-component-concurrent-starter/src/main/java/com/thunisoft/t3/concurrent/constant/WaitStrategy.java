@@ -0,0 +1,20 @@
+package com.thunisoft.t3.concurrent.constant;
+
+/**
+ * Description:<b>空闲工作线程的等待策略</b>
+ * 配置项wait-strategy的取值，仅type为ring-buffer时生效
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+public enum WaitStrategy {
+
+    /** 忙等，延迟最低，每个工作线程始终占满一个cpu核，仅适用于独占cpu核的场景 **/
+    SPIN,
+
+    /** 短暂忙等后让出cpu，延迟较低，空闲时仍消耗cpu **/
+    YIELD,
+
+    /** 短暂忙等、让出cpu后挂起，由提交线程唤醒，空闲时不消耗cpu，默认值 **/
+    PARK
+}
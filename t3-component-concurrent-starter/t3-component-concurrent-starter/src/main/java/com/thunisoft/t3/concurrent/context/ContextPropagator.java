@@ -0,0 +1,42 @@
+package com.thunisoft.t3.concurrent.context;
+
+/**
+ * Description:<b>上下文传递SPI</b>
+ * 提交任务时在提交线程上capture，执行任务前在执行线程上restore，执行后reset还原执行线程原有的上下文；
+ * 注册为Spring bean或调用ContextPropagators.register即可生效
+ *
+ * @author LKL
+ * @since 2026-10-18 23:55
+ **/
+public interface ContextPropagator<T> {
+
+    /**
+     * Description:<b>在提交线程上捕获上下文</b>
+     * 调用频率与任务提交相同，应避免复制或分配对象
+     *
+     * @author LKL
+     * @since 2026-10-18 23:55
+     * @return 当前上下文，没有需要传递的上下文时返回null，执行时跳过该项
+     */
+    T capture();
+
+    /**
+     * Description:<b>在执行线程上设置捕获的上下文</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:55
+     * @param context capture返回的上下文，不为null
+     * @return 执行线程原有的上下文，没有时返回null
+     */
+    T restore(T context);
+
+    /**
+     * Description:<b>任务执行完后还原执行线程原有的上下文</b>
+     * 队列满时任务可能在提交线程上直接执行，因此应还原为previous而不是直接清空
+     *
+     * @author LKL
+     * @since 2026-10-18 23:55
+     * @param previous restore返回的原有上下文，为null时清空
+     */
+    void reset(T previous);
+}
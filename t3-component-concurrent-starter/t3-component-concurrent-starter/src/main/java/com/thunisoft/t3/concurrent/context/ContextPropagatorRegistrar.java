@@ -0,0 +1,24 @@
+package com.thunisoft.t3.concurrent.context;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Description:<b>注册容器中的上下文传递器bean</b>
+ *
+ * @author LKL
+ * @since 2026-10-18 23:55
+ **/
+@Component
+public class ContextPropagatorRegistrar {
+
+    /**
+     * @param propagators 容器中的上下文传递器
+     */
+    @Autowired(required = false)
+    public void setPropagators(List<ContextPropagator<?>> propagators) {
+        propagators.forEach(ContextPropagators::register);
+    }
+}
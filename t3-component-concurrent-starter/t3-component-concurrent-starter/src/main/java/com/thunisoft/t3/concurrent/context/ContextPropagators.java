@@ -0,0 +1,103 @@
+package com.thunisoft.t3.concurrent.context;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Description:<b>已注册的上下文传递器</b>
+ * 默认传递请求上下文、LocaleContext、MDC、截止时间、服务等级、结构化并发作用域，引入spring-security时传递SecurityContext；
+ * 注册表为只读数组快照，注册时整体替换，提交任务时读取无需加锁
+ *
+ * @author LKL
+ * @since 2026-10-18 23:55
+ **/
+public final class ContextPropagators {
+
+    /** ContextSnapshot以long位图记录已设置的项 **/
+    private static final int MAX_PROPAGATORS = 64;
+
+    private static volatile ContextPropagator<Object>[] propagators = defaults();
+
+    private ContextPropagators() {
+    }
+
+    /**
+     * Description:<b>注册上下文传递器</b>
+     * 同一实例重复注册时忽略
+     *
+     * @author LKL
+     * @since 2026-10-18 23:55
+     * @param propagator 上下文传递器
+     */
+    @SuppressWarnings("unchecked")
+    public static synchronized void register(ContextPropagator<?> propagator) {
+        ContextPropagator<Object>[] current = propagators;
+        for (ContextPropagator<Object> registered : current) {
+            if (registered == propagator) {
+                return;
+            }
+        }
+        if (current.length >= MAX_PROPAGATORS) {
+            throw new IllegalStateException(
+                    "上下文传递器不能超过" + MAX_PROPAGATORS + "个");
+        }
+        ContextPropagator<Object>[] updated = Arrays
+                .copyOf(current, current.length + 1);
+        updated[current.length] = (ContextPropagator<Object>) propagator;
+        propagators = updated;
+    }
+
+    /**
+     * Description:<b>移除指定类型的上下文传递器</b>
+     * 如不需要全局传递MDC时移除MdcContextPropagator
+     *
+     * @author LKL
+     * @since 2026-10-18 23:55
+     * @param type 上下文传递器类型
+     */
+    @SuppressWarnings("unchecked")
+    public static synchronized void remove(
+            Class<? extends ContextPropagator> type) {
+        propagators = Arrays.stream(propagators)
+                .filter(propagator -> !type.isInstance(propagator))
+                .toArray(ContextPropagator[]::new);
+    }
+
+    /**
+     * Description:<b>恢复为默认的上下文传递器</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:55
+     */
+    public static synchronized void reset() {
+        propagators = defaults();
+    }
+
+    /**
+     * @return 已注册的上下文传递器
+     */
+    public static List<ContextPropagator<?>> list() {
+        return Collections.unmodifiableList(Arrays.asList(propagators));
+    }
+
+    static ContextPropagator<Object>[] get() {
+        return propagators;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ContextPropagator<Object>[] defaults() {
+        List<ContextPropagator<?>> defaults = new ArrayList<>(7);
+        defaults.add(new RequestContextPropagator());
+        defaults.add(new LocaleContextPropagator());
+        defaults.add(new MdcContextPropagator());
+        defaults.add(new DeadlineContextPropagator());
+        defaults.add(new ServiceClassContextPropagator());
+        defaults.add(new TaskScopeContextPropagator());
+        if (SecurityContextPropagator.isPresent()) {
+            defaults.add(new SecurityContextPropagator());
+        }
+        return defaults.toArray(new ContextPropagator[0]);
+    }
+}
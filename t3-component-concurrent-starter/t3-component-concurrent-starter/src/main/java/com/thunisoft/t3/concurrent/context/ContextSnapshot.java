@@ -0,0 +1,77 @@
+package com.thunisoft.t3.concurrent.context;
+
+/**
+ * Description:<b>一次提交捕获的全部上下文</b>
+ * 每次提交只分配一个快照及一个数组；执行时数组中的值与执行线程原有的上下文交换，还原时再取出，
+ * 因此一个快照只能执行一次，与被包装的任务一致；传递器最多64个
+ *
+ * @author LKL
+ * @since 2026-10-18 23:55
+ **/
+public final class ContextSnapshot {
+
+    private final ContextPropagator<Object>[] propagators;
+
+    /** 执行前为捕获的上下文，执行中为执行线程原有的上下文 **/
+    private final Object[] values;
+
+    private ContextSnapshot(ContextPropagator<Object>[] propagators,
+            Object[] values) {
+        this.propagators = propagators;
+        this.values = values;
+    }
+
+    /**
+     * Description:<b>按已注册的上下文传递器捕获当前线程的上下文</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:55
+     * @return 快照，全部传递器都没有上下文时返回null，调用方应跳过包装
+     */
+    public static ContextSnapshot capture() {
+        return capture(ContextPropagators.get());
+    }
+
+    static ContextSnapshot capture(ContextPropagator<Object>[] propagators) {
+        Object[] values = null;
+        for (int i = 0; i < propagators.length; i++) {
+            Object value = propagators[i].capture();
+            if (value != null) {
+                if (values == null) {
+                    values = new Object[propagators.length];
+                }
+                values[i] = value;
+            }
+        }
+        return values == null ? null : new ContextSnapshot(propagators, values);
+    }
+
+    /**
+     * Description:<b>在当前线程上设置快照中的上下文后执行，执行后还原</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:55
+     * @param runnable 任务
+     */
+    public void run(Runnable runnable) {
+        // 已设置的项，执行线程原有的上下文可能为null，不能再以values[i]是否为null区分
+        long restored = 0;
+        try {
+            for (int i = 0; i < propagators.length; i++) {
+                Object value = values[i];
+                if (value != null) {
+                    values[i] = propagators[i].restore(value);
+                    restored |= 1L << i;
+                }
+            }
+            runnable.run();
+        } finally {
+            // 逆序还原，后设置的先还原
+            for (int i = propagators.length - 1; i >= 0; i--) {
+                if ((restored & (1L << i)) != 0) {
+                    propagators[i].reset(values[i]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.thunisoft.t3.concurrent.context;
+
+import com.thunisoft.t3.concurrent.deadline.Deadline;
+import com.thunisoft.t3.concurrent.deadline.DeadlineHolder;
+
+/**
+ * Description:<b>传递截止时间</b>
+ * 嵌套提交的任务继承提交线程剩余的时间预算
+ *
+ * @author LKL
+ * @since 2026-10-18 23:55
+ **/
+public class DeadlineContextPropagator implements ContextPropagator<Deadline> {
+
+    @Override
+    public Deadline capture() {
+        return DeadlineHolder.getDeadline();
+    }
+
+    @Override
+    public Deadline restore(Deadline context) {
+        Deadline previous = DeadlineHolder.getDeadline();
+        DeadlineHolder.setDeadline(context);
+        return previous;
+    }
+
+    @Override
+    public void reset(Deadline previous) {
+        DeadlineHolder.setDeadline(previous);
+    }
+}
@@ -0,0 +1,31 @@
+package com.thunisoft.t3.concurrent.context;
+
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+/**
+ * Description:<b>传递LocaleContext</b>
+ * 异步线程中按请求语言获取国际化消息时使用
+ *
+ * @author LKL
+ * @since 2026-10-18 23:55
+ **/
+public class LocaleContextPropagator implements ContextPropagator<LocaleContext> {
+
+    @Override
+    public LocaleContext capture() {
+        return LocaleContextHolder.getLocaleContext();
+    }
+
+    @Override
+    public LocaleContext restore(LocaleContext context) {
+        LocaleContext previous = LocaleContextHolder.getLocaleContext();
+        LocaleContextHolder.setLocaleContext(context);
+        return previous;
+    }
+
+    @Override
+    public void reset(LocaleContext previous) {
+        LocaleContextHolder.setLocaleContext(previous);
+    }
+}
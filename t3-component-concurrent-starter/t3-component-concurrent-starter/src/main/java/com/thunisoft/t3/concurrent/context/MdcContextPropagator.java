@@ -0,0 +1,39 @@
+package com.thunisoft.t3.concurrent.context;
+
+import org.slf4j.MDC;
+
+import java.util.Map;
+
+/**
+ * Description:<b>传递SLF4J MDC</b>
+ * 使日志中的traceId、用户等MDC字段在异步线程中保持一致；MDC为空时跳过，不复制
+ *
+ * @author LKL
+ * @since 2026-10-18 23:55
+ **/
+public class MdcContextPropagator implements ContextPropagator<Map<String, String>> {
+
+    @Override
+    public Map<String, String> capture() {
+        // MDC的实现不保证可共享内部Map，只能复制
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return context == null || context.isEmpty() ? null : context;
+    }
+
+    @Override
+    public Map<String, String> restore(Map<String, String> context) {
+        // 执行线程没有MDC时getCopyOfContextMap返回null，只有原有MDC时才复制一次用于还原
+        Map<String, String> previous = MDC.getCopyOfContextMap();
+        MDC.setContextMap(context);
+        return previous == null || previous.isEmpty() ? null : previous;
+    }
+
+    @Override
+    public void reset(Map<String, String> previous) {
+        if (previous == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(previous);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.thunisoft.t3.concurrent.context;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Description:<b>传递请求上下文RequestAttributes</b>
+ * 非web线程（定时任务、MQ监听等）提交任务时没有请求上下文，跳过而不是抛出异常
+ *
+ * @author LKL
+ * @since 2026-10-18 23:55
+ **/
+public class RequestContextPropagator
+        implements ContextPropagator<RequestAttributes> {
+
+    @Override
+    public RequestAttributes capture() {
+        return RequestContextHolder.getRequestAttributes();
+    }
+
+    @Override
+    public RequestAttributes restore(RequestAttributes context) {
+        RequestAttributes previous = RequestContextHolder
+                .getRequestAttributes();
+        RequestContextHolder.setRequestAttributes(context);
+        return previous;
+    }
+
+    @Override
+    public void reset(RequestAttributes previous) {
+        if (previous == null) {
+            RequestContextHolder.resetRequestAttributes();
+        } else {
+            RequestContextHolder.setRequestAttributes(previous);
+        }
+    }
+}
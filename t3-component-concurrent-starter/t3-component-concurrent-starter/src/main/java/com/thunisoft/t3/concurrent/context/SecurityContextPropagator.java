@@ -0,0 +1,74 @@
+package com.thunisoft.t3.concurrent.context;
+
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * Description:<b>传递Spring Security的SecurityContext</b>
+ * 组件不依赖spring-security，引入时通过反射调用SecurityContextHolder；未登录（无Authentication）时跳过
+ *
+ * @author LKL
+ * @since 2026-10-18 23:55
+ **/
+public class SecurityContextPropagator implements ContextPropagator<Object> {
+
+    private static final String HOLDER_CLASS = "org.springframework.security.core.context.SecurityContextHolder";
+
+    private static final String CONTEXT_CLASS = "org.springframework.security.core.context.SecurityContext";
+
+    private final Method getContext;
+
+    private final Method setContext;
+
+    private final Method clearContext;
+
+    private final Method getAuthentication;
+
+    public SecurityContextPropagator() {
+        ClassLoader classLoader = SecurityContextPropagator.class
+                .getClassLoader();
+        Class<?> holder = ClassUtils.resolveClassName(HOLDER_CLASS, classLoader);
+        Class<?> context = ClassUtils
+                .resolveClassName(CONTEXT_CLASS, classLoader);
+        this.getContext = ReflectionUtils.findMethod(holder, "getContext");
+        this.setContext = ReflectionUtils
+                .findMethod(holder, "setContext", context);
+        this.clearContext = ReflectionUtils.findMethod(holder, "clearContext");
+        this.getAuthentication = ReflectionUtils
+                .findMethod(context, "getAuthentication");
+    }
+
+    /**
+     * @return 是否引入了spring-security
+     */
+    public static boolean isPresent() {
+        return ClassUtils.isPresent(HOLDER_CLASS,
+                SecurityContextPropagator.class.getClassLoader());
+    }
+
+    @Override
+    public Object capture() {
+        Object context = ReflectionUtils.invokeMethod(getContext, null);
+        return context == null
+                || ReflectionUtils.invokeMethod(getAuthentication, context)
+                == null ? null : context;
+    }
+
+    @Override
+    public Object restore(Object context) {
+        Object previous = capture();
+        ReflectionUtils.invokeMethod(setContext, null, context);
+        return previous;
+    }
+
+    @Override
+    public void reset(Object previous) {
+        if (previous == null) {
+            ReflectionUtils.invokeMethod(clearContext, null);
+        } else {
+            ReflectionUtils.invokeMethod(setContext, null, previous);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.thunisoft.t3.concurrent.context;
+
+import com.thunisoft.t3.concurrent.lane.ServiceClass;
+import com.thunisoft.t3.concurrent.lane.ServiceClassHolder;
+
+/**
+ * Description:<b>传递服务等级</b>
+ * 嵌套提交的任务与外层任务进入同一道排队
+ *
+ * @author LKL
+ * @since 2026-10-18 23:58
+ **/
+public class ServiceClassContextPropagator
+        implements ContextPropagator<ServiceClass> {
+
+    @Override
+    public ServiceClass capture() {
+        return ServiceClassHolder.getServiceClass();
+    }
+
+    @Override
+    public ServiceClass restore(ServiceClass context) {
+        ServiceClass previous = ServiceClassHolder.getServiceClass();
+        ServiceClassHolder.setServiceClass(context);
+        return previous;
+    }
+
+    @Override
+    public void reset(ServiceClass previous) {
+        ServiceClassHolder.setServiceClass(previous);
+    }
+}
@@ -0,0 +1,30 @@
+package com.thunisoft.t3.concurrent.context;
+
+import com.thunisoft.t3.concurrent.completable.TaskScope;
+
+/**
+ * Description:<b>传递结构化并发作用域</b>
+ * 作用域内任务中再提交的Promise同样归属该作用域，离开作用域时一并取消
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+public class TaskScopeContextPropagator implements ContextPropagator<TaskScope> {
+
+    @Override
+    public TaskScope capture() {
+        return TaskScope.current();
+    }
+
+    @Override
+    public TaskScope restore(TaskScope context) {
+        TaskScope previous = TaskScope.current();
+        TaskScope.setCurrent(context);
+        return previous;
+    }
+
+    @Override
+    public void reset(TaskScope previous) {
+        TaskScope.setCurrent(previous);
+    }
+}
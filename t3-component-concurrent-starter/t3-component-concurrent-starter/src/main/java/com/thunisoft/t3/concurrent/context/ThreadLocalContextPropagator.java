@@ -0,0 +1,38 @@
+package com.thunisoft.t3.concurrent.context;
+
+/**
+ * Description:<b>传递自定义ThreadLocal</b>
+ * 如：ContextPropagators.register(new ThreadLocalContextPropagator&lt;&gt;(TenantHolder.TENANT))
+ *
+ * @author LKL
+ * @since 2026-10-18 23:55
+ **/
+public class ThreadLocalContextPropagator<T> implements ContextPropagator<T> {
+
+    private final ThreadLocal<T> threadLocal;
+
+    public ThreadLocalContextPropagator(ThreadLocal<T> threadLocal) {
+        this.threadLocal = threadLocal;
+    }
+
+    @Override
+    public T capture() {
+        return threadLocal.get();
+    }
+
+    @Override
+    public T restore(T context) {
+        T previous = threadLocal.get();
+        threadLocal.set(context);
+        return previous;
+    }
+
+    @Override
+    public void reset(T previous) {
+        if (previous == null) {
+            threadLocal.remove();
+        } else {
+            threadLocal.set(previous);
+        }
+    }
+}
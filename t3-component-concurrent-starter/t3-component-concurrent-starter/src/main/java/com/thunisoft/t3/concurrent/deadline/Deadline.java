@@ -0,0 +1,89 @@
+package com.thunisoft.t3.concurrent.deadline;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Description:<b>截止时间</b>
+ * 基于System.nanoTime，不受系统时钟调整影响；嵌套的异步任务继承截止时间而不是超时时长，
+ * 每一层拿到的都是剩余的时间预算
+ *
+ * @author LKL
+ * @since 2026-10-18 22:20
+ **/
+public final class Deadline implements Comparable<Deadline> {
+
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Description:<b>从当前时间起经过指定时长后的截止时间</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 22:20
+     * @param timeout 时长
+     * @return 截止时间
+     */
+    public static Deadline after(Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * Description:<b>取两个截止时间中较早的一个</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 22:20
+     * @param other 另一个截止时间，可为null
+     * @return 较早的截止时间
+     */
+    public Deadline min(Deadline other) {
+        return other == null || compareTo(other) <= 0 ? this : other;
+    }
+
+    /**
+     * @return 剩余纳秒数，已过期时为0或负数
+     */
+    public long remainingNanos() {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    /**
+     * @return 剩余时长，已过期时为0
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, remainingNanos()));
+    }
+
+    /**
+     * @return 是否已过期
+     */
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    @Override
+    public int compareTo(Deadline other) {
+        // nanoTime可能溢出，按差值比较
+        return Long.signum(deadlineNanos - other.deadlineNanos);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Deadline
+                && ((Deadline) o).deadlineNanos == deadlineNanos;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(deadlineNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline[remaining=" + TimeUnit.NANOSECONDS
+                .toMillis(remainingNanos()) + "ms]";
+    }
+}
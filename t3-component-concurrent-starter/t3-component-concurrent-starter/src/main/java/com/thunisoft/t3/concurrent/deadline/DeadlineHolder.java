@@ -0,0 +1,72 @@
+package com.thunisoft.t3.concurrent.deadline;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Description:<b>当前线程的截止时间</b>
+ * 与RequestContextHolder类似，由ContextCopyDecorator经DeadlineContextPropagator在提交任务时捕获、在执行线程上还原，
+ * CompletableHelper提交任务时若当前线程带有截止时间，任务在截止时间到达时被取消
+ *
+ * @author LKL
+ * @since 2026-10-18 22:25
+ **/
+public final class DeadlineHolder {
+
+    private static final ThreadLocal<Deadline> DEADLINE = new ThreadLocal<>();
+
+    private DeadlineHolder() {
+    }
+
+    /**
+     * @return 当前线程的截止时间，未设置时为null
+     */
+    public static Deadline getDeadline() {
+        return DEADLINE.get();
+    }
+
+    /**
+     * @param deadline 当前线程的截止时间，为null时清除
+     */
+    public static void setDeadline(Deadline deadline) {
+        if (deadline == null) {
+            DEADLINE.remove();
+        } else {
+            DEADLINE.set(deadline);
+        }
+    }
+
+    /**
+     * Description:<b>在截止时间内执行</b>
+     * 执行期间提交的异步任务均继承该截止时间；已有更早的截止时间时保留更早的一个
+     * 如：DeadlineHolder.callWithin(Duration.ofSeconds(3), () -> service.aggregate(id))
+     *
+     * @author LKL
+     * @since 2026-10-18 22:25
+     * @param timeout 时长
+     * @param supplier 执行逻辑
+     * @return 执行结果
+     */
+    public static <T> T callWithin(Duration timeout, Supplier<T> supplier) {
+        return callWithin(Deadline.after(timeout), supplier);
+    }
+
+    /**
+     * Description:<b>在截止时间内执行</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 22:25
+     * @param deadline 截止时间
+     * @param supplier 执行逻辑
+     * @return 执行结果
+     */
+    public static <T> T callWithin(Deadline deadline, Supplier<T> supplier) {
+        Deadline previous = DEADLINE.get();
+        setDeadline(deadline.min(previous));
+        try {
+            return supplier.get();
+        } finally {
+            setDeadline(previous);
+        }
+    }
+}
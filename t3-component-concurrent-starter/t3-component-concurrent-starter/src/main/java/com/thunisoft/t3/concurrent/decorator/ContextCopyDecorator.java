@@ -1,16 +1,37 @@
 package com.thunisoft.t3.concurrent.decorator;
 
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import com.thunisoft.t3.concurrent.context.ContextPropagators;
+import com.thunisoft.t3.concurrent.context.ContextSnapshot;
 import org.springframework.core.task.TaskDecorator;
-import org.springframework.web.context.request.RequestAttributes;
-import org.springframework.web.context.request.RequestContextHolder;
 
 /**
- * Description:<b>请求上下文复制装饰器</b>
+ * Description:<b>上下文复制装饰器</b>
+ * 按ContextPropagators中注册的传递器复制请求上下文、MDC、截止时间等，一次提交捕获为一个快照；
+ * 提交线程没有任何上下文时不包装任务
  *
  * @author LKL
  * @since 2020-08-21 09:44
  **/
 public class ContextCopyDecorator implements TaskDecorator {
+
+    /** 不传递上下文，原样返回任务 **/
+    private static final TaskDecorator NONE = runnable -> runnable;
+
+    /**
+     * Description:<b>按线程池配置获取装饰器</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:55
+     * @param threadPoolConfig 线程池配置
+     * @return context-propagation关闭时返回不包装任务的装饰器
+     */
+    public static TaskDecorator of(ThreadPoolConfig threadPoolConfig) {
+        return threadPoolConfig.isContextPropagation() ?
+                new ContextCopyDecorator() :
+                NONE;
+    }
+
     /**
      * Decorate the given {@code Runnable}, returning a potentially wrapped
      * {@code Runnable} for actual execution.
@@ -19,15 +40,36 @@ public class ContextCopyDecorator implements TaskDecorator {
      */
     @Override
     public Runnable decorate(Runnable runnable) {
-        RequestAttributes context = RequestContextHolder
-                .currentRequestAttributes();
-        return () -> {
-            try {
-                RequestContextHolder.setRequestAttributes(context);
-                runnable.run();
-            } finally {
-                RequestContextHolder.resetRequestAttributes();
-            }
-        };
+        // 超时回调、定时任务等非请求线程提交时可能没有任何上下文，此时跳过包装
+        ContextSnapshot snapshot = ContextSnapshot.capture();
+        return snapshot == null ?
+                runnable :
+                new ContextCopyTask(runnable, snapshot);
+    }
+
+    /**
+     * 在执行线程上还原提交线程上下文的任务包装
+     */
+    private static final class ContextCopyTask implements WrappedTask {
+
+        private final Runnable delegate;
+
+        private final ContextSnapshot snapshot;
+
+        private ContextCopyTask(Runnable delegate, ContextSnapshot snapshot) {
+            this.delegate = delegate;
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public void run() {
+            // 队列满时CallerRunsPolicy会在提交线程上直接执行，执行完需还原提交线程原有的上下文而不是清空
+            snapshot.run(delegate);
+        }
+
+        @Override
+        public Runnable getDelegate() {
+            return delegate;
+        }
     }
 }
@@ -0,0 +1,75 @@
+package com.thunisoft.t3.concurrent.decorator;
+
+import com.thunisoft.t3.concurrent.metrics.ThreadPoolMetrics;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Description:<b>记录排队与执行耗时的装饰器</b>
+ * 在原装饰器之外再包装一层，提交时记下时间点，执行时计算排队耗时和执行耗时；
+ * 指标关闭时直接返回原装饰结果，不额外包装
+ *
+ * @author LKL
+ * @since 2026-10-18 18:35
+ **/
+public class InstrumentedTaskDecorator implements TaskDecorator {
+
+    private final TaskDecorator delegate;
+
+    private final ThreadPoolMetrics metrics;
+
+    /**
+     * @param delegate 原装饰器，如ContextCopyDecorator
+     * @param metrics 线程池指标记录器
+     */
+    public InstrumentedTaskDecorator(TaskDecorator delegate,
+            ThreadPoolMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Runnable decorated = delegate.decorate(runnable);
+        if (!metrics.isEnabled()) {
+            return decorated;
+        }
+        return new InstrumentedRunnable(decorated, metrics, System.nanoTime());
+    }
+
+    /**
+     * 记录耗时的任务包装
+     */
+    private static final class InstrumentedRunnable implements WrappedTask {
+
+        private final Runnable delegate;
+
+        private final ThreadPoolMetrics metrics;
+
+        private final long submitNanos;
+
+        private InstrumentedRunnable(Runnable delegate,
+                ThreadPoolMetrics metrics, long submitNanos) {
+            this.delegate = delegate;
+            this.metrics = metrics;
+            this.submitNanos = submitNanos;
+        }
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            try {
+                delegate.run();
+            } finally {
+                if (!WrappedTask.isRunElsewhere(delegate)) {
+                    metrics.recordQueueWait(start - submitNanos);
+                    metrics.recordExecution(System.nanoTime() - start);
+                }
+            }
+        }
+
+        @Override
+        public Runnable getDelegate() {
+            return delegate;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.thunisoft.t3.concurrent.decorator;
+
+/**
+ * Description:<b>组件内部对任务的包装</b>
+ * 线程池队列中保存的是装饰后的任务，拒绝策略转投或丢弃任务时通过该接口取回提交时的原始任务
+ *
+ * @author LKL
+ * @since 2026-10-18 20:30
+ **/
+public interface WrappedTask extends Runnable {
+
+    /**
+     * @return 被包装的任务
+     */
+    Runnable getDelegate();
+
+    /**
+     * @return 任务是否已由其他线程代为执行，为true时线程池中的执行为空操作
+     */
+    default boolean isRunElsewhere() {
+        return false;
+    }
+
+    /**
+     * Description:<b>逐层取回原始任务</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 20:30
+     * @param task 线程池中的任务
+     * @return 最内层未被组件包装的任务，通常是CompletableTask
+     */
+    static Runnable unwrap(Runnable task) {
+        Runnable current = task;
+        while (current instanceof WrappedTask) {
+            current = ((WrappedTask) current).getDelegate();
+        }
+        return current;
+    }
+
+    /**
+     * Description:<b>任务是否已由其他线程代为执行</b>
+     * 执行后调用，为true时线程池中的本次执行为空操作，耗时、并发限制等采样不应计入
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param task 线程池中的任务
+     * @return 任一层包装已由其他线程代为执行时返回true
+     */
+    static boolean isRunElsewhere(Runnable task) {
+        Runnable current = task;
+        while (current instanceof WrappedTask) {
+            if (((WrappedTask) current).isRunElsewhere()) {
+                return true;
+            }
+            current = ((WrappedTask) current).getDelegate();
+        }
+        return false;
+    }
+}
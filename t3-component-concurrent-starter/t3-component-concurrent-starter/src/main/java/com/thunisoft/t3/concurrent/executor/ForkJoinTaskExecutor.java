@@ -0,0 +1,79 @@
+package com.thunisoft.t3.concurrent.executor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Description:<b>ForkJoinPool执行器</b>
+ * 每个工作线程拥有独立的双端队列，空闲线程从其他线程队列尾部窃取任务，避免单一共享队列的竞争；
+ * 任务中有阻塞调用时应通过{@link ManagedBlockers}执行，使线程池临时补偿线程以维持并行度
+ *
+ * @author LKL
+ * @since 2026-10-18 15:10
+ **/
+@Slf4j
+public class ForkJoinTaskExecutor implements TaskExecutor, DisposableBean {
+
+    /** 实际执行任务的ForkJoinPool **/
+    private final ForkJoinPool forkJoinPool;
+
+    /** 任务装饰器，在提交线程上调用以复制上下文 **/
+    private final TaskDecorator taskDecorator;
+
+    /** 关闭时等待任务完成的最长时间 **/
+    private final int awaitTerminationSeconds;
+
+    /**
+     * @param threadNamePrefix 线程名前缀
+     * @param parallelism 并行度
+     * @param asyncMode 是否FIFO异步模式
+     * @param taskDecorator 任务装饰器
+     * @param awaitTerminationSeconds 关闭时等待任务完成的最长时间
+     */
+    public ForkJoinTaskExecutor(String threadNamePrefix, int parallelism,
+            boolean asyncMode, TaskDecorator taskDecorator,
+            int awaitTerminationSeconds) {
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        this.forkJoinPool = new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory
+                    .newThread(pool);
+            thread.setName(threadNamePrefix + threadNumber.getAndIncrement());
+            return thread;
+        }, (thread, e) -> log.error("线程{}执行任务异常", thread.getName(), e),
+                asyncMode);
+        this.taskDecorator = taskDecorator;
+        this.awaitTerminationSeconds = awaitTerminationSeconds;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        forkJoinPool.execute(
+                taskDecorator == null ? task : taskDecorator.decorate(task));
+    }
+
+    /**
+     * @return 实际执行任务的ForkJoinPool，可用于提交RecursiveTask等分治任务
+     */
+    public ForkJoinPool getForkJoinPool() {
+        return forkJoinPool;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        forkJoinPool.shutdown();
+        if (!forkJoinPool
+                .awaitTermination(awaitTerminationSeconds, TimeUnit.SECONDS)) {
+            log.warn("ForkJoinPool关闭超时，仍有{}个任务排队、{}个线程活动",
+                    forkJoinPool.getQueuedSubmissionCount() + forkJoinPool
+                            .getQueuedTaskCount(),
+                    forkJoinPool.getActiveThreadCount());
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.thunisoft.t3.concurrent.executor;
+
+import com.thunisoft.t3.concurrent.rejection.ThreadPoolRejectedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Description:<b>按key串行执行的执行器</b>
+ * key按哈希映射到固定数量的条带，同一条带的任务按提交顺序逐个执行，不同条带的任务在工作线程上并行；
+ * 条带没有专属线程，有任务时才向工作线程池提交一次排空，入队与交接只用CAS，不加锁也不阻塞工作线程；
+ * 不带key提交的任务直接在工作线程池中并行执行
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+@Slf4j
+public class KeyedTaskExecutor implements TaskExecutor, DisposableBean {
+
+    /** 一次排空最多执行的任务数，超过后重新排队，避免任务多的条带长期占用工作线程 **/
+    private static final int DRAIN_BATCH = 32;
+
+    /** 线程池名称，用于拒绝时的异常 **/
+    private final String threadPoolName;
+
+    /** 执行排空的工作线程池 **/
+    private final ThreadPoolTaskExecutor workers;
+
+    /** 任务装饰器，在提交线程上调用以复制上下文 **/
+    private final TaskDecorator taskDecorator;
+
+    private final Stripe[] stripes;
+
+    private final int mask;
+
+    /** 每个条带最多排队的任务数，小于等于0表示不限制 **/
+    private final int stripeCapacity;
+
+    /**
+     * @param threadPoolName 线程池名称
+     * @param workers 已初始化的工作线程池，队列应无界，排队的排空任务数不超过条带数
+     * @param stripes 条带数，向上取2的幂
+     * @param stripeCapacity 每个条带最多排队的任务数，小于等于0表示不限制
+     * @param taskDecorator 任务装饰器
+     */
+    public KeyedTaskExecutor(String threadPoolName,
+            ThreadPoolTaskExecutor workers, int stripes, int stripeCapacity,
+            TaskDecorator taskDecorator) {
+        int size = 1;
+        while (size < stripes) {
+            size <<= 1;
+        }
+        this.threadPoolName = threadPoolName;
+        this.workers = workers;
+        this.taskDecorator = taskDecorator;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.mask = size - 1;
+        this.stripeCapacity = stripeCapacity;
+    }
+
+    /**
+     * 不带key的任务直接并行执行，不保证顺序
+     */
+    @Override
+    public void execute(Runnable task) {
+        workers.execute(decorate(task));
+    }
+
+    /**
+     * Description:<b>按key串行执行任务</b>
+     * 同一key的任务按调用顺序执行，前一个任务结束后才开始下一个；不同key映射到同一条带时同样串行
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param key 任务的key，需正确实现hashCode，如案件ID
+     * @param task 任务
+     * @throws ThreadPoolRejectedException 条带排队的任务数达到queue-capacity时
+     */
+    public void execute(Object key, Runnable task) {
+        stripeOf(key).execute(decorate(task));
+    }
+
+    /**
+     * Description:<b>获取按指定key串行执行的Executor</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param key 任务的key
+     * @return 提交的任务均按该key串行执行的Executor
+     */
+    public Executor forKey(Object key) {
+        Stripe stripe = stripeOf(key);
+        return task -> stripe.execute(decorate(task));
+    }
+
+    private Runnable decorate(Runnable task) {
+        return taskDecorator == null ? task : taskDecorator.decorate(task);
+    }
+
+    private Stripe stripeOf(Object key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & mask];
+    }
+
+    /**
+     * @return 条带数
+     */
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    /**
+     * @return 各条带排队及执行中的任务数之和
+     */
+    public int getQueuedCount() {
+        int queued = 0;
+        for (Stripe stripe : stripes) {
+            queued += stripe.pending.get();
+        }
+        return queued;
+    }
+
+    /**
+     * @return 工作线程池，用于调整线程数及查看状态
+     */
+    public ThreadPoolTaskExecutor getWorkers() {
+        return workers;
+    }
+
+    /**
+     * @return 工作线程池的ThreadPoolExecutor
+     */
+    public ThreadPoolExecutor getThreadPoolExecutor() {
+        return workers.getThreadPoolExecutor();
+    }
+
+    @Override
+    public void destroy() {
+        workers.shutdown();
+    }
+
+    /**
+     * 串行执行的条带：pending为已入队未执行完的任务数，由0变为1的提交线程负责提交排空，
+     * 排空线程执行完一个任务后减1，减到0时退出，此后的提交重新由0变为1
+     */
+    private final class Stripe implements Runnable {
+
+        private final ConcurrentLinkedQueue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private void execute(Runnable task) {
+            if (stripeCapacity > 0 && pending.get() >= stripeCapacity) {
+                throw new ThreadPoolRejectedException(threadPoolName,
+                        "线程池[" + threadPoolName + "]条带排队任务数已达" + stripeCapacity
+                                + "，拒绝任务：" + task);
+            }
+            // 先入队再计数，排空线程看到计数大于0时任务一定已在队列中
+            tasks.offer(task);
+            if (pending.getAndIncrement() == 0) {
+                try {
+                    workers.execute(this);
+                } catch (RuntimeException e) {
+                    // 工作线程池已关闭
+                    tasks.remove(task);
+                    pending.decrementAndGet();
+                    throw e;
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < DRAIN_BATCH; i++) {
+                Runnable task = tasks.poll();
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    log.error("线程池[{}]按key串行执行的任务异常", threadPoolName, e);
+                } finally {
+                    // 清除取消任务留下的中断标记，避免中断同一条带的后续任务
+                    Thread.interrupted();
+                }
+                if (pending.decrementAndGet() == 0) {
+                    return;
+                }
+            }
+            workers.execute(this);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.thunisoft.t3.concurrent.executor;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Supplier;
+
+/**
+ * Description:<b>ForkJoinPool阻塞调用工具类</b>
+ * 在ForkJoinPool工作线程中执行阻塞调用时，通过ManagedBlocker通知线程池临时补偿一个线程，
+ * 避免计算密集型线程池因阻塞调用而损失并行度；非ForkJoinPool线程中直接执行
+ *
+ * @author LKL
+ * @since 2026-10-18 15:25
+ **/
+public final class ManagedBlockers {
+
+    private ManagedBlockers() {
+    }
+
+    /**
+     * Description:<b>执行阻塞调用</b>
+     * 如：ManagedBlockers.block(() -&gt; fileApi.download(id))
+     *
+     * @author LKL
+     * @since 2026-10-18 15:25
+     * @param supplier 阻塞调用
+     * @return 调用结果
+     */
+    public static <T> T block(Supplier<T> supplier) {
+        if (!(Thread.currentThread() instanceof ForkJoinWorkerThread)) {
+            return supplier.get();
+        }
+        SupplierBlocker<T> blocker = new SupplierBlocker<>(supplier);
+        try {
+            ForkJoinPool.managedBlock(blocker);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+        return blocker.result;
+    }
+
+    /**
+     * Description:<b>执行无返回值的阻塞调用</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 15:25
+     * @param runnable 阻塞调用
+     */
+    public static void block(Runnable runnable) {
+        block(() -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    /**
+     * 只执行一次supplier的ManagedBlocker
+     */
+    private static final class SupplierBlocker<T>
+            implements ForkJoinPool.ManagedBlocker {
+
+        private final Supplier<T> supplier;
+
+        private T result;
+
+        private boolean done;
+
+        private SupplierBlocker(Supplier<T> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public boolean block() {
+            result = supplier.get();
+            done = true;
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return done;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.thunisoft.t3.concurrent.executor;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Description:<b>有界无锁多生产者多消费者环形队列</b>
+ * 每个槽位带序号，生产者与消费者各自CAS推进尾、头位置，通过槽位序号交接，不加锁；
+ * 消费者一次CAS可取走连续多个已发布的槽位，减少工作线程之间对头位置的竞争
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+final class MpmcRingBuffer<E> {
+
+    private final int mask;
+
+    private final AtomicReferenceArray<E> buffer;
+
+    /** 槽位序号：等于位置时可写入，等于位置+1时可读取 **/
+    private final AtomicLongArray sequences;
+
+    /** 生产者推进的尾位置 **/
+    private final PaddedAtomicLong tail = new PaddedAtomicLong();
+
+    /** 消费者推进的头位置 **/
+    private final PaddedAtomicLong head = new PaddedAtomicLong();
+
+    /**
+     * @param capacity 容量，向上取2的幂
+     */
+    MpmcRingBuffer(int capacity) {
+        int size = 2;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        this.mask = size - 1;
+        this.buffer = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * @return 容量
+     */
+    int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Description:<b>放入元素</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param e 元素
+     * @return 队列已满时返回false
+     */
+    boolean offer(E e) {
+        long pos = tail.get();
+        for (;;) {
+            int index = (int) pos & mask;
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    buffer.lazySet(index, e);
+                    // 先写元素再发布序号，消费者读到序号后一定能读到元素
+                    sequences.lazySet(index, pos + 1);
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                // 上一轮的元素尚未被取走
+                return false;
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Description:<b>批量取出连续的已发布元素</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param out 存放取出元素的数组
+     * @param max 最多取出的个数，不超过out的长度
+     * @return 取出的个数，没有已发布的元素时返回0
+     */
+    int drain(Object[] out, int max) {
+        for (;;) {
+            long pos = head.get();
+            int n = 0;
+            while (n < max
+                    && sequences.get((int) (pos + n) & mask) == pos + n + 1) {
+                n++;
+            }
+            if (n == 0) {
+                return 0;
+            }
+            // 头位置未变时这些槽位只能由当前线程取走
+            if (head.compareAndSet(pos, pos + n)) {
+                for (int i = 0; i < n; i++) {
+                    int index = (int) (pos + i) & mask;
+                    out[i] = buffer.get(index);
+                    buffer.lazySet(index, null);
+                    sequences.lazySet(index, pos + i + mask + 1);
+                }
+                return n;
+            }
+        }
+    }
+
+    /**
+     * @return 已占用的槽位数，包括已占位尚未发布的
+     */
+    int size() {
+        long size = tail.get() - head.get();
+        return size <= 0 ? 0 : (int) Math.min(size, capacity());
+    }
+
+    boolean isEmpty() {
+        return tail.get() - head.get() <= 0;
+    }
+
+    /**
+     * 在值之后填充，头、尾位置先后分配时不会落在同一缓存行
+     */
+    @SuppressWarnings("unused")
+    private static final class PaddedAtomicLong extends AtomicLong {
+
+        private static final long serialVersionUID = 1L;
+
+        private long p1, p2, p3, p4, p5, p6, p7;
+    }
+}
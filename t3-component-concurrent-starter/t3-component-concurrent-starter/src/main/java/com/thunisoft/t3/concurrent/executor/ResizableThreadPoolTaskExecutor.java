@@ -0,0 +1,312 @@
+package com.thunisoft.t3.concurrent.executor;
+
+import com.thunisoft.t3.concurrent.configuration.model.LaneQueueConfig;
+import com.thunisoft.t3.concurrent.metrics.NoopThreadPoolMetrics;
+import com.thunisoft.t3.concurrent.metrics.ThreadPoolMetrics;
+import com.thunisoft.t3.concurrent.rejection.ThreadPoolRejectedException;
+import com.thunisoft.t3.concurrent.tuning.BlockingRatioSampler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Description:<b>支持运行时调整队列长度的ThreadPoolTaskExecutor</b>
+ * 队列长度大于0时使用容量可调整的队列；队列长度为0时仍使用SynchronousQueue，
+ * 此时队列没有容量概念，需重启后才能改为有界队列；开启lanes时有界队列为按服务等级分道的WeightedLaneBlockingQueue；
+ * 拒绝策略抛出的ThreadPoolRejectedException不再被包装为TaskRejectedException，调用方可直接捕获；
+ * 线程池线程等待同一线程池的子任务时可临时补偿线程，线程数的getter返回不含补偿线程的配置值
+ *
+ * @author LKL
+ * @since 2026-10-18 16:20
+ **/
+@Slf4j
+public class ResizableThreadPoolTaskExecutor extends ThreadPoolTaskExecutor {
+
+    private static final long serialVersionUID = 1L;
+
+    /** 线程池实际使用的队列 **/
+    private transient BlockingQueue<Runnable> queue;
+
+    /** 分道配置，为null或未开启时不分道 **/
+    private transient LaneQueueConfig lanes;
+
+    private transient ThreadPoolMetrics metrics = NoopThreadPoolMetrics.INSTANCE;
+
+    /** 配置的核心线程数，不含补偿线程 **/
+    private int corePoolSize = 1;
+
+    /** 配置的最大线程数，不含补偿线程 **/
+    private int maxPoolSize = Integer.MAX_VALUE;
+
+    /** 补偿线程数上限 **/
+    private int maxCompensationThreads;
+
+    /** 当前补偿的线程数 **/
+    private int compensating;
+
+    private final transient Object compensationMonitor = new Object();
+
+    /** 开启tuner时采样任务阻塞比例的装饰器 **/
+    private transient BlockingRatioSampler blockingRatioSampler;
+
+    @Override
+    protected BlockingQueue<Runnable> createQueue(int queueCapacity) {
+        if (queueCapacity <= 0) {
+            queue = new SynchronousQueue<>();
+        } else if (lanes != null && lanes.isEnabled()) {
+            queue = new WeightedLaneBlockingQueue<>(queueCapacity, lanes,
+                    metrics);
+        } else {
+            queue = new ResizableCapacityLinkedBlockingQueue<>(queueCapacity);
+        }
+        return queue;
+    }
+
+    /**
+     * Description:<b>设置分道配置</b>
+     * 需在initialize之前调用
+     *
+     * @author LKL
+     * @since 2026-10-18 23:58
+     * @param lanes 分道配置
+     * @param metrics 线程池指标记录器，记录各道的排队耗时
+     */
+    public void setLanes(LaneQueueConfig lanes, ThreadPoolMetrics metrics) {
+        this.lanes = lanes;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Description:<b>调整分道配置</b>
+     * 权重及最长等待时间即时生效
+     *
+     * @author LKL
+     * @since 2026-10-18 23:58
+     * @param lanes 新分道配置
+     * @return 是否调整成功，开启与关闭分道之间的切换需重启生效
+     */
+    public boolean reconfigureLanes(LaneQueueConfig lanes) {
+        if (!canReconfigureLanes(lanes)) {
+            log.warn("线程池[{}]开启与关闭lanes之间的切换需重启生效，当前队列：{}",
+                    getThreadNamePrefix(), queue.getClass().getSimpleName());
+            return false;
+        }
+        if (queue instanceof WeightedLaneBlockingQueue) {
+            ((WeightedLaneBlockingQueue<Runnable>) queue).configure(lanes);
+        }
+        return true;
+    }
+
+    /**
+     * @param lanes 新分道配置
+     * @return 能否在运行时调整为该分道配置，不做任何调整
+     */
+    public boolean canReconfigureLanes(LaneQueueConfig lanes) {
+        return queue instanceof WeightedLaneBlockingQueue ?
+                lanes.isEnabled() :
+                !lanes.isEnabled() || queue instanceof SynchronousQueue;
+    }
+
+    @Override
+    public void setCorePoolSize(int corePoolSize) {
+        synchronized (compensationMonitor) {
+            this.corePoolSize = corePoolSize;
+            super.setCorePoolSize(corePoolSize + compensating);
+        }
+    }
+
+    @Override
+    public void setMaxPoolSize(int maxPoolSize) {
+        synchronized (compensationMonitor) {
+            this.maxPoolSize = maxPoolSize;
+            super.setMaxPoolSize(saturatedAdd(maxPoolSize, compensating));
+        }
+    }
+
+    /**
+     * @return 配置的核心线程数，不含补偿线程
+     */
+    @Override
+    public int getCorePoolSize() {
+        synchronized (compensationMonitor) {
+            return corePoolSize;
+        }
+    }
+
+    /**
+     * @return 配置的最大线程数，不含补偿线程
+     */
+    @Override
+    public int getMaxPoolSize() {
+        synchronized (compensationMonitor) {
+            return maxPoolSize;
+        }
+    }
+
+    /**
+     * Description:<b>同时调整核心线程数及最大线程数</b>
+     * 任一时刻都满足core&lt;=max，扩大时先调max，缩小时先调core
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param corePoolSize 新核心线程数，不含补偿线程
+     * @param maxPoolSize 新最大线程数，不含补偿线程
+     */
+    public void resize(int corePoolSize, int maxPoolSize) {
+        synchronized (compensationMonitor) {
+            if (maxPoolSize >= this.corePoolSize) {
+                setMaxPoolSize(maxPoolSize);
+                setCorePoolSize(corePoolSize);
+            } else {
+                setCorePoolSize(corePoolSize);
+                setMaxPoolSize(maxPoolSize);
+            }
+        }
+    }
+
+    /**
+     * @return 采样任务阻塞比例的装饰器，未开启tuner时为null
+     */
+    public BlockingRatioSampler getBlockingRatioSampler() {
+        return blockingRatioSampler;
+    }
+
+    /**
+     * @param blockingRatioSampler 采样任务阻塞比例的装饰器，需同时包含在setTaskDecorator的装饰器中
+     */
+    public void setBlockingRatioSampler(
+            BlockingRatioSampler blockingRatioSampler) {
+        this.blockingRatioSampler = blockingRatioSampler;
+    }
+
+    /**
+     * @param maxCompensationThreads 补偿线程数上限，0为不补偿
+     */
+    public void setMaxCompensationThreads(int maxCompensationThreads) {
+        synchronized (compensationMonitor) {
+            this.maxCompensationThreads = maxCompensationThreads;
+        }
+    }
+
+    /**
+     * @return 当前补偿的线程数
+     */
+    public int getCompensatingCount() {
+        synchronized (compensationMonitor) {
+            return compensating;
+        }
+    }
+
+    /**
+     * Description:<b>线程池线程阻塞等待前临时补偿一个线程</b>
+     * 核心线程数及最大线程数同时加1，队列中排队的任务或之后提交的任务由新线程执行；
+     * 队列容量为0（SynchronousQueue）时队列始终为空，线程已全部在用时同样补偿，避免之后提交的任务被拒绝；
+     * 队列为空且仍有空闲线程，或已达补偿上限时不补偿
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @return 是否已补偿，为true时等待结束后需调用releaseCompensation
+     */
+    public boolean compensate() {
+        synchronized (compensationMonitor) {
+            ThreadPoolExecutor pool = getThreadPoolExecutor();
+            if (compensating >= maxCompensationThreads || pool.getQueue()
+                    .isEmpty() && pool.getActiveCount() < pool
+                    .getMaximumPoolSize()) {
+                return false;
+            }
+            compensating++;
+            // 扩大时先调max再调core，保持core<=max
+            super.setMaxPoolSize(saturatedAdd(maxPoolSize, compensating));
+            super.setCorePoolSize(corePoolSize + compensating);
+            return true;
+        }
+    }
+
+    /**
+     * Description:<b>等待结束后撤销补偿</b>
+     * 多出的线程空闲后按keep-alive-seconds回收
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     */
+    public void releaseCompensation() {
+        synchronized (compensationMonitor) {
+            compensating--;
+            super.setCorePoolSize(corePoolSize + compensating);
+            super.setMaxPoolSize(saturatedAdd(maxPoolSize, compensating));
+        }
+    }
+
+    private static int saturatedAdd(int size, int delta) {
+        return size > Integer.MAX_VALUE - delta ? Integer.MAX_VALUE : size + delta;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        try {
+            super.execute(task);
+        } catch (TaskRejectedException e) {
+            if (e.getCause() instanceof ThreadPoolRejectedException) {
+                throw (ThreadPoolRejectedException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Description:<b>调整队列长度</b>
+     * 线程池未初始化时等同于setQueueCapacity
+     *
+     * @author LKL
+     * @since 2026-10-18 16:20
+     * @param queueCapacity 新队列长度
+     * @return 是否调整成功，SynchronousQueue与有界队列之间的切换不支持
+     */
+    public boolean resizeQueue(int queueCapacity) {
+        if (!canResizeQueue(queueCapacity)) {
+            log.warn("线程池[{}]队列长度0与非0之间的切换需重启生效，当前队列：{}",
+                    getThreadNamePrefix(), queue.getClass().getSimpleName());
+            return false;
+        }
+        if (queue == null) {
+            setQueueCapacity(queueCapacity);
+        } else if (queue instanceof ResizableCapacityLinkedBlockingQueue) {
+            ((ResizableCapacityLinkedBlockingQueue<Runnable>) queue)
+                    .setCapacity(queueCapacity);
+            setQueueCapacity(queueCapacity);
+        } else if (queue instanceof WeightedLaneBlockingQueue) {
+            ((WeightedLaneBlockingQueue<Runnable>) queue)
+                    .setCapacity(queueCapacity);
+            setQueueCapacity(queueCapacity);
+        }
+        return true;
+    }
+
+    /**
+     * @param queueCapacity 新队列长度
+     * @return 能否在运行时调整为该队列长度，不做任何调整
+     */
+    public boolean canResizeQueue(int queueCapacity) {
+        return queue == null
+                || queue instanceof SynchronousQueue == queueCapacity <= 0;
+    }
+
+    /**
+     * @return 当前队列容量，SynchronousQueue返回0
+     */
+    public int getQueueCapacity() {
+        if (queue instanceof ResizableCapacityLinkedBlockingQueue) {
+            return ((ResizableCapacityLinkedBlockingQueue<Runnable>) queue)
+                    .getCapacity();
+        }
+        if (queue instanceof WeightedLaneBlockingQueue) {
+            return ((WeightedLaneBlockingQueue<Runnable>) queue).getCapacity();
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,327 @@
+package com.thunisoft.t3.concurrent.executor;
+
+import com.thunisoft.t3.concurrent.constant.WaitStrategy;
+import com.thunisoft.t3.concurrent.metrics.RejectionOutcome;
+import com.thunisoft.t3.concurrent.metrics.ThreadPoolMetrics;
+import com.thunisoft.t3.concurrent.rejection.ThreadPoolRejectedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Description:<b>基于无锁环形队列的执行器</b>
+ * 固定数量的工作线程从有界无锁环形队列中批量取任务执行，提交与取出均不加锁，适用于内存中的短小后续处理；
+ * 队列满时由提交线程直接执行，abort时抛出ThreadPoolRejectedException；线程数及队列容量不支持运行时调整
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+@Slf4j
+public class RingBufferTaskExecutor implements TaskExecutor, DisposableBean {
+
+    /** 取不到任务时忙等的次数 **/
+    private static final int SPIN_TRIES = 100;
+
+    /** yield、park策略下忙等之后让出cpu的次数 **/
+    private static final int YIELD_TRIES = 100;
+
+    private final String threadPoolName;
+
+    private final MpmcRingBuffer<Runnable> ring;
+
+    private final Worker[] workers;
+
+    /** 任务装饰器，在提交线程上调用以复制上下文 **/
+    private final TaskDecorator taskDecorator;
+
+    private final ThreadPoolMetrics metrics;
+
+    private final WaitStrategy waitStrategy;
+
+    private final int drainBatch;
+
+    /** 队列满时是否拒绝，为false时由提交线程执行 **/
+    private final boolean abortWhenFull;
+
+    /** 关闭时等待任务完成的最长时间 **/
+    private final int awaitTerminationSeconds;
+
+    /** 已挂起等待唤醒的工作线程，仅park策略使用 **/
+    private final ConcurrentLinkedQueue<Worker> parked = new ConcurrentLinkedQueue<>();
+
+    /** 正在执行任务的工作线程数 **/
+    private final AtomicInteger active = new AtomicInteger();
+
+    /** 未退出的工作线程数 **/
+    private final AtomicInteger live;
+
+    private volatile boolean shutdown;
+
+    /**
+     * @param threadPoolName 线程池名称
+     * @param threadFactory 工作线程工厂
+     * @param threads 工作线程数
+     * @param capacity 队列容量，向上取2的幂
+     * @param waitStrategy 空闲工作线程的等待策略
+     * @param drainBatch 工作线程一次最多取出的任务数
+     * @param abortWhenFull 队列满时是否拒绝，为false时由提交线程执行
+     * @param taskDecorator 任务装饰器
+     * @param metrics 线程池指标记录器
+     * @param awaitTerminationSeconds 关闭时等待任务完成的最长时间
+     */
+    public RingBufferTaskExecutor(String threadPoolName,
+            ThreadFactory threadFactory, int threads, int capacity,
+            WaitStrategy waitStrategy, int drainBatch, boolean abortWhenFull,
+            TaskDecorator taskDecorator, ThreadPoolMetrics metrics,
+            int awaitTerminationSeconds) {
+        this.threadPoolName = threadPoolName;
+        this.ring = new MpmcRingBuffer<>(capacity);
+        this.taskDecorator = taskDecorator;
+        this.metrics = metrics;
+        this.waitStrategy = waitStrategy;
+        this.drainBatch = Math.max(1, drainBatch);
+        this.abortWhenFull = abortWhenFull;
+        this.awaitTerminationSeconds = awaitTerminationSeconds;
+        this.workers = new Worker[threads];
+        this.live = new AtomicInteger(threads);
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Worker();
+            workers[i].thread = threadFactory.newThread(workers[i]);
+        }
+        for (Worker worker : workers) {
+            worker.thread.start();
+        }
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (shutdown) {
+            throw new ThreadPoolRejectedException(threadPoolName,
+                    "线程池[" + threadPoolName + "]已关闭");
+        }
+        Runnable decorated = taskDecorator == null ?
+                task :
+                taskDecorator.decorate(task);
+        if (ring.offer(decorated)) {
+            if (waitStrategy == WaitStrategy.PARK) {
+                wakeOne();
+            }
+            // 放入后再检查存活线程数，与工作线程先退出再检查队列的顺序相反，二者至少有一方看到对方
+            if (shutdown && live.get() == 0) {
+                runOrphans();
+            }
+            return;
+        }
+        if (abortWhenFull) {
+            metrics.recordRejection(RejectionOutcome.REJECTED);
+            throw new ThreadPoolRejectedException(threadPoolName,
+                    "线程池[" + threadPoolName + "]队列已满，拒绝任务：" + task);
+        }
+        metrics.recordRejection(RejectionOutcome.CALLER_RUNS);
+        decorated.run();
+    }
+
+    /**
+     * 工作线程都在执行任务时队列为空，只读一次队首，不产生竞争；
+     * 跳过已自行恢复的工作线程，直到唤醒一个仍在挂起的工作线程
+     */
+    private void wakeOne() {
+        Worker worker;
+        while ((worker = parked.poll()) != null) {
+            if (worker.waiting.compareAndSet(true, false)) {
+                LockSupport.unpark(worker.thread);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 工作线程已全部退出，由提交线程执行关闭期间放入队列的任务，避免任务丢失
+     */
+    private void runOrphans() {
+        Object[] batch = new Object[drainBatch];
+        int n;
+        while ((n = ring.drain(batch, drainBatch)) > 0) {
+            for (int i = 0; i < n; i++) {
+                Runnable task = (Runnable) batch[i];
+                batch[i] = null;
+                runTask(task);
+            }
+        }
+    }
+
+    private void runTask(Runnable task) {
+        try {
+            task.run();
+        } catch (Throwable e) {
+            log.error("线程池[{}]执行任务异常", threadPoolName, e);
+        }
+    }
+
+    /**
+     * @return 正在执行任务的工作线程数
+     */
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    /**
+     * @return 工作线程数
+     */
+    public int getPoolSize() {
+        return workers.length;
+    }
+
+    /**
+     * @return 队列中等待的任务数
+     */
+    public int getQueueSize() {
+        return ring.size();
+    }
+
+    /**
+     * @return 队列容量
+     */
+    public int getQueueCapacity() {
+        return ring.capacity();
+    }
+
+    /**
+     * @return 等待策略
+     */
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    /**
+     * @return 已完成的任务数
+     */
+    public long getCompletedTaskCount() {
+        long completed = 0;
+        for (Worker worker : workers) {
+            completed += worker.completed;
+        }
+        return completed;
+    }
+
+    /**
+     * 停止接收任务，工作线程执行完队列中的任务后退出
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        shutdown = true;
+        for (Worker worker : workers) {
+            LockSupport.unpark(worker.thread);
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS
+                .toNanos(awaitTerminationSeconds);
+        for (Worker worker : workers) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining > 0) {
+                worker.thread.join(Math.max(1,
+                        TimeUnit.NANOSECONDS.toMillis(remaining)));
+            }
+            if (worker.thread.isAlive()) {
+                log.warn("线程池[{}]关闭超时，仍有{}个任务排队", threadPoolName,
+                        ring.size());
+                return;
+            }
+        }
+    }
+
+    /**
+     * 工作线程，循环批量取出任务执行，取不到时按等待策略等待
+     */
+    private final class Worker implements Runnable {
+
+        private Thread thread;
+
+        /** 是否已登记为挂起，登记后由提交线程唤醒 **/
+        private final AtomicBoolean waiting = new AtomicBoolean();
+
+        /** 仅本线程写入 **/
+        private volatile long completed;
+
+        @Override
+        public void run() {
+            Object[] batch = new Object[drainBatch];
+            int idle = 0;
+            for (;;) {
+                int n = ring.drain(batch, drainBatch);
+                if (n > 0) {
+                    idle = 0;
+                    resume();
+                    runBatch(batch, n);
+                } else if (shutdown && ring.isEmpty()) {
+                    exit(batch);
+                    return;
+                } else {
+                    idle = await(idle);
+                }
+            }
+        }
+
+        private void runBatch(Object[] batch, int n) {
+            active.incrementAndGet();
+            try {
+                for (int i = 0; i < n; i++) {
+                    Runnable task = (Runnable) batch[i];
+                    batch[i] = null;
+                    runTask(task);
+                    // 清除取消任务留下的中断标记，避免中断同一批的后续任务
+                    Thread.interrupted();
+                }
+            } finally {
+                active.decrementAndGet();
+                completed = completed + n;
+            }
+        }
+
+        /**
+         * 登记挂起后未等唤醒就取到了任务，撤销登记，避免提交线程的唤醒落空
+         */
+        private void resume() {
+            if (waiting.compareAndSet(true, false)) {
+                parked.remove(this);
+            }
+        }
+
+        /**
+         * 退出前再执行一次队列中的任务，与提交线程的检查配合，关闭期间放入的任务不会丢失
+         */
+        private void exit(Object[] batch) {
+            live.decrementAndGet();
+            int n;
+            while ((n = ring.drain(batch, drainBatch)) > 0) {
+                runBatch(batch, n);
+            }
+        }
+
+        private int await(int idle) {
+            if (idle < SPIN_TRIES || waitStrategy == WaitStrategy.SPIN) {
+                return idle + 1;
+            }
+            if (idle < SPIN_TRIES + YIELD_TRIES
+                    || waitStrategy == WaitStrategy.YIELD) {
+                Thread.yield();
+                return idle + 1;
+            }
+            if (waiting.compareAndSet(false, true)) {
+                parked.offer(this);
+            }
+            // 登记后再检查一次队列，与提交线程先放入任务再唤醒的顺序相反，二者至少有一方看到对方
+            if (ring.isEmpty() && !shutdown) {
+                LockSupport.park(this);
+            }
+            return idle;
+        }
+    }
+}
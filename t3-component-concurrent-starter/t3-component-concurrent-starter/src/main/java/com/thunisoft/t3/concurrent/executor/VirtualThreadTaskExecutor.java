@@ -0,0 +1,147 @@
+package com.thunisoft.t3.concurrent.executor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Description:<b>虚拟线程执行器</b>
+ * 每个任务启动一个虚拟线程执行，不设线程数上限，适用于以阻塞远程调用为主的任务；
+ * 配置了最大并发数时，超出的任务在各自的虚拟线程中排队等待许可，不会阻塞提交线程
+ *
+ * @author LKL
+ * @since 2026-10-18 14:20
+ **/
+@Slf4j
+public class VirtualThreadTaskExecutor implements TaskExecutor, DisposableBean {
+
+    /** 虚拟线程工厂 **/
+    private final ThreadFactory threadFactory;
+
+    /** 任务装饰器，在提交线程上调用以复制上下文 **/
+    private final TaskDecorator taskDecorator;
+
+    /** 并发许可，为null时不限制 **/
+    private final Semaphore permits;
+
+    /** 关闭时等待任务完成的最长时间 **/
+    private final int awaitTerminationSeconds;
+
+    /** 已提交未结束的任务数 **/
+    private final AtomicInteger running = new AtomicInteger();
+
+    private volatile boolean shutdown;
+
+    /**
+     * @param threadFactory 虚拟线程工厂
+     * @param taskDecorator 任务装饰器
+     * @param maxConcurrency 最大并发数，null或小于等于0表示不限制
+     * @param awaitTerminationSeconds 关闭时等待任务完成的最长时间
+     */
+    public VirtualThreadTaskExecutor(ThreadFactory threadFactory,
+            TaskDecorator taskDecorator, Integer maxConcurrency,
+            int awaitTerminationSeconds) {
+        this.threadFactory = threadFactory;
+        this.taskDecorator = taskDecorator;
+        this.permits = (maxConcurrency == null || maxConcurrency <= 0) ?
+                null :
+                new Semaphore(maxConcurrency);
+        this.awaitTerminationSeconds = awaitTerminationSeconds;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (shutdown) {
+            throw new RejectedExecutionException("虚拟线程执行器已关闭，拒绝任务：" + task);
+        }
+        Runnable decorated = taskDecorator == null ?
+                task :
+                taskDecorator.decorate(task);
+        running.incrementAndGet();
+        try {
+            threadFactory.newThread(() -> runWithPermit(decorated)).start();
+        } catch (RuntimeException | Error e) {
+            afterExecute();
+            throw e;
+        }
+    }
+
+    private void runWithPermit(Runnable decorated) {
+        try {
+            if (permits == null) {
+                decorated.run();
+                return;
+            }
+            // 取消任务不会中断尚未开始执行的任务，等待许可期间不响应中断，拿到许可后由任务自身判断是否已取消
+            permits.acquireUninterruptibly();
+            try {
+                decorated.run();
+            } finally {
+                permits.release();
+            }
+        } finally {
+            afterExecute();
+        }
+    }
+
+    private void afterExecute() {
+        if (running.decrementAndGet() == 0 && shutdown) {
+            synchronized (running) {
+                running.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * @return 已提交未结束的任务数
+     */
+    public int getRunningCount() {
+        return running.get();
+    }
+
+    /**
+     * @return 当前可用的并发许可数，不限制并发时返回-1
+     */
+    public int getAvailablePermits() {
+        return permits == null ? -1 : permits.availablePermits();
+    }
+
+    /**
+     * Description:<b>关闭执行器，拒绝新任务并等待已提交任务完成</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 14:20
+     */
+    public void shutdown() {
+        shutdown = true;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS
+                .toNanos(awaitTerminationSeconds);
+        synchronized (running) {
+            long remaining;
+            while (running.get() > 0
+                    && (remaining = deadline - System.nanoTime()) > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(running, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        if (running.get() > 0) {
+            log.warn("虚拟线程执行器关闭超时，仍有{}个任务未完成", running.get());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        shutdown();
+    }
+}
@@ -0,0 +1,59 @@
+package com.thunisoft.t3.concurrent.executor;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Description:<b>虚拟线程工具类</b>
+ * 组件以Java 8为编译基线，Thread.ofVirtual()只能在创建线程池时反射获取一次，之后创建线程无反射开销
+ *
+ * @author LKL
+ * @since 2026-10-18 14:12
+ **/
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Description:<b>当前运行时是否支持虚拟线程</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 14:12
+     * @return 是否支持
+     */
+    public static boolean isSupported() {
+        try {
+            newThreadFactory("t3-probe-");
+            return true;
+        } catch (IllegalStateException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Description:<b>创建虚拟线程工厂</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 14:12
+     * @param threadNamePrefix 线程名前缀，后接自增序号
+     * @return 虚拟线程工厂
+     * @throws IllegalStateException 运行时不支持虚拟线程（低于Java 21或未开启预览特性）
+     */
+    public static ThreadFactory newThreadFactory(String threadNamePrefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Method name = builderClass.getMethod("name", String.class,
+                    long.class);
+            builder = name.invoke(builder, threadNamePrefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory")
+                    .invoke(builder);
+        } catch (ReflectiveOperationException | LinkageError
+                | UnsupportedOperationException e) {
+            throw new IllegalStateException(
+                    "当前JVM不支持虚拟线程，需Java 21及以上：" + System
+                            .getProperty("java.version"), e);
+        }
+    }
+}
@@ -0,0 +1,531 @@
+package com.thunisoft.t3.concurrent.executor;
+
+import com.thunisoft.t3.concurrent.configuration.model.LaneQueueConfig;
+import com.thunisoft.t3.concurrent.lane.ServiceClass;
+import com.thunisoft.t3.concurrent.lane.ServiceClassHolder;
+import com.thunisoft.t3.concurrent.metrics.ThreadPoolMetrics;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Description:<b>按服务等级分道、加权出队的有界阻塞队列</b>
+ * 入队时按提交线程的ServiceClassHolder进入对应的道，出队时按权重平滑轮询各非空的道，
+ * 任一道的队首等待超过max-wait-millis时优先出队；容量为各道合计，可在运行时调整，调小时与ResizableCapacityLinkedBlockingQueue一致
+ *
+ * @author LKL
+ * @since 2026-10-18 23:58
+ **/
+public class WeightedLaneBlockingQueue<E> extends AbstractQueue<E>
+        implements BlockingQueue<E> {
+
+    private static final ServiceClass[] CLASSES = ServiceClass.values();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition notEmpty = lock.newCondition();
+
+    private final Condition notFull = lock.newCondition();
+
+    private final ArrayDeque<Node<E>>[] lanes;
+
+    /** 平滑加权轮询的当前值，道排空时归零 **/
+    private final int[] current = new int[CLASSES.length];
+
+    private final ThreadPoolMetrics metrics;
+
+    private int count;
+
+    private volatile int capacity;
+
+    private int[] weights;
+
+    private long maxWaitNanos;
+
+    /**
+     * @param capacity 队列容量，必须大于0
+     * @param config 分道配置
+     * @param metrics 线程池指标记录器，记录各道的排队耗时
+     */
+    @SuppressWarnings("unchecked")
+    public WeightedLaneBlockingQueue(int capacity, LaneQueueConfig config,
+            ThreadPoolMetrics metrics) {
+        checkCapacity(capacity);
+        this.capacity = capacity;
+        this.metrics = metrics;
+        this.lanes = new ArrayDeque[CLASSES.length];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new ArrayDeque<>();
+        }
+        configure(config);
+    }
+
+    private static void checkCapacity(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("队列容量必须大于0：" + capacity);
+        }
+    }
+
+    /**
+     * @return 当前容量
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Description:<b>调整队列容量</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:58
+     * @param capacity 新容量，必须大于0
+     */
+    public void setCapacity(int capacity) {
+        checkCapacity(capacity);
+        lock.lock();
+        try {
+            int previous = this.capacity;
+            this.capacity = capacity;
+            if (capacity > previous) {
+                notFull.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Description:<b>调整各道权重及最长等待时间</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:58
+     * @param config 分道配置，权重必须大于0
+     */
+    public void configure(LaneQueueConfig config) {
+        int[] newWeights = new int[CLASSES.length];
+        for (ServiceClass serviceClass : CLASSES) {
+            int weight = config.weightOf(serviceClass);
+            if (weight <= 0) {
+                throw new IllegalArgumentException(
+                        serviceClass + "道的权重必须大于0：" + weight);
+            }
+            newWeights[serviceClass.ordinal()] = weight;
+        }
+        lock.lock();
+        try {
+            this.weights = newWeights;
+            this.maxWaitNanos = TimeUnit.MILLISECONDS
+                    .toNanos(config.getMaxWaitMillis());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param serviceClass 服务等级
+     * @return 该道的排队任务数
+     */
+    public int size(ServiceClass serviceClass) {
+        lock.lock();
+        try {
+            return lanes[serviceClass.ordinal()].size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void enqueue(E e) {
+        ServiceClass serviceClass = ServiceClassHolder.getServiceClass();
+        int lane = serviceClass == null ?
+                ServiceClass.DEFAULT.ordinal() :
+                serviceClass.ordinal();
+        lanes[lane].addLast(new Node<>(e, System.nanoTime()));
+        count++;
+        notEmpty.signal();
+    }
+
+    private Node<E> dequeue() {
+        int lane = starvingLane();
+        if (lane < 0) {
+            lane = nextWeightedLane();
+        }
+        Node<E> node = lanes[lane].pollFirst();
+        node.lane = lane;
+        if (lanes[lane].isEmpty()) {
+            current[lane] = 0;
+        }
+        count--;
+        if (count < capacity) {
+            notFull.signal();
+        }
+        return node;
+    }
+
+    /**
+     * 队首等待超过最长等待时间的道中等待最久的一道，没有时返回-1
+     */
+    private int starvingLane() {
+        if (maxWaitNanos <= 0) {
+            return -1;
+        }
+        long now = System.nanoTime();
+        int starving = -1;
+        long oldest = 0;
+        for (int i = 0; i < lanes.length; i++) {
+            Node<E> head = lanes[i].peekFirst();
+            if (head != null && now - head.enqueueNanos >= maxWaitNanos && (
+                    starving < 0 || head.enqueueNanos - oldest < 0)) {
+                starving = i;
+                oldest = head.enqueueNanos;
+            }
+        }
+        return starving;
+    }
+
+    /**
+     * 平滑加权轮询：各非空道加上自身权重，取最大者并减去非空道的权重之和，
+     * 权重8:4:1时13次出队中依次穿插而不是连续取出同一道
+     */
+    private int nextWeightedLane() {
+        int total = 0;
+        int selected = -1;
+        for (int i = 0; i < lanes.length; i++) {
+            if (lanes[i].isEmpty()) {
+                continue;
+            }
+            current[i] += weights[i];
+            total += weights[i];
+            if (selected < 0 || current[i] > current[selected]) {
+                selected = i;
+            }
+        }
+        current[selected] -= total;
+        return selected;
+    }
+
+    /**
+     * 在锁外记录排队耗时
+     */
+    private E unwrap(Node<E> node) {
+        if (node == null) {
+            return null;
+        }
+        if (metrics.isEnabled()) {
+            metrics.recordLaneWait(CLASSES[node.lane],
+                    System.nanoTime() - node.enqueueNanos);
+        }
+        return node.element;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        lock.lock();
+        try {
+            if (count >= capacity) {
+                return false;
+            }
+            enqueue(e);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        Objects.requireNonNull(e);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count >= capacity) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(e);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        Objects.requireNonNull(e);
+        lock.lockInterruptibly();
+        try {
+            while (count >= capacity) {
+                notFull.await();
+            }
+            enqueue(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E poll() {
+        Node<E> node;
+        lock.lock();
+        try {
+            node = count == 0 ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+        return unwrap(node);
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        Node<E> node;
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            node = dequeue();
+        } finally {
+            lock.unlock();
+        }
+        return unwrap(node);
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        Node<E> node;
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                notEmpty.await();
+            }
+            node = dequeue();
+        } finally {
+            lock.unlock();
+        }
+        return unwrap(node);
+    }
+
+    /**
+     * 返回各道中最早入队的任务，不代表下一次出队的任务
+     */
+    @Override
+    public E peek() {
+        lock.lock();
+        try {
+            Node<E> first = null;
+            for (ArrayDeque<Node<E>> lane : lanes) {
+                Node<E> head = lane.peekFirst();
+                if (head != null && (first == null
+                        || head.enqueueNanos - first.enqueueNanos < 0)) {
+                    first = head;
+                }
+            }
+            return first == null ? null : first.element;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return Math.max(0, capacity - count);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        lock.lock();
+        try {
+            for (int i = 0; i < lanes.length; i++) {
+                Iterator<Node<E>> it = lanes[i].iterator();
+                while (it.hasNext()) {
+                    if (o.equals(it.next().element)) {
+                        it.remove();
+                        if (lanes[i].isEmpty()) {
+                            current[i] = 0;
+                        }
+                        count--;
+                        notFull.signal();
+                        return true;
+                    }
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (o == null) {
+            return false;
+        }
+        lock.lock();
+        try {
+            for (ArrayDeque<Node<E>> lane : lanes) {
+                for (Node<E> node : lane) {
+                    if (o.equals(node.element)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            for (int i = 0; i < lanes.length; i++) {
+                lanes[i].clear();
+                current[i] = 0;
+            }
+            count = 0;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        return snapshot().toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] a) {
+        return snapshot().toArray(a);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 按出队顺序转移，线程池关闭时shutdownNow经此取出未执行的任务
+     */
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        lock.lock();
+        try {
+            int n = 0;
+            while (n < maxElements && count > 0) {
+                c.add(dequeue().element);
+                n++;
+            }
+            if (n > 0) {
+                notFull.signalAll();
+            }
+            return n;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<E> snapshot() {
+        lock.lock();
+        try {
+            List<E> snapshot = new ArrayList<>(count);
+            for (ArrayDeque<Node<E>> lane : lanes) {
+                for (Node<E> node : lane) {
+                    snapshot.add(node.element);
+                }
+            }
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 返回快照迭代器，按道依次遍历，remove操作作用于队列本身，满足ThreadPoolExecutor.purge等场景
+     */
+    @Override
+    public Iterator<E> iterator() {
+        Iterator<E> it = snapshot().iterator();
+        return new Iterator<E>() {
+
+            private E last;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public E next() {
+                last = it.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+                WeightedLaneBlockingQueue.this.remove(last);
+                last = null;
+            }
+        };
+    }
+
+    /**
+     * 队列中的任务及入队时间
+     */
+    private static final class Node<E> {
+
+        private final E element;
+
+        private final long enqueueNanos;
+
+        /** 出队时记下所在的道，用于锁外记录指标 **/
+        private int lane;
+
+        private Node(E element, long enqueueNanos) {
+            this.element = element;
+            this.enqueueNanos = enqueueNanos;
+        }
+    }
+}
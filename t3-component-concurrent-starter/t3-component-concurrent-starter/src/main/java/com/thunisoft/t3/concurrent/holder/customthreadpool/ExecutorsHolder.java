@@ -1,11 +1,24 @@
 package com.thunisoft.t3.concurrent.holder.customthreadpool;
 
 import com.thunisoft.t3.concurrent.configuration.ThreadPoolConfiguration;
-import com.thunisoft.t3.concurrent.configuration.initializer.impl.ThreadPoolTaskExecutorInitializer;
+import com.thunisoft.t3.concurrent.configuration.initializer.ThreadPoolInitializer;
+import com.thunisoft.t3.concurrent.configuration.initializer.ThreadPoolInitializerFactory;
 import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import com.thunisoft.t3.concurrent.constant.InitMode;
+import com.thunisoft.t3.concurrent.constant.RejectedPolicyType;
 import com.thunisoft.t3.concurrent.constant.ThreadPoolConstants;
+import com.thunisoft.t3.concurrent.executor.ResizableThreadPoolTaskExecutor;
+import com.thunisoft.t3.concurrent.limit.ConcurrencyLimit;
+import com.thunisoft.t3.concurrent.limit.ConcurrencyLimitFactory;
+import com.thunisoft.t3.concurrent.limit.LimitedExecutor;
+import com.thunisoft.t3.concurrent.metrics.ThreadPoolMetrics;
+import com.thunisoft.t3.concurrent.metrics.ThreadPoolMetricsFactory;
+import com.thunisoft.t3.concurrent.rejection.RejectedPolicyFactory;
+import com.thunisoft.t3.concurrent.tuning.PoolSizeTuner;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanInitializationException;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -14,13 +27,17 @@ import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ConfigurableApplicationContext;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.Executor;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Description:<b>线程池封装类，包含默认线程池和自定义线程池</b>
@@ -28,8 +45,9 @@ import java.util.concurrent.ThreadPoolExecutor;
  * @author LKL
  * @since 2020-08-13 11:41
  **/
+@Slf4j
 @Component
-public class ExecutorsHolder implements ApplicationContextAware {
+public class ExecutorsHolder implements ApplicationContextAware, DisposableBean {
 
     /** 线程池配置 **/
     @Autowired
@@ -42,7 +60,28 @@ public class ExecutorsHolder implements ApplicationContextAware {
 
     /** 全部线程池映射关系 **/
     /** Key为配置文件中指定的线程池名称，Value为初始化好的线程池对象 **/
-    private Map<String, Executor> allExecutorsMappings = new HashMap<>(8);
+    /** 只读快照，新增线程池时整体替换，CompletableHelper读取时无需加锁 **/
+    /** 开启自适应并发限制的线程池，Value为包装了线程池的LimitedExecutor，注册的bean仍为线程池本身 **/
+    /** init-mode为lazy的线程池在首次获取前Value为占位的LazyExecutor，应通过getExecutor获取 **/
+    private volatile Map<String, Executor> allExecutorsMappings = Collections
+            .emptyMap();
+
+    /** 各线程池当前生效的配置，Key同allExecutorsMappings **/
+    private final Map<String, ThreadPoolConfig> appliedConfigs = new HashMap<>(
+            8);
+
+    /** 开启tuner的线程池的调整器，Key同allExecutorsMappings **/
+    private final Map<String, PoolSizeTuner> tuners = new HashMap<>(4);
+
+    /** 各调整器的周期任务 **/
+    private final Map<String, ScheduledFuture<?>> tunerSchedules = new HashMap<>(
+            4);
+
+    /** 执行调整周期的线程，首个开启tuner的线程池创建时启动 **/
+    private ScheduledExecutorService tunerScheduler;
+
+    /** 用于运行时注册新增的自定义线程池 **/
+    private DefaultListableBeanFactory beanFactory;
 
     /**
      * Set the ApplicationContext that this object runs in.
@@ -58,37 +97,229 @@ public class ExecutorsHolder implements ApplicationContextAware {
      * @see BeanInitializationException
      */
     @Override
-    public void setApplicationContext(ApplicationContext applicationContext)
-            throws BeansException {
+    public synchronized void setApplicationContext(
+            ApplicationContext applicationContext) throws BeansException {
         if (applicationContext instanceof ConfigurableApplicationContext) {
             ConfigurableApplicationContext context = (ConfigurableApplicationContext) applicationContext;
             if (context
                     .getBeanFactory() instanceof DefaultListableBeanFactory) {
                 //为防止调用链断开，将自定义线程池动态注入IOC容器中，beanName指定的是配置文件中指定的线程池名称
-                DefaultListableBeanFactory beanFactory = (DefaultListableBeanFactory) context
+                this.beanFactory = (DefaultListableBeanFactory) context
                         .getBeanFactory();
+                Map<String, Executor> mappings = new HashMap<>(8);
                 threadPoolConfiguration.getCustomThreadPools().forEach(
                         (customThreadPoolName, customThreadPoolConfig) -> {
-                            //初始化线程池对象
-                            ThreadPoolTaskExecutor customThreadPoolTaskExecutor = initializeCustomThreadPoolTaskExecutor(
-                                    customThreadPoolConfig);
-                            BeanDefinitionBuilder beanDefinitionBuilder = BeanDefinitionBuilder
-                                    .genericBeanDefinition(
-                                            ThreadPoolTaskExecutor.class,
-                                            () -> customThreadPoolTaskExecutor);
-                            beanFactory.registerBeanDefinition(
-                                    customThreadPoolName,
-                                    beanDefinitionBuilder.getBeanDefinition());
-                            //将每一个自定义线程池放入映射关系中
-                            allExecutorsMappings.put(customThreadPoolName,
-                                    customThreadPoolTaskExecutor);
+                            //初始化线程池对象并注册为bean，将每一个自定义线程池放入映射关系中
+                            mappings.put(customThreadPoolName,
+                                    registerCustomExecutor(
+                                            customThreadPoolName,
+                                            customThreadPoolConfig));
                         });
                 //将默认线程池放入映射关系中，Key使用常量defaultThreadPool
-                this.allExecutorsMappings
+                mappings.put(ThreadPoolConstants.C_KEY_THREAD_POOL_DEFAULT,
+                        limit(ThreadPoolConstants.C_KEY_THREAD_POOL_DEFAULT,
+                                threadPoolConfiguration.getThreadpool(),
+                                defaultExecutor));
+                appliedConfigs
                         .put(ThreadPoolConstants.C_KEY_THREAD_POOL_DEFAULT,
-                                defaultExecutor);
+                                threadPoolConfiguration.getThreadpool());
+                this.allExecutorsMappings = Collections
+                        .unmodifiableMap(mappings);
+                checkOverflowThreadPools();
+                mappings.forEach((name, executor) -> {
+                    if (!(executor instanceof LazyExecutor)) {
+                        tune(name, appliedConfigs.get(name), executor);
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Description:<b>检查转投的线程池是否存在</b>
+     * 名称写错时启动失败，避免饱和任务悄悄转投到其他线程池
+     *
+     * @author LKL
+     * @since 2026-10-18 21:00
+     */
+    private void checkOverflowThreadPools() {
+        appliedConfigs.forEach((name, config) -> {
+            if (config.getRejectedPolicy() != RejectedPolicyType.OVERFLOW) {
+                return;
+            }
+            String overflow = config.getOverflowThreadPool();
+            if (name.equals(overflow)) {
+                log.warn("线程池[{}]的overflow-thread-pool不能是自身，饱和时将由调用线程执行",
+                        name);
+            } else if (!allExecutorsMappings.containsKey(overflow)) {
+                throw new BeanInitializationException("线程池[" + name
+                        + "]的overflow-thread-pool[" + overflow + "]不存在");
+            }
+        });
+    }
+
+    /**
+     * Description:<b>按新配置刷新全部线程池</b>
+     * 已有线程池就地调整参数，新增的自定义线程池创建后注册，配置中删除的线程池保持运行直至重启
+     *
+     * @author LKL
+     * @since 2026-10-18 16:45
+     * @param defaultConfig 默认线程池配置
+     * @param customConfigs 自定义线程池配置
+     */
+    public synchronized void refresh(ThreadPoolConfig defaultConfig,
+            Map<String, ThreadPoolConfig> customConfigs) {
+        reconfigure(ThreadPoolConstants.C_KEY_THREAD_POOL_DEFAULT,
+                defaultConfig);
+        customConfigs.forEach((name, config) -> {
+            if (allExecutorsMappings.containsKey(name)) {
+                reconfigure(name, config);
+            } else {
+                register(name, config);
+            }
+        });
+    }
+
+    /**
+     * Description:<b>新增自定义线程池</b>
+     * 创建后注册为bean并放入映射关系，仅由配置刷新调用，已存在的线程池不重复创建
+     *
+     * @author LKL
+     * @since 2026-10-18 16:45
+     * @param threadPoolName 线程池名称，即beanName
+     * @param threadPoolConfig 线程池配置对象
+     * @return 是否新增成功
+     */
+    public synchronized boolean register(String threadPoolName,
+            ThreadPoolConfig threadPoolConfig) {
+        if (allExecutorsMappings.containsKey(threadPoolName)) {
+            log.warn("线程池[{}]已存在，不重复创建", threadPoolName);
+            return false;
+        }
+        if (beanFactory == null) {
+            log.warn("线程池[{}]不存在且当前容器不支持动态注册", threadPoolName);
+            return false;
+        }
+        Executor registered = registerCustomExecutor(threadPoolName,
+                threadPoolConfig);
+        replaceMapping(threadPoolName, registered);
+        if (!(registered instanceof LazyExecutor)) {
+            tune(threadPoolName, threadPoolConfig, registered);
+        }
+        log.info("新增线程池[{}]", threadPoolName);
+        return true;
+    }
+
+    /**
+     * Description:<b>按新配置调整指定线程池</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 16:45
+     * @param threadPoolName 线程池名称，默认线程池为defaultThreadPool
+     * @param threadPoolConfig 新的线程池配置对象
+     * @return 是否调整成功，线程池不存在或线程池类型变化等需重启的调整返回false
+     */
+    public synchronized boolean reconfigure(String threadPoolName,
+            ThreadPoolConfig threadPoolConfig) {
+        Executor executor = allExecutorsMappings.get(threadPoolName);
+        if (executor == null) {
+            // 调整不创建线程池，新增线程池只能通过配置刷新
+            log.warn("线程池[{}]不存在，忽略调整", threadPoolName);
+            return false;
+        }
+        ThreadPoolConfig appliedConfig = appliedConfigs.get(threadPoolName);
+        if (appliedConfig != null && !Objects
+                .equals(appliedConfig.getType(), threadPoolConfig.getType())) {
+            log.warn("线程池[{}]类型由{}变为{}，需重启生效", threadPoolName,
+                    appliedConfig.getType(), threadPoolConfig.getType());
+            return false;
+        }
+        if (executor instanceof LazyExecutor) {
+            LazyExecutor lazy = (LazyExecutor) executor;
+            if (lazy.configure(threadPoolConfig)) {
+                appliedConfigs.put(threadPoolName, threadPoolConfig);
+                log.info("线程池[{}]尚未创建，新配置在首次使用时生效", threadPoolName);
+                return true;
             }
+            executor = resolve(threadPoolName, lazy);
         }
+        Executor pool = executor instanceof LimitedExecutor ?
+                ((LimitedExecutor) executor).getDelegate() :
+                executor;
+        boolean reconfigured = ThreadPoolInitializerFactory
+                .getInitializer(threadPoolConfig)
+                .reconfigure(pool, threadPoolConfig);
+        if (reconfigured) {
+            appliedConfigs.put(threadPoolName, threadPoolConfig);
+            Executor limited = relimit(threadPoolName, threadPoolConfig,
+                    executor, pool);
+            if (limited != executor) {
+                replaceMapping(threadPoolName, limited);
+            }
+            retune(threadPoolName, threadPoolConfig, pool);
+            log.info("线程池[{}]已调整：corePoolSize={}, maxPoolSize={}, queueCapacity={}, keepAliveSeconds={}",
+                    threadPoolName, threadPoolConfig.getCorePoolSize(),
+                    threadPoolConfig.getMaxPoolSize(),
+                    threadPoolConfig.getQueueCapacity(),
+                    threadPoolConfig.getKeepAliveSeconds());
+        } else {
+            log.warn("线程池[{}]不支持运行时调整，需重启生效", threadPoolName);
+        }
+        return reconfigured;
+    }
+
+    /**
+     * Description:<b>初始化自定义线程池并注册为bean</b>
+     * init-mode为lazy时只注册延迟初始化的bean定义，线程池在首次获取时创建
+     *
+     * @author LKL
+     * @since 2026-10-18 16:45
+     * @param customThreadPoolName 自定义线程池名称，即beanName
+     * @param customThreadPoolConfig 自定义线程池配置对象
+     * @return 放入映射关系的线程池
+     */
+    private Executor registerCustomExecutor(String customThreadPoolName,
+            ThreadPoolConfig customThreadPoolConfig) {
+        appliedConfigs.put(customThreadPoolName, customThreadPoolConfig);
+        if (customThreadPoolConfig.getInitMode() == InitMode.LAZY) {
+            return registerLazyExecutor(customThreadPoolName,
+                    customThreadPoolConfig);
+        }
+        Executor customExecutor = initializeCustomExecutor(
+                customThreadPoolName, customThreadPoolConfig);
+        BeanDefinitionBuilder beanDefinitionBuilder = BeanDefinitionBuilder
+                .genericBeanDefinition(executorClass(customExecutor),
+                        () -> customExecutor);
+        beanFactory.registerBeanDefinition(customThreadPoolName,
+                beanDefinitionBuilder.getBeanDefinition());
+        return limit(customThreadPoolName, customThreadPoolConfig,
+                customExecutor);
+    }
+
+    /**
+     * Description:<b>注册延迟创建的自定义线程池</b>
+     * 线程池统一由容器创建，无论先经CompletableHelper获取还是先从容器获取bean都只创建一次，且随容器关闭而销毁；
+     * 创建前bean类型只能按Executor匹配
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param customThreadPoolName 自定义线程池名称，即beanName
+     * @param customThreadPoolConfig 自定义线程池配置对象
+     * @return 放入映射关系的占位对象
+     */
+    private Executor registerLazyExecutor(String customThreadPoolName,
+            ThreadPoolConfig customThreadPoolConfig) {
+        LazyExecutor lazy = new LazyExecutor(customThreadPoolConfig,
+                config -> limit(customThreadPoolName, config, beanFactory
+                        .getBean(customThreadPoolName, Executor.class)));
+        BeanDefinitionBuilder beanDefinitionBuilder = BeanDefinitionBuilder
+                .genericBeanDefinition(Executor.class,
+                        () -> initializeCustomExecutor(customThreadPoolName,
+                                lazy.getConfig()));
+        beanDefinitionBuilder.setLazyInit(true);
+        beanFactory.registerBeanDefinition(customThreadPoolName,
+                beanDefinitionBuilder.getBeanDefinition());
+        return lazy;
     }
 
     /**
@@ -96,18 +327,261 @@ public class ExecutorsHolder implements ApplicationContextAware {
      *
      * @author LKL
      * @since 2020-08-14 17:42
+     * @param customThreadPoolName 自定义线程池名称
      * @param customThreadPoolConfig 自定义线程池配置对象
      */
-    private ThreadPoolTaskExecutor initializeCustomThreadPoolTaskExecutor(
+    private Executor initializeCustomExecutor(String customThreadPoolName,
             ThreadPoolConfig customThreadPoolConfig) {
-        ThreadPoolTaskExecutorInitializer initializer = new ThreadPoolTaskExecutorInitializer();
-        ThreadPoolExecutor.CallerRunsPolicy policy = new ThreadPoolExecutor.CallerRunsPolicy();
-        return (ThreadPoolTaskExecutor) initializer
-                .initializeThreadPool(customThreadPoolConfig, policy);
+        ThreadPoolInitializer initializer = ThreadPoolInitializerFactory
+                .getInitializer(customThreadPoolConfig);
+        Executor executor = initializer.initializeThreadPool(
+                customThreadPoolName, customThreadPoolConfig,
+                RejectedPolicyFactory.create(customThreadPoolName,
+                        customThreadPoolConfig));
+        if (customThreadPoolConfig.getInitMode() == InitMode.WARM) {
+            initializer.prestart(executor);
+        }
+        return executor;
     }
 
+    /**
+     * Description:<b>创建延迟创建的线程池并替换映射关系中的占位对象</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param threadPoolName 线程池名称
+     * @param lazy 占位对象
+     * @return 创建好的线程池
+     */
+    private Executor resolve(String threadPoolName, LazyExecutor lazy) {
+        Executor executor = lazy.get();
+        synchronized (this) {
+            if (allExecutorsMappings.get(threadPoolName) == lazy) {
+                replaceMapping(threadPoolName, executor);
+                tune(threadPoolName, lazy.getConfig(), executor);
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Description:<b>按配置为线程池加上自适应并发限制</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 20:10
+     * @param threadPoolName 线程池名称
+     * @param threadPoolConfig 线程池配置对象
+     * @param executor 初始化好的线程池
+     * @return 未开启时返回线程池本身，开启时返回包装后的LimitedExecutor
+     */
+    private Executor limit(String threadPoolName,
+            ThreadPoolConfig threadPoolConfig, Executor executor) {
+        if (!threadPoolConfig.getLimiter().isEnabled()) {
+            return executor;
+        }
+        ThreadPoolMetrics metrics = ThreadPoolMetricsFactory
+                .create(threadPoolName, threadPoolConfig);
+        LimitedExecutor limited = new LimitedExecutor(threadPoolName,
+                executor, threadPoolConfig.getLimiter(),
+                ConcurrencyLimitFactory.create(threadPoolConfig), metrics);
+        metrics.bindTo(limited);
+        return limited;
+    }
+
+    /**
+     * Description:<b>按新配置调整自适应并发限制</b>
+     * 限制配置及上限的上界均未变化时保留已学习到的并发上限
+     *
+     * @author LKL
+     * @since 2026-10-18 20:10
+     * @param threadPoolName 线程池名称
+     * @param threadPoolConfig 新的线程池配置对象
+     * @param executor 映射关系中当前的线程池
+     * @param pool 线程池本身
+     * @return 调整后应放入映射关系的线程池
+     */
+    private Executor relimit(String threadPoolName,
+            ThreadPoolConfig threadPoolConfig, Executor executor,
+            Executor pool) {
+        if (!threadPoolConfig.getLimiter().isEnabled()) {
+            return pool;
+        }
+        if (!(executor instanceof LimitedExecutor)) {
+            return limit(threadPoolName, threadPoolConfig, pool);
+        }
+        LimitedExecutor limited = (LimitedExecutor) executor;
+        ConcurrencyLimit limit = ConcurrencyLimitFactory
+                .create(threadPoolConfig);
+        if (!threadPoolConfig.getLimiter().equals(limited.getConfig())
+                || limit.getMaxLimit() != limited.getLimit().getMaxLimit()) {
+            limited.configure(threadPoolConfig.getLimiter(), limit);
+        }
+        return limited;
+    }
+
+    /**
+     * Description:<b>按配置为线程池启动线程数自动调整</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param threadPoolName 线程池名称
+     * @param threadPoolConfig 线程池配置对象
+     * @param executor 映射关系中的线程池
+     */
+    private synchronized void tune(String threadPoolName,
+            ThreadPoolConfig threadPoolConfig, Executor executor) {
+        if (threadPoolConfig == null || !threadPoolConfig.getTuner()
+                .isEnabled() || tuners.containsKey(threadPoolName)) {
+            return;
+        }
+        Executor pool = executor instanceof LimitedExecutor ?
+                ((LimitedExecutor) executor).getDelegate() :
+                executor;
+        if (!(pool instanceof ResizableThreadPoolTaskExecutor)
+                || ((ResizableThreadPoolTaskExecutor) pool)
+                .getBlockingRatioSampler() == null) {
+            log.warn("线程池[{}]的tuner仅type为thread-pool时生效，运行时开启需重启生效",
+                    threadPoolName);
+            return;
+        }
+        ResizableThreadPoolTaskExecutor resizable = (ResizableThreadPoolTaskExecutor) pool;
+        ThreadPoolMetrics metrics = ThreadPoolMetricsFactory
+                .create(threadPoolName, threadPoolConfig);
+        PoolSizeTuner tuner = new PoolSizeTuner(threadPoolName, resizable,
+                threadPoolConfig.getTuner(), resizable.getMaxPoolSize(),
+                metrics);
+        metrics.bindTo(tuner);
+        tuners.put(threadPoolName, tuner);
+        schedule(tuner);
+    }
+
+    /**
+     * Description:<b>按新配置调整线程数自动调整</b>
+     * 调整器沿用运行时调整后的线程数继续调整
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param threadPoolName 线程池名称
+     * @param threadPoolConfig 新的线程池配置对象
+     * @param pool 线程池本身
+     */
+    private void retune(String threadPoolName,
+            ThreadPoolConfig threadPoolConfig, Executor pool) {
+        PoolSizeTuner tuner = tuners.get(threadPoolName);
+        if (tuner == null) {
+            tune(threadPoolName, threadPoolConfig, pool);
+            return;
+        }
+        if (!threadPoolConfig.getTuner().isEnabled()) {
+            tuners.remove(threadPoolName);
+            tunerSchedules.remove(threadPoolName).cancel(false);
+            log.info("线程池[{}]已停止自动调整线程数", threadPoolName);
+            return;
+        }
+        int oldInterval = tuner.getConfig().getIntervalSeconds();
+        tuner.configure(threadPoolConfig.getTuner(),
+                ((ResizableThreadPoolTaskExecutor) pool).getMaxPoolSize());
+        if (oldInterval != threadPoolConfig.getTuner().getIntervalSeconds()) {
+            tunerSchedules.remove(threadPoolName).cancel(false);
+            schedule(tuner);
+        }
+    }
+
+    private void schedule(PoolSizeTuner tuner) {
+        if (tunerScheduler == null) {
+            tunerScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "t3-pool-tuner");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        long interval = Math.max(1, tuner.getConfig().getIntervalSeconds());
+        tunerSchedules.put(tuner.getThreadPoolName(), tunerScheduler
+                .scheduleAtFixedRate(() -> {
+                    try {
+                        tuner.tick();
+                    } catch (RuntimeException e) {
+                        // 异常会终止周期任务，此处只记录
+                        log.warn("线程池[{}]自动调整线程数失败",
+                                tuner.getThreadPoolName(), e);
+                    }
+                }, interval, interval, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Description:<b>停止线程数自动调整</b>
+     * 线程池本身随容器中各自的bean销毁
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     */
+    @Override
+    public synchronized void destroy() {
+        if (tunerScheduler != null) {
+            tunerScheduler.shutdownNow();
+            tunerScheduler = null;
+        }
+        tuners.clear();
+        tunerSchedules.clear();
+    }
+
+    /**
+     * @param threadPoolName 线程池名称
+     * @return 线程数调整器，未开启tuner时为null
+     */
+    public synchronized PoolSizeTuner getTuner(String threadPoolName) {
+        return tuners.get(threadPoolName);
+    }
+
+    private void replaceMapping(String threadPoolName, Executor executor) {
+        Map<String, Executor> mappings = new HashMap<>(allExecutorsMappings);
+        mappings.put(threadPoolName, executor);
+        this.allExecutorsMappings = Collections.unmodifiableMap(mappings);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<Executor> executorClass(Executor executor) {
+        return (Class<Executor>) executor.getClass();
+    }
+
+    /**
+     * Description:<b>根据线程池名称获取线程池</b>
+     * init-mode为lazy的线程池在首次获取时创建
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param threadPoolName 线程池名称
+     * @return 线程池，名称不存在时返回null
+     */
+    public Executor getExecutor(String threadPoolName) {
+        Executor executor = allExecutorsMappings.get(threadPoolName);
+        return executor instanceof LazyExecutor ?
+                resolve(threadPoolName, (LazyExecutor) executor) :
+                executor;
+    }
+
+    /**
+     * @param threadPoolName 线程池名称
+     * @return 线程池是否已创建，init-mode为lazy且尚未使用时返回false
+     */
+    public boolean isInitialized(String threadPoolName) {
+        Executor executor = allExecutorsMappings.get(threadPoolName);
+        return executor != null && (!(executor instanceof LazyExecutor)
+                || ((LazyExecutor) executor).isInitialized());
+    }
+
+    /**
+     * @return 全部线程池映射关系的只读快照，init-mode为lazy且尚未使用的线程池为占位对象
+     */
     public Map<String, Executor> getAllExecutorsMappings() {
         return allExecutorsMappings;
     }
 
+    /**
+     * @return 各线程池当前生效配置的只读副本
+     */
+    public synchronized Map<String, ThreadPoolConfig> getAppliedConfigs() {
+        return Collections.unmodifiableMap(new HashMap<>(appliedConfigs));
+    }
+
 }
@@ -0,0 +1,82 @@
+package com.thunisoft.t3.concurrent.holder.customthreadpool;
+
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Description:<b>延迟创建的线程池占位</b>
+ * init-mode为lazy的线程池在首次使用前以此对象放入映射关系，首次获取时双重检查加锁创建，并发获取只创建一次
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+final class LazyExecutor implements Executor {
+
+    /** 按配置创建线程池，返回放入映射关系的线程池 **/
+    private final Function<ThreadPoolConfig, Executor> factory;
+
+    /** 创建前调整的配置在创建时生效；bean工厂创建线程池时读取，不加锁以免与容器的单例锁互相等待 **/
+    private volatile ThreadPoolConfig config;
+
+    private volatile Executor executor;
+
+    LazyExecutor(ThreadPoolConfig config,
+            Function<ThreadPoolConfig, Executor> factory) {
+        this.config = config;
+        this.factory = factory;
+    }
+
+    /**
+     * @return 创建好的线程池，未创建时在当前线程创建
+     */
+    Executor get() {
+        Executor resolved = executor;
+        if (resolved == null) {
+            synchronized (this) {
+                resolved = executor;
+                if (resolved == null) {
+                    resolved = factory.apply(config);
+                    executor = resolved;
+                }
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * @return 创建时使用的配置
+     */
+    ThreadPoolConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Description:<b>更新尚未创建的线程池的配置</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param config 新的线程池配置对象
+     * @return 是否更新成功，已创建时返回false，需按运行中的线程池调整
+     */
+    synchronized boolean configure(ThreadPoolConfig config) {
+        if (executor != null) {
+            return false;
+        }
+        this.config = config;
+        return true;
+    }
+
+    /**
+     * @return 线程池是否已创建
+     */
+    boolean isInitialized() {
+        return executor != null;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        get().execute(task);
+    }
+}
@@ -0,0 +1,20 @@
+package com.thunisoft.t3.concurrent.lane;
+
+/**
+ * Description:<b>任务的服务等级</b>
+ * 开启lanes的线程池按服务等级分道排队，按权重出队；未开启lanes的线程池忽略服务等级
+ *
+ * @author LKL
+ * @since 2026-10-18 23:58
+ **/
+public enum ServiceClass {
+
+    /** 面向用户的请求，对延迟敏感 **/
+    INTERACTIVE,
+
+    /** 未指定服务等级的任务 **/
+    DEFAULT,
+
+    /** 后台批量任务，可接受排队 **/
+    BATCH
+}
@@ -0,0 +1,59 @@
+package com.thunisoft.t3.concurrent.lane;
+
+import java.util.function.Supplier;
+
+/**
+ * Description:<b>当前线程的服务等级</b>
+ * 分道队列在提交线程上读取，决定任务进入哪一道；由ServiceClassContextPropagator在提交任务时捕获、在执行线程上还原，
+ * 批量任务中再提交的异步任务仍为批量等级
+ *
+ * @author LKL
+ * @since 2026-10-18 23:58
+ **/
+public final class ServiceClassHolder {
+
+    private static final ThreadLocal<ServiceClass> SERVICE_CLASS = new ThreadLocal<>();
+
+    private ServiceClassHolder() {
+    }
+
+    /**
+     * @return 当前线程的服务等级，未设置时为null，按DEFAULT处理
+     */
+    public static ServiceClass getServiceClass() {
+        return SERVICE_CLASS.get();
+    }
+
+    /**
+     * @param serviceClass 当前线程的服务等级，为null时清除
+     */
+    public static void setServiceClass(ServiceClass serviceClass) {
+        if (serviceClass == null) {
+            SERVICE_CLASS.remove();
+        } else {
+            SERVICE_CLASS.set(serviceClass);
+        }
+    }
+
+    /**
+     * Description:<b>以指定服务等级执行</b>
+     * 执行期间提交的异步任务均为该服务等级
+     * 如：ServiceClassHolder.callAs(ServiceClass.BATCH, () -> exporter.exportAll(ids))
+     *
+     * @author LKL
+     * @since 2026-10-18 23:58
+     * @param serviceClass 服务等级
+     * @param supplier 执行逻辑
+     * @return 执行结果
+     */
+    public static <T> T callAs(ServiceClass serviceClass,
+            Supplier<T> supplier) {
+        ServiceClass previous = SERVICE_CLASS.get();
+        setServiceClass(serviceClass);
+        try {
+            return supplier.get();
+        } finally {
+            setServiceClass(previous);
+        }
+    }
+}
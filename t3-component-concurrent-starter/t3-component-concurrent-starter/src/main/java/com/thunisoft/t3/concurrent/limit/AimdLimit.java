@@ -0,0 +1,42 @@
+package com.thunisoft.t3.concurrent.limit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Description:<b>加性增乘性减的并发上限</b>
+ * 任务耗时超过阈值时上限乘以缩小比例；未超过且在途任务数达到上限一半时上限加1，
+ * 在途任务较少时说明上限并非瓶颈，不再放大
+ *
+ * @author LKL
+ * @since 2026-10-18 19:40
+ **/
+public class AimdLimit extends ConcurrencyLimit {
+
+    private final long latencyThresholdNanos;
+
+    private final double backoffRatio;
+
+    public AimdLimit(int initialLimit, int minLimit, int maxLimit,
+            long latencyThresholdMillis, double backoffRatio) {
+        super(initialLimit, minLimit, maxLimit);
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException(
+                    "backoffRatio取值应在(0,1)之间：" + backoffRatio);
+        }
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS
+                .toNanos(latencyThresholdMillis);
+        this.backoffRatio = backoffRatio;
+    }
+
+    @Override
+    protected int update(long rttNanos, int inFlight, int currentLimit) {
+        if (rttNanos > latencyThresholdNanos) {
+            return Math.min(currentLimit - 1,
+                    (int) (currentLimit * backoffRatio));
+        }
+        if (inFlight * 2 >= currentLimit) {
+            return currentLimit + 1;
+        }
+        return currentLimit;
+    }
+}
@@ -0,0 +1,109 @@
+package com.thunisoft.t3.concurrent.limit;
+
+/**
+ * Description:<b>自适应并发上限</b>
+ * 每个任务完成时以其耗时和完成时的在途任务数作为样本调整上限，上限始终位于[minLimit, maxLimit]
+ *
+ * @author LKL
+ * @since 2026-10-18 19:35
+ **/
+public abstract class ConcurrencyLimit {
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private volatile int limit;
+
+    private volatile LimitChangeReason lastChangeReason;
+
+    private volatile LimitChangeListener listener;
+
+    protected ConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = clamp(initialLimit);
+    }
+
+    /**
+     * Description:<b>记录一个任务样本</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 19:35
+     * @param rttNanos 任务从提交到完成的耗时纳秒
+     * @param inFlight 任务完成时的在途任务数，含该任务本身
+     */
+    public final void onSample(long rttNanos, int inFlight) {
+        int oldLimit;
+        int newLimit;
+        synchronized (this) {
+            oldLimit = limit;
+            newLimit = clamp(update(rttNanos, inFlight, oldLimit));
+            if (newLimit == oldLimit) {
+                return;
+            }
+            limit = newLimit;
+            lastChangeReason = newLimit < oldLimit ?
+                    LimitChangeReason.LATENCY_RISING :
+                    LimitChangeReason.LATENCY_STABLE;
+        }
+        LimitChangeListener current = listener;
+        if (current != null) {
+            current.onLimitChange(oldLimit, newLimit, lastChangeReason,
+                    rttNanos);
+        }
+    }
+
+    /**
+     * Description:<b>根据样本计算新的上限</b>
+     * 调用时已持有当前对象的锁，返回值超出上下界时会被截断
+     *
+     * @author LKL
+     * @since 2026-10-18 19:35
+     * @param rttNanos 任务耗时纳秒
+     * @param inFlight 任务完成时的在途任务数
+     * @param currentLimit 当前上限
+     * @return 新的上限
+     */
+    protected abstract int update(long rttNanos, int inFlight,
+            int currentLimit);
+
+    private int clamp(int value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+
+    /**
+     * @return 当前上限
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return 最近一次变化的原因，未变化过时为null
+     */
+    public LimitChangeReason getLastChangeReason() {
+        return lastChangeReason;
+    }
+
+    /**
+     * @return 上限的下界
+     */
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    /**
+     * @return 上限的上界
+     */
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * @param listener 上限变化监听器
+     */
+    public void setListener(LimitChangeListener listener) {
+        this.listener = listener;
+    }
+}
@@ -0,0 +1,32 @@
+package com.thunisoft.t3.concurrent.limit;
+
+import com.thunisoft.t3.concurrent.rejection.ThreadPoolRejectedException;
+
+/**
+ * Description:<b>在途任务数达到自适应并发上限时的拒绝异常</b>
+ * overload-action为fail-fast，或为queue-with-deadline且等待超时时由提交方法抛出
+ *
+ * @author LKL
+ * @since 2026-10-18 19:50
+ **/
+public class ConcurrencyLimitExceededException
+        extends ThreadPoolRejectedException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int limit;
+
+    public ConcurrencyLimitExceededException(String threadPoolName,
+            int limit) {
+        super(threadPoolName,
+                "线程池[" + threadPoolName + "]在途任务数已达并发上限" + limit);
+        this.limit = limit;
+    }
+
+    /**
+     * @return 拒绝时的并发上限
+     */
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,58 @@
+package com.thunisoft.t3.concurrent.limit;
+
+import com.thunisoft.t3.concurrent.configuration.initializer.impl.ThreadPoolTaskExecutorInitializer;
+import com.thunisoft.t3.concurrent.configuration.model.ConcurrencyLimiterConfig;
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import com.thunisoft.t3.concurrent.constant.LimitAlgorithm;
+import com.thunisoft.t3.concurrent.constant.ThreadPoolType;
+
+/**
+ * Description:<b>自适应并发上限工厂</b>
+ *
+ * @author LKL
+ * @since 2026-10-18 19:55
+ **/
+public final class ConcurrencyLimitFactory {
+
+    /** virtual类型未配置max-concurrency时上限的上界 **/
+    private static final int DEFAULT_VIRTUAL_MAX_LIMIT = 1000;
+
+    private ConcurrencyLimitFactory() {
+    }
+
+    /**
+     * Description:<b>按线程池配置创建并发上限</b>
+     * 上界未配置时取线程池最大线程数，virtual类型取max-concurrency；初始值未配置时取核心线程数
+     *
+     * @author LKL
+     * @since 2026-10-18 19:55
+     * @param threadPoolConfig 线程池配置对象
+     * @return 并发上限
+     */
+    public static ConcurrencyLimit create(ThreadPoolConfig threadPoolConfig) {
+        ConcurrencyLimiterConfig limiter = threadPoolConfig.getLimiter();
+        int corePoolSize = ThreadPoolTaskExecutorInitializer
+                .resolveCorePoolSize(threadPoolConfig);
+        int maxLimit;
+        if (limiter.getMaxLimit() != null) {
+            maxLimit = limiter.getMaxLimit();
+        } else if (threadPoolConfig.getType() == ThreadPoolType.VIRTUAL) {
+            maxLimit = threadPoolConfig.getMaxConcurrency() == null ?
+                    DEFAULT_VIRTUAL_MAX_LIMIT :
+                    threadPoolConfig.getMaxConcurrency();
+        } else {
+            maxLimit = ThreadPoolTaskExecutorInitializer
+                    .resolveMaxPoolSize(threadPoolConfig, corePoolSize);
+        }
+        int initialLimit = limiter.getInitialLimit() == null ?
+                corePoolSize :
+                limiter.getInitialLimit();
+        if (limiter.getAlgorithm() == LimitAlgorithm.AIMD) {
+            return new AimdLimit(initialLimit, limiter.getMinLimit(), maxLimit,
+                    limiter.getLatencyThresholdMillis(),
+                    limiter.getBackoffRatio());
+        }
+        return new GradientLimit(initialLimit, limiter.getMinLimit(),
+                maxLimit, limiter.getSmoothing());
+    }
+}
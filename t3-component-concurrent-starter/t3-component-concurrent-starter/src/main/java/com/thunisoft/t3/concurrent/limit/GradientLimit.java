@@ -0,0 +1,67 @@
+package com.thunisoft.t3.concurrent.limit;
+
+/**
+ * Description:<b>基于耗时梯度的并发上限</b>
+ * 分别以短窗口和长窗口的指数移动平均跟踪任务耗时，梯度=容忍系数×长期耗时/近期耗时，取值[0.5,1]；
+ * 新上限=当前上限×梯度+sqrt(当前上限)，再按平滑系数与当前上限加权。
+ * 下游变慢时近期耗时高于长期耗时，梯度小于1，上限收缩；耗时恢复后梯度回到1，上限按平方根逐步放大
+ *
+ * @author LKL
+ * @since 2026-10-18 19:45
+ **/
+public class GradientLimit extends ConcurrencyLimit {
+
+    /** 近期耗时窗口约10个样本 **/
+    private static final double SHORT_ALPHA = 2.0 / (10 + 1);
+
+    /** 长期耗时窗口约600个样本 **/
+    private static final double LONG_ALPHA = 2.0 / (600 + 1);
+
+    /** 近期耗时不超过长期耗时的1.5倍时视为正常波动 **/
+    private static final double RTT_TOLERANCE = 1.5;
+
+    private final double smoothing;
+
+    private double estimatedLimit;
+
+    private double shortRtt;
+
+    private double longRtt;
+
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit,
+            double smoothing) {
+        super(initialLimit, minLimit, maxLimit);
+        if (smoothing <= 0 || smoothing > 1) {
+            throw new IllegalArgumentException(
+                    "smoothing取值应在(0,1]之间：" + smoothing);
+        }
+        this.smoothing = smoothing;
+        this.estimatedLimit = getLimit();
+    }
+
+    @Override
+    protected int update(long rttNanos, int inFlight, int currentLimit) {
+        if (longRtt == 0) {
+            shortRtt = rttNanos;
+            longRtt = rttNanos;
+        }
+        shortRtt += (rttNanos - shortRtt) * SHORT_ALPHA;
+        longRtt += (rttNanos - longRtt) * LONG_ALPHA;
+        // 长期耗时远高于近期耗时说明下游已恢复，加快长期耗时回落，避免上限长时间放不开
+        if (longRtt > shortRtt * 2) {
+            longRtt *= 0.95;
+        }
+        // 在途任务不足上限一半时上限并非瓶颈，不再放大
+        if (inFlight * 2 < estimatedLimit && shortRtt <= longRtt) {
+            return currentLimit;
+        }
+        double gradient = Math.max(0.5,
+                Math.min(1.0, RTT_TOLERANCE * longRtt / shortRtt));
+        double newLimit = estimatedLimit * gradient + Math
+                .sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math
+                .max(getMinLimit(), Math.min(getMaxLimit(), newLimit));
+        return (int) estimatedLimit;
+    }
+}
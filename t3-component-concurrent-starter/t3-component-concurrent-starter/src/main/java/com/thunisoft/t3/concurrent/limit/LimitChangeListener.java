@@ -0,0 +1,24 @@
+package com.thunisoft.t3.concurrent.limit;
+
+/**
+ * Description:<b>并发上限变化监听器</b>
+ *
+ * @author LKL
+ * @since 2026-10-18 19:30
+ **/
+@FunctionalInterface
+public interface LimitChangeListener {
+
+    /**
+     * Description:<b>并发上限发生变化</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 19:30
+     * @param oldLimit 变化前的上限
+     * @param newLimit 变化后的上限
+     * @param reason 变化原因
+     * @param rttNanos 触发变化的任务耗时纳秒
+     */
+    void onLimitChange(int oldLimit, int newLimit, LimitChangeReason reason,
+            long rttNanos);
+}
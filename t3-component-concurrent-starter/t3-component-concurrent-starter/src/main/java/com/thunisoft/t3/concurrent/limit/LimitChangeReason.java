@@ -0,0 +1,17 @@
+package com.thunisoft.t3.concurrent.limit;
+
+/**
+ * Description:<b>并发上限变化原因</b>
+ * 作为指标t3.concurrent.pool.limit.changes的reason标签
+ *
+ * @author LKL
+ * @since 2026-10-18 19:30
+ **/
+public enum LimitChangeReason {
+
+    /** 任务耗时上升，缩小上限 **/
+    LATENCY_RISING,
+
+    /** 任务耗时平稳且名额已被用满，放大上限 **/
+    LATENCY_STABLE
+}
@@ -0,0 +1,225 @@
+package com.thunisoft.t3.concurrent.limit;
+
+import com.thunisoft.t3.concurrent.configuration.model.ConcurrencyLimiterConfig;
+import com.thunisoft.t3.concurrent.constant.OverloadAction;
+import com.thunisoft.t3.concurrent.decorator.WrappedTask;
+import com.thunisoft.t3.concurrent.metrics.RejectionOutcome;
+import com.thunisoft.t3.concurrent.metrics.ThreadPoolMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Description:<b>带自适应并发上限的线程池</b>
+ * 位于线程池之前，在途任务数达到上限时按overload-action处理新任务，避免下游变慢时任务大量堆积在线程池中；
+ * 任务从提交到完成的耗时作为样本反馈给并发上限，包含排队耗时，线程池排队同样说明并发过高
+ *
+ * @author LKL
+ * @since 2026-10-18 20:00
+ **/
+@Slf4j
+public class LimitedExecutor implements Executor {
+
+    private final String threadPoolName;
+
+    private final Executor delegate;
+
+    private final ThreadPoolMetrics metrics;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /** 等待名额的提交线程数，为0时释放名额无需加锁 **/
+    private final AtomicInteger waiters = new AtomicInteger();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition released = lock.newCondition();
+
+    private volatile ConcurrencyLimiterConfig config;
+
+    private volatile ConcurrencyLimit limit;
+
+    public LimitedExecutor(String threadPoolName, Executor delegate,
+            ConcurrencyLimiterConfig config, ConcurrencyLimit limit,
+            ThreadPoolMetrics metrics) {
+        this.threadPoolName = threadPoolName;
+        this.delegate = delegate;
+        this.metrics = metrics;
+        configure(config, limit);
+    }
+
+    /**
+     * Description:<b>替换并发上限配置</b>
+     * 在途任务计数保留，已提交的任务完成后向新的并发上限反馈
+     *
+     * @author LKL
+     * @since 2026-10-18 20:00
+     * @param config 自适应并发限制配置
+     * @param limit 按新配置创建的并发上限
+     */
+    public void configure(ConcurrencyLimiterConfig config,
+            ConcurrencyLimit limit) {
+        limit.setListener(this::onLimitChange);
+        this.config = config;
+        this.limit = limit;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (!tryAcquire() && !overload(command)) {
+            return;
+        }
+        long submitNanos = System.nanoTime();
+        try {
+            delegate.execute(new LimitedTask(command, submitNanos));
+        } catch (RejectedExecutionException e) {
+            release();
+            throw e;
+        }
+    }
+
+    /**
+     * Description:<b>处理达到上限时提交的任务</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 20:00
+     * @param command 任务
+     * @return 是否在等待后取得名额，取得时由调用方继续提交
+     */
+    private boolean overload(Runnable command) {
+        OverloadAction action = config.getOverloadAction();
+        if (action == OverloadAction.CALLER_RUNS) {
+            metrics.recordRejection(RejectionOutcome.CALLER_RUNS);
+            command.run();
+            return false;
+        }
+        if (action == OverloadAction.QUEUE_WITH_DEADLINE && awaitPermit(
+                TimeUnit.MILLISECONDS.toNanos(config.getQueueTimeoutMillis()))) {
+            return true;
+        }
+        metrics.recordRejection(RejectionOutcome.REJECTED);
+        throw new ConcurrencyLimitExceededException(threadPoolName,
+                limit.getLimit());
+    }
+
+    private boolean awaitPermit(long timeoutNanos) {
+        long remaining = timeoutNanos;
+        waiters.incrementAndGet();
+        lock.lock();
+        try {
+            while (!tryAcquire()) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = released.awaitNanos(remaining);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+            waiters.decrementAndGet();
+        }
+    }
+
+    private boolean tryAcquire() {
+        for (;;) {
+            int current = inFlight.get();
+            if (current >= limit.getLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void release() {
+        inFlight.decrementAndGet();
+        if (waiters.get() > 0) {
+            lock.lock();
+            try {
+                released.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 完成时释放名额并反馈耗时的任务包装
+     */
+    private final class LimitedTask implements WrappedTask {
+
+        private final Runnable delegate;
+
+        private final long submitNanos;
+
+        private LimitedTask(Runnable delegate, long submitNanos) {
+            this.delegate = delegate;
+            this.submitNanos = submitNanos;
+        }
+
+        @Override
+        public void run() {
+            try {
+                delegate.run();
+            } finally {
+                int current = inFlight.get();
+                release();
+                if (!WrappedTask.isRunElsewhere(delegate)) {
+                    limit.onSample(System.nanoTime() - submitNanos, current);
+                }
+            }
+        }
+
+        @Override
+        public Runnable getDelegate() {
+            return delegate;
+        }
+    }
+
+    private void onLimitChange(int oldLimit, int newLimit,
+            LimitChangeReason reason, long rttNanos) {
+        metrics.recordLimitChange(reason);
+        if (log.isDebugEnabled()) {
+            log.debug("线程池[{}]并发上限{}->{}，原因{}，任务耗时{}ms", threadPoolName,
+                    oldLimit, newLimit, reason,
+                    TimeUnit.NANOSECONDS.toMillis(rttNanos));
+        }
+    }
+
+    /**
+     * @return 被限制的线程池
+     */
+    public Executor getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * @return 当前并发上限
+     */
+    public ConcurrencyLimit getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return 当前生效的自适应并发限制配置
+     */
+    public ConcurrencyLimiterConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * @return 在途任务数
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
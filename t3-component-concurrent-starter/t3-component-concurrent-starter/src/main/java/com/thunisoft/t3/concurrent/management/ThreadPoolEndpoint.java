@@ -0,0 +1,172 @@
+package com.thunisoft.t3.concurrent.management;
+
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import com.thunisoft.t3.concurrent.executor.ForkJoinTaskExecutor;
+import com.thunisoft.t3.concurrent.executor.KeyedTaskExecutor;
+import com.thunisoft.t3.concurrent.executor.RingBufferTaskExecutor;
+import com.thunisoft.t3.concurrent.executor.ResizableThreadPoolTaskExecutor;
+import com.thunisoft.t3.concurrent.executor.VirtualThreadTaskExecutor;
+import com.thunisoft.t3.concurrent.holder.customthreadpool.ExecutorsHolder;
+import com.thunisoft.t3.concurrent.limit.LimitedExecutor;
+import com.thunisoft.t3.concurrent.tuning.PoolSizeTuner;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Description:<b>线程池管理端点</b>
+ * GET /actuator/threadpools 查看全部线程池状态；
+ * POST /actuator/threadpools/{name} 调整指定线程池，未传的参数保持不变，如：
+ * {"corePoolSize": 32, "maxPoolSize": 256}
+ *
+ * @author LKL
+ * @since 2026-10-18 17:10
+ **/
+@Endpoint(id = "threadpools")
+public class ThreadPoolEndpoint {
+
+    private final ExecutorsHolder executorsHolder;
+
+    public ThreadPoolEndpoint(ExecutorsHolder executorsHolder) {
+        this.executorsHolder = executorsHolder;
+    }
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> threadPools() {
+        Map<String, Map<String, Object>> result = new TreeMap<>();
+        executorsHolder.getAllExecutorsMappings()
+                .forEach((name, executor) -> result.put(name, describe(name)));
+        return result;
+    }
+
+    @ReadOperation
+    public Map<String, Object> threadPool(@Selector String name) {
+        return describe(name);
+    }
+
+    @WriteOperation
+    public Map<String, Object> resize(@Selector String name,
+            @Nullable Integer corePoolSize, @Nullable Integer maxPoolSize,
+            @Nullable Integer queueCapacity,
+            @Nullable Integer keepAliveSeconds) {
+        ThreadPoolConfig applied = executorsHolder.getAppliedConfigs()
+                .get(name);
+        if (applied == null) {
+            // 名称写错时不创建线程池
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("reconfigured", false);
+            result.put("reason", "线程池[" + name + "]不存在");
+            return result;
+        }
+        ThreadPoolConfig config = applied.copy();
+        if (corePoolSize != null) {
+            config.setCorePoolSize(corePoolSize);
+        }
+        if (maxPoolSize != null) {
+            config.setMaxPoolSize(maxPoolSize);
+        }
+        if (queueCapacity != null) {
+            config.setQueueCapacity(queueCapacity);
+        }
+        if (keepAliveSeconds != null) {
+            config.setKeepAliveSeconds(keepAliveSeconds);
+        }
+        boolean reconfigured = executorsHolder.reconfigure(name, config);
+        Map<String, Object> result = describe(name);
+        result.put("reconfigured", reconfigured);
+        return result;
+    }
+
+    private Map<String, Object> describe(String name) {
+        Map<String, Object> status = new LinkedHashMap<>();
+        Executor executor = executorsHolder.getAllExecutorsMappings()
+                .get(name);
+        if (executor == null) {
+            return status;
+        }
+        ThreadPoolConfig config = executorsHolder.getAppliedConfigs()
+                .get(name);
+        status.put("type", config == null ? null : config.getType());
+        if (!executorsHolder.isInitialized(name)) {
+            // 延迟创建的线程池尚未使用，查询状态时不触发创建
+            status.put("initMode", config == null ? null : config.getInitMode());
+            status.put("initialized", false);
+            return status;
+        }
+        if (executor instanceof LimitedExecutor) {
+            LimitedExecutor limited = (LimitedExecutor) executor;
+            status.put("limitAlgorithm", limited.getConfig().getAlgorithm());
+            status.put("limit", limited.getLimit().getLimit());
+            status.put("limitChangeReason",
+                    limited.getLimit().getLastChangeReason());
+            status.put("inFlight", limited.getInFlight());
+            executor = limited.getDelegate();
+        }
+        status.put("class", executor.getClass().getSimpleName());
+        if (executor instanceof ThreadPoolTaskExecutor) {
+            ThreadPoolExecutor pool = ((ThreadPoolTaskExecutor) executor)
+                    .getThreadPoolExecutor();
+            status.put("corePoolSize", pool.getCorePoolSize());
+            status.put("maxPoolSize", pool.getMaximumPoolSize());
+            status.put("poolSize", pool.getPoolSize());
+            status.put("activeCount", pool.getActiveCount());
+            status.put("queueSize", pool.getQueue().size());
+            if (executor instanceof ResizableThreadPoolTaskExecutor) {
+                ResizableThreadPoolTaskExecutor resizable = (ResizableThreadPoolTaskExecutor) executor;
+                status.put("queueCapacity", resizable.getQueueCapacity());
+                status.put("compensatingCount",
+                        resizable.getCompensatingCount());
+            }
+            PoolSizeTuner tuner = executorsHolder.getTuner(name);
+            if (tuner != null) {
+                status.put("blockingRatio", tuner.getBlockingRatio());
+                status.put("lastTuning", tuner.getLastDecision() == null ?
+                        null :
+                        tuner.getLastDecision().toString());
+            }
+            status.put("keepAliveSeconds", ((ThreadPoolTaskExecutor) executor)
+                    .getKeepAliveSeconds());
+            status.put("completedTaskCount", pool.getCompletedTaskCount());
+        } else if (executor instanceof ForkJoinTaskExecutor) {
+            ForkJoinPool pool = ((ForkJoinTaskExecutor) executor)
+                    .getForkJoinPool();
+            status.put("parallelism", pool.getParallelism());
+            status.put("poolSize", pool.getPoolSize());
+            status.put("activeCount", pool.getActiveThreadCount());
+            status.put("queueSize", pool.getQueuedSubmissionCount() + pool
+                    .getQueuedTaskCount());
+            status.put("stealCount", pool.getStealCount());
+        } else if (executor instanceof KeyedTaskExecutor) {
+            KeyedTaskExecutor keyed = (KeyedTaskExecutor) executor;
+            ThreadPoolExecutor pool = keyed.getThreadPoolExecutor();
+            status.put("corePoolSize", pool.getCorePoolSize());
+            status.put("poolSize", pool.getPoolSize());
+            status.put("activeCount", pool.getActiveCount());
+            status.put("stripes", keyed.getStripeCount());
+            status.put("queueSize", keyed.getQueuedCount());
+        } else if (executor instanceof RingBufferTaskExecutor) {
+            RingBufferTaskExecutor ring = (RingBufferTaskExecutor) executor;
+            status.put("poolSize", ring.getPoolSize());
+            status.put("activeCount", ring.getActiveCount());
+            status.put("queueSize", ring.getQueueSize());
+            status.put("queueCapacity", ring.getQueueCapacity());
+            status.put("waitStrategy", ring.getWaitStrategy());
+            status.put("completedTaskCount", ring.getCompletedTaskCount());
+        } else if (executor instanceof VirtualThreadTaskExecutor) {
+            VirtualThreadTaskExecutor virtual = (VirtualThreadTaskExecutor) executor;
+            status.put("runningCount", virtual.getRunningCount());
+            status.put("availablePermits", virtual.getAvailablePermits());
+        }
+        return status;
+    }
+}
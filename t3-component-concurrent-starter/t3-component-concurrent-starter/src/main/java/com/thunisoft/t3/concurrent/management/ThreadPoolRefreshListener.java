@@ -0,0 +1,59 @@
+package com.thunisoft.t3.concurrent.management;
+
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import com.thunisoft.t3.concurrent.holder.customthreadpool.ExecutorsHolder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.Environment;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Description:<b>配置刷新监听器</b>
+ * 配置中心推送或/actuator/refresh触发EnvironmentChangeEvent后，若变更涉及concurrent配置则重新绑定并调整线程池；
+ * 直接从Environment绑定新配置，不依赖ThreadPoolConfiguration是否已被重新绑定
+ *
+ * @author LKL
+ * @since 2026-10-18 17:02
+ **/
+@Slf4j
+public class ThreadPoolRefreshListener
+        implements ApplicationListener<EnvironmentChangeEvent> {
+
+    /** 配置前缀 **/
+    private static final String PREFIX = "concurrent";
+
+    private final Environment environment;
+
+    private final ExecutorsHolder executorsHolder;
+
+    public ThreadPoolRefreshListener(Environment environment,
+            ExecutorsHolder executorsHolder) {
+        this.environment = environment;
+        this.executorsHolder = executorsHolder;
+    }
+
+    @Override
+    public void onApplicationEvent(EnvironmentChangeEvent event) {
+        boolean changed = event.getKeys().stream().anyMatch(
+                key -> key.toLowerCase(Locale.ROOT).startsWith(PREFIX));
+        if (!changed) {
+            return;
+        }
+        Binder binder = Binder.get(environment);
+        ThreadPoolConfig defaultConfig = binder
+                .bind(PREFIX + ".threadpool", ThreadPoolConfig.class)
+                .orElseGet(ThreadPoolConfig::new);
+        Map<String, ThreadPoolConfig> customConfigs = binder
+                .bind(PREFIX + ".custom-thread-pools", Bindable
+                        .mapOf(String.class, ThreadPoolConfig.class))
+                .orElseGet(Collections::emptyMap);
+        log.info("检测到线程池配置变更，开始调整线程池：{}", event.getKeys());
+        executorsHolder.refresh(defaultConfig, customConfigs);
+    }
+}
@@ -0,0 +1,50 @@
+package com.thunisoft.t3.concurrent.metrics;
+
+import com.thunisoft.t3.concurrent.rejection.RejectedPolicy;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Description:<b>记录饱和次数的拒绝策略包装</b>
+ * 组件的RejectedPolicy按每次实际处理结果计数，抛出异常时计入rejected；
+ * 其他策略中CallerRunsPolicy计入caller_runs，其余计入rejected
+ *
+ * @author LKL
+ * @since 2026-10-18 18:40
+ **/
+public class InstrumentedRejectedExecutionHandler
+        implements RejectedExecutionHandler {
+
+    private final RejectedExecutionHandler delegate;
+
+    private final ThreadPoolMetrics metrics;
+
+    private final RejectionOutcome outcome;
+
+    public InstrumentedRejectedExecutionHandler(
+            RejectedExecutionHandler delegate, ThreadPoolMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+        this.outcome = delegate instanceof ThreadPoolExecutor.CallerRunsPolicy ?
+                RejectionOutcome.CALLER_RUNS :
+                RejectionOutcome.REJECTED;
+    }
+
+    @Override
+    public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+        if (!(delegate instanceof RejectedPolicy)) {
+            metrics.recordRejection(outcome);
+            delegate.rejectedExecution(r, executor);
+            return;
+        }
+        try {
+            metrics.recordRejection(
+                    ((RejectedPolicy) delegate).handle(r, executor));
+        } catch (RejectedExecutionException e) {
+            metrics.recordRejection(RejectionOutcome.REJECTED);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.thunisoft.t3.concurrent.metrics;
+
+import com.thunisoft.t3.concurrent.executor.ForkJoinTaskExecutor;
+import com.thunisoft.t3.concurrent.executor.KeyedTaskExecutor;
+import com.thunisoft.t3.concurrent.executor.RingBufferTaskExecutor;
+import com.thunisoft.t3.concurrent.executor.VirtualThreadTaskExecutor;
+import com.thunisoft.t3.concurrent.executor.WeightedLaneBlockingQueue;
+import com.thunisoft.t3.concurrent.lane.ServiceClass;
+import com.thunisoft.t3.concurrent.limit.LimitChangeReason;
+import com.thunisoft.t3.concurrent.limit.LimitedExecutor;
+import com.thunisoft.t3.concurrent.tuning.PoolSizeTuner;
+import com.thunisoft.t3.concurrent.tuning.TuningReason;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Description:<b>基于Micrometer的线程池指标记录器</b>
+ * 指标均带pool标签，值为配置中的线程池名称；计时器和计数器在创建时注册，记录时不查找、不分配
+ *
+ * @author LKL
+ * @since 2026-10-18 18:15
+ **/
+public class MicrometerThreadPoolMetrics implements ThreadPoolMetrics {
+
+    /** 指标名前缀 **/
+    public static final String PREFIX = "t3.concurrent.pool";
+
+    private final MeterRegistry registry;
+
+    private final Tags tags;
+
+    private final Timer queueWait;
+
+    private final Timer execution;
+
+    private final Map<RejectionOutcome, Counter> rejections = new EnumMap<>(
+            RejectionOutcome.class);
+
+    private final Map<LimitChangeReason, Counter> limitChanges = new EnumMap<>(
+            LimitChangeReason.class);
+
+    private final Map<TuningReason, Counter> tuningDecisions = new EnumMap<>(
+            TuningReason.class);
+
+    private final Map<ServiceClass, Timer> laneWaits = new EnumMap<>(
+            ServiceClass.class);
+
+    public MicrometerThreadPoolMetrics(MeterRegistry registry,
+            String threadPoolName) {
+        this.registry = registry;
+        this.tags = Tags.of("pool", threadPoolName);
+        this.queueWait = Timer.builder(PREFIX + ".queue.wait")
+                .description("任务从提交到开始执行的排队耗时").tags(tags)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(1000))
+                .maximumExpectedValue(Duration.ofSeconds(60))
+                .register(registry);
+        this.execution = Timer.builder(PREFIX + ".execution")
+                .description("任务执行耗时").tags(tags)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(1000))
+                .maximumExpectedValue(Duration.ofSeconds(60))
+                .register(registry);
+        for (RejectionOutcome outcome : RejectionOutcome.values()) {
+            rejections.put(outcome, Counter.builder(PREFIX + ".rejected")
+                    .description("线程池饱和次数，outcome为饱和时任务的处理结果").tags(tags)
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .register(registry));
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void recordQueueWait(long nanos) {
+        queueWait.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordLaneWait(ServiceClass serviceClass, long nanos) {
+        Timer timer = laneWaits.get(serviceClass);
+        if (timer != null) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void recordExecution(long nanos) {
+        execution.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordRejection(RejectionOutcome outcome) {
+        rejections.get(outcome).increment();
+    }
+
+    @Override
+    public void recordLimitChange(LimitChangeReason reason) {
+        Counter counter = limitChanges.get(reason);
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    @Override
+    public void recordTuning(TuningReason reason) {
+        Counter counter = tuningDecisions.get(reason);
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    @Override
+    public void bindTo(PoolSizeTuner tuner) {
+        gauge("tuning.blocking.ratio", tuner, PoolSizeTuner::getBlockingRatio);
+        // 仅开启tuner的线程池注册，在调整开始前完成，记录时无需同步
+        for (TuningReason reason : TuningReason.values()) {
+            tuningDecisions.put(reason, Counter
+                    .builder(PREFIX + ".tuning.decisions")
+                    .description("线程数自动调整的决策次数，reason为决策原因")
+                    .tags(tags).tag("reason", reason.name().toLowerCase())
+                    .register(registry));
+        }
+    }
+
+    @Override
+    public void bindTo(Executor executor) {
+        if (executor instanceof LimitedExecutor) {
+            LimitedExecutor limited = (LimitedExecutor) executor;
+            gauge("limit", limited, l -> l.getLimit().getLimit());
+            gauge("inflight", limited, LimitedExecutor::getInFlight);
+            // 仅开启自适应并发限制的线程池注册，在线程池发布前完成，记录时无需同步
+            for (LimitChangeReason reason : LimitChangeReason.values()) {
+                limitChanges.put(reason, Counter
+                        .builder(PREFIX + ".limit.changes")
+                        .description("自适应并发上限变化次数，reason为变化原因")
+                        .tags(tags).tag("reason", reason.name().toLowerCase())
+                        .register(registry));
+            }
+        } else if (executor instanceof ThreadPoolTaskExecutor) {
+            ThreadPoolExecutor pool = ((ThreadPoolTaskExecutor) executor)
+                    .getThreadPoolExecutor();
+            gauge("active", pool, ThreadPoolExecutor::getActiveCount);
+            gauge("size", pool, ThreadPoolExecutor::getPoolSize);
+            gauge("core", pool, ThreadPoolExecutor::getCorePoolSize);
+            gauge("max", pool, ThreadPoolExecutor::getMaximumPoolSize);
+            gauge("queued", pool, p -> p.getQueue().size());
+            FunctionCounter.builder(PREFIX + ".completed", pool,
+                    ThreadPoolExecutor::getCompletedTaskCount).tags(tags)
+                    .register(registry);
+            if (pool.getQueue() instanceof WeightedLaneBlockingQueue) {
+                bindLanes((WeightedLaneBlockingQueue<?>) pool.getQueue());
+            }
+        } else if (executor instanceof ForkJoinTaskExecutor) {
+            ForkJoinPool pool = ((ForkJoinTaskExecutor) executor)
+                    .getForkJoinPool();
+            gauge("active", pool, ForkJoinPool::getActiveThreadCount);
+            gauge("size", pool, ForkJoinPool::getPoolSize);
+            gauge("queued", pool, p -> p.getQueuedSubmissionCount() + p
+                    .getQueuedTaskCount());
+            FunctionCounter.builder(PREFIX + ".steals", pool,
+                    ForkJoinPool::getStealCount).tags(tags).register(registry);
+        } else if (executor instanceof KeyedTaskExecutor) {
+            KeyedTaskExecutor keyed = (KeyedTaskExecutor) executor;
+            ThreadPoolExecutor pool = keyed.getThreadPoolExecutor();
+            gauge("active", pool, ThreadPoolExecutor::getActiveCount);
+            gauge("size", pool, ThreadPoolExecutor::getPoolSize);
+            gauge("queued", keyed, KeyedTaskExecutor::getQueuedCount);
+        } else if (executor instanceof RingBufferTaskExecutor) {
+            RingBufferTaskExecutor ring = (RingBufferTaskExecutor) executor;
+            gauge("active", ring, RingBufferTaskExecutor::getActiveCount);
+            gauge("size", ring, RingBufferTaskExecutor::getPoolSize);
+            gauge("queued", ring, RingBufferTaskExecutor::getQueueSize);
+            FunctionCounter.builder(PREFIX + ".completed", ring,
+                    RingBufferTaskExecutor::getCompletedTaskCount).tags(tags)
+                    .register(registry);
+        } else if (executor instanceof VirtualThreadTaskExecutor) {
+            gauge("active", (VirtualThreadTaskExecutor) executor,
+                    VirtualThreadTaskExecutor::getRunningCount);
+        }
+    }
+
+    /**
+     * 仅开启lanes的线程池注册，在线程池发布前完成，记录时无需同步
+     */
+    private void bindLanes(WeightedLaneBlockingQueue<?> queue) {
+        for (ServiceClass serviceClass : ServiceClass.values()) {
+            String tag = serviceClass.name().toLowerCase();
+            Gauge.builder(PREFIX + ".lane.queued", queue,
+                    q -> q.size(serviceClass)).description("各道的排队任务数")
+                    .tags(tags).tag("class", tag).register(registry);
+            laneWaits.put(serviceClass, Timer.builder(PREFIX + ".lane.wait")
+                    .description("任务在分道队列中的排队耗时").tags(tags)
+                    .tag("class", tag).publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(1000))
+                    .maximumExpectedValue(Duration.ofSeconds(60))
+                    .register(registry));
+        }
+    }
+
+    private <T> void gauge(String name, T obj,
+            ToDoubleFunction<T> f) {
+        Gauge.builder(PREFIX + "." + name, obj, f).tags(tags)
+                .register(registry);
+    }
+}
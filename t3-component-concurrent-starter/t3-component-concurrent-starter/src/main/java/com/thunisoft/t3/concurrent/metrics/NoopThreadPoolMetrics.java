@@ -0,0 +1,57 @@
+package com.thunisoft.t3.concurrent.metrics;
+
+import com.thunisoft.t3.concurrent.lane.ServiceClass;
+import com.thunisoft.t3.concurrent.limit.LimitChangeReason;
+import com.thunisoft.t3.concurrent.tuning.PoolSizeTuner;
+import com.thunisoft.t3.concurrent.tuning.TuningReason;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Description:<b>不记录任何指标的记录器</b>
+ * 未引入micrometer或线程池关闭指标时使用
+ *
+ * @author LKL
+ * @since 2026-10-18 18:10
+ **/
+public enum NoopThreadPoolMetrics implements ThreadPoolMetrics {
+
+    INSTANCE;
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public void recordQueueWait(long nanos) {
+    }
+
+    @Override
+    public void recordLaneWait(ServiceClass serviceClass, long nanos) {
+    }
+
+    @Override
+    public void recordExecution(long nanos) {
+    }
+
+    @Override
+    public void recordRejection(RejectionOutcome outcome) {
+    }
+
+    @Override
+    public void recordLimitChange(LimitChangeReason reason) {
+    }
+
+    @Override
+    public void recordTuning(TuningReason reason) {
+    }
+
+    @Override
+    public void bindTo(PoolSizeTuner tuner) {
+    }
+
+    @Override
+    public void bindTo(Executor executor) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.thunisoft.t3.concurrent.metrics;
+
+/**
+ * Description:<b>线程池饱和时任务的处理结果</b>
+ * 作为指标t3.concurrent.pool.rejected的outcome标签
+ *
+ * @author LKL
+ * @since 2026-10-18 18:05
+ **/
+public enum RejectionOutcome {
+
+    /** 由提交线程直接执行 **/
+    CALLER_RUNS,
+
+    /** 拒绝执行并抛出异常 **/
+    REJECTED,
+
+    /** 提交线程等待后成功放入线程池 **/
+    BLOCKED,
+
+    /** 取消队列中最早的任务后重新提交 **/
+    DISCARDED,
+
+    /** 转投其他线程池 **/
+    OVERFLOWED
+}
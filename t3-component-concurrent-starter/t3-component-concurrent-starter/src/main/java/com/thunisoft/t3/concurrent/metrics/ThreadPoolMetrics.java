@@ -0,0 +1,99 @@
+package com.thunisoft.t3.concurrent.metrics;
+
+import com.thunisoft.t3.concurrent.lane.ServiceClass;
+import com.thunisoft.t3.concurrent.limit.LimitChangeReason;
+import com.thunisoft.t3.concurrent.tuning.PoolSizeTuner;
+import com.thunisoft.t3.concurrent.tuning.TuningReason;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Description:<b>线程池指标记录器</b>
+ * 每个线程池一个实例，记录方法位于任务执行的热点路径上，实现不应产生对象分配
+ *
+ * @author LKL
+ * @since 2026-10-18 18:05
+ **/
+public interface ThreadPoolMetrics {
+
+    /**
+     * @return 是否记录指标，为false时线程池不包装任务，不产生任何额外开销
+     */
+    boolean isEnabled();
+
+    /**
+     * Description:<b>记录任务从提交到开始执行的排队耗时</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 18:05
+     * @param nanos 耗时纳秒
+     */
+    void recordQueueWait(long nanos);
+
+    /**
+     * Description:<b>记录分道队列中任务的排队耗时</b>
+     * 仅开启lanes的线程池调用，按服务等级分别统计，与recordQueueWait的区别是不含队列之外的等待
+     *
+     * @author LKL
+     * @since 2026-10-18 23:58
+     * @param serviceClass 任务所在的道
+     * @param nanos 耗时纳秒
+     */
+    void recordLaneWait(ServiceClass serviceClass, long nanos);
+
+    /**
+     * Description:<b>记录任务执行耗时</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 18:05
+     * @param nanos 耗时纳秒
+     */
+    void recordExecution(long nanos);
+
+    /**
+     * Description:<b>记录一次线程池饱和</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 18:05
+     * @param outcome 饱和时任务的处理结果
+     */
+    void recordRejection(RejectionOutcome outcome);
+
+    /**
+     * Description:<b>记录一次自适应并发上限变化</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 20:05
+     * @param reason 变化原因
+     */
+    void recordLimitChange(LimitChangeReason reason);
+
+    /**
+     * Description:<b>记录一次线程数自动调整的决策</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param reason 决策原因，含不调整的原因
+     */
+    void recordTuning(TuningReason reason);
+
+    /**
+     * Description:<b>绑定线程数自动调整指标</b>
+     * 阻塞比例、核心线程数及各原因的决策次数，仅开启tuner的线程池注册
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param tuner 线程数调整器
+     */
+    void bindTo(PoolSizeTuner tuner);
+
+    /**
+     * Description:<b>绑定线程池状态指标</b>
+     * 活动线程数、线程数、排队任务数、已完成任务数等，按线程池类型注册；开启自适应并发限制时另注册并发上限及在途任务数，开启lanes时另注册各道的排队任务数
+     *
+     * @author LKL
+     * @since 2026-10-18 18:05
+     * @param executor 初始化好的线程池
+     */
+    void bindTo(Executor executor);
+}
@@ -0,0 +1,52 @@
+package com.thunisoft.t3.concurrent.metrics;
+
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Description:<b>线程池指标记录器工厂</b>
+ * 引入micrometer时注册到Metrics.globalRegistry，Spring Boot默认会把应用的MeterRegistry加入其中；
+ * 未引入micrometer、线程池未指定名称或配置关闭指标时返回不记录的实现
+ *
+ * @author LKL
+ * @since 2026-10-18 18:25
+ **/
+public final class ThreadPoolMetricsFactory {
+
+    private static final boolean MICROMETER_PRESENT = ClassUtils
+            .isPresent("io.micrometer.core.instrument.MeterRegistry",
+                    ThreadPoolMetricsFactory.class.getClassLoader());
+
+    private ThreadPoolMetricsFactory() {
+    }
+
+    /**
+     * Description:<b>创建线程池指标记录器</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 18:25
+     * @param threadPoolName 线程池名称，作为指标的pool标签
+     * @param threadPoolConfig 线程池配置对象
+     * @return 指标记录器
+     */
+    public static ThreadPoolMetrics create(String threadPoolName,
+            ThreadPoolConfig threadPoolConfig) {
+        if (!MICROMETER_PRESENT || threadPoolName == null
+                || !threadPoolConfig.isMetricsEnabled()) {
+            return NoopThreadPoolMetrics.INSTANCE;
+        }
+        return MicrometerHolder.create(threadPoolName);
+    }
+
+    /**
+     * 隔离对micrometer类的引用，未引入micrometer时不会加载
+     */
+    private static final class MicrometerHolder {
+
+        private static ThreadPoolMetrics create(String threadPoolName) {
+            return new MicrometerThreadPoolMetrics(Metrics.globalRegistry,
+                    threadPoolName);
+        }
+    }
+}
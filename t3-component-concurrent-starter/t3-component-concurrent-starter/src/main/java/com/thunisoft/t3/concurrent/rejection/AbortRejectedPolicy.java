@@ -0,0 +1,29 @@
+package com.thunisoft.t3.concurrent.rejection;
+
+import com.thunisoft.t3.concurrent.metrics.RejectionOutcome;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Description:<b>直接拒绝的拒绝策略</b>
+ *
+ * @author LKL
+ * @since 2026-10-18 20:45
+ **/
+public class AbortRejectedPolicy implements RejectedPolicy {
+
+    private final String threadPoolName;
+
+    public AbortRejectedPolicy(String threadPoolName) {
+        this.threadPoolName = threadPoolName;
+    }
+
+    @Override
+    public RejectionOutcome handle(Runnable task,
+            ThreadPoolExecutor executor) {
+        throw new ThreadPoolRejectedException(threadPoolName,
+                "线程池[" + threadPoolName + "]已饱和，活动线程数" + executor
+                        .getActiveCount() + "，队列任务数" + executor.getQueue()
+                        .size());
+    }
+}
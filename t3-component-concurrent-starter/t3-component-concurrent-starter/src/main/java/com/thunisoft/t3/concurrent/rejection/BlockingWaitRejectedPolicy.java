@@ -0,0 +1,45 @@
+package com.thunisoft.t3.concurrent.rejection;
+
+import com.thunisoft.t3.concurrent.metrics.RejectionOutcome;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Description:<b>有限等待的拒绝策略</b>
+ * 提交线程等待队列空间，队列长度为0时等待空闲线程取走任务，超时后拒绝；
+ * 相比CallerRunsPolicy，请求线程只被阻塞有限时间且不执行任务本身
+ *
+ * @author LKL
+ * @since 2026-10-18 20:45
+ **/
+public class BlockingWaitRejectedPolicy implements RejectedPolicy {
+
+    private final String threadPoolName;
+
+    private final long blockMillis;
+
+    public BlockingWaitRejectedPolicy(String threadPoolName,
+            long blockMillis) {
+        this.threadPoolName = threadPoolName;
+        this.blockMillis = blockMillis;
+    }
+
+    @Override
+    public RejectionOutcome handle(Runnable task,
+            ThreadPoolExecutor executor) {
+        if (!executor.isShutdown()) {
+            try {
+                if (executor.getQueue()
+                        .offer(task, blockMillis, TimeUnit.MILLISECONDS)) {
+                    return RejectionOutcome.BLOCKED;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        throw new ThreadPoolRejectedException(threadPoolName,
+                "线程池[" + threadPoolName + "]已饱和，等待" + blockMillis
+                        + "ms后仍无空间");
+    }
+}
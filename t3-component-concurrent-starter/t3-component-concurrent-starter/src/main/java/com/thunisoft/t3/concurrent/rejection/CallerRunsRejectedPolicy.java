@@ -0,0 +1,32 @@
+package com.thunisoft.t3.concurrent.rejection;
+
+import com.thunisoft.t3.concurrent.metrics.RejectionOutcome;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Description:<b>由提交线程直接执行的拒绝策略</b>
+ * 与ThreadPoolExecutor.CallerRunsPolicy相同，线程池已关闭时抛出异常而不是静默丢弃，避免Promise永不完成
+ *
+ * @author LKL
+ * @since 2026-10-18 20:45
+ **/
+public class CallerRunsRejectedPolicy implements RejectedPolicy {
+
+    private final String threadPoolName;
+
+    public CallerRunsRejectedPolicy(String threadPoolName) {
+        this.threadPoolName = threadPoolName;
+    }
+
+    @Override
+    public RejectionOutcome handle(Runnable task,
+            ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new ThreadPoolRejectedException(threadPoolName,
+                    "线程池[" + threadPoolName + "]已关闭");
+        }
+        task.run();
+        return RejectionOutcome.CALLER_RUNS;
+    }
+}
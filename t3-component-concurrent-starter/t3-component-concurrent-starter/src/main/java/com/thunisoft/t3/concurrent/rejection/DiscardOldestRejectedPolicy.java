@@ -0,0 +1,50 @@
+package com.thunisoft.t3.concurrent.rejection;
+
+import com.thunisoft.t3.concurrent.decorator.WrappedTask;
+import com.thunisoft.t3.concurrent.metrics.RejectionOutcome;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Description:<b>丢弃最早任务的拒绝策略</b>
+ * 与ThreadPoolExecutor.DiscardOldestPolicy不同，被丢弃的任务先取消再在提交线程上执行其包装，
+ * 使其Promise以CancellationException结束、并发名额等资源得到释放，而不是永远等待；
+ * 新任务直接放入队列而不再经execute重入拒绝策略，空出的位置被其他提交线程抢占时拒绝；
+ * 队列为空（如队列长度为0）时无可丢弃的任务，直接拒绝
+ *
+ * @author LKL
+ * @since 2026-10-18 20:50
+ **/
+public class DiscardOldestRejectedPolicy implements RejectedPolicy {
+
+    private final String threadPoolName;
+
+    public DiscardOldestRejectedPolicy(String threadPoolName) {
+        this.threadPoolName = threadPoolName;
+    }
+
+    @Override
+    public RejectionOutcome handle(Runnable task,
+            ThreadPoolExecutor executor) {
+        Runnable oldest = executor.isShutdown() ?
+                null :
+                executor.getQueue().poll();
+        if (oldest == null) {
+            throw new ThreadPoolRejectedException(threadPoolName,
+                    "线程池[" + threadPoolName + "]已饱和且队列中无可丢弃的任务");
+        }
+        Runnable original = WrappedTask.unwrap(oldest);
+        if (original instanceof Future) {
+            ((Future<?>) original).cancel(false);
+            // 已取消的任务执行时直接返回，只走一遍外层包装的收尾逻辑
+            oldest.run();
+        }
+        // 直接放入队列，空出的位置被其他提交线程抢占时拒绝，不再经execute重入拒绝策略逐个丢弃队列中的任务
+        if (!executor.getQueue().offer(task)) {
+            throw new ThreadPoolRejectedException(threadPoolName,
+                    "线程池[" + threadPoolName + "]丢弃最早的任务后仍已饱和");
+        }
+        return RejectionOutcome.DISCARDED;
+    }
+}
@@ -0,0 +1,76 @@
+package com.thunisoft.t3.concurrent.rejection;
+
+import com.thunisoft.t3.concurrent.metrics.RejectionOutcome;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Function;
+
+/**
+ * Description:<b>转投其他线程池的拒绝策略</b>
+ * 如pdf线程池饱和时转投备用线程池，避免请求线程被占用；目标线程池不存在、同样拒绝，
+ * 或多个线程池互相转投形成循环时，退化为由提交线程执行
+ *
+ * @author LKL
+ * @since 2026-10-18 20:50
+ **/
+public class OverflowRejectedPolicy implements RejectedPolicy {
+
+    /** 当前线程正在转投，用于打断A转投B、B又转投A的循环 **/
+    private static final ThreadLocal<Boolean> OVERFLOWING = new ThreadLocal<>();
+
+    private final String threadPoolName;
+
+    private final String overflowThreadPoolName;
+
+    private final Function<String, Executor> executorLookup;
+
+    private final CallerRunsRejectedPolicy fallback;
+
+    /**
+     * @param threadPoolName 线程池名称
+     * @param overflowThreadPoolName 转投的线程池名称
+     * @param executorLookup 按名称查找线程池，找不到时返回null
+     */
+    public OverflowRejectedPolicy(String threadPoolName,
+            String overflowThreadPoolName,
+            Function<String, Executor> executorLookup) {
+        this.threadPoolName = threadPoolName;
+        this.overflowThreadPoolName = overflowThreadPoolName;
+        this.executorLookup = executorLookup;
+        this.fallback = new CallerRunsRejectedPolicy(threadPoolName);
+    }
+
+    @Override
+    public RejectionOutcome handle(Runnable task,
+            ThreadPoolExecutor executor) {
+        Executor overflow = executorLookup.apply(overflowThreadPoolName);
+        if (overflow == null || OVERFLOWING.get() != null) {
+            return fallback.handle(task, executor);
+        }
+        OVERFLOWING.set(Boolean.TRUE);
+        try {
+            overflow.execute(task);
+            return RejectionOutcome.OVERFLOWED;
+        } catch (RejectedExecutionException e) {
+            return fallback.handle(task, executor);
+        } finally {
+            OVERFLOWING.remove();
+        }
+    }
+
+    /**
+     * @return 拒绝任务的线程池名称
+     */
+    public String getThreadPoolName() {
+        return threadPoolName;
+    }
+
+    /**
+     * @return 转投的线程池名称
+     */
+    public String getOverflowThreadPoolName() {
+        return overflowThreadPoolName;
+    }
+}
@@ -0,0 +1,34 @@
+package com.thunisoft.t3.concurrent.rejection;
+
+import com.thunisoft.t3.concurrent.metrics.RejectionOutcome;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Description:<b>返回处理结果的拒绝策略</b>
+ * 同一策略每次饱和的处理结果可能不同，如等待成功或超时，由handle返回实际结果用于计数
+ *
+ * @author LKL
+ * @since 2026-10-18 20:40
+ **/
+public interface RejectedPolicy extends RejectedExecutionHandler {
+
+    /**
+     * Description:<b>处理线程池无法接收的任务</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 20:40
+     * @param task 被拒绝的任务
+     * @param executor 拒绝任务的线程池
+     * @return 处理结果
+     * @throws ThreadPoolRejectedException 最终未能执行任务时
+     */
+    RejectionOutcome handle(Runnable task, ThreadPoolExecutor executor);
+
+    @Override
+    default void rejectedExecution(Runnable task,
+            ThreadPoolExecutor executor) {
+        handle(task, executor);
+    }
+}
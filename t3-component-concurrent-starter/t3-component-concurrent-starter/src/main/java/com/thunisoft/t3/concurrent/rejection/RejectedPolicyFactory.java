@@ -0,0 +1,58 @@
+package com.thunisoft.t3.concurrent.rejection;
+
+import com.thunisoft.t3.concurrent.completable.CompletableHelper;
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import com.thunisoft.t3.concurrent.constant.RejectedPolicyType;
+import org.springframework.util.StringUtils;
+
+import java.util.concurrent.RejectedExecutionHandler;
+
+/**
+ * Description:<b>拒绝策略工厂</b>
+ *
+ * @author LKL
+ * @since 2026-10-18 20:55
+ **/
+public final class RejectedPolicyFactory {
+
+    private RejectedPolicyFactory() {
+    }
+
+    /**
+     * Description:<b>按线程池配置创建拒绝策略</b>
+     * overflow转投的线程池在饱和时通过CompletableHelper.getExecutor查找，与按名称提交任务的规则一致
+     *
+     * @author LKL
+     * @since 2026-10-18 20:55
+     * @param threadPoolName 线程池名称
+     * @param threadPoolConfig 线程池配置对象
+     * @return 拒绝策略
+     */
+    public static RejectedExecutionHandler create(String threadPoolName,
+            ThreadPoolConfig threadPoolConfig) {
+        RejectedPolicyType type = threadPoolConfig.getRejectedPolicy();
+        if (type == null) {
+            type = RejectedPolicyType.CALLER_RUNS;
+        }
+        switch (type) {
+        case ABORT:
+            return new AbortRejectedPolicy(threadPoolName);
+        case BLOCK:
+            return new BlockingWaitRejectedPolicy(threadPoolName,
+                    threadPoolConfig.getRejectedBlockMillis());
+        case DISCARD_OLDEST:
+            return new DiscardOldestRejectedPolicy(threadPoolName);
+        case OVERFLOW:
+            if (!StringUtils
+                    .hasText(threadPoolConfig.getOverflowThreadPool())) {
+                throw new IllegalArgumentException("线程池[" + threadPoolName
+                        + "]的rejected-policy为overflow，需配置overflow-thread-pool");
+            }
+            return new OverflowRejectedPolicy(threadPoolName,
+                    threadPoolConfig.getOverflowThreadPool(),
+                    CompletableHelper::findExecutor);
+        default:
+            return new CallerRunsRejectedPolicy(threadPoolName);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.thunisoft.t3.concurrent.rejection;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Description:<b>线程池拒绝任务时抛出的异常</b>
+ * 由提交方法如CompletableHelper.promise抛出，可按线程池名称区分处理，如降级或返回繁忙提示
+ *
+ * @author LKL
+ * @since 2026-10-18 20:40
+ **/
+public class ThreadPoolRejectedException extends RejectedExecutionException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String threadPoolName;
+
+    public ThreadPoolRejectedException(String threadPoolName,
+            String message) {
+        super(message);
+        this.threadPoolName = threadPoolName;
+    }
+
+    /**
+     * @return 拒绝任务的线程池名称
+     */
+    public String getThreadPoolName() {
+        return threadPoolName;
+    }
+}
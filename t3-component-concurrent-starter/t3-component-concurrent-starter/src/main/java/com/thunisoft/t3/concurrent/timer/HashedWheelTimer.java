@@ -0,0 +1,320 @@
+package com.thunisoft.t3.concurrent.timer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Description:<b>时间轮定时器</b>
+ * 单个守护线程每tick推进一格，到期的任务在该线程上执行，任务只应完成Promise或向线程池提交，不应阻塞；
+ * 添加与取消只是入队及一次CAS，由定时器线程批量放入格子的双向链表或从中摘除，均为O(1)，
+ * 相比ScheduledThreadPoolExecutor没有堆调整及全局锁，适用于大量很快会被取消的超时
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+@Slf4j
+public class HashedWheelTimer implements DisposableBean {
+
+    /** 每格最多转入的新任务数，避免大量添加时拖慢到期处理 **/
+    private static final int MAX_TRANSFER_PER_TICK = 100_000;
+
+    private final long tickNanos;
+
+    private final Bucket[] wheel;
+
+    private final int mask;
+
+    private final Queue<WheelTimeout> added = new ConcurrentLinkedQueue<>();
+
+    private final Queue<WheelTimeout> cancelled = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong pending = new AtomicLong();
+
+    private final long startNanos = System.nanoTime();
+
+    private final Thread worker;
+
+    private volatile boolean stopped;
+
+    /**
+     * @param threadName 定时器线程名称
+     * @param tickDuration 每格时长，到期时间按此取整
+     * @param unit 时长单位
+     * @param ticksPerWheel 格数，向上取2的幂
+     */
+    public HashedWheelTimer(String threadName, long tickDuration,
+            TimeUnit unit, int ticksPerWheel) {
+        if (tickDuration <= 0 || ticksPerWheel <= 0) {
+            throw new IllegalArgumentException(
+                    "tickDuration、ticksPerWheel应大于0：" + tickDuration + "，"
+                            + ticksPerWheel);
+        }
+        this.tickNanos = Math.max(unit.toNanos(tickDuration),
+                TimeUnit.MILLISECONDS.toNanos(1));
+        int size = 1;
+        while (size < ticksPerWheel && size < (1 << 20)) {
+            size <<= 1;
+        }
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.worker = new Thread(new Worker(), threadName);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Description:<b>延迟执行</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param task 到期时在定时器线程上执行的任务
+     * @param delay 延迟，不大于0时在下一格执行
+     * @param unit 延迟单位
+     * @return 可取消的句柄
+     * @throws RejectedExecutionException 定时器已关闭时
+     */
+    public Timeout newTimeout(Runnable task, long delay, TimeUnit unit) {
+        if (stopped) {
+            throw new RejectedExecutionException("定时器已关闭");
+        }
+        long deadline = System.nanoTime() - startNanos + Math
+                .max(0, unit.toNanos(delay));
+        WheelTimeout timeout = new WheelTimeout(task, deadline);
+        pending.incrementAndGet();
+        added.offer(timeout);
+        return timeout;
+    }
+
+    /**
+     * @return 未到期且未取消的任务数
+     */
+    public long pendingTimeouts() {
+        return pending.get();
+    }
+
+    /**
+     * @return 每格时长纳秒
+     */
+    public long getTickNanos() {
+        return tickNanos;
+    }
+
+    /**
+     * @return 是否已关闭
+     */
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    /**
+     * 停止定时器，未到期的任务不再执行
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        stopped = true;
+        LockSupport.unpark(worker);
+        if (Thread.currentThread() != worker) {
+            worker.join(TimeUnit.NANOSECONDS.toMillis(tickNanos) * 10 + 1000);
+        }
+        long dropped = pending.get();
+        if (dropped > 0) {
+            log.info("定时器[{}]已关闭，丢弃{}个未到期的任务", worker.getName(), dropped);
+        }
+    }
+
+    /**
+     * 定时器线程，逐格推进
+     */
+    private final class Worker implements Runnable {
+
+        private long tick;
+
+        @Override
+        public void run() {
+            while (!stopped) {
+                long deadline = waitForNextTick();
+                if (deadline < 0) {
+                    return;
+                }
+                removeCancelled();
+                transferAdded();
+                wheel[(int) (tick & mask)].expire(deadline);
+                tick++;
+            }
+        }
+
+        /**
+         * @return 当前格的截止时间，关闭时返回-1
+         */
+        private long waitForNextTick() {
+            long deadline = tickNanos * (tick + 1);
+            for (;;) {
+                long now = System.nanoTime() - startNanos;
+                if (now >= deadline) {
+                    return now;
+                }
+                if (stopped) {
+                    return -1;
+                }
+                LockSupport.parkNanos(this, deadline - now);
+            }
+        }
+
+        private void removeCancelled() {
+            WheelTimeout timeout;
+            while ((timeout = cancelled.poll()) != null) {
+                if (timeout.bucket != null) {
+                    timeout.bucket.remove(timeout);
+                }
+            }
+        }
+
+        private void transferAdded() {
+            for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+                WheelTimeout timeout = added.poll();
+                if (timeout == null) {
+                    return;
+                }
+                if (timeout.state.get() != WheelTimeout.ST_INIT) {
+                    continue;
+                }
+                long target = timeout.deadline / tickNanos;
+                timeout.remainingRounds = (target - tick) / wheel.length;
+                // 已过期的放入当前格，本次即执行
+                Bucket bucket = wheel[(int) (Math.max(target, tick) & mask)];
+                bucket.add(timeout);
+            }
+        }
+    }
+
+    /**
+     * 一格中的任务，双向链表，只由定时器线程访问
+     */
+    private final class Bucket {
+
+        private WheelTimeout head;
+
+        private WheelTimeout tail;
+
+        void add(WheelTimeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void expire(long deadline) {
+            WheelTimeout timeout = head;
+            while (timeout != null) {
+                WheelTimeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    if (timeout.deadline <= deadline) {
+                        timeout.expire();
+                    }
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        void remove(WheelTimeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+
+    private final class WheelTimeout implements Timeout {
+
+        static final int ST_INIT = 0;
+
+        static final int ST_CANCELLED = 1;
+
+        static final int ST_EXPIRED = 2;
+
+        private final Runnable task;
+
+        /** 相对定时器启动时间的到期纳秒 **/
+        private final long deadline;
+
+        private final AtomicInteger state = new AtomicInteger(ST_INIT);
+
+        /** 以下字段只由定时器线程访问 **/
+        private long remainingRounds;
+
+        private Bucket bucket;
+
+        private WheelTimeout prev;
+
+        private WheelTimeout next;
+
+        WheelTimeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!state.compareAndSet(ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            pending.decrementAndGet();
+            cancelled.offer(this);
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state.get() == ST_CANCELLED;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state.get() == ST_EXPIRED;
+        }
+
+        void expire() {
+            if (!state.compareAndSet(ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+            pending.decrementAndGet();
+            try {
+                task.run();
+            } catch (Throwable e) {
+                log.error("定时任务执行异常", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.thunisoft.t3.concurrent.timer;
+
+/**
+ * Description:<b>定时任务句柄</b>
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+public interface Timeout {
+
+    /**
+     * Description:<b>取消定时任务</b>
+     * 只标记状态，由定时器线程在下一格时从时间轮中移除
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @return 是否取消成功，已到期或已取消时返回false
+     */
+    boolean cancel();
+
+    /**
+     * @return 是否已取消
+     */
+    boolean isCancelled();
+
+    /**
+     * @return 是否已到期执行
+     */
+    boolean isExpired();
+}
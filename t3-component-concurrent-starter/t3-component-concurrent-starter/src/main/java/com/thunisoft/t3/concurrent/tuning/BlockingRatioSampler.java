@@ -0,0 +1,147 @@
+package com.thunisoft.t3.concurrent.tuning;
+
+import com.thunisoft.t3.concurrent.decorator.WrappedTask;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskDecorator;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Description:<b>采样任务阻塞比例的装饰器</b>
+ * 在原装饰器之外再包装一层，累计每个任务的执行耗时与执行线程的cpu时间，二者之差即等待IO、锁等的阻塞时间；
+ * 每个任务额外读取两次线程cpu时间，仅开启tuner的线程池使用
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+@Slf4j
+public class BlockingRatioSampler implements TaskDecorator {
+
+    private static final ThreadMXBean THREADS = ManagementFactory
+            .getThreadMXBean();
+
+    private final TaskDecorator delegate;
+
+    private final LongAdder wallNanos = new LongAdder();
+
+    private final LongAdder cpuNanos = new LongAdder();
+
+    private final LongAdder tasks = new LongAdder();
+
+    /**
+     * @param delegate 原装饰器，如ContextCopyDecorator
+     */
+    public BlockingRatioSampler(TaskDecorator delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Description:<b>当前JVM是否支持采样线程cpu时间</b>
+     * 支持但未开启时开启
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @return 是否支持，不支持时tuner不生效
+     */
+    public static boolean isSupported() {
+        if (!THREADS.isCurrentThreadCpuTimeSupported()) {
+            log.warn("当前JVM不支持获取线程cpu时间，tuner不生效");
+            return false;
+        }
+        if (!THREADS.isThreadCpuTimeEnabled()) {
+            THREADS.setThreadCpuTimeEnabled(true);
+        }
+        return true;
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return new SampledRunnable(delegate.decorate(runnable), this);
+    }
+
+    /**
+     * Description:<b>取出上次取出以来的采样并清零</b>
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @return 采样结果
+     */
+    Sample drain() {
+        return new Sample(tasks.sumThenReset(), wallNanos.sumThenReset(),
+                cpuNanos.sumThenReset());
+    }
+
+    private void record(long wall, long cpu) {
+        wallNanos.add(wall);
+        cpuNanos.add(cpu);
+        tasks.increment();
+    }
+
+    /**
+     * 一个调整周期内的采样结果
+     */
+    static final class Sample {
+
+        final long tasks;
+
+        final long wallNanos;
+
+        final long cpuNanos;
+
+        private Sample(long tasks, long wallNanos, long cpuNanos) {
+            this.tasks = tasks;
+            this.wallNanos = wallNanos;
+            this.cpuNanos = cpuNanos;
+        }
+
+        /**
+         * @return 等待时间/cpu时间，cpu时间为0时为正无穷
+         */
+        double blockingRatio() {
+            if (cpuNanos <= 0) {
+                return Double.POSITIVE_INFINITY;
+            }
+            return Math.max(0, wallNanos - cpuNanos) / (double) cpuNanos;
+        }
+    }
+
+    /**
+     * 采样耗时的任务包装
+     */
+    private static final class SampledRunnable implements WrappedTask {
+
+        private final Runnable delegate;
+
+        private final BlockingRatioSampler sampler;
+
+        private SampledRunnable(Runnable delegate,
+                BlockingRatioSampler sampler) {
+            this.delegate = delegate;
+            this.sampler = sampler;
+        }
+
+        @Override
+        public void run() {
+            long cpu = THREADS.getCurrentThreadCpuTime();
+            long start = System.nanoTime();
+            try {
+                delegate.run();
+            } finally {
+                long wall = System.nanoTime() - start;
+                // 运行中被关闭cpu时间统计时返回-1，此次不计入
+                long cpuEnd = THREADS.getCurrentThreadCpuTime();
+                if (cpu >= 0 && cpuEnd >= cpu && !WrappedTask
+                        .isRunElsewhere(delegate)) {
+                    sampler.record(wall, cpuEnd - cpu);
+                }
+            }
+        }
+
+        @Override
+        public Runnable getDelegate() {
+            return delegate;
+        }
+    }
+}
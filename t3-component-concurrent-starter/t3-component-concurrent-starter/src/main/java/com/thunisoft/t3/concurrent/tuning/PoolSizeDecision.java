@@ -0,0 +1,133 @@
+package com.thunisoft.t3.concurrent.tuning;
+
+/**
+ * Description:<b>一个调整周期的决策</b>
+ * 记录决策依据的采样及调整前后的线程数，未调整时前后相同
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+public final class PoolSizeDecision {
+
+    private final TuningReason reason;
+
+    private final long samples;
+
+    private final double blockingRatio;
+
+    private final double systemLoad;
+
+    private final int queued;
+
+    private final int targetPoolSize;
+
+    private final int oldCorePoolSize;
+
+    private final int newCorePoolSize;
+
+    private final int oldMaxPoolSize;
+
+    private final int newMaxPoolSize;
+
+    PoolSizeDecision(TuningReason reason, long samples, double blockingRatio,
+            double systemLoad, int queued, int targetPoolSize,
+            int oldCorePoolSize, int newCorePoolSize, int oldMaxPoolSize,
+            int newMaxPoolSize) {
+        this.reason = reason;
+        this.samples = samples;
+        this.blockingRatio = blockingRatio;
+        this.systemLoad = systemLoad;
+        this.queued = queued;
+        this.targetPoolSize = targetPoolSize;
+        this.oldCorePoolSize = oldCorePoolSize;
+        this.newCorePoolSize = newCorePoolSize;
+        this.oldMaxPoolSize = oldMaxPoolSize;
+        this.newMaxPoolSize = newMaxPoolSize;
+    }
+
+    /**
+     * @return 决策原因
+     */
+    public TuningReason getReason() {
+        return reason;
+    }
+
+    /**
+     * @return 是否调整了线程数
+     */
+    public boolean isResized() {
+        return reason == TuningReason.GROW || reason == TuningReason.SHRINK;
+    }
+
+    /**
+     * @return 周期内采样的任务数
+     */
+    public long getSamples() {
+        return samples;
+    }
+
+    /**
+     * @return 等待时间/cpu时间，采样不足时为NaN
+     */
+    public double getBlockingRatio() {
+        return blockingRatio;
+    }
+
+    /**
+     * @return 系统平均负载，不支持时为负数
+     */
+    public double getSystemLoad() {
+        return systemLoad;
+    }
+
+    /**
+     * @return 决策时排队的任务数
+     */
+    public int getQueued() {
+        return queued;
+    }
+
+    /**
+     * @return 按阻塞比例计算并限制在上下界及单次步长内的目标核心线程数，采样不足时为当前值
+     */
+    public int getTargetPoolSize() {
+        return targetPoolSize;
+    }
+
+    /**
+     * @return the oldCorePoolSize
+     */
+    public int getOldCorePoolSize() {
+        return oldCorePoolSize;
+    }
+
+    /**
+     * @return the newCorePoolSize
+     */
+    public int getNewCorePoolSize() {
+        return newCorePoolSize;
+    }
+
+    /**
+     * @return the oldMaxPoolSize
+     */
+    public int getOldMaxPoolSize() {
+        return oldMaxPoolSize;
+    }
+
+    /**
+     * @return the newMaxPoolSize
+     */
+    public int getNewMaxPoolSize() {
+        return newMaxPoolSize;
+    }
+
+    @Override
+    public String toString() {
+        return reason + "：core " + oldCorePoolSize + "->" + newCorePoolSize
+                + "，max " + oldMaxPoolSize + "->" + newMaxPoolSize + "，目标"
+                + targetPoolSize + "，阻塞比例" + String
+                .format("%.2f", blockingRatio) + "，采样" + samples + "个任务，排队"
+                + queued + "，系统负载" + String.format("%.2f", systemLoad);
+    }
+}
@@ -0,0 +1,184 @@
+package com.thunisoft.t3.concurrent.tuning;
+
+import com.thunisoft.t3.concurrent.configuration.model.PoolTunerConfig;
+import com.thunisoft.t3.concurrent.executor.ResizableThreadPoolTaskExecutor;
+import com.thunisoft.t3.concurrent.metrics.ThreadPoolMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Description:<b>按任务阻塞比例自动调整线程数</b>
+ * 每个周期取出采样，目标核心线程数为cpu核数×target-utilization×(1+等待时间/cpu时间)，
+ * 限制在[min-pool-size, max-pool-size]之间且单次最多翻倍或减半；扩大时还需有任务排队或线程已用满、
+ * 且系统负载未超过max-load-per-cpu，避免cpu争用拉长的执行耗时被误判为阻塞；
+ * 与当前的相对差小于hysteresis时不调整。最大线程数随核心线程数平移，保持原有差值；
+ * 每次决策均输出日志（调整为info，不调整为debug）并记录为指标
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+@Slf4j
+public class PoolSizeTuner {
+
+    private static final OperatingSystemMXBean OS = ManagementFactory
+            .getOperatingSystemMXBean();
+
+    private final String threadPoolName;
+
+    private final ResizableThreadPoolTaskExecutor executor;
+
+    private final BlockingRatioSampler sampler;
+
+    private final ThreadPoolMetrics metrics;
+
+    private final int cpus = Runtime.getRuntime().availableProcessors();
+
+    private volatile PoolTunerConfig config;
+
+    /** 核心线程数的上界 **/
+    private volatile int upperBound;
+
+    private volatile PoolSizeDecision lastDecision;
+
+    /** 最近一个采样充足的周期的阻塞比例 **/
+    private volatile double blockingRatio = Double.NaN;
+
+    /**
+     * @param threadPoolName 线程池名称
+     * @param executor 开启tuner创建的线程池
+     * @param config 调整配置
+     * @param defaultUpperBound 未配置tuner.max-pool-size时核心线程数的上界，一般为线程池的最大线程数
+     * @param metrics 线程池指标记录器
+     */
+    public PoolSizeTuner(String threadPoolName,
+            ResizableThreadPoolTaskExecutor executor, PoolTunerConfig config,
+            int defaultUpperBound, ThreadPoolMetrics metrics) {
+        this.threadPoolName = threadPoolName;
+        this.executor = executor;
+        this.sampler = executor.getBlockingRatioSampler();
+        this.metrics = metrics;
+        configure(config, defaultUpperBound);
+    }
+
+    /**
+     * Description:<b>按新配置调整</b>
+     * 下一周期生效，调整周期的变化由调度方处理
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @param config 调整配置
+     * @param defaultUpperBound 未配置tuner.max-pool-size时核心线程数的上界
+     */
+    public void configure(PoolTunerConfig config, int defaultUpperBound) {
+        this.upperBound = Math.max(config.getMinPoolSize(),
+                config.getMaxPoolSize() == null ?
+                        defaultUpperBound :
+                        config.getMaxPoolSize());
+        this.config = config;
+    }
+
+    /**
+     * Description:<b>执行一个调整周期</b>
+     * 由调度方按interval-seconds周期调用
+     *
+     * @author LKL
+     * @since 2026-10-18 23:59
+     * @return 本周期的决策
+     */
+    public synchronized PoolSizeDecision tick() {
+        PoolTunerConfig current = config;
+        BlockingRatioSampler.Sample sample = sampler.drain();
+        ThreadPoolExecutor pool = executor.getThreadPoolExecutor();
+        int core = executor.getCorePoolSize();
+        int max = executor.getMaxPoolSize();
+        int queued = pool.getQueue().size();
+        double load = OS.getSystemLoadAverage();
+        if (sample.tasks < current.getMinSamples()) {
+            return decide(new PoolSizeDecision(
+                    TuningReason.INSUFFICIENT_SAMPLES, sample.tasks,
+                    Double.NaN, load, queued, core, core, core, max, max));
+        }
+        double ratio = sample.blockingRatio();
+        blockingRatio = ratio;
+        int target = target(current, ratio, core);
+        TuningReason reason;
+        if (Math.abs(target - core) < core * current.getHysteresis()
+                || target == core) {
+            reason = TuningReason.WITHIN_HYSTERESIS;
+        } else if (target < core) {
+            reason = TuningReason.SHRINK;
+        } else if (queued == 0 && pool.getActiveCount() < core) {
+            reason = TuningReason.NO_BACKLOG;
+        } else if (load >= 0 && load / cpus > current.getMaxLoadPerCpu()) {
+            reason = TuningReason.HIGH_LOAD;
+        } else {
+            reason = TuningReason.GROW;
+        }
+        int newCore = core;
+        int newMax = max;
+        if (reason == TuningReason.GROW || reason == TuningReason.SHRINK) {
+            newCore = target;
+            newMax = max - core > Integer.MAX_VALUE - target ?
+                    Integer.MAX_VALUE :
+                    target + (max - core);
+            executor.resize(newCore, newMax);
+        }
+        return decide(new PoolSizeDecision(reason, sample.tasks, ratio, load,
+                queued, target, core, newCore, max, newMax));
+    }
+
+    /**
+     * 目标核心线程数，限制在上下界之间且单次最多翻倍或减半
+     */
+    private int target(PoolTunerConfig current, double ratio, int core) {
+        double ideal = cpus * current.getTargetUtilization() * (1 + ratio);
+        int lower = Math.max(1, current.getMinPoolSize());
+        int upper = upperBound;
+        int target = ideal >= upper ? upper : (int) Math.ceil(ideal);
+        target = Math.min(target, core > upper / 2 ? upper : core * 2);
+        target = Math.max(target, Math.max(1, core / 2));
+        return Math.max(lower, Math.min(upper, target));
+    }
+
+    private PoolSizeDecision decide(PoolSizeDecision decision) {
+        lastDecision = decision;
+        metrics.recordTuning(decision.getReason());
+        if (decision.isResized()) {
+            log.info("线程池[{}]自动调整线程数，{}", threadPoolName, decision);
+        } else if (log.isDebugEnabled()) {
+            log.debug("线程池[{}]本周期不调整线程数，{}", threadPoolName, decision);
+        }
+        return decision;
+    }
+
+    /**
+     * @return 线程池名称
+     */
+    public String getThreadPoolName() {
+        return threadPoolName;
+    }
+
+    /**
+     * @return 调整配置
+     */
+    public PoolTunerConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * @return 最近一个周期的决策，尚未执行时为null
+     */
+    public PoolSizeDecision getLastDecision() {
+        return lastDecision;
+    }
+
+    /**
+     * @return 最近一个采样充足的周期的阻塞比例，尚无时为NaN
+     */
+    public double getBlockingRatio() {
+        return blockingRatio;
+    }
+}
@@ -0,0 +1,29 @@
+package com.thunisoft.t3.concurrent.tuning;
+
+/**
+ * Description:<b>线程数自动调整的决策原因</b>
+ * 作为指标t3.concurrent.pool.tuning.decisions的reason标签，每个调整周期记录一次
+ *
+ * @author LKL
+ * @since 2026-10-18 23:59
+ **/
+public enum TuningReason {
+
+    /** 任务阻塞比例上升且有任务排队，扩大线程数 **/
+    GROW,
+
+    /** 任务阻塞比例下降，缩小线程数 **/
+    SHRINK,
+
+    /** 目标线程数与当前的相对差小于hysteresis，不调整 **/
+    WITHIN_HYSTERESIS,
+
+    /** 需扩大但系统负载已超过max-load-per-cpu，不调整 **/
+    HIGH_LOAD,
+
+    /** 需扩大但线程未用满且没有任务排队，不调整 **/
+    NO_BACKLOG,
+
+    /** 周期内采样的任务数不足min-samples，不调整 **/
+    INSUFFICIENT_SAMPLES
+}
@@ -0,0 +1,97 @@
+package com.thunisoft.t3.concurrent.test;
+
+import com.thunisoft.t3.concurrent.completable.CompletableHelper;
+import lombok.extern.slf4j.Slf4j;
+import net.tascalate.concurrent.CompletableTask;
+import net.tascalate.concurrent.Promise;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * CompletionOrderTests
+ *
+ * @author LKL
+ * @version 1.0
+ * @date 2026-10-18
+ *
+ */
+@Slf4j
+public class CompletionOrderTests {
+
+    private ExecutorService pool;
+
+    @Before
+    public void init() {
+        pool = Executors.newFixedThreadPool(8);
+    }
+
+    @After
+    public void destroy() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void testCompletionOrder() {
+        List<Promise<Integer>> promises = delayed(300, 100, 200);
+        List<Integer> ordered = CompletableHelper.completionStream(promises)
+                .map(Promise::join).collect(Collectors.toList());
+        Assert.isTrue(ordered.equals(Arrays.asList(100, 200, 300)),
+                "应按完成顺序返回：" + ordered);
+
+        List<Integer> merged = new ArrayList<>();
+        CompletableHelper.whenEachComplete(delayed(200, 50, 100),
+                (v, e) -> merged.add(v)).join();
+        Assert.isTrue(merged.equals(Arrays.asList(50, 100, 200)),
+                "回调应按完成顺序执行：" + merged);
+        log.info("testCompletionOrder ok!");
+    }
+
+    @Test
+    public void testFirstNCancelsRest() {
+        List<Promise<Integer>> promises = delayed(2000, 50, 100, 3000);
+        long start = System.currentTimeMillis();
+        List<Integer> first = CompletableHelper.firstN(promises, 2);
+        long elapsed = System.currentTimeMillis() - start;
+        Assert.isTrue(first.equals(Arrays.asList(50, 100)), "应返回最快的两个结果");
+        Assert.isTrue(elapsed < 1000, "不应等待慢任务：" + elapsed + "ms");
+        Assert.isTrue(promises.get(0).isCancelled() && promises.get(3)
+                .isCancelled(), "其余任务应被取消");
+
+        List<Promise<Integer>> failing = new ArrayList<>(delayed(50));
+        failing.add(CompletableTask.supplyAsync(() -> {
+            throw new IllegalStateException("failed");
+        }, pool));
+        boolean failed = false;
+        try {
+            CompletableHelper.firstN(failing, 2);
+        } catch (Exception e) {
+            failed = true;
+        }
+        Assert.isTrue(failed, "成功结果不足n个时应失败");
+        log.info("testFirstNCancelsRest ok!");
+    }
+
+    private List<Promise<Integer>> delayed(int... millis) {
+        List<Promise<Integer>> promises = new ArrayList<>();
+        for (int delay : millis) {
+            promises.add(CompletableTask.supplyAsync(() -> {
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return delay;
+            }, pool));
+        }
+        return promises;
+    }
+}
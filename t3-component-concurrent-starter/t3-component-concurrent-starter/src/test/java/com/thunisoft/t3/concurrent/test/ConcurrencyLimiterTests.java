@@ -0,0 +1,125 @@
+package com.thunisoft.t3.concurrent.test;
+
+import com.thunisoft.t3.concurrent.configuration.model.ConcurrencyLimiterConfig;
+import com.thunisoft.t3.concurrent.constant.OverloadAction;
+import com.thunisoft.t3.concurrent.limit.AimdLimit;
+import com.thunisoft.t3.concurrent.limit.ConcurrencyLimitExceededException;
+import com.thunisoft.t3.concurrent.limit.GradientLimit;
+import com.thunisoft.t3.concurrent.limit.LimitChangeReason;
+import com.thunisoft.t3.concurrent.limit.LimitedExecutor;
+import com.thunisoft.t3.concurrent.metrics.NoopThreadPoolMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConcurrencyLimiterTests
+ *
+ * @author LKL
+ * @version 1.0
+ * @date 2026-10-18
+ *
+ */
+@Slf4j
+public class ConcurrencyLimiterTests {
+
+    private ExecutorService pool;
+
+    @Before
+    public void init() {
+        pool = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void destroy() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void testAimdShrinksAndRecovers() {
+        AimdLimit limit = new AimdLimit(10, 1, 20, 100, 0.5);
+        limit.onSample(TimeUnit.MILLISECONDS.toNanos(500), 10);
+        Assert.isTrue(limit.getLimit() == 5, "超过耗时阈值后上限应减半");
+        Assert.isTrue(
+                limit.getLastChangeReason() == LimitChangeReason.LATENCY_RISING,
+                "原因应为耗时上升");
+        limit.onSample(TimeUnit.MILLISECONDS.toNanos(10), 5);
+        Assert.isTrue(limit.getLimit() == 6, "耗时恢复且名额用满时上限应加1");
+        Assert.isTrue(
+                limit.getLastChangeReason() == LimitChangeReason.LATENCY_STABLE,
+                "原因应为耗时平稳");
+        limit.onSample(TimeUnit.MILLISECONDS.toNanos(10), 1);
+        Assert.isTrue(limit.getLimit() == 6, "名额未用满时上限不应放大");
+        log.info("testAimdShrinksAndRecovers ok!");
+    }
+
+    @Test
+    public void testGradientShrinksOnSlowdown() {
+        GradientLimit limit = new GradientLimit(50, 1, 100, 0.5);
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(TimeUnit.MILLISECONDS.toNanos(10), 50);
+        }
+        int stable = limit.getLimit();
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(TimeUnit.MILLISECONDS.toNanos(100), stable);
+        }
+        Assert.isTrue(limit.getLimit() < stable,
+                "耗时上升后上限应收缩：" + stable + "->" + limit.getLimit());
+        log.info("testGradientShrinksOnSlowdown ok! {} -> {}", stable,
+                limit.getLimit());
+    }
+
+    @Test
+    public void testOverloadActions() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Runnable blocking = () -> {
+            try {
+                latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        ConcurrencyLimiterConfig config = new ConcurrencyLimiterConfig();
+        config.setOverloadAction(OverloadAction.FAIL_FAST);
+        LimitedExecutor executor = new LimitedExecutor("limitedPool", pool,
+                config, new AimdLimit(1, 1, 1, 1000, 0.9),
+                NoopThreadPoolMetrics.INSTANCE);
+        executor.execute(blocking);
+        boolean rejected = false;
+        try {
+            executor.execute(() -> {
+            });
+        } catch (ConcurrencyLimitExceededException e) {
+            rejected = true;
+        }
+        Assert.isTrue(rejected, "fail-fast达到上限时应拒绝");
+
+        ConcurrencyLimiterConfig queued = new ConcurrencyLimiterConfig();
+        queued.setOverloadAction(OverloadAction.QUEUE_WITH_DEADLINE);
+        queued.setQueueTimeoutMillis(2000);
+        executor.configure(queued, new AimdLimit(1, 1, 1, 1000, 0.9));
+        pool.execute(() -> {
+            sleep(100);
+            latch.countDown();
+        });
+        CountDownLatch done = new CountDownLatch(1);
+        executor.execute(done::countDown);
+        Assert.isTrue(done.await(1, TimeUnit.SECONDS), "名额释放后等待的任务应被执行");
+        log.info("testOverloadActions ok!");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
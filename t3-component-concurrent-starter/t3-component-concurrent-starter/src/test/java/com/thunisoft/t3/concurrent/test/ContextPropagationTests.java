@@ -0,0 +1,110 @@
+package com.thunisoft.t3.concurrent.test;
+
+import com.thunisoft.t3.concurrent.configuration.initializer.impl.ThreadPoolTaskExecutorInitializer;
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import com.thunisoft.t3.concurrent.context.ContextPropagators;
+import com.thunisoft.t3.concurrent.context.ThreadLocalContextPropagator;
+import com.thunisoft.t3.concurrent.decorator.ContextCopyDecorator;
+import lombok.extern.slf4j.Slf4j;
+import net.tascalate.concurrent.CompletableTask;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.Assert;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * ContextPropagationTests
+ *
+ * @author LKL
+ * @version 1.0
+ * @date 2026-10-18
+ *
+ */
+@Slf4j
+public class ContextPropagationTests {
+
+    private static final ThreadLocal<String> TENANT = new ThreadLocal<>();
+
+    private ThreadPoolTaskExecutor executor;
+
+    @Before
+    public void init() {
+        ContextPropagators
+                .register(new ThreadLocalContextPropagator<>(TENANT));
+        executor = singleThreadPool("contextPool", true);
+    }
+
+    @After
+    public void destroy() {
+        executor.shutdown();
+        ContextPropagators.reset();
+        MDC.clear();
+        TENANT.remove();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void testPropagateAndRestore() {
+        Runnable task = () -> {
+        };
+        Assert.isTrue(new ContextCopyDecorator().decorate(task) == task,
+                "没有任何上下文时不应包装任务");
+
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest()));
+        MDC.put("traceId", "t-1");
+        TENANT.set("tenant-1");
+        String seen = CompletableTask.supplyAsync(
+                () -> MDC.get("traceId") + "/" + TENANT.get() + "/" + (
+                        RequestContextHolder.getRequestAttributes() != null),
+                executor).join();
+        Assert.isTrue("t-1/tenant-1/true".equals(seen),
+                "应传递MDC、自定义ThreadLocal及请求上下文：" + seen);
+
+        Assert.isTrue("t-1".equals(MDC.get("traceId")) && "tenant-1"
+                .equals(TENANT.get()), "提交线程的上下文不应被改变");
+
+        // 同一线程池线程上以无MDC、ThreadLocal的状态再执行，验证上一个任务执行后已还原
+        MDC.clear();
+        TENANT.remove();
+        String leaked = CompletableTask.supplyAsync(
+                () -> MDC.get("traceId") + "/" + TENANT.get(), executor).join();
+        Assert.isTrue("null/null".equals(leaked),
+                "执行后应清理线程池线程的上下文：" + leaked);
+        log.info("testPropagateAndRestore ok!");
+    }
+
+    @Test
+    public void testPoolOptOut() {
+        ThreadPoolTaskExecutor internal = singleThreadPool("internalPool",
+                false);
+        try {
+            MDC.put("traceId", "t-2");
+            String seen = CompletableTask
+                    .supplyAsync(() -> MDC.get("traceId"), internal).join();
+            Assert.isTrue(seen == null, "关闭context-propagation的线程池不应传递上下文");
+        } finally {
+            internal.shutdown();
+        }
+        log.info("testPoolOptOut ok!");
+    }
+
+    private static ThreadPoolTaskExecutor singleThreadPool(String name,
+            boolean contextPropagation) {
+        ThreadPoolConfig config = new ThreadPoolConfig();
+        config.setCorePoolSize(1);
+        config.setMaxPoolSize(1);
+        config.setThreadNamePrefix(name + "-");
+        config.setContextPropagation(contextPropagation);
+        return (ThreadPoolTaskExecutor) new ThreadPoolTaskExecutorInitializer()
+                .initializeThreadPool(name, config,
+                        new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+}
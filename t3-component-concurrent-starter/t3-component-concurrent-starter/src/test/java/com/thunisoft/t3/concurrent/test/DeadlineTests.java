@@ -0,0 +1,142 @@
+package com.thunisoft.t3.concurrent.test;
+
+import com.thunisoft.t3.concurrent.completable.CompletableHelper;
+import com.thunisoft.t3.concurrent.configuration.initializer.impl.ThreadPoolTaskExecutorInitializer;
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import com.thunisoft.t3.concurrent.deadline.DeadlineHolder;
+import lombok.extern.slf4j.Slf4j;
+import net.tascalate.concurrent.Promise;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.Assert;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * DeadlineTests
+ *
+ * @author LKL
+ * @version 1.0
+ * @date 2026-10-18
+ *
+ */
+@Slf4j
+public class DeadlineTests {
+
+    private ThreadPoolTaskExecutor executor;
+
+    private Executor previousExecutor;
+
+    @Before
+    public void init() {
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest()));
+        ThreadPoolConfig config = new ThreadPoolConfig();
+        config.setCorePoolSize(4);
+        config.setMaxPoolSize(4);
+        executor = (ThreadPoolTaskExecutor) new ThreadPoolTaskExecutorInitializer()
+                .initializeThreadPool("deadlinePool", config,
+                        new ThreadPoolExecutor.CallerRunsPolicy());
+        previousExecutor = CompletableHelper.getDefaultExecutor();
+        CompletableHelper.setDefaultExecutor(executor);
+    }
+
+    @After
+    public void destroy() {
+        // 还原默认线程池，避免后续测试向已关闭的线程池提交任务
+        CompletableHelper.setDefaultExecutor(previousExecutor);
+        executor.shutdown();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void testTimeoutInterruptsTask() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Promise<String> promise = CompletableHelper
+                .promise(() -> sleepOrSignal(5000, interrupted),
+                        Duration.ofMillis(100));
+        boolean timedOut = false;
+        try {
+            promise.join();
+        } catch (CompletionException e) {
+            timedOut = e.getCause() instanceof TimeoutException;
+        }
+        Assert.isTrue(timedOut, "超时后应以TimeoutException结束");
+        Assert.isTrue(interrupted.await(1, TimeUnit.SECONDS), "超时后任务线程应被中断");
+        Assert.isTrue(DeadlineHolder.getDeadline() == null, "提交线程的截止时间应被还原");
+        log.info("testTimeoutInterruptsTask ok!");
+    }
+
+    @Test
+    public void testNestedPromiseInheritsDeadline()
+            throws InterruptedException {
+        CountDownLatch innerInterrupted = new CountDownLatch(1);
+        long start = System.nanoTime();
+        Promise<String> outer = CompletableHelper.promise(() -> {
+            Assert.isTrue(DeadlineHolder.getDeadline() != null,
+                    "任务线程应继承截止时间");
+            // 内层未指定超时，继承外层剩余的时间预算
+            return CompletableHelper
+                    .promise(() -> sleepOrSignal(5000, innerInterrupted))
+                    .join();
+        }, Duration.ofMillis(200));
+        try {
+            outer.join();
+        } catch (CompletionException e) {
+            log.info("outer failed: {}", e.getCause().toString());
+        }
+        Assert.isTrue(innerInterrupted.await(1, TimeUnit.SECONDS),
+                "内层任务应在外层截止时间到达时被中断");
+        Assert.isTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+                < 2000, "不应等待内层任务执行完");
+        log.info("testNestedPromiseInheritsDeadline ok!");
+    }
+
+    @Test
+    public void testWaitAllTimeout() {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Promise<?> slow = CompletableHelper
+                .promise(() -> sleepOrSignal(5000, interrupted));
+        Promise<?> fast = CompletableHelper.promise(() -> "fast");
+        long start = System.nanoTime();
+        Assert.isTrue(CompletableHelper
+                        .waitAll(Arrays.asList(slow, fast), Duration.ofMillis(100))
+                        == null, "超时应返回null");
+        Assert.isTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+                < 2000, "应在超时后返回");
+        Assert.isTrue(slow.isCancelled(), "未完成的promise应被取消");
+
+        // 成员被取消时与不带超时的waitAll一致，返回null
+        Promise<?> cancelled = CompletableHelper
+                .promise(() -> sleepOrSignal(5000, new CountDownLatch(1)));
+        cancelled.cancel(true);
+        Assert.isTrue(CompletableHelper.waitAll(Arrays.asList(cancelled, fast))
+                == null && CompletableHelper
+                .waitAll(Arrays.asList(cancelled, fast), Duration.ofMillis(100))
+                == null, "成员被取消时两个重载都应返回null");
+        log.info("testWaitAllTimeout ok!");
+    }
+
+    private static String sleepOrSignal(long millis, CountDownLatch latch) {
+        try {
+            Thread.sleep(millis);
+            return "done";
+        } catch (InterruptedException e) {
+            latch.countDown();
+            Thread.currentThread().interrupt();
+            return "interrupted";
+        }
+    }
+}
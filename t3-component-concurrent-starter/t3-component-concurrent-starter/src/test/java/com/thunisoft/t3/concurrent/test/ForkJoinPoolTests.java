@@ -0,0 +1,133 @@
+package com.thunisoft.t3.concurrent.test;
+
+import com.thunisoft.t3.concurrent.configuration.ThreadPoolConfiguration;
+import com.thunisoft.t3.concurrent.configuration.initializer.ThreadPoolInitializerFactory;
+import com.thunisoft.t3.concurrent.configuration.initializer.impl.ForkJoinPoolInitializer;
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import com.thunisoft.t3.concurrent.constant.ThreadPoolType;
+import com.thunisoft.t3.concurrent.executor.ForkJoinTaskExecutor;
+import com.thunisoft.t3.concurrent.executor.ManagedBlockers;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.util.Assert;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ForkJoinPoolTests
+ *
+ * @author LKL
+ * @version 1.0
+ * @date 2026-10-18
+ *
+ */
+@Slf4j
+public class ForkJoinPoolTests {
+
+    @Test
+    public void testCreateAndBind() throws Exception {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("concurrent.custom-thread-pools.fjPool.type", "fork-join");
+        properties.put("concurrent.custom-thread-pools.fjPool.parallelism", "3");
+        properties.put("concurrent.custom-thread-pools.fjPool.async-mode", "true");
+        properties.put("concurrent.custom-thread-pools.fjPool.thread-name-prefix",
+                "fjPool-");
+        ThreadPoolConfiguration configuration = new Binder(
+                new MapConfigurationPropertySource(properties))
+                .bind("concurrent", ThreadPoolConfiguration.class).get();
+        ThreadPoolConfig config = configuration.getCustomThreadPools()
+                .get("fjPool");
+        Assert.isTrue(config.getType() == ThreadPoolType.FORK_JOIN,
+                "type: fork-join应绑定为FORK_JOIN");
+        Assert.isTrue(ThreadPoolInitializerFactory
+                        .getInitializer(config) instanceof ForkJoinPoolInitializer,
+                "FORK_JOIN类型应使用ForkJoinPoolInitializer");
+
+        ForkJoinTaskExecutor executor = create(config);
+        try {
+            ForkJoinPool pool = executor.getForkJoinPool();
+            Assert.isTrue(pool.getParallelism() == 3, "并行度应取parallelism");
+            Assert.isTrue(pool.getAsyncMode(), "应开启FIFO异步模式");
+            AtomicReference<String> threadName = new AtomicReference<>();
+            CountDownLatch done = new CountDownLatch(1);
+            executor.execute(() -> {
+                threadName.set(Thread.currentThread().getName());
+                done.countDown();
+            });
+            Assert.isTrue(done.await(2, TimeUnit.SECONDS), "任务应正常执行");
+            Assert.isTrue(threadName.get().startsWith("fjPool-"),
+                    "线程名应使用配置的前缀：" + threadName.get());
+        } finally {
+            executor.destroy();
+        }
+
+        // 未配置parallelism时取corePoolSize，默认LIFO模式
+        ThreadPoolConfig coreOnly = new ThreadPoolConfig();
+        coreOnly.setType(ThreadPoolType.FORK_JOIN);
+        coreOnly.setCorePoolSize(2);
+        ForkJoinTaskExecutor fallback = create(coreOnly);
+        try {
+            Assert.isTrue(fallback.getForkJoinPool().getParallelism() == 2,
+                    "未配置parallelism时应取corePoolSize");
+            Assert.isTrue(!fallback.getForkJoinPool().getAsyncMode(),
+                    "默认不开启异步模式");
+        } finally {
+            fallback.destroy();
+        }
+        log.info("testCreateAndBind ok!");
+    }
+
+    @Test
+    public void testManagedBlocking() throws Exception {
+        ThreadPoolConfig config = new ThreadPoolConfig();
+        config.setType(ThreadPoolType.FORK_JOIN);
+        config.setParallelism(2);
+        config.setThreadNamePrefix("fjBlockPool-");
+        ForkJoinTaskExecutor executor = create(config);
+        try {
+            // 占满全部并行度的任务都在等待之后提交的任务，ForkJoinPool需为阻塞的线程补偿新线程
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch blocked = new CountDownLatch(2);
+            CountDownLatch done = new CountDownLatch(2);
+            for (int i = 0; i < 2; i++) {
+                executor.execute(() -> {
+                    blocked.countDown();
+                    ManagedBlockers.block(() -> {
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    });
+                    done.countDown();
+                });
+            }
+            Assert.isTrue(blocked.await(2, TimeUnit.SECONDS), "阻塞任务应已开始");
+            executor.execute(release::countDown);
+            Assert.isTrue(done.await(2, TimeUnit.SECONDS),
+                    "受管阻塞不应让后续任务饿死");
+            Assert.isTrue(executor.getForkJoinPool().getPoolSize() > 2,
+                    "阻塞期间应补偿线程：" + executor.getForkJoinPool()
+                            .getPoolSize());
+            Assert.isTrue("ok".equals(ManagedBlockers.block(() -> "ok")),
+                    "非池内线程应直接执行");
+        } finally {
+            executor.destroy();
+        }
+        log.info("testManagedBlocking ok!");
+    }
+
+    private static ForkJoinTaskExecutor create(ThreadPoolConfig config) {
+        return (ForkJoinTaskExecutor) ThreadPoolInitializerFactory
+                .getInitializer(config).initializeThreadPool(null, config,
+                        new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+}
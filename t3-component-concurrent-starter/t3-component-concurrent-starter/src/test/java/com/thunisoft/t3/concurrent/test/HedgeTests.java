@@ -0,0 +1,130 @@
+package com.thunisoft.t3.concurrent.test;
+
+import com.thunisoft.t3.concurrent.completable.CompletableHelper;
+import com.thunisoft.t3.concurrent.completable.HedgePolicy;
+import lombok.extern.slf4j.Slf4j;
+import net.tascalate.concurrent.Promise;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HedgeTests
+ *
+ * @author LKL
+ * @version 1.0
+ * @date 2026-10-18
+ *
+ */
+@Slf4j
+public class HedgeTests {
+
+    private ExecutorService executor;
+
+    private Executor previousExecutor;
+
+    @Before
+    public void init() {
+        executor = Executors.newFixedThreadPool(4);
+        previousExecutor = CompletableHelper.getDefaultExecutor();
+        CompletableHelper.setDefaultExecutor(executor);
+    }
+
+    @After
+    public void destroy() {
+        // 还原默认线程池，避免后续测试向已关闭的线程池提交任务
+        CompletableHelper.setDefaultExecutor(previousExecutor);
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testSlowCallIsHedged() throws InterruptedException {
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch interrupted = new CountDownLatch(1);
+        long start = System.nanoTime();
+        Promise<String> promise = CompletableHelper.hedge(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(5000);
+                    return "slow";
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    return "interrupted";
+                }
+            }
+            return "fast";
+        }, "hedgePool", Duration.ofMillis(50));
+        Assert.isTrue("fast".equals(promise.join()), "应取对冲调用的结果");
+        long elapsed = TimeUnit.NANOSECONDS
+                .toMillis(System.nanoTime() - start);
+        Assert.isTrue(elapsed < 2000, "不应等待慢调用：" + elapsed);
+        Assert.isTrue(interrupted.await(1, TimeUnit.SECONDS), "慢调用应被取消");
+
+        AtomicInteger quick = new AtomicInteger();
+        Assert.isTrue(CompletableHelper.hedge(() -> quick.incrementAndGet(),
+                "hedgePool", Duration.ofMillis(500)).join() == 1, "应返回结果");
+        Thread.sleep(600);
+        Assert.isTrue(quick.get() == 1, "未超过对冲延迟时不应对冲");
+
+        try {
+            CompletableHelper.hedge(() -> {
+                throw new IllegalStateException("boom");
+            }, "hedgePool", Duration.ofMillis(200)).join();
+            Assert.isTrue(false, "第一次调用失败时应整体失败");
+        } catch (CompletionException e) {
+            Assert.isTrue(e.getCause() instanceof IllegalStateException,
+                    "应为调用抛出的异常：" + e.getCause());
+        }
+        log.info("testSlowCallIsHedged ok! elapsed={}ms", elapsed);
+    }
+
+    @Test
+    public void testHedgeRatioIsCapped() {
+        AtomicInteger attempts = new AtomicInteger();
+        HedgePolicy policy = HedgePolicy
+                .fixed("testHedgeRatioIsCapped", Duration.ofMillis(1))
+                .maxHedgeRatio(0.1);
+        for (int i = 0; i < 100; i++) {
+            CompletableHelper.hedge(() -> {
+                attempts.incrementAndGet();
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "ok";
+            }, "hedgePool", policy).join();
+        }
+        int hedged = attempts.get() - 100;
+        // 初始配额10次，之后每10次调用对冲1次
+        Assert.isTrue(hedged > 0 && hedged <= 20, "对冲次数应受比例限制：" + hedged);
+
+        AtomicInteger none = new AtomicInteger();
+        HedgePolicy disabled = HedgePolicy
+                .percentile("testHedgeRatioIsCapped-0", 0.95)
+                .fallbackDelay(Duration.ofMillis(1)).maxHedgeRatio(0);
+        for (int i = 0; i < 5; i++) {
+            CompletableHelper.hedge(() -> {
+                none.incrementAndGet();
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "ok";
+            }, "hedgePool", disabled).join();
+        }
+        Assert.isTrue(none.get() == 5, "maxHedgeRatio为0时不应对冲");
+        log.info("testHedgeRatioIsCapped ok! hedged={}", hedged);
+    }
+}
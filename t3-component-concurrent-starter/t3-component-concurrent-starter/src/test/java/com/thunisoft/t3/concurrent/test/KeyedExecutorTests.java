@@ -0,0 +1,139 @@
+package com.thunisoft.t3.concurrent.test;
+
+import com.thunisoft.t3.concurrent.completable.CompletableHelper;
+import com.thunisoft.t3.concurrent.configuration.initializer.ThreadPoolInitializerFactory;
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import com.thunisoft.t3.concurrent.constant.ThreadPoolType;
+import com.thunisoft.t3.concurrent.executor.KeyedTaskExecutor;
+import lombok.extern.slf4j.Slf4j;
+import net.tascalate.concurrent.Promise;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * KeyedExecutorTests
+ *
+ * @author LKL
+ * @version 1.0
+ * @date 2026-10-18
+ *
+ */
+@Slf4j
+public class KeyedExecutorTests {
+
+    private KeyedTaskExecutor executor;
+
+    private Executor previousExecutor;
+
+    @Before
+    public void init() {
+        ThreadPoolConfig config = new ThreadPoolConfig();
+        config.setType(ThreadPoolType.KEYED);
+        config.setCorePoolSize(4);
+        config.setStripes(8);
+        config.setThreadNamePrefix("keyedPool-");
+        executor = (KeyedTaskExecutor) ThreadPoolInitializerFactory
+                .getInitializer(config).initializeThreadPool("keyedPool", config,
+                        new ThreadPoolExecutor.CallerRunsPolicy());
+        previousExecutor = CompletableHelper.getDefaultExecutor();
+        CompletableHelper.setDefaultExecutor(executor);
+    }
+
+    @After
+    public void destroy() {
+        // 还原默认线程池，避免后续测试向已关闭的线程池提交任务
+        CompletableHelper.setDefaultExecutor(previousExecutor);
+        executor.destroy();
+    }
+
+    @Test
+    public void testSameKeyRunsInOrder() throws InterruptedException {
+        Map<Integer, List<Integer>> seen = new ConcurrentHashMap<>();
+        Map<Integer, AtomicInteger> running = new ConcurrentHashMap<>();
+        AtomicInteger overlapped = new AtomicInteger();
+        AtomicInteger parallel = new AtomicInteger();
+        AtomicInteger maxParallel = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(200);
+        for (int i = 0; i < 200; i++) {
+            int key = i % 10;
+            int seq = i;
+            executor.execute(key, () -> {
+                if (running.computeIfAbsent(key, k -> new AtomicInteger())
+                        .incrementAndGet() > 1) {
+                    overlapped.incrementAndGet();
+                }
+                maxParallel.accumulateAndGet(parallel.incrementAndGet(),
+                        Math::max);
+                sleep(1);
+                seen.computeIfAbsent(key, k -> new ArrayList<>()).add(seq);
+                parallel.decrementAndGet();
+                running.get(key).decrementAndGet();
+                done.countDown();
+            });
+        }
+        Assert.isTrue(done.await(10, TimeUnit.SECONDS), "任务应全部完成");
+        Assert.isTrue(overlapped.get() == 0, "同一key的任务不应同时执行");
+        seen.forEach((key, list) -> {
+            for (int i = 1; i < list.size(); i++) {
+                Assert.isTrue(list.get(i - 1) < list.get(i),
+                        "同一key的任务应按提交顺序执行：" + list);
+            }
+        });
+        Assert.isTrue(maxParallel.get() > 1, "不同key的任务应并行执行");
+        log.info("testSameKeyRunsInOrder ok! maxParallel={}", maxParallel);
+    }
+
+    @Test
+    public void testPromiseByKey() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        Promise<String> blocked = CompletableHelper.promise(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(5000);
+                return "finished";
+            } catch (InterruptedException e) {
+                return "interrupted";
+            }
+        }, "keyedPool", "case-1");
+        Promise<Boolean> next = CompletableHelper.promise(
+                () -> Thread.currentThread().isInterrupted(), "keyedPool",
+                "case-1");
+        Assert.isTrue(started.await(1, TimeUnit.SECONDS), "第一个任务应开始执行");
+        blocked.cancel(true);
+        Assert.isTrue(!next.join(), "取消前一个任务不应中断同一key的后续任务");
+
+        ExecutorService plain = Executors.newSingleThreadExecutor();
+        CompletableHelper.setDefaultExecutor(plain);
+        try {
+            CompletableHelper.promise(() -> "x", "plainPool", "case-1");
+            Assert.isTrue(false, "非keyed类型的线程池应拒绝按key提交");
+        } catch (IllegalArgumentException e) {
+            log.info("expected: {}", e.getMessage());
+        } finally {
+            plain.shutdown();
+        }
+        log.info("testPromiseByKey ok!");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.thunisoft.t3.concurrent.test;
+
+import com.thunisoft.t3.concurrent.completable.CompletableHelper;
+import com.thunisoft.t3.concurrent.configuration.initializer.impl.ThreadPoolTaskExecutorInitializer;
+import com.thunisoft.t3.concurrent.configuration.model.LaneQueueConfig;
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import com.thunisoft.t3.concurrent.executor.WeightedLaneBlockingQueue;
+import com.thunisoft.t3.concurrent.lane.ServiceClass;
+import com.thunisoft.t3.concurrent.lane.ServiceClassHolder;
+import com.thunisoft.t3.concurrent.metrics.NoopThreadPoolMetrics;
+import lombok.extern.slf4j.Slf4j;
+import net.tascalate.concurrent.Promise;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LaneQueueTests
+ *
+ * @author LKL
+ * @version 1.0
+ * @date 2026-10-18
+ *
+ */
+@Slf4j
+public class LaneQueueTests {
+
+    private ThreadPoolTaskExecutor executor;
+
+    private Executor previousExecutor;
+
+    @Before
+    public void init() {
+        ThreadPoolConfig config = new ThreadPoolConfig();
+        config.setCorePoolSize(1);
+        config.setMaxPoolSize(1);
+        config.setQueueCapacity(100);
+        config.setThreadNamePrefix("lanePool-");
+        config.getLanes().setEnabled(true);
+        executor = (ThreadPoolTaskExecutor) new ThreadPoolTaskExecutorInitializer()
+                .initializeThreadPool("lanePool", config,
+                        new ThreadPoolExecutor.CallerRunsPolicy());
+        previousExecutor = CompletableHelper.getDefaultExecutor();
+        CompletableHelper.setDefaultExecutor(executor);
+    }
+
+    @After
+    public void destroy() {
+        // 还原默认线程池，避免后续测试向已关闭的线程池提交任务
+        CompletableHelper.setDefaultExecutor(previousExecutor);
+        executor.shutdown();
+    }
+
+    @Test
+    public void testWeightedDequeue() throws InterruptedException {
+        LaneQueueConfig config = new LaneQueueConfig();
+        config.setMaxWaitMillis(0);
+        WeightedLaneBlockingQueue<String> queue = new WeightedLaneBlockingQueue<>(
+                100, config, NoopThreadPoolMetrics.INSTANCE);
+        for (ServiceClass serviceClass : ServiceClass.values()) {
+            ServiceClassHolder.callAs(serviceClass, () -> {
+                for (int i = 0; i < 13; i++) {
+                    queue.offer(serviceClass.name());
+                }
+                return null;
+            });
+        }
+        Assert.isTrue(queue.size(ServiceClass.BATCH) == 13, "各道应分别排队");
+
+        Map<ServiceClass, Integer> taken = new EnumMap<>(ServiceClass.class);
+        for (int i = 0; i < 13; i++) {
+            taken.merge(ServiceClass.valueOf(queue.take()), 1, Integer::sum);
+        }
+        Assert.isTrue(taken.get(ServiceClass.INTERACTIVE) == 8
+                        && taken.get(ServiceClass.DEFAULT) == 4
+                        && taken.get(ServiceClass.BATCH) == 1,
+                "13次出队应按8:4:1的权重分配：" + taken);
+
+        // 饥饿保护：batch队首等待超过最长等待时间后优先出队
+        queue.clear();
+        config.setMaxWaitMillis(50);
+        queue.configure(config);
+        ServiceClassHolder.callAs(ServiceClass.BATCH, () -> queue.offer("late"));
+        Thread.sleep(80);
+        ServiceClassHolder.callAs(ServiceClass.INTERACTIVE,
+                () -> queue.offer("fresh"));
+        Assert.isTrue("late".equals(queue.poll()), "等待超时的低权重任务应优先出队");
+        log.info("testWeightedDequeue ok!");
+    }
+
+    @Test
+    public void testInteractiveOvertakesBatch() throws InterruptedException {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableHelper.promise(() -> {
+            running.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        });
+        Assert.isTrue(running.await(1, TimeUnit.SECONDS), "阻塞任务应开始执行");
+
+        List<String> order = new ArrayList<>();
+        List<Promise<Boolean>> promises = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            promises.add(CompletableHelper
+                    .promise(() -> order.add("batch"), ServiceClass.BATCH));
+        }
+        promises.add(CompletableHelper.promise(() -> order.add("interactive"),
+                ServiceClass.INTERACTIVE));
+        release.countDown();
+        promises.forEach(Promise::join);
+        Assert.isTrue("interactive".equals(order.get(0)),
+                "后提交的interactive任务应先于排队中的batch任务执行：" + order);
+        log.info("testInteractiveOvertakesBatch ok!");
+    }
+}
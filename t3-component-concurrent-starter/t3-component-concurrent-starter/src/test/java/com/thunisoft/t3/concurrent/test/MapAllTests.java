@@ -0,0 +1,103 @@
+package com.thunisoft.t3.concurrent.test;
+
+import com.thunisoft.t3.concurrent.completable.CompletableHelper;
+import com.thunisoft.t3.concurrent.completable.MapAllOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.util.Assert;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * MapAllTests
+ *
+ * @author LKL
+ * @version 1.0
+ * @date 2026-10-18
+ *
+ */
+@Slf4j
+public class MapAllTests {
+
+    private ExecutorService pool;
+
+    private Executor previousExecutor;
+
+    @Before
+    public void init() {
+        pool = Executors.newFixedThreadPool(16);
+        previousExecutor = CompletableHelper.getDefaultExecutor();
+        CompletableHelper.setDefaultExecutor(pool);
+    }
+
+    @After
+    public void destroy() {
+        // 还原默认线程池，避免后续测试向已关闭的线程池提交任务
+        CompletableHelper.setDefaultExecutor(previousExecutor);
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void testBoundedAndOrdered() {
+        List<Integer> ids = IntStream.range(0, 2000).boxed()
+                .collect(Collectors.toList());
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        AtomicInteger calls = new AtomicInteger();
+        List<String> result = CompletableHelper.mapAll(ids, id -> {
+            calls.incrementAndGet();
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            Thread.yield();
+            inFlight.decrementAndGet();
+            return "id-" + id;
+        }, MapAllOptions.defaults().maxInFlight(4));
+        Assert.isTrue(result.size() == ids.size(), "结果数应与输入一致");
+        for (int i = 0; i < ids.size(); i++) {
+            Assert.isTrue(("id-" + i).equals(result.get(i)), "结果顺序应与输入一致");
+        }
+        Assert.isTrue(calls.get() == ids.size(), "每个元素应只处理一次");
+        Assert.isTrue(maxInFlight.get() <= 4,
+                "同时执行的任务数不应超过maxInFlight：" + maxInFlight.get());
+        log.info("testBoundedAndOrdered ok! maxInFlight={}", maxInFlight.get());
+    }
+
+    @Test
+    public void testChunkedAndFailure() {
+        List<Integer> ids = IntStream.range(0, 105).boxed()
+                .collect(Collectors.toList());
+        List<Integer> doubled = CompletableHelper.mapAll(ids, id -> id * 2,
+                MapAllOptions.defaults().chunkSize(10).maxInFlight(2));
+        Assert.isTrue(doubled.size() == 105 && doubled.get(104) == 208,
+                "分批处理的结果应完整且有序");
+        List<Integer> linked = CompletableHelper.mapAll(new LinkedList<>(ids),
+                id -> id * 2, MapAllOptions.defaults().chunkSize(10));
+        Assert.isTrue(linked.equals(doubled), "非随机访问的输入应复制后按下标处理");
+
+        boolean failed = false;
+        try {
+            CompletableHelper.mapAll(ids, id -> {
+                if (id == 50) {
+                    throw new IllegalStateException("id-50");
+                }
+                return id;
+            }, MapAllOptions.defaults().chunkSize(10));
+        } catch (CompletionException e) {
+            failed = e.getCause() instanceof IllegalStateException;
+        }
+        Assert.isTrue(failed, "任一元素出错时应整体失败");
+        Assert.isTrue(CompletableHelper.mapAll(ids.subList(0, 0), id -> id)
+                .isEmpty(), "空输入应返回空列表");
+        log.info("testChunkedAndFailure ok!");
+    }
+}
@@ -0,0 +1,145 @@
+package com.thunisoft.t3.concurrent.test;
+
+import com.thunisoft.t3.concurrent.completable.CompletableHelper;
+import com.thunisoft.t3.concurrent.configuration.initializer.impl.ThreadPoolTaskExecutorInitializer;
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import com.thunisoft.t3.concurrent.executor.ResizableThreadPoolTaskExecutor;
+import lombok.extern.slf4j.Slf4j;
+import net.tascalate.concurrent.CompletableTask;
+import net.tascalate.concurrent.Promise;
+import net.tascalate.concurrent.Promises;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.util.Assert;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * NestedJoinTests
+ *
+ * @author LKL
+ * @version 1.0
+ * @date 2026-10-18
+ *
+ */
+@Slf4j
+public class NestedJoinTests {
+
+    private ResizableThreadPoolTaskExecutor executor;
+
+    private Executor previousExecutor;
+
+    @Before
+    public void init() {
+        // 只有一个线程且有排队队列，嵌套等待时不帮助执行或补偿即互相等待
+        ThreadPoolConfig config = new ThreadPoolConfig();
+        config.setCorePoolSize(1);
+        config.setMaxPoolSize(1);
+        config.setQueueCapacity(16);
+        config.setMaxCompensationThreads(1);
+        config.setThreadNamePrefix("nestedPool-");
+        executor = (ResizableThreadPoolTaskExecutor) new ThreadPoolTaskExecutorInitializer()
+                .initializeThreadPool(config,
+                        new ThreadPoolExecutor.AbortPolicy());
+        previousExecutor = CompletableHelper.getDefaultExecutor();
+        CompletableHelper.setDefaultExecutor(executor);
+    }
+
+    @After
+    public void destroy() {
+        // 还原默认线程池，避免后续测试向已关闭的线程池提交任务
+        CompletableHelper.setDefaultExecutor(previousExecutor);
+        executor.shutdown();
+    }
+
+    @Test
+    public void testHelpOut() throws Exception {
+        Promise<List<String>> outer = CompletableHelper.promise(() -> {
+            String owner = Thread.currentThread().getName();
+            return CompletableHelper.getAll(
+                    () -> owner.equals(Thread.currentThread().getName()) ?
+                            "inline-1" :
+                            "other-1", () -> CompletableHelper.join(
+                            CompletableHelper.promise(() -> "nested-2")));
+        });
+        List<String> result = outer.get(3, TimeUnit.SECONDS);
+        Assert.isTrue("inline-1".equals(result.get(0)) && "nested-2"
+                .equals(result.get(1)), "未开始的子任务应由等待线程直接执行：" + result);
+        log.info("testHelpOut ok!");
+    }
+
+    @Test
+    public void testCompensation() throws Exception {
+        Promise<String> outer = CompletableHelper.promise(() -> {
+            // 不经CompletableHelper提交的子任务无法帮助执行，只能补偿线程
+            Promise<String> child = CompletableTask
+                    .supplyAsync(() -> Thread.currentThread().getName(),
+                            executor);
+            return CompletableHelper.join(child);
+        });
+        String childThread = outer.get(3, TimeUnit.SECONDS);
+        Assert.isTrue(childThread.startsWith("nestedPool-"),
+                "子任务应由补偿线程执行：" + childThread);
+        Assert.isTrue(executor.getCompensatingCount() == 0
+                        && executor.getThreadPoolExecutor().getCorePoolSize() == 1
+                        && executor.getCorePoolSize() == 1,
+                "等待结束后应撤销补偿");
+
+        executor.setMaxCompensationThreads(0);
+        Promise<String> starved = CompletableHelper.promise(() -> CompletableHelper
+                .join(CompletableTask.supplyAsync(() -> "never", executor)));
+        try {
+            starved.get(300, TimeUnit.MILLISECONDS);
+            Assert.isTrue(false, "不补偿时应互相等待");
+        } catch (TimeoutException e) {
+            log.info("expected: starved without compensation");
+        } finally {
+            starved.cancel(true);
+        }
+        log.info("testCompensation ok!");
+    }
+
+    @Test
+    public void testCompensationWhenSaturated() throws Exception {
+        // 队列容量为0时队列始终为空，线程全部在用时也应补偿，否则之后提交的任务被拒绝
+        ThreadPoolConfig config = new ThreadPoolConfig();
+        config.setCorePoolSize(1);
+        config.setMaxPoolSize(1);
+        config.setQueueCapacity(0);
+        config.setMaxCompensationThreads(1);
+        config.setThreadNamePrefix("syncPool-");
+        ResizableThreadPoolTaskExecutor syncPool = (ResizableThreadPoolTaskExecutor) new ThreadPoolTaskExecutorInitializer()
+                .initializeThreadPool(config,
+                        new ThreadPoolExecutor.AbortPolicy());
+        CompletableHelper.setDefaultExecutor(syncPool);
+        try {
+            CompletableFuture<String> child = new CompletableFuture<>();
+            Promise<String> outer = CompletableHelper
+                    .promise(() -> CompletableHelper.join(Promises.from(child)));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+            while (syncPool.getCompensatingCount() == 0
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            Assert.isTrue(syncPool.getCompensatingCount() == 1,
+                    "线程全部在用时应补偿");
+            syncPool.execute(() -> child
+                    .complete(Thread.currentThread().getName()));
+            String childThread = outer.get(3, TimeUnit.SECONDS);
+            Assert.isTrue(childThread.startsWith("syncPool-"),
+                    "子任务应由补偿线程执行：" + childThread);
+            Assert.isTrue(syncPool.getCompensatingCount() == 0
+                            && syncPool.getThreadPoolExecutor()
+                            .getMaximumPoolSize() == 1, "等待结束后应撤销补偿");
+        } finally {
+            syncPool.shutdown();
+        }
+        log.info("testCompensationWhenSaturated ok!");
+    }
+}
@@ -0,0 +1,217 @@
+package com.thunisoft.t3.concurrent.test;
+
+import com.thunisoft.t3.concurrent.configuration.ThreadPoolConfiguration;
+import com.thunisoft.t3.concurrent.configuration.initializer.ThreadPoolInitializer;
+import com.thunisoft.t3.concurrent.configuration.initializer.ThreadPoolInitializerFactory;
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import com.thunisoft.t3.concurrent.constant.InitMode;
+import com.thunisoft.t3.concurrent.constant.ThreadPoolConstants;
+import com.thunisoft.t3.concurrent.constant.ThreadPoolType;
+import com.thunisoft.t3.concurrent.executor.KeyedTaskExecutor;
+import com.thunisoft.t3.concurrent.holder.customthreadpool.ExecutorsHolder;
+import com.thunisoft.t3.concurrent.management.ThreadPoolEndpoint;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.AutowiredAnnotationBeanPostProcessor;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PoolInitModeTests
+ *
+ * @author LKL
+ * @version 1.0
+ * @date 2026-10-18
+ *
+ */
+@Slf4j
+public class PoolInitModeTests {
+
+    @Test
+    public void testLazy() throws InterruptedException {
+        ThreadPoolConfiguration configuration = new ThreadPoolConfiguration();
+        ThreadPoolConfig lazyConfig = new ThreadPoolConfig();
+        lazyConfig.setInitMode(InitMode.LAZY);
+        lazyConfig.setCorePoolSize(1);
+        lazyConfig.setThreadNamePrefix("lazyPool-");
+        configuration.getCustomThreadPools().put("lazyPool", lazyConfig);
+        GenericApplicationContext context = context(configuration);
+        try {
+            ExecutorsHolder holder = context.getBean(ExecutorsHolder.class);
+            Assert.isTrue(!holder.isInitialized("lazyPool")
+                            && !context.getBeanFactory()
+                            .containsSingleton("lazyPool"),
+                    "lazy线程池启动时不应创建");
+
+            ThreadPoolConfig resized = lazyConfig.copy();
+            resized.setCorePoolSize(2);
+            Assert.isTrue(holder.reconfigure("lazyPool", resized)
+                    && !holder.isInitialized("lazyPool"), "创建前调整配置不应触发创建");
+
+            Set<Executor> resolved = ConcurrentHashMap.newKeySet();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    resolved.add(holder.getExecutor("lazyPool"));
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            Assert.isTrue(resolved.size() == 1, "并发首次获取应只创建一个线程池");
+            ThreadPoolTaskExecutor pool = (ThreadPoolTaskExecutor) resolved
+                    .iterator().next();
+            Assert.isTrue(context.getBean("lazyPool") == pool,
+                    "注册的bean应与映射关系中的线程池为同一对象");
+            Assert.isTrue(pool.getCorePoolSize() == 2, "创建时应使用调整后的配置");
+            Assert.isTrue(holder.getAllExecutorsMappings()
+                    .get("lazyPool") == pool, "创建后应替换映射关系中的占位对象");
+
+            context.close();
+            Assert.isTrue(pool.getThreadPoolExecutor().isShutdown(),
+                    "容器关闭时应销毁延迟创建的线程池");
+        } finally {
+            context.close();
+        }
+        log.info("testLazy ok!");
+    }
+
+    @Test
+    public void testWarm() throws InterruptedException {
+        ThreadPoolConfiguration configuration = new ThreadPoolConfiguration();
+        configuration.getThreadpool().setInitMode(InitMode.WARM);
+        configuration.getThreadpool().setCorePoolSize(3);
+        configuration.getThreadpool().setQueueCapacity(16);
+        ThreadPoolTaskExecutor pool = (ThreadPoolTaskExecutor) configuration
+                .defaultExecutor();
+        try {
+            ThreadPoolExecutor executor = pool.getThreadPoolExecutor();
+            Assert.isTrue(executor.getPoolSize() == 3, "warm应预先启动全部核心线程");
+            Assert.isTrue(awaitCompleted(executor, 3),
+                    "warm应提交一轮空任务：" + executor.getCompletedTaskCount());
+        } finally {
+            pool.shutdown();
+        }
+
+        ThreadPoolConfig keyedConfig = new ThreadPoolConfig();
+        keyedConfig.setType(ThreadPoolType.KEYED);
+        keyedConfig.setInitMode(InitMode.WARM);
+        keyedConfig.setCorePoolSize(2);
+        KeyedTaskExecutor keyed = (KeyedTaskExecutor) ThreadPoolInitializerFactory
+                .getInitializer(keyedConfig).initializeThreadPool("keyedPool",
+                        keyedConfig, new ThreadPoolExecutor.CallerRunsPolicy());
+        try {
+            Assert.isTrue(keyed.getThreadPoolExecutor().getPoolSize() == 0,
+                    "只通过初始化器创建时不应预热");
+            ThreadPoolInitializerFactory.getInitializer(keyedConfig)
+                    .prestart(keyed);
+            Assert.isTrue(keyed.getThreadPoolExecutor().getPoolSize() == 2,
+                    "keyed类型应预先启动全部工作线程");
+        } finally {
+            keyed.destroy();
+        }
+        log.info("testWarm ok!");
+    }
+
+    @Test
+    public void testReconfigureUnknown() {
+        GenericApplicationContext context = context(
+                new ThreadPoolConfiguration());
+        try {
+            ExecutorsHolder holder = context.getBean(ExecutorsHolder.class);
+            ThreadPoolEndpoint endpoint = new ThreadPoolEndpoint(holder);
+            Map<String, Object> result = endpoint
+                    .resize("typoPool", 4, 8, null, null);
+            Assert.isTrue(Boolean.FALSE.equals(result.get("reconfigured")),
+                    "不存在的线程池应调整失败");
+            Assert.isTrue(!holder.reconfigure("typoPool", new ThreadPoolConfig())
+                            && !holder.getAllExecutorsMappings()
+                            .containsKey("typoPool") && !context.getBeanFactory()
+                            .containsBean("typoPool"), "调整不应创建线程池");
+
+            ThreadPoolConfig added = new ThreadPoolConfig();
+            added.setCorePoolSize(1);
+            added.setThreadNamePrefix("addedPool-");
+            holder.refresh(holder.getAppliedConfigs()
+                            .get(ThreadPoolConstants.C_KEY_THREAD_POOL_DEFAULT),
+                    Collections.singletonMap("addedPool", added));
+            Assert.isTrue(holder.getAllExecutorsMappings()
+                            .containsKey("addedPool") && context.getBeanFactory()
+                            .containsBean("addedPool"), "配置刷新应新增线程池");
+        } finally {
+            context.close();
+        }
+        log.info("testReconfigureUnknown ok!");
+    }
+
+    @Test
+    public void testLegacyInitializer() {
+        // 只实现了不带名称方法的自定义初始化器，组件按名称调用时仍应创建线程池
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 0,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        ThreadPoolInitializer legacy = new ThreadPoolInitializer() {
+            @Override
+            public Executor initializeThreadPool(
+                    ThreadPoolConfig threadPoolConfig,
+                    RejectedExecutionHandler reject) {
+                return pool;
+            }
+        };
+        try {
+            Assert.isTrue(legacy.initializeThreadPool("legacyPool",
+                    new ThreadPoolConfig(),
+                    new ThreadPoolExecutor.CallerRunsPolicy()) == pool,
+                    "按名称创建应转调不带名称的方法");
+        } finally {
+            pool.shutdown();
+        }
+        log.info("testLegacyInitializer ok!");
+    }
+
+    private static GenericApplicationContext context(
+            ThreadPoolConfiguration configuration) {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.registerBean(AutowiredAnnotationBeanPostProcessor.class);
+        context.registerBean(ThreadPoolConfiguration.class, () -> configuration);
+        context.registerBean("t3-default-completable-executor", Executor.class,
+                configuration::defaultExecutor);
+        context.registerBean(ExecutorsHolder.class);
+        context.refresh();
+        return context;
+    }
+
+    private static boolean awaitCompleted(ThreadPoolExecutor executor,
+            long tasks) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (executor.getCompletedTaskCount() < tasks) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,140 @@
+package com.thunisoft.t3.concurrent.test;
+
+import com.thunisoft.t3.concurrent.configuration.initializer.impl.ThreadPoolTaskExecutorInitializer;
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import com.thunisoft.t3.concurrent.executor.ResizableThreadPoolTaskExecutor;
+import com.thunisoft.t3.concurrent.metrics.MicrometerThreadPoolMetrics;
+import com.thunisoft.t3.concurrent.tuning.PoolSizeDecision;
+import com.thunisoft.t3.concurrent.tuning.PoolSizeTuner;
+import com.thunisoft.t3.concurrent.tuning.TuningReason;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Test;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PoolSizeTunerTests
+ *
+ * @author LKL
+ * @version 1.0
+ * @date 2026-10-18
+ *
+ */
+@Slf4j
+public class PoolSizeTunerTests {
+
+    @Test
+    public void testGrowOnBlocking() throws Exception {
+        ThreadPoolConfig config = tunedConfig(2, 2, 64);
+        ResizableThreadPoolTaskExecutor executor = create(config);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PoolSizeTuner tuner = tuner(executor, config, registry);
+        try {
+            // 任务几乎都在等待，线程用满且有任务排队
+            for (int i = 0; i < 40; i++) {
+                executor.execute(() -> sleep(20));
+            }
+            ThreadPoolExecutor pool = executor.getThreadPoolExecutor();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(3);
+            while (pool.getCompletedTaskCount() < 10
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            PoolSizeDecision decision = tuner.tick();
+            log.info("decision: {}", decision);
+            Assert.isTrue(decision.getReason() == TuningReason.GROW,
+                    "阻塞型任务排队时应扩大：" + decision);
+            Assert.isTrue(tuner.getBlockingRatio() > 1, "阻塞比例应大于1");
+            Assert.isTrue(executor.getCorePoolSize() == 4
+                            && executor.getMaxPoolSize() == 4,
+                    "单次最多翻倍，最大线程数保持原有差值：" + decision);
+            Assert.isTrue(registry.get("t3.concurrent.pool.tuning.decisions")
+                    .tag("reason", "grow").counter().count() == 1,
+                    "决策应记录为指标");
+        } finally {
+            executor.shutdown();
+        }
+        log.info("testGrowOnBlocking ok!");
+    }
+
+    @Test
+    public void testShrinkOnCpuBoundAndHold() throws Exception {
+        int cpus = Runtime.getRuntime().availableProcessors();
+        ThreadPoolConfig config = tunedConfig(cpus * 4, cpus * 4 + 4, 0);
+        ResizableThreadPoolTaskExecutor executor = create(config);
+        PoolSizeTuner tuner = tuner(executor, config, new SimpleMeterRegistry());
+        try {
+            PoolSizeDecision idle = tuner.tick();
+            Assert.isTrue(idle.getReason() == TuningReason.INSUFFICIENT_SAMPLES
+                    && executor.getCorePoolSize() == cpus * 4, "采样不足时不应调整");
+
+            // 逐个执行计算型任务，执行耗时基本都是cpu时间
+            for (int i = 0; i < 20; i++) {
+                executor.submit(PoolSizeTunerTests::spin).get();
+            }
+            PoolSizeDecision decision = tuner.tick();
+            log.info("decision: {}", decision);
+            Assert.isTrue(decision.getReason() == TuningReason.SHRINK
+                    && executor.getCorePoolSize() < cpus * 4
+                    && executor.getCorePoolSize() >= cpus * 2,
+                    "计算型任务应缩小且单次最多减半：" + decision);
+            Assert.isTrue(executor.getMaxPoolSize()
+                    == executor.getCorePoolSize() + 4, "最大线程数应保持原有差值");
+        } finally {
+            executor.shutdown();
+        }
+        log.info("testShrinkOnCpuBoundAndHold ok!");
+    }
+
+    private static ThreadPoolConfig tunedConfig(int core, int max,
+            int queueCapacity) {
+        ThreadPoolConfig config = new ThreadPoolConfig();
+        config.setCorePoolSize(core);
+        config.setMaxPoolSize(max);
+        config.setQueueCapacity(queueCapacity);
+        config.setThreadNamePrefix("tunedPool-");
+        config.getTuner().setEnabled(true);
+        config.getTuner().setMaxPoolSize(64);
+        config.getTuner().setMinSamples(10);
+        // 测试机负载不确定，不以负载限制扩大
+        config.getTuner().setMaxLoadPerCpu(1000);
+        return config;
+    }
+
+    private static ResizableThreadPoolTaskExecutor create(
+            ThreadPoolConfig config) {
+        return (ResizableThreadPoolTaskExecutor) new ThreadPoolTaskExecutorInitializer()
+                .initializeThreadPool(config,
+                        new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    private static PoolSizeTuner tuner(ResizableThreadPoolTaskExecutor executor,
+            ThreadPoolConfig config, SimpleMeterRegistry registry) {
+        MicrometerThreadPoolMetrics metrics = new MicrometerThreadPoolMetrics(
+                registry, "tunedPool");
+        PoolSizeTuner tuner = new PoolSizeTuner("tunedPool", executor,
+                config.getTuner(), executor.getMaxPoolSize(), metrics);
+        metrics.bindTo(tuner);
+        return tuner;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static long spin() {
+        long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(2);
+        long x = 0;
+        while (System.nanoTime() < end) {
+            x += x * 31 + 7;
+        }
+        return x;
+    }
+}
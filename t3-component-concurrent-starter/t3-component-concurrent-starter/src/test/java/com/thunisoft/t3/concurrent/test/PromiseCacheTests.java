@@ -0,0 +1,148 @@
+package com.thunisoft.t3.concurrent.test;
+
+import com.thunisoft.t3.concurrent.cache.PromiseCache;
+import com.thunisoft.t3.concurrent.cache.PromiseCacheManager;
+import com.thunisoft.t3.concurrent.completable.CompletableHelper;
+import com.thunisoft.t3.concurrent.configuration.ThreadPoolConfiguration;
+import com.thunisoft.t3.concurrent.configuration.model.PromiseCacheConfig;
+import lombok.extern.slf4j.Slf4j;
+import net.tascalate.concurrent.Promise;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PromiseCacheTests
+ *
+ * @author LKL
+ * @version 1.0
+ * @date 2026-10-18
+ *
+ */
+@Slf4j
+public class PromiseCacheTests {
+
+    private ExecutorService pool;
+
+    private Executor previousExecutor;
+
+    private PromiseCacheManager cacheManager;
+
+    @Before
+    public void init() {
+        pool = Executors.newFixedThreadPool(8);
+        previousExecutor = CompletableHelper.getDefaultExecutor();
+        CompletableHelper.setDefaultExecutor(pool);
+        ThreadPoolConfiguration configuration = new ThreadPoolConfiguration();
+        PromiseCacheConfig dict = new PromiseCacheConfig();
+        dict.setExpireAfterWriteMillis(1000);
+        dict.setRefreshAheadMillis(500);
+        configuration.getCaches().put("dict", dict);
+        PromiseCacheConfig user = new PromiseCacheConfig();
+        user.setMaximumSize(2);
+        user.setNegativeTtlMillis(200);
+        configuration.getCaches().put("user", user);
+        PromiseCacheConfig slow = new PromiseCacheConfig();
+        slow.setExpireAfterWriteMillis(100);
+        configuration.getCaches().put("slow", slow);
+        cacheManager = new PromiseCacheManager(configuration);
+    }
+
+    @After
+    public void destroy() {
+        // 还原默认线程池，避免后续测试向已关闭的线程池提交任务
+        CompletableHelper.setDefaultExecutor(previousExecutor);
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void testLoadOnceAndRefreshAhead() {
+        PromiseCache<String, Integer> cache = cacheManager.getCache("dict");
+        AtomicInteger loads = new AtomicInteger();
+        List<Promise<Integer>> promises = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            promises.add(cache.get("area", key -> {
+                sleep(50);
+                return loads.incrementAndGet();
+            }));
+        }
+        promises.forEach(promise -> Assert
+                .isTrue(promise.join() == 1, "并发访问应共享同一次加载"));
+        Assert.isTrue(loads.get() == 1, "应只加载一次：" + loads.get());
+
+        // 进入提前刷新窗口，仍返回旧值并在后台重新加载
+        sleep(600);
+        Assert.isTrue(cache.get("area", key -> loads.incrementAndGet()).join()
+                == 1, "刷新期间应返回旧值");
+        sleep(100);
+        Assert.isTrue(cache.get("area", key -> loads.incrementAndGet()).join()
+                == 2, "刷新完成后应返回新值");
+        Assert.isTrue(loads.get() == 2, "刷新应只加载一次：" + loads.get());
+
+        // 加载耗时超过过期时间，加载期间及刚完成时都不应重复加载
+        PromiseCache<String, Integer> slowCache = cacheManager.getCache("slow");
+        AtomicInteger slowLoads = new AtomicInteger();
+        Promise<Integer> first = slowCache.get("area", key -> {
+            sleep(200);
+            return slowLoads.incrementAndGet();
+        });
+        sleep(150);
+        Promise<Integer> during = slowCache
+                .get("area", key -> slowLoads.incrementAndGet());
+        Assert.isTrue(first.join() == 1 && during.join() == 1,
+                "加载中的条目不应过期");
+        Assert.isTrue(slowCache.get("area", key -> slowLoads.incrementAndGet())
+                .join() == 1, "过期时间应从加载完成算起");
+        Assert.isTrue(slowLoads.get() == 1, "应只加载一次：" + slowLoads.get());
+        log.info("testLoadOnceAndRefreshAhead ok!");
+    }
+
+    @Test
+    public void testNegativeCachingAndEviction() {
+        PromiseCache<Integer, String> cache = cacheManager.getCache("user");
+        AtomicInteger failures = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            boolean failed = false;
+            try {
+                cache.get(0, key -> {
+                    failures.incrementAndGet();
+                    throw new IllegalStateException("down");
+                }).join();
+            } catch (CompletionException e) {
+                failed = true;
+            }
+            Assert.isTrue(failed, "加载失败时应返回失败的Promise");
+        }
+        Assert.isTrue(failures.get() == 1, "短时间内失败结果应被缓存：" + failures.get());
+        sleep(250);
+        cache.get(0, key -> "recovered").join();
+        Assert.isTrue("recovered".equals(cache.get(0, key -> "stale").join()),
+                "失败缓存过期后应重新加载");
+
+        cache.get(1, key -> "user-1").join();
+        sleep(5);
+        cache.get(0, key -> "stale").join();
+        cache.get(2, key -> "user-2").join();
+        Assert.isTrue(cache.size() <= 2, "条目数不应超过maximum-size：" + cache.size());
+        Assert.isTrue(cache.getIfPresent(1) == null, "应淘汰最久未访问的条目");
+        Assert.isTrue(cache.getIfPresent(0) != null, "最近访问的条目应保留");
+        log.info("testNegativeCachingAndEviction ok!");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
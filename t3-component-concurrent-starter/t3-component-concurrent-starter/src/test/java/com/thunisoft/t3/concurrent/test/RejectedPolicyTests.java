@@ -0,0 +1,236 @@
+package com.thunisoft.t3.concurrent.test;
+
+import com.thunisoft.t3.concurrent.configuration.ThreadPoolConfiguration;
+import com.thunisoft.t3.concurrent.configuration.initializer.impl.ThreadPoolTaskExecutorInitializer;
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import com.thunisoft.t3.concurrent.constant.RejectedPolicyType;
+import com.thunisoft.t3.concurrent.holder.customthreadpool.ExecutorsHolder;
+import com.thunisoft.t3.concurrent.rejection.DiscardOldestRejectedPolicy;
+import com.thunisoft.t3.concurrent.rejection.OverflowRejectedPolicy;
+import com.thunisoft.t3.concurrent.rejection.RejectedPolicyFactory;
+import com.thunisoft.t3.concurrent.rejection.ThreadPoolRejectedException;
+import lombok.extern.slf4j.Slf4j;
+import net.tascalate.concurrent.CompletableTask;
+import net.tascalate.concurrent.Promise;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.AutowiredAnnotationBeanPostProcessor;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.Assert;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RejectedPolicyTests
+ *
+ * @author LKL
+ * @version 1.0
+ * @date 2026-10-18
+ *
+ */
+@Slf4j
+public class RejectedPolicyTests {
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    private final Runnable blocking = () -> {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    };
+
+    @Before
+    public void init() {
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @After
+    public void destroy() {
+        latch.countDown();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void testAbortAndBlock() {
+        ThreadPoolTaskExecutor abort = singleThreadPool("abortPool",
+                RejectedPolicyType.ABORT, 0);
+        ThreadPoolTaskExecutor block = singleThreadPool("blockPool",
+                RejectedPolicyType.BLOCK, 0);
+        try {
+            CompletableTask.runAsync(blocking, abort);
+            boolean rejected = false;
+            try {
+                CompletableTask.runAsync(() -> {
+                }, abort);
+            } catch (ThreadPoolRejectedException e) {
+                rejected = "abortPool".equals(e.getThreadPoolName());
+            }
+            Assert.isTrue(rejected, "abort应抛出带线程池名称的异常");
+
+            CompletableTask.runAsync(() -> sleep(100), block);
+            // 唯一的线程100ms后空闲，等待期间由其取走任务
+            Promise<String> waited = CompletableTask
+                    .supplyAsync(() -> Thread.currentThread().getName(), block);
+            Assert.isTrue(waited.join().startsWith("blockPool-"),
+                    "block等待后应由线程池执行");
+        } finally {
+            latch.countDown();
+            abort.shutdown();
+            block.shutdown();
+        }
+        log.info("testAbortAndBlock ok!");
+    }
+
+    @Test
+    public void testDiscardOldestCancelsPromise() {
+        ThreadPoolTaskExecutor executor = singleThreadPool("discardPool",
+                RejectedPolicyType.DISCARD_OLDEST, 1);
+        try {
+            CompletableTask.runAsync(blocking, executor);
+            Promise<String> oldest = CompletableTask
+                    .supplyAsync(() -> "oldest", executor);
+            Promise<String> newest = CompletableTask
+                    .supplyAsync(() -> "newest", executor);
+            latch.countDown();
+            Assert.isTrue("newest".equals(newest.join()), "最新任务应被执行");
+            boolean cancelled = false;
+            try {
+                oldest.join();
+            } catch (CancellationException | CompletionException e) {
+                cancelled = true;
+            }
+            Assert.isTrue(cancelled && oldest.isCancelled(), "最早任务应被取消而不是永远等待");
+        } finally {
+            executor.shutdown();
+        }
+        log.info("testDiscardOldestCancelsPromise ok!");
+    }
+
+    @Test
+    public void testDiscardOldestWhenSlotTaken() {
+        // 丢弃后空出的位置被其他提交线程抢占，应拒绝而不是重入拒绝策略继续丢弃
+        AtomicInteger polled = new AtomicInteger();
+        ArrayBlockingQueue<Runnable> queue = new ArrayBlockingQueue<Runnable>(1) {
+            @Override
+            public Runnable poll() {
+                Runnable oldest = super.poll();
+                polled.incrementAndGet();
+                offer(() -> {
+                });
+                return oldest;
+            }
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0,
+                TimeUnit.SECONDS, queue);
+        try {
+            executor.execute(blocking);
+            executor.execute(() -> {
+            });
+            boolean rejected = false;
+            try {
+                new DiscardOldestRejectedPolicy("racePool").handle(() -> {
+                }, executor);
+            } catch (ThreadPoolRejectedException e) {
+                rejected = true;
+            }
+            Assert.isTrue(rejected && polled.get() == 1,
+                    "位置被抢占时应只丢弃一个任务并拒绝：" + polled.get());
+        } finally {
+            latch.countDown();
+            executor.shutdown();
+        }
+        log.info("testDiscardOldestWhenSlotTaken ok!");
+    }
+
+    @Test
+    public void testOverflowToSiblingPool() {
+        ThreadPoolTaskExecutor spare = singleThreadPool("sparePool",
+                RejectedPolicyType.ABORT, 0);
+        ThreadPoolConfig config = new ThreadPoolConfig();
+        config.setCorePoolSize(1);
+        config.setMaxPoolSize(1);
+        config.setThreadNamePrefix("pdfPool-");
+        ThreadPoolTaskExecutor pdf = (ThreadPoolTaskExecutor) new ThreadPoolTaskExecutorInitializer()
+                .initializeThreadPool("pdfPool", config,
+                        new OverflowRejectedPolicy("pdfPool", "sparePool",
+                                name -> "sparePool".equals(name) ?
+                                        spare :
+                                        null));
+        try {
+            CompletableTask.runAsync(blocking, pdf);
+            Promise<String> overflowed = CompletableTask
+                    .supplyAsync(() -> Thread.currentThread().getName(), pdf);
+            Assert.isTrue(overflowed.join().startsWith("sparePool-"),
+                    "pdf线程池饱和时应转投备用线程池：" + overflowed.join());
+        } finally {
+            latch.countDown();
+            pdf.shutdown();
+            spare.shutdown();
+        }
+        log.info("testOverflowToSiblingPool ok!");
+    }
+
+    @Test
+    public void testOverflowToMissingPool() {
+        ThreadPoolConfiguration configuration = new ThreadPoolConfiguration();
+        ThreadPoolConfig config = new ThreadPoolConfig();
+        config.setRejectedPolicy(RejectedPolicyType.OVERFLOW);
+        config.setOverflowThreadPool("sparPool");
+        configuration.getCustomThreadPools().put("pdfPool", config);
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.registerBean(AutowiredAnnotationBeanPostProcessor.class);
+        context.registerBean(ThreadPoolConfiguration.class, () -> configuration);
+        context.registerBean("t3-default-completable-executor", Executor.class,
+                configuration::defaultExecutor);
+        context.registerBean(ExecutorsHolder.class);
+        boolean failed = false;
+        try {
+            context.refresh();
+        } catch (BeansException e) {
+            failed = e.getMostSpecificCause().getMessage().contains("sparPool");
+        } finally {
+            context.close();
+        }
+        Assert.isTrue(failed, "转投的线程池名称写错时应启动失败");
+        log.info("testOverflowToMissingPool ok!");
+    }
+
+    private static ThreadPoolTaskExecutor singleThreadPool(String name,
+            RejectedPolicyType policy, int queueCapacity) {
+        ThreadPoolConfig config = new ThreadPoolConfig();
+        config.setCorePoolSize(1);
+        config.setMaxPoolSize(1);
+        config.setQueueCapacity(queueCapacity);
+        config.setThreadNamePrefix(name + "-");
+        config.setRejectedPolicy(policy);
+        RejectedExecutionHandler handler = RejectedPolicyFactory
+                .create(name, config);
+        return (ThreadPoolTaskExecutor) new ThreadPoolTaskExecutorInitializer()
+                .initializeThreadPool(name, config, handler);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.thunisoft.t3.concurrent.test;
+
+import com.thunisoft.t3.concurrent.completable.CompletableHelper;
+import com.thunisoft.t3.concurrent.completable.RetryPolicy;
+import com.thunisoft.t3.concurrent.configuration.initializer.impl.ThreadPoolTaskExecutorInitializer;
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import lombok.extern.slf4j.Slf4j;
+import net.tascalate.concurrent.Promise;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.MDC;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RetryTests
+ *
+ * @author LKL
+ * @version 1.0
+ * @date 2026-10-18
+ *
+ */
+@Slf4j
+public class RetryTests {
+
+    private ThreadPoolTaskExecutor executor;
+
+    private Executor previousExecutor;
+
+    @Before
+    public void init() {
+        ThreadPoolConfig config = new ThreadPoolConfig();
+        config.setCorePoolSize(1);
+        config.setMaxPoolSize(1);
+        config.setThreadNamePrefix("retryPool-");
+        executor = (ThreadPoolTaskExecutor) new ThreadPoolTaskExecutorInitializer()
+                .initializeThreadPool("retryPool", config,
+                        new ThreadPoolExecutor.CallerRunsPolicy());
+        previousExecutor = CompletableHelper.getDefaultExecutor();
+        CompletableHelper.setDefaultExecutor(executor);
+    }
+
+    @After
+    public void destroy() {
+        // 还原默认线程池，避免后续测试向已关闭的线程池提交任务
+        CompletableHelper.setDefaultExecutor(previousExecutor);
+        executor.shutdown();
+        MDC.clear();
+    }
+
+    @Test
+    public void testRetryUntilSuccess() {
+        AtomicInteger attempts = new AtomicInteger();
+        List<String> traceIds = new CopyOnWriteArrayList<>();
+        MDC.put("traceId", "t-retry");
+        Promise<String> promise = CompletableHelper.retry(() -> {
+            traceIds.add(MDC.get("traceId"));
+            if (attempts.incrementAndGet() < 3) {
+                throw new IllegalStateException("unavailable");
+            }
+            return "ok";
+        }, RetryPolicy.defaults().backoff(Duration.ofMillis(200),
+                Duration.ofSeconds(1)));
+        MDC.clear();
+        // 唯一的线程在等待重试期间应空闲，可以执行其他任务
+        long start = System.nanoTime();
+        Assert.isTrue("other".equals(CompletableHelper
+                        .promise(() -> "other", "retryPool").join()),
+                "应返回结果");
+        long waited = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Assert.isTrue(waited < 150, "等待重试不应占用线程：" + waited);
+
+        Assert.isTrue("ok".equals(promise.join()), "第三次调用应成功");
+        Assert.isTrue(attempts.get() == 3, "应调用3次：" + attempts);
+        for (String traceId : traceIds) {
+            Assert.isTrue("t-retry".equals(traceId), "每次调用都应传递上下文：" + traceIds);
+        }
+        log.info("testRetryUntilSuccess ok! waited={}ms", waited);
+    }
+
+    @Test
+    public void testNotRetryableAndDeadline() {
+        AtomicInteger attempts = new AtomicInteger();
+        try {
+            CompletableHelper.retry(() -> {
+                attempts.incrementAndGet();
+                throw new IllegalArgumentException("bad request");
+            }, RetryPolicy.defaults().retryOn(IllegalStateException.class))
+                    .join();
+            Assert.isTrue(false, "应以调用的异常结束");
+        } catch (CompletionException e) {
+            Assert.isTrue(e.getCause() instanceof IllegalArgumentException,
+                    "应为调用抛出的异常：" + e.getCause());
+        }
+        Assert.isTrue(attempts.get() == 1, "不可重试的异常不应重试：" + attempts);
+
+        AtomicInteger timed = new AtomicInteger();
+        long start = System.nanoTime();
+        try {
+            CompletableHelper.retry(() -> {
+                timed.incrementAndGet();
+                throw new IllegalStateException("unavailable");
+            }, RetryPolicy.defaults().maxAttempts(100).multiplier(1)
+                    .jitter(0).backoff(Duration.ofMillis(100),
+                            Duration.ofMillis(100))
+                    .timeout(Duration.ofMillis(350))).join();
+            Assert.isTrue(false, "应以最后一次调用的异常结束");
+        } catch (CompletionException e) {
+            Assert.isTrue(e.getCause() instanceof IllegalStateException,
+                    "应为调用抛出的异常：" + e.getCause());
+        }
+        long elapsed = TimeUnit.NANOSECONDS
+                .toMillis(System.nanoTime() - start);
+        Assert.isTrue(timed.get() >= 2 && timed.get() <= 4,
+                "应在总时长内停止重试：" + timed);
+        // 不等待到总时长之后的下一次重试，允许定时器一格的误差
+        Assert.isTrue(elapsed < 420, "剩余时间不足以等待时应立即结束：" + elapsed);
+        log.info("testNotRetryableAndDeadline ok! attempts={}, elapsed={}ms",
+                timed, elapsed);
+    }
+}
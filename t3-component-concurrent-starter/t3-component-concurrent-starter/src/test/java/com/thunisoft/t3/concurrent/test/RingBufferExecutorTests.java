@@ -0,0 +1,177 @@
+package com.thunisoft.t3.concurrent.test;
+
+import com.thunisoft.t3.concurrent.configuration.initializer.ThreadPoolInitializerFactory;
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import com.thunisoft.t3.concurrent.constant.RejectedPolicyType;
+import com.thunisoft.t3.concurrent.constant.ThreadPoolType;
+import com.thunisoft.t3.concurrent.constant.WaitStrategy;
+import com.thunisoft.t3.concurrent.executor.RingBufferTaskExecutor;
+import com.thunisoft.t3.concurrent.rejection.ThreadPoolRejectedException;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Test;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RingBufferExecutorTests
+ *
+ * @author LKL
+ * @version 1.0
+ * @date 2026-10-18
+ *
+ */
+@Slf4j
+public class RingBufferExecutorTests {
+
+    @Test
+    public void testManyProducers() throws InterruptedException {
+        for (WaitStrategy waitStrategy : new WaitStrategy[] {
+                WaitStrategy.PARK, WaitStrategy.YIELD }) {
+            RingBufferTaskExecutor executor = ringBuffer(waitStrategy, 2, 256,
+                    RejectedPolicyType.CALLER_RUNS);
+            try {
+                AtomicInteger executed = new AtomicInteger();
+                CountDownLatch done = new CountDownLatch(40000);
+                List<Thread> producers = new ArrayList<>();
+                for (int p = 0; p < 4; p++) {
+                    Thread producer = new Thread(() -> {
+                        for (int i = 0; i < 10000; i++) {
+                            executor.execute(() -> {
+                                executed.incrementAndGet();
+                                done.countDown();
+                            });
+                        }
+                    });
+                    producers.add(producer);
+                    producer.start();
+                }
+                for (Thread producer : producers) {
+                    producer.join();
+                }
+                Assert.isTrue(done.await(10, TimeUnit.SECONDS),
+                        waitStrategy + "策略下任务应全部执行：" + executed.get());
+                Assert.isTrue(executed.get() == 40000, "每个任务应只执行一次");
+            } finally {
+                executor.destroy();
+            }
+        }
+        log.info("testManyProducers ok!");
+    }
+
+    @Test
+    public void testSaturationAndShutdown() throws InterruptedException {
+        RingBufferTaskExecutor abort = ringBuffer(WaitStrategy.PARK, 1, 2,
+                RejectedPolicyType.ABORT);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executed = new AtomicInteger();
+        abort.execute(() -> {
+            running.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Assert.isTrue(running.await(1, TimeUnit.SECONDS), "阻塞任务应开始执行");
+        abort.execute(executed::incrementAndGet);
+        abort.execute(executed::incrementAndGet);
+        try {
+            abort.execute(executed::incrementAndGet);
+            Assert.isTrue(false, "队列满时abort应拒绝任务");
+        } catch (ThreadPoolRejectedException e) {
+            log.info("expected: {}", e.getMessage());
+        }
+        release.countDown();
+        // 关闭时执行完队列中的任务
+        abort.destroy();
+        Assert.isTrue(executed.get() == 2, "关闭前已入队的任务应执行完：" + executed.get());
+
+        RingBufferTaskExecutor callerRuns = ringBuffer(WaitStrategy.PARK, 1,
+                2, RejectedPolicyType.CALLER_RUNS);
+        try {
+            CountDownLatch blocked = new CountDownLatch(1);
+            callerRuns.execute(() -> {
+                try {
+                    blocked.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            Thread caller = Thread.currentThread();
+            AtomicInteger onCaller = new AtomicInteger();
+            for (int i = 0; i < 4; i++) {
+                callerRuns.execute(() -> {
+                    if (Thread.currentThread() == caller) {
+                        onCaller.incrementAndGet();
+                    }
+                });
+            }
+            blocked.countDown();
+            Assert.isTrue(onCaller.get() >= 1, "队列满时应由提交线程执行");
+        } finally {
+            callerRuns.destroy();
+        }
+        log.info("testSaturationAndShutdown ok!");
+    }
+
+    @Test
+    public void testShutdownRace() throws InterruptedException {
+        for (int round = 0; round < 20; round++) {
+            RingBufferTaskExecutor executor = ringBuffer(WaitStrategy.PARK, 2,
+                    1024, RejectedPolicyType.CALLER_RUNS);
+            AtomicInteger accepted = new AtomicInteger();
+            AtomicInteger executed = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> producers = new ArrayList<>();
+            for (int p = 0; p < 4; p++) {
+                Thread producer = new Thread(() -> {
+                    try {
+                        start.await();
+                        for (;;) {
+                            executor.execute(executed::incrementAndGet);
+                            accepted.incrementAndGet();
+                        }
+                    } catch (ThreadPoolRejectedException e) {
+                        // 关闭后拒绝，停止提交
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                producers.add(producer);
+                producer.start();
+            }
+            start.countDown();
+            Thread.sleep(2);
+            executor.destroy();
+            for (Thread producer : producers) {
+                producer.join();
+            }
+            // 关闭期间放入的任务要么被拒绝，要么被执行，不能丢失
+            Assert.isTrue(executed.get() == accepted.get(),
+                    "已接收的任务应全部执行：" + executed.get() + "/" + accepted
+                            .get());
+        }
+        log.info("testShutdownRace ok!");
+    }
+
+    private static RingBufferTaskExecutor ringBuffer(WaitStrategy waitStrategy,
+            int threads, int capacity, RejectedPolicyType rejectedPolicy) {
+        ThreadPoolConfig config = new ThreadPoolConfig();
+        config.setType(ThreadPoolType.RING_BUFFER);
+        config.setCorePoolSize(threads);
+        config.setQueueCapacity(capacity);
+        config.setWaitStrategy(waitStrategy);
+        config.setRejectedPolicy(rejectedPolicy);
+        config.setThreadNamePrefix("ringPool-");
+        return (RingBufferTaskExecutor) ThreadPoolInitializerFactory
+                .getInitializer(config).initializeThreadPool("ringPool", config,
+                        new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+}
@@ -0,0 +1,149 @@
+package com.thunisoft.t3.concurrent.test;
+
+import com.thunisoft.t3.concurrent.completable.CompletableHelper;
+import com.thunisoft.t3.concurrent.completable.SettleOptions;
+import com.thunisoft.t3.concurrent.completable.Settled;
+import com.thunisoft.t3.concurrent.configuration.initializer.impl.ThreadPoolTaskExecutorInitializer;
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import lombok.extern.slf4j.Slf4j;
+import net.tascalate.concurrent.Promise;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SettleAllTests
+ *
+ * @author LKL
+ * @version 1.0
+ * @date 2026-10-18
+ *
+ */
+@Slf4j
+public class SettleAllTests {
+
+    private ThreadPoolTaskExecutor executor;
+
+    private Executor previousExecutor;
+
+    @Before
+    public void init() {
+        ThreadPoolConfig config = new ThreadPoolConfig();
+        config.setCorePoolSize(8);
+        config.setThreadNamePrefix("settlePool-");
+        executor = (ThreadPoolTaskExecutor) new ThreadPoolTaskExecutorInitializer()
+                .initializeThreadPool(config,
+                        new ThreadPoolExecutor.CallerRunsPolicy());
+        previousExecutor = CompletableHelper.getDefaultExecutor();
+        CompletableHelper.setDefaultExecutor(executor);
+    }
+
+    @After
+    public void destroy() {
+        // 还原默认线程池，避免后续测试向已关闭的线程池提交任务
+        CompletableHelper.setDefaultExecutor(previousExecutor);
+        executor.shutdown();
+    }
+
+    @Test
+    public void testStatusesInOrder() throws InterruptedException {
+        AtomicInteger interrupted = new AtomicInteger();
+        Promise<String> cancelled = CompletableHelper
+                .promise(() -> sleep(2000, interrupted, "cancelled"));
+        // 不中断，避免任务被中断后正常返回与取消竞争
+        cancelled.cancel(false);
+        List<Promise<String>> promises = Arrays.asList(
+                CompletableHelper.promise(() -> sleep(50, interrupted, "slow")),
+                CompletableHelper.promise(() -> {
+                    throw new IllegalStateException("boom");
+                }), cancelled,
+                CompletableHelper.promise(() -> sleep(2000, interrupted, "hang")),
+                CompletableHelper.promise(() -> "fast"));
+        long start = System.currentTimeMillis();
+        List<Settled<String>> settled = CompletableHelper.settleAll(promises,
+                SettleOptions.defaults().timeout(Duration.ofMillis(300)));
+        long elapsed = System.currentTimeMillis() - start;
+        log.info("settled {} in {}ms", settled, elapsed);
+        Assert.isTrue(elapsed < 1500, "应在超时后返回：" + elapsed);
+        Assert.isTrue("slow".equals(settled.get(0).getValue()), "结果应与输入同序");
+        Assert.isTrue(settled.get(1).getStatus() == Settled.Status.FAILED
+                && settled.get(1).getFailure() instanceof IllegalStateException,
+                "失败原因应去掉包装：" + settled.get(1));
+        Assert.isTrue(settled.get(2).getStatus() == Settled.Status.CANCELLED,
+                "已取消的应记为CANCELLED：" + settled.get(2));
+        Assert.isTrue(settled.get(3).getStatus() == Settled.Status.TIMED_OUT
+                && settled.get(3).getFailure() == null, "超时的应记为TIMED_OUT");
+        Assert.isTrue(awaitInterrupted(interrupted, 1), "超时时应中断未结束的任务");
+        Assert.isTrue("fast".equals(settled.get(4).getOrElse("none")),
+                "部分失败不应影响其余结果");
+        log.info("testStatusesInOrder ok!");
+    }
+
+    @Test
+    public void testFailFast() throws InterruptedException {
+        AtomicInteger interrupted = new AtomicInteger();
+        List<Promise<String>> promises = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            promises.add(CompletableHelper.promise(() -> {
+                throw new IllegalArgumentException("bad");
+            }));
+        }
+        AtomicInteger started = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            promises.add(CompletableHelper.promise(() -> {
+                started.incrementAndGet();
+                return sleep(2000, interrupted, "slow");
+            }));
+        }
+        long start = System.currentTimeMillis();
+        List<Settled<String>> settled = CompletableHelper.settleAll(promises,
+                SettleOptions.defaults().failFastAfter(2));
+        long elapsed = System.currentTimeMillis() - start;
+        Assert.isTrue(elapsed < 1500, "失败数达到阈值后应立即返回：" + elapsed);
+        Assert.isTrue(settled.size() == 5
+                && settled.get(0).getStatus() == Settled.Status.FAILED
+                && settled.get(1).getStatus() == Settled.Status.FAILED,
+                "失败的元素应记为FAILED：" + settled);
+        for (int i = 2; i < 5; i++) {
+            Assert.isTrue(settled.get(i).getStatus() == Settled.Status.CANCELLED,
+                    "其余元素应记为CANCELLED：" + settled);
+        }
+        // 尚未开始的任务取消后不再执行，已开始的应被中断
+        Assert.isTrue(awaitInterrupted(interrupted, started.get()),
+                "应中断已开始的任务");
+        log.info("testFailFast ok!");
+    }
+
+    /**
+     * 被中断的任务可能先于取消正常返回，因此以中断次数而非isCancelled判断是否已取消
+     */
+    private static boolean awaitInterrupted(AtomicInteger interrupted,
+            int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 1000;
+        while (interrupted.get() < expected
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        return interrupted.get() == expected;
+    }
+
+    private static String sleep(long millis, AtomicInteger interrupted,
+            String value) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            interrupted.incrementAndGet();
+        }
+        return value;
+    }
+}
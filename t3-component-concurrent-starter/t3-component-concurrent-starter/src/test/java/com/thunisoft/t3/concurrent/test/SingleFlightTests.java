@@ -0,0 +1,140 @@
+package com.thunisoft.t3.concurrent.test;
+
+import com.thunisoft.t3.concurrent.completable.CompletableHelper;
+import lombok.extern.slf4j.Slf4j;
+import net.tascalate.concurrent.Promise;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SingleFlightTests
+ *
+ * @author LKL
+ * @version 1.0
+ * @date 2026-10-18
+ *
+ */
+@Slf4j
+public class SingleFlightTests {
+
+    private ExecutorService pool;
+
+    private Executor previousExecutor;
+
+    @Before
+    public void init() {
+        pool = Executors.newFixedThreadPool(8);
+        previousExecutor = CompletableHelper.getDefaultExecutor();
+        CompletableHelper.setDefaultExecutor(pool);
+    }
+
+    @After
+    public void destroy() {
+        // 还原默认线程池，避免后续测试向已关闭的线程池提交任务
+        CompletableHelper.setDefaultExecutor(previousExecutor);
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void testConcurrentCallsShareOneTask() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Promise<String>> promises = new ArrayList<>();
+        List<Thread> callers = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            Thread caller = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                Promise<String> promise = CompletableHelper.promise("user:1",
+                        () -> {
+                            calls.incrementAndGet();
+                            sleep(200);
+                            return "user-1";
+                        });
+                synchronized (promises) {
+                    promises.add(promise);
+                }
+            });
+            callers.add(caller);
+            caller.start();
+        }
+        start.countDown();
+        for (Thread caller : callers) {
+            caller.join();
+        }
+        promises.forEach(promise -> Assert
+                .isTrue("user-1".equals(promise.join()), "各调用方应得到相同结果"));
+        Assert.isTrue(calls.get() == 1, "并发的相同调用应只执行一次：" + calls.get());
+
+        // 完成后不缓存，再次调用重新执行
+        CompletableHelper.promise("user:1", calls::incrementAndGet).join();
+        Assert.isTrue(calls.get() == 2, "完成后再次调用应重新执行");
+        log.info("testConcurrentCallsShareOneTask ok!");
+    }
+
+    @Test
+    public void testCancelIsReferenceCounted() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Promise<String> first = CompletableHelper.promise("report", () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+                return "report";
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                return "interrupted";
+            }
+        });
+        Promise<String> second = CompletableHelper
+                .promise("report", () -> "never");
+        first.cancel(true);
+        Assert.isTrue(!interrupted.await(100, TimeUnit.MILLISECONDS),
+                "仍有调用方等待时不应取消共享的任务");
+        release.countDown();
+        Assert.isTrue("report".equals(second.join()), "未取消的调用方应得到结果");
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        Promise<String> third = CompletableHelper.promise("export", () -> {
+            started.countDown();
+            try {
+                blocked.await(5, TimeUnit.SECONDS);
+                return "export";
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                return "interrupted";
+            }
+        });
+        Promise<String> fourth = CompletableHelper
+                .promise("export", () -> "never");
+        // 任务开始执行后再取消，验证以中断方式取消
+        Assert.isTrue(started.await(1, TimeUnit.SECONDS), "共享的任务应开始执行");
+        third.cancel(true);
+        fourth.cancel(true);
+        Assert.isTrue(interrupted.await(1, TimeUnit.SECONDS),
+                "全部调用方取消后应中断共享的任务");
+        log.info("testCancelIsReferenceCounted ok!");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
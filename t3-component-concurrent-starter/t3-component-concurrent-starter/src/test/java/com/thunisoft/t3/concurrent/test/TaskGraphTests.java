@@ -0,0 +1,126 @@
+package com.thunisoft.t3.concurrent.test;
+
+import com.thunisoft.t3.concurrent.completable.CompletableHelper;
+import com.thunisoft.t3.concurrent.completable.TaskGraph;
+import com.thunisoft.t3.concurrent.completable.TaskGraphReport;
+import com.thunisoft.t3.concurrent.completable.TaskGraphResult;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.util.Assert;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TaskGraphTests
+ *
+ * @author LKL
+ * @version 1.0
+ * @date 2026-10-18
+ *
+ */
+@Slf4j
+public class TaskGraphTests {
+
+    private ExecutorService executor;
+
+    private Executor previousExecutor;
+
+    @Before
+    public void init() {
+        executor = Executors.newFixedThreadPool(4);
+        previousExecutor = CompletableHelper.getDefaultExecutor();
+        CompletableHelper.setDefaultExecutor(executor);
+    }
+
+    @After
+    public void destroy() {
+        // 还原默认线程池，避免后续测试向已关闭的线程池提交任务
+        CompletableHelper.setDefaultExecutor(previousExecutor);
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testParallelismAndCriticalPath() {
+        TaskGraph graph = new TaskGraph()
+                .task("user", () -> sleepAndGet(50, "u"))
+                .task("orders", () -> sleepAndGet(150, "o"))
+                .task("stats", r -> sleepAndGet(50, r.get("user") + "s"),
+                        "user")
+                .task("page", r -> r.get("stats") + "/" + r.get("orders"),
+                        "stats", "orders");
+        TaskGraphResult result = CompletableHelper.runGraph(graph, "graphPool")
+                .join();
+        log.info("{}", result.getReport());
+        Assert.isTrue(result.isSuccess(), "全部任务应成功");
+        Assert.isTrue("us/o".equals(result.get("page")), "应合并依赖的结果");
+        TaskGraphReport report = result.getReport();
+        long total = TimeUnit.NANOSECONDS.toMillis(report.getTotalNanos());
+        Assert.isTrue(total < 240, "无依赖关系的任务应并行执行：" + total);
+        Assert.isTrue(timing(report, "stats").getStartNanos() < timing(report,
+                "orders").getEndNanos(), "依赖完成后应立即执行，不等待无关任务");
+        Assert.isTrue(Arrays.asList("orders", "page")
+                        .equals(report.getCriticalPath()),
+                "关键路径应为最慢的依赖链：" + report.getCriticalPath());
+        log.info("testParallelismAndCriticalPath ok! total={}ms", total);
+    }
+
+    @Test
+    public void testFailureSkipsDependents() {
+        AtomicInteger skippedRuns = new AtomicInteger();
+        TaskGraph graph = new TaskGraph().task("config", () -> {
+            throw new IllegalStateException("config unavailable");
+        }).task("menu", r -> {
+            skippedRuns.incrementAndGet();
+            return r.get("config");
+        }, "config").task("page", r -> {
+            skippedRuns.incrementAndGet();
+            return r.get("menu");
+        }, "menu").task("notice", () -> sleepAndGet(20, "n"));
+        TaskGraphResult result = CompletableHelper.runGraph(graph).join();
+        log.info("{}", result.getReport());
+        Assert.isTrue(!result.isSuccess(), "有任务失败时不应整体成功");
+        Assert.isTrue(result.getStatus("config") == TaskGraphReport.Status.FAILED
+                        && result.getStatus("page") == TaskGraphReport.Status.SKIPPED,
+                "失败任务的下游应标记为未执行");
+        Assert.isTrue(skippedRuns.get() == 0, "失败任务的下游不应执行");
+        Assert.isTrue("n".equals(result.get("notice")), "无关任务应正常完成");
+        try {
+            result.get("page");
+            Assert.isTrue(false, "未执行的任务应抛出异常");
+        } catch (CompletionException e) {
+            Assert.isTrue(e.getCause() instanceof IllegalStateException,
+                    "应为上游任务的异常：" + e.getCause());
+        }
+        try {
+            new TaskGraph().task("a", r -> 1, "b");
+            Assert.isTrue(false, "依赖未声明的任务应抛出异常");
+        } catch (IllegalArgumentException e) {
+            log.info("expected: {}", e.getMessage());
+        }
+        log.info("testFailureSkipsDependents ok!");
+    }
+
+    private static TaskGraphReport.NodeTiming timing(TaskGraphReport report,
+            String name) {
+        return report.getNodes().stream()
+                .filter(node -> node.getName().equals(name)).findFirst()
+                .orElseThrow(IllegalArgumentException::new);
+    }
+
+    private static String sleepAndGet(long millis, String value) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
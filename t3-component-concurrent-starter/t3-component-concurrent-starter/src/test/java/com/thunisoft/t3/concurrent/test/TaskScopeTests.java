@@ -0,0 +1,141 @@
+package com.thunisoft.t3.concurrent.test;
+
+import com.thunisoft.t3.concurrent.completable.CompletableHelper;
+import com.thunisoft.t3.concurrent.completable.TaskScope;
+import com.thunisoft.t3.concurrent.configuration.initializer.impl.ThreadPoolTaskExecutorInitializer;
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import lombok.extern.slf4j.Slf4j;
+import net.tascalate.concurrent.Promise;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TaskScopeTests
+ *
+ * @author LKL
+ * @version 1.0
+ * @date 2026-10-18
+ *
+ */
+@Slf4j
+public class TaskScopeTests {
+
+    private ThreadPoolTaskExecutor executor;
+
+    private Executor previousExecutor;
+
+    @Before
+    public void init() {
+        ThreadPoolConfig config = new ThreadPoolConfig();
+        config.setCorePoolSize(8);
+        config.setThreadNamePrefix("scopePool-");
+        executor = (ThreadPoolTaskExecutor) new ThreadPoolTaskExecutorInitializer()
+                .initializeThreadPool(config,
+                        new ThreadPoolExecutor.CallerRunsPolicy());
+        previousExecutor = CompletableHelper.getDefaultExecutor();
+        CompletableHelper.setDefaultExecutor(executor);
+    }
+
+    @After
+    public void destroy() {
+        // 还原默认线程池，避免后续测试向已关闭的线程池提交任务
+        CompletableHelper.setDefaultExecutor(previousExecutor);
+        executor.shutdown();
+    }
+
+    @Test
+    public void testShutdownOnFailure() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch interrupted = new CountDownLatch(2);
+        Promise<String> implicit;
+        try (TaskScope scope = CompletableHelper.scope()) {
+            scope.fork(() -> sleepUntilInterrupted(started, interrupted));
+            // 作用域内直接通过CompletableHelper提交的任务，及任务中再提交的任务同样归属作用域
+            implicit = CompletableHelper.promise(() -> CompletableHelper
+                    .promise(() -> sleepUntilInterrupted(started,
+                            interrupted)).join());
+            Assert.isTrue(started.await(1, TimeUnit.SECONDS), "任务应已开始");
+            scope.fork(() -> {
+                throw new IllegalStateException("boom");
+            });
+            scope.join();
+            try {
+                scope.throwIfFailed();
+                Assert.isTrue(false, "有任务失败时应抛出异常");
+            } catch (CompletionException e) {
+                Assert.isTrue(e.getCause() instanceof IllegalStateException,
+                        "应抛出失败任务的异常：" + e.getCause());
+            }
+            Promise<String> late = scope.fork(() -> "late");
+            Assert.isTrue(late.isCancelled(), "关闭后提交的任务应直接取消");
+        }
+        Assert.isTrue(interrupted.await(1, TimeUnit.SECONDS),
+                "失败时应中断其余任务，含嵌套提交的任务");
+        Assert.isTrue(implicit.isDone(), "作用域内提交的任务离开作用域时应已结束");
+        Assert.isTrue(TaskScope.current() == null, "离开作用域后应还原");
+        log.info("testShutdownOnFailure ok!");
+    }
+
+    @Test
+    public void testShutdownOnSuccessAndNested() throws InterruptedException {
+        AtomicInteger cancelled = new AtomicInteger();
+        try (TaskScope scope = CompletableHelper
+                .scope(TaskScope.Policy.SHUTDOWN_ON_SUCCESS)) {
+            scope.fork(() -> sleep(2000, cancelled, "slow"));
+            scope.fork(() -> sleep(20, cancelled, "fast"));
+            scope.fork(() -> sleep(2000, cancelled, "slower"));
+            String result = scope.join().result();
+            Assert.isTrue("fast".equals(result), "应得到最快的结果：" + result);
+        }
+        long deadline = System.currentTimeMillis() + 1000;
+        while (cancelled.get() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.isTrue(cancelled.get() == 2, "成功后应中断其余任务：" + cancelled);
+
+        Promise<String> inner;
+        try (TaskScope outer = CompletableHelper.scope()) {
+            try (TaskScope nested = CompletableHelper.scope()) {
+                Assert.isTrue(TaskScope.current() == nested, "应进入子作用域");
+                inner = nested.fork(() -> sleep(2000, cancelled, "inner"));
+                outer.shutdown();
+                Assert.isTrue(nested.isShutdown() && inner.isCancelled(),
+                        "外层关闭时应关闭子作用域");
+            }
+            Assert.isTrue(TaskScope.current() == outer, "离开子作用域后应回到外层");
+        }
+        log.info("testShutdownOnSuccessAndNested ok!");
+    }
+
+    private static String sleepUntilInterrupted(CountDownLatch started,
+            CountDownLatch interrupted) {
+        started.countDown();
+        try {
+            Thread.sleep(5000);
+            return "finished";
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+            return "interrupted";
+        }
+    }
+
+    private static String sleep(long millis, AtomicInteger cancelled,
+            String value) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            cancelled.incrementAndGet();
+        }
+        return value;
+    }
+}
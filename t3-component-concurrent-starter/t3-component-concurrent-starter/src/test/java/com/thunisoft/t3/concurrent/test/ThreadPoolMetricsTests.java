@@ -0,0 +1,90 @@
+package com.thunisoft.t3.concurrent.test;
+
+import com.thunisoft.t3.concurrent.configuration.initializer.impl.ThreadPoolTaskExecutorInitializer;
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.tascalate.concurrent.CompletableTask;
+import net.tascalate.concurrent.Promise;
+import net.tascalate.concurrent.Promises;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.Assert;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ThreadPoolMetricsTests
+ *
+ * @author LKL
+ * @version 1.0
+ * @date 2026-10-18
+ *
+ */
+@Slf4j
+public class ThreadPoolMetricsTests {
+
+    private SimpleMeterRegistry registry;
+
+    @Before
+    public void init() {
+        registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @After
+    public void destroy() {
+        Metrics.removeRegistry(registry);
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void testCallerRunsCounted() {
+        ThreadPoolConfig config = new ThreadPoolConfig();
+        config.setCorePoolSize(1);
+        config.setMaxPoolSize(1);
+        ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor) new ThreadPoolTaskExecutorInitializer()
+                .initializeThreadPool("metricsPool", config,
+                        new ThreadPoolExecutor.CallerRunsPolicy());
+        try {
+            CountDownLatch latch = new CountDownLatch(1);
+            Promise<Void> blocking = CompletableTask.runAsync(() -> {
+                try {
+                    latch.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, executor);
+            // 唯一的线程被占用且无队列，第二个任务由当前线程执行
+            Promise<String> callerRuns = CompletableTask
+                    .supplyAsync(() -> Thread.currentThread().getName(),
+                            executor);
+            latch.countDown();
+            Promises.all(blocking, callerRuns).join();
+            Assert.isTrue(Thread.currentThread().getName()
+                    .equals(callerRuns.join()), "第二个任务应由调用线程执行");
+            Assert.isTrue(registry.get("t3.concurrent.pool.rejected")
+                            .tag("pool", "metricsPool").tag("outcome", "caller_runs")
+                            .counter().count() == 1,
+                    "caller_runs次数应为1");
+            Assert.isTrue(registry.get("t3.concurrent.pool.execution")
+                            .tag("pool", "metricsPool").timer().count() == 2,
+                    "两个任务均应记录执行耗时");
+            Assert.isTrue(registry.get("t3.concurrent.pool.size")
+                    .tag("pool", "metricsPool").gauge().value() == 1, "线程数应为1");
+        } finally {
+            executor.shutdown();
+        }
+        log.info("testCallerRunsCounted ok!");
+    }
+}
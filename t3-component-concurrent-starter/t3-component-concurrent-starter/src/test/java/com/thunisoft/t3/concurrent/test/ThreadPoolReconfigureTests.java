@@ -0,0 +1,83 @@
+package com.thunisoft.t3.concurrent.test;
+
+import com.thunisoft.t3.concurrent.configuration.initializer.impl.ThreadPoolTaskExecutorInitializer;
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import com.thunisoft.t3.concurrent.executor.ResizableCapacityLinkedBlockingQueue;
+import com.thunisoft.t3.concurrent.executor.ResizableThreadPoolTaskExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Test;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * ThreadPoolReconfigureTests
+ *
+ * @author LKL
+ * @version 1.0
+ * @date 2026-10-18
+ *
+ */
+@Slf4j
+public class ThreadPoolReconfigureTests {
+
+    @Test
+    public void testResizableQueue() {
+        ResizableCapacityLinkedBlockingQueue<Integer> queue = new ResizableCapacityLinkedBlockingQueue<>(
+                2);
+        Assert.isTrue(queue.offer(1) && queue.offer(2) && !queue.offer(3),
+                "队列满后应拒绝入队");
+        queue.setCapacity(3);
+        Assert.isTrue(queue.offer(3), "扩容后应允许入队");
+        queue.setCapacity(1);
+        Assert.isTrue(queue.size() == 3 && !queue.offer(4),
+                "缩容不丢弃已入队元素，但拒绝新元素");
+        Assert.isTrue(queue.poll() == 1 && queue.poll() == 2,
+                "出队顺序应与入队顺序一致");
+        log.info("testResizableQueue ok!");
+    }
+
+    @Test
+    public void testReconfigure() {
+        ThreadPoolConfig config = new ThreadPoolConfig();
+        config.setCorePoolSize(2);
+        config.setMaxPoolSize(4);
+        config.setQueueCapacity(8);
+        ThreadPoolTaskExecutorInitializer initializer = new ThreadPoolTaskExecutorInitializer();
+        ResizableThreadPoolTaskExecutor executor = (ResizableThreadPoolTaskExecutor) initializer
+                .initializeThreadPool(config,
+                        new ThreadPoolExecutor.CallerRunsPolicy());
+        try {
+            ThreadPoolConfig bigger = config.copy();
+            bigger.setCorePoolSize(16);
+            bigger.setMaxPoolSize(32);
+            bigger.setQueueCapacity(64);
+            Assert.isTrue(initializer.reconfigure(executor, bigger), "应调整成功");
+            Assert.isTrue(executor.getCorePoolSize() == 16
+                            && executor.getMaxPoolSize() == 32
+                            && executor.getQueueCapacity() == 64,
+                    "核心线程数超过原最大线程数时也应调整成功");
+
+            ThreadPoolConfig smaller = config.copy();
+            smaller.setCorePoolSize(1);
+            smaller.setMaxPoolSize(1);
+            Assert.isTrue(initializer.reconfigure(executor, smaller)
+                            && executor.getMaxPoolSize() == 1,
+                    "最大线程数小于原核心线程数时也应调整成功");
+
+            ThreadPoolConfig synchronous = config.copy();
+            synchronous.setCorePoolSize(3);
+            synchronous.setMaxPoolSize(6);
+            synchronous.setQueueCapacity(0);
+            Assert.isTrue(!initializer.reconfigure(executor, synchronous),
+                    "有界队列不能在运行时切换为SynchronousQueue");
+            Assert.isTrue(executor.getCorePoolSize() == 1
+                            && executor.getMaxPoolSize() == 1
+                            && executor.getQueueCapacity() == 8,
+                    "需重启的调整不应部分生效");
+        } finally {
+            executor.shutdown();
+        }
+        log.info("testReconfigure ok!");
+    }
+}
@@ -0,0 +1,95 @@
+package com.thunisoft.t3.concurrent.test;
+
+import com.thunisoft.t3.concurrent.completable.CompletableHelper;
+import com.thunisoft.t3.concurrent.timer.HashedWheelTimer;
+import com.thunisoft.t3.concurrent.timer.Timeout;
+import lombok.extern.slf4j.Slf4j;
+import net.tascalate.concurrent.Promise;
+import org.junit.Test;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TimerTests
+ *
+ * @author LKL
+ * @version 1.0
+ * @date 2026-10-18
+ *
+ */
+@Slf4j
+public class TimerTests {
+
+    @Test
+    public void testExpireAndCancel() throws InterruptedException {
+        // 8格×5ms，一圈40ms，100ms的任务需转两圈以上
+        HashedWheelTimer timer = new HashedWheelTimer("testTimer", 5,
+                TimeUnit.MILLISECONDS, 8);
+        try {
+            long start = System.nanoTime();
+            long[] firedAt = new long[2];
+            CountDownLatch fired = new CountDownLatch(2);
+            timer.newTimeout(() -> {
+                firedAt[0] = System.nanoTime() - start;
+                fired.countDown();
+            }, 20, TimeUnit.MILLISECONDS);
+            timer.newTimeout(() -> {
+                firedAt[1] = System.nanoTime() - start;
+                fired.countDown();
+            }, 100, TimeUnit.MILLISECONDS);
+            AtomicInteger cancelledRuns = new AtomicInteger();
+            List<Timeout> cancelled = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                cancelled.add(timer.newTimeout(cancelledRuns::incrementAndGet,
+                        30 + i % 50, TimeUnit.MILLISECONDS));
+            }
+            for (Timeout timeout : cancelled) {
+                Assert.isTrue(timeout.cancel(), "未到期的任务应能取消");
+            }
+            Assert.isTrue(fired.await(2, TimeUnit.SECONDS), "任务应到期执行");
+            long first = TimeUnit.NANOSECONDS.toMillis(firedAt[0]);
+            long second = TimeUnit.NANOSECONDS.toMillis(firedAt[1]);
+            Assert.isTrue(first >= 20 && second >= 100,
+                    "不应提前执行：" + first + "，" + second);
+            Assert.isTrue(second < 1000, "多圈的任务应按时执行：" + second);
+            Thread.sleep(100);
+            Assert.isTrue(cancelledRuns.get() == 0, "已取消的任务不应执行");
+            Assert.isTrue(timer.pendingTimeouts() == 0,
+                    "不应有未到期的任务：" + timer.pendingTimeouts());
+            Assert.isTrue(!cancelled.get(0).cancel(), "不应重复取消");
+            log.info("testExpireAndCancel ok! fired at {}ms、{}ms", first,
+                    second);
+        } finally {
+            timer.destroy();
+        }
+        try {
+            timer.newTimeout(() -> {
+            }, 1, TimeUnit.MILLISECONDS);
+            Assert.isTrue(false, "关闭后应拒绝新任务");
+        } catch (RejectedExecutionException e) {
+            log.info("expected: {}", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testDelay() {
+        long start = System.nanoTime();
+        Promise<Void> delayed = CompletableHelper.delay(Duration.ofMillis(50));
+        delayed.join();
+        long elapsed = TimeUnit.NANOSECONDS
+                .toMillis(System.nanoTime() - start);
+        Assert.isTrue(elapsed >= 50 && elapsed < 1000, "应延迟指定时间：" + elapsed);
+
+        Promise<Void> cancelled = CompletableHelper.delay(Duration.ofSeconds(5));
+        Assert.isTrue(cancelled.cancel(true) && cancelled.isCancelled(),
+                "延迟应能取消");
+        log.info("testDelay ok! elapsed={}ms", elapsed);
+    }
+}
@@ -0,0 +1,146 @@
+package com.thunisoft.t3.concurrent.test;
+
+import com.thunisoft.t3.concurrent.configuration.ThreadPoolConfiguration;
+import com.thunisoft.t3.concurrent.configuration.initializer.ThreadPoolInitializerFactory;
+import com.thunisoft.t3.concurrent.configuration.initializer.impl.VirtualThreadExecutorInitializer;
+import com.thunisoft.t3.concurrent.configuration.model.ThreadPoolConfig;
+import com.thunisoft.t3.concurrent.constant.ThreadPoolType;
+import com.thunisoft.t3.concurrent.executor.ResizableThreadPoolTaskExecutor;
+import com.thunisoft.t3.concurrent.executor.VirtualThreadTaskExecutor;
+import com.thunisoft.t3.concurrent.executor.VirtualThreads;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.util.Assert;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * VirtualThreadTests
+ *
+ * @author LKL
+ * @version 1.0
+ * @date 2026-10-18
+ *
+ */
+@Slf4j
+public class VirtualThreadTests {
+
+    @Test
+    public void testTypeBinding() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("concurrent.custom-thread-pools.vPool.type", "virtual");
+        properties.put("concurrent.custom-thread-pools.vPool.max-concurrency",
+                "8");
+        ThreadPoolConfiguration configuration = new Binder(
+                new MapConfigurationPropertySource(properties))
+                .bind("concurrent", ThreadPoolConfiguration.class).get();
+        ThreadPoolConfig config = configuration.getCustomThreadPools()
+                .get("vPool");
+        Assert.isTrue(config.getType() == ThreadPoolType.VIRTUAL,
+                "type: virtual应绑定为VIRTUAL");
+        Assert.isTrue(config.getMaxConcurrency() == 8, "max-concurrency应绑定");
+        Assert.isTrue(ThreadPoolInitializerFactory
+                        .getInitializer(config) instanceof VirtualThreadExecutorInitializer,
+                "VIRTUAL类型应使用VirtualThreadExecutorInitializer");
+        log.info("testTypeBinding ok!");
+    }
+
+    @Test
+    public void testFallback() throws Exception {
+        ThreadPoolConfig config = new ThreadPoolConfig();
+        config.setType(ThreadPoolType.VIRTUAL);
+        config.setCorePoolSize(2);
+        config.setThreadNamePrefix("vPool-");
+        Executor executor = ThreadPoolInitializerFactory.getInitializer(config)
+                .initializeThreadPool(null, config,
+                        new ThreadPoolExecutor.CallerRunsPolicy());
+        try {
+            if (VirtualThreads.isSupported()) {
+                Assert.isTrue(executor instanceof VirtualThreadTaskExecutor,
+                        "支持虚拟线程时应创建虚拟线程执行器");
+            } else {
+                // Java 8下反射获取Thread.ofVirtual失败，应转为IllegalStateException并退化为平台线程池
+                try {
+                    VirtualThreads.newThreadFactory("vPool-");
+                    Assert.isTrue(false, "不支持虚拟线程时应抛出IllegalStateException");
+                } catch (IllegalStateException e) {
+                    Assert.isTrue(e.getCause() instanceof NoSuchMethodException,
+                            "应保留反射失败原因：" + e.getCause());
+                }
+                Assert.isTrue(executor instanceof ResizableThreadPoolTaskExecutor,
+                        "不支持虚拟线程时应退化为平台线程池：" + executor);
+            }
+            CountDownLatch done = new CountDownLatch(1);
+            executor.execute(done::countDown);
+            Assert.isTrue(done.await(2, TimeUnit.SECONDS), "任务应正常执行");
+        } finally {
+            if (executor instanceof VirtualThreadTaskExecutor) {
+                ((VirtualThreadTaskExecutor) executor).destroy();
+            } else {
+                ((ResizableThreadPoolTaskExecutor) executor).shutdown();
+            }
+        }
+        log.info("testFallback ok!");
+    }
+
+    @Test
+    public void testConcurrencyCap() throws Exception {
+        // 许可控制与线程类型无关，用平台线程工厂在Java 8下验证
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        ThreadFactory threadFactory = r -> new Thread(r,
+                "capPool-" + threadNumber.getAndIncrement());
+        VirtualThreadTaskExecutor executor = new VirtualThreadTaskExecutor(
+                threadFactory, null, 2, 5);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(10);
+        for (int i = 0; i < 10; i++) {
+            executor.execute(() -> {
+                peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    active.decrementAndGet();
+                    done.countDown();
+                }
+            });
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (executor.getAvailablePermits() > 0
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.isTrue(executor.getAvailablePermits() == 0 && active.get() == 2,
+                "超出最大并发数的任务应等待许可：" + active.get());
+        Assert.isTrue(executor.getRunningCount() == 10, "等待许可的任务应计入未结束任务数");
+
+        release.countDown();
+        Assert.isTrue(done.await(2, TimeUnit.SECONDS), "释放后所有任务应执行完");
+        Assert.isTrue(peak.get() == 2, "并发数不应超过上限：" + peak.get());
+
+        executor.destroy();
+        Assert.isTrue(executor.getRunningCount() == 0
+                && executor.getAvailablePermits() == 2, "关闭时应等待任务结束并归还许可");
+        try {
+            executor.execute(() -> {
+            });
+            Assert.isTrue(false, "关闭后应拒绝任务");
+        } catch (RejectedExecutionException e) {
+            log.info("rejected after shutdown: {}", e.getMessage());
+        }
+        log.info("testConcurrencyCap ok!");
+    }
+}